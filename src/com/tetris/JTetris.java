@@ -15,12 +15,35 @@
 package com.tetris;
 
 import com.tetris.engine.logic.GameController;
+import com.tetris.engine.logic.ReplayController;
+import com.tetris.engine.replay.ReplayPlayer;
+
+import java.io.IOException;
+import java.nio.file.Paths;
 
 /** JTetris Class -- Where the game begins */
 public class JTetris {
 
-    /** Main Function: Runs the Tetris Game */
-    public static void main(String[] args) {
-        GameController gc = new GameController();
+    /**
+     * Main Function: Runs the Tetris Game. Pass "--bot" to watch the AI play, "--replay <file>" to watch a
+     *                replay, "--versus" to play against the AI, "--versus-players" for two people and
+     *                "--versus-bots" to watch the AI play itself.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length > 1 && args[0].equals("--replay")) {
+            ReplayController rc = new ReplayController(ReplayPlayer.load(Paths.get(args[1])));
+            return;
+        }
+
+        GameController.Mode mode = GameController.Mode.MARATHON;
+        if (args.length > 0) {
+            switch (args[0]) {
+                case "--bot": mode = GameController.Mode.MARATHON_BOT; break;
+                case "--versus": mode = GameController.Mode.VERSUS_BOT; break;
+                case "--versus-players": mode = GameController.Mode.VERSUS_PLAYERS; break;
+                case "--versus-bots": mode = GameController.Mode.VERSUS_BOTS; break;
+            }
+        }
+        GameController gc = new GameController(mode);
     }
 }
@@ -0,0 +1,137 @@
+/**
+ * File:        GameRules.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the scoring and levelling rules of Marathon. They used to live inside the
+ *      GameThread loop; they are kept here so that the game loop and the headless games (AI games, replays)
+ *      all score lines and speed up in exactly the same way.
+ *
+ */
+
+package com.tetris.engine;
+
+/** GameRules Class -- Score, level and game speed of one game */
+public class GameRules {
+
+    //Initialize Static Variables
+    public final static int START_GAME_SPEED = 1000;
+
+    //Initialize Variables
+    private int score;
+    private int level = 1;
+    private int currentLines = 0;
+    private int lastClear = 0;
+    private int combo = 0;
+    private final int levelCounter = 10;
+
+    private int gameSpeed = START_GAME_SPEED;
+    private final int speedupPerLevel = 20; //5%
+
+    //Initialize Variables - Statistics
+    private int totalLines = 0;
+    private int tetrises = 0;
+    private int perfectClears = 0;
+
+    /** GETTER METHODS */
+    public int getScore() {
+        return score;
+    }
+    public int getLevel() {
+        return level;
+    }
+    public int getCurrentLines() {
+        return currentLines;
+    }
+    public int getLastClear() {
+        return lastClear;
+    }
+    public int getCombo() {
+        return combo;
+    }
+    public int getGameSpeed() {
+        return gameSpeed;
+    }
+    public int getTotalLines() {
+        return totalLines;
+    }
+    public int getTetrises() {
+        return tetrises;
+    }
+    public int getPerfectClears() {
+        return perfectClears;
+    }
+
+    /** Description: Put the rules back into a saved state (see GameSnapshot) */
+    public void restore(int score, int level, int currentLines, int lastClear, int combo, int gameSpeed,
+                        int totalLines, int tetrises, int perfectClears) {
+        this.score = score;
+        this.level = level;
+        this.currentLines = currentLines;
+        this.lastClear = lastClear;
+        this.combo = combo;
+        this.gameSpeed = gameSpeed;
+        this.totalLines = totalLines;
+        this.tetrises = tetrises;
+        this.perfectClears = perfectClears;
+    }
+
+    /**
+     * Description: Update the score after a block locks.
+     * Parameters:  int linesCleared ---- Value returned by Board.clearLines() (8 is a Perfect Clear)
+     *              int rowsCleared ----- Rows actually removed (Board.getRowsCleared())
+     * Return:      Name of the line clear to display, or null if no lines were cleared
+     */
+    public String addLinesCleared(int linesCleared, int rowsCleared) {
+        currentLines += linesCleared;
+        lastClear = linesCleared;
+        totalLines += rowsCleared;
+
+        switch(linesCleared) {
+            case 1: { // Single
+                score += 80*(level+combo);
+                return "Single";
+            }
+            case 2: { // Double
+                score += 200*(level+combo);
+                return "Double";
+            }
+            case 3: { // Triple
+                score += 600*(level+combo);
+                return "Triple";
+            }
+            case 4: { //Tetris
+                score += 2400*(level+combo);
+                tetrises++;
+                return "Tetris!";
+            }
+            case 8: { //Perfect Clear
+                score += 7600*(level+combo);
+                perfectClears++;
+                return "Perfect Clear";
+            }
+        }
+
+        //Calculate Combo -- Try to Improve this by looking at other games
+//            if (lastClear > 0) {
+//                combo++;
+//            } else {
+//                combo = 0;
+//            }
+
+        return null;
+    }
+
+    /** Description: Go up a level once enough lines are cleared. Return True if the level changed. */
+    public boolean checkLevelUp() {
+        if (currentLines > levelCounter) {
+            level++;
+            gameSpeed -= gameSpeed/speedupPerLevel; //Speedup by 5%
+            currentLines = 0;
+            return true;
+        }
+        return false;
+    }
+}
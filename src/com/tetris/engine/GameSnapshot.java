@@ -0,0 +1,290 @@
+/**
+ * File:        GameSnapshot.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains a compact copy of everything that decides how a game continues: the grid, the
+ *      falling block, the held block, the queue, the randomizer and the scoring rules. Restoring a snapshot
+ *      and applying the same inputs gives exactly the same game, which is what replay keyframes rely on.
+ *
+ *      Grid cells are stored as 4 bit codes, two to a byte: 0 is empty, 1 to 7 are the ShapeTypes and
+ *      GARBAGE is any other colour. A 20x10 grid takes 100 bytes.
+ *
+ *      Save file format (big-endian, written with one FileChannel write):
+ *          "JTSV", version (short), length of the snapshot (int), CRC32 of the snapshot (int), the snapshot
+ *      A save is written to a temporary file and moved over the old one, so a crash never leaves half a save.
+ *
+ */
+
+package com.tetris.engine;
+
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.BagRandomizer;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/** GameSnapshot Class -- Saved state of one game */
+public class GameSnapshot {
+
+    //Initialize Static Variables - Save file
+    public final static int FILE_MAGIC = 0x4A545356;   //"JTSV"
+    public final static int FILE_VERSION = 1;
+    private final static int FILE_HEADER_BYTES = 14;
+
+    //Initialize Static Variables
+    public final static int EMPTY = 0;
+    public final static int GARBAGE = 8;
+    public final static Color GARBAGE_COLOUR = Color.GRAY;
+    private final static Tetrominoe.ShapeType[] SHAPE_TYPES = Tetrominoe.ShapeType.values();
+    private final static int NONE = 0xFF;
+
+    //Initialize Variables - Grid
+    private final int gridRows;
+    private final int gridColumns;
+    private final byte[] cells;
+
+    //Initialize Variables - Blocks
+    private final Tetrominoe.ShapeType current;
+    private final int rotation, x, y;
+    private final Tetrominoe.ShapeType held;
+    private final boolean canHold;
+    private final Tetrominoe.ShapeType[] queue;
+
+    //Initialize Variables - Randomizer
+    private final long randomState;
+    private final Tetrominoe.ShapeType[] bag;
+    private final int bagIndex;
+
+    //Initialize Variables - Rules
+    private final int[] rules;
+    private final int blocksPlaced;
+
+    /** CONSTRUCTOR */
+    private GameSnapshot(int gridRows, int gridColumns, byte[] cells, Tetrominoe.ShapeType current, int rotation,
+                         int x, int y, Tetrominoe.ShapeType held, boolean canHold, Tetrominoe.ShapeType[] queue,
+                         long randomState, Tetrominoe.ShapeType[] bag, int bagIndex, int[] rules, int blocksPlaced) {
+        this.gridRows = gridRows;
+        this.gridColumns = gridColumns;
+        this.cells = cells;
+        this.current = current;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.held = held;
+        this.canHold = canHold;
+        this.queue = queue;
+        this.randomState = randomState;
+        this.bag = bag;
+        this.bagIndex = bagIndex;
+        this.rules = rules;
+        this.blocksPlaced = blocksPlaced;
+    }
+
+    /** Description: Copy the state of a game */
+    public static GameSnapshot capture(Board board, BlockController bc, GameRules gameRules, int blocksPlaced) {
+        int rows = board.getGridRows(), columns = board.getGridColumns();
+        byte[] cells = new byte[(rows * columns + 1) / 2];
+        for (int i = 0; i < rows * columns; i++) {
+            int code = encodeCell(board.getBackgroundColor(i / columns, i % columns));
+            cells[i >> 1] |= (byte) ((i & 1) == 0 ? code : code << 4);
+        }
+
+        Tetrominoe block = bc.getCurrentBlock();
+        List<Tetrominoe> queued = bc.getQueuedBlocks();
+        Tetrominoe.ShapeType[] queue = new Tetrominoe.ShapeType[queued.size()];
+        for (int i = 0; i < queue.length; i++) queue[i] = queued.get(i).getShapeType();
+
+        BagRandomizer randomizer = bc.getRandomizer();
+        int[] rules = {gameRules.getScore(), gameRules.getLevel(), gameRules.getCurrentLines(),
+                gameRules.getLastClear(), gameRules.getCombo(), gameRules.getGameSpeed(), gameRules.getTotalLines(),
+                gameRules.getTetrises(), gameRules.getPerfectClears()};
+
+        return new GameSnapshot(rows, columns, cells,
+                block != null ? block.getShapeType() : null,
+                block != null ? block.getRotation() : 0,
+                block != null ? block.getX() : 0,
+                block != null ? block.getY() : 0,
+                bc.getHeldBlock() != null ? bc.getHeldBlock().getShapeType() : null,
+                bc.canHoldBlock(), queue, randomizer.getRandomState(), randomizer.getBag(), randomizer.getBagIndex(),
+                rules, blocksPlaced);
+    }
+
+    /** Description: Put a game back into this state. The board must be the same size. */
+    public void restore(Board board, BlockController bc, GameRules gameRules) {
+        if (board.getGridRows() != gridRows || board.getGridColumns() != gridColumns) {
+            throw new IllegalArgumentException("Snapshot is for a " + gridRows + "x" + gridColumns + " grid");
+        }
+
+        for (int i = 0; i < gridRows * gridColumns; i++) {
+            int code = (cells[i >> 1] >> ((i & 1) * 4)) & 0xF;
+            board.setBackgroundColor(decodeCell(code), i / gridColumns, i % gridColumns);
+        }
+
+        gameRules.restore(rules[0], rules[1], rules[2], rules[3], rules[4], rules[5], rules[6], rules[7], rules[8]);
+        bc.getRandomizer().restore(randomState, bag, bagIndex);
+        bc.restore(current, rotation, x, y, held, canHold, Arrays.asList(queue));
+    }
+
+    /** GETTER METHODS */
+    public boolean isGameOver() {
+        return current == null;
+    }
+    public int getScore() {
+        return rules[0];
+    }
+    public int getLevel() {
+        return rules[1];
+    }
+    public int getBlocksPlaced() {
+        return blocksPlaced;
+    }
+    public int getGridRows() {
+        return gridRows;
+    }
+    public int getGridColumns() {
+        return gridColumns;
+    }
+    public int getCell(int row, int column) {       //EMPTY, 1 to 7 for the ShapeTypes, or GARBAGE
+        int i = row * gridColumns + column;
+        return (cells[i >> 1] >> ((i & 1) * 4)) & 0xF;
+    }
+    public Tetrominoe.ShapeType getCurrent() {      //Null once the game is over
+        return current;
+    }
+    public int getRotation() {
+        return rotation;
+    }
+    public int getX() {
+        return x;
+    }
+    public int getY() {
+        return y;
+    }
+
+    /** READ AND WRITE */
+    public void write(ByteBuffer buffer) {
+        buffer.put((byte) gridRows).put((byte) gridColumns).put(cells);
+
+        buffer.put((byte) code(current)).put((byte) rotation).put((byte) x).put((byte) y);
+        buffer.put((byte) code(held)).put((byte) (canHold ? 1 : 0));
+        buffer.put((byte) queue.length);
+        for (Tetrominoe.ShapeType shapeType : queue) buffer.put((byte) code(shapeType));
+
+        buffer.putLong(randomState);
+        for (Tetrominoe.ShapeType shapeType : bag) buffer.put((byte) code(shapeType));
+        buffer.put((byte) bagIndex);
+
+        for (int value : rules) buffer.putInt(value);
+        buffer.putInt(blocksPlaced);
+    }
+    public static GameSnapshot read(ByteBuffer buffer) {
+        int rows = buffer.get() & 0xFF, columns = buffer.get() & 0xFF;
+        byte[] cells = new byte[(rows * columns + 1) / 2];
+        buffer.get(cells);
+
+        Tetrominoe.ShapeType current = shapeType(buffer.get());
+        int rotation = buffer.get(), x = buffer.get(), y = buffer.get();
+        Tetrominoe.ShapeType held = shapeType(buffer.get());
+        boolean canHold = buffer.get() != 0;
+        Tetrominoe.ShapeType[] queue = new Tetrominoe.ShapeType[buffer.get() & 0xFF];
+        for (int i = 0; i < queue.length; i++) queue[i] = shapeType(buffer.get());
+
+        long randomState = buffer.getLong();
+        Tetrominoe.ShapeType[] bag = new Tetrominoe.ShapeType[BagRandomizer.BAG_SIZE];
+        for (int i = 0; i < bag.length; i++) bag[i] = shapeType(buffer.get());
+        int bagIndex = buffer.get();
+
+        int[] rules = new int[9];
+        for (int i = 0; i < rules.length; i++) rules[i] = buffer.getInt();
+
+        return new GameSnapshot(rows, columns, cells, current, rotation, x, y, held, canHold, queue, randomState,
+                bag, bagIndex, rules, buffer.getInt());
+    }
+
+    /** SAVE FILES */
+    public void save(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(FILE_HEADER_BYTES + getEncodedSize());
+        buffer.position(FILE_HEADER_BYTES);
+        write(buffer);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), FILE_HEADER_BYTES, getEncodedSize());
+        buffer.putInt(0, FILE_MAGIC).putShort(4, (short) FILE_VERSION).putInt(6, getEncodedSize())
+                .putInt(10, (int) crc.getValue());
+        buffer.flip();
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    public static GameSnapshot load(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate((int) Math.min(channel.size(), Integer.MAX_VALUE));
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) { }
+        }
+        buffer.flip();
+
+        if (buffer.remaining() < FILE_HEADER_BYTES || buffer.getInt() != FILE_MAGIC) {
+            throw new IOException("Not a JTetris save: " + path);
+        }
+        int version = buffer.getShort() & 0xFFFF;
+        if (version != FILE_VERSION) throw new IOException("Unsupported save version " + version);
+
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        CRC32 crc = new CRC32();
+        if (length == buffer.remaining()) crc.update(buffer.array(), FILE_HEADER_BYTES, length);
+        if (length != buffer.remaining() || (int) crc.getValue() != checksum) {
+            throw new IOException("Save is damaged: " + path);
+        }
+
+        try {
+            return read(buffer);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Save is damaged: " + path);
+        }
+    }
+
+    /** Description: Number of bytes write() puts into the buffer */
+    public int getEncodedSize() {
+        return 2 + cells.length + 7 + queue.length + 8 + bag.length + 1 + rules.length * 4 + 4;
+    }
+
+    /** HELPER FUNCTIONS */
+    public static int encodeCell(Color color) {
+        if (color == null) return EMPTY;
+        for (Tetrominoe.ShapeType shapeType : SHAPE_TYPES) {
+            if (shapeType.getColour().equals(color)) return shapeType.ordinal() + 1;
+        }
+        return GARBAGE;
+    }
+    public static Color decodeCell(int code) {
+        if (code == EMPTY) return null;
+        return code == GARBAGE ? GARBAGE_COLOUR : SHAPE_TYPES[code - 1].getColour();
+    }
+    private static int code(Tetrominoe.ShapeType shapeType) {
+        return shapeType == null ? NONE : shapeType.ordinal();
+    }
+    private static Tetrominoe.ShapeType shapeType(byte code) {
+        return (code & 0xFF) == NONE ? null : SHAPE_TYPES[code];
+    }
+}
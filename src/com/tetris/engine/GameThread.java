@@ -13,9 +13,16 @@
 
 package com.tetris.engine;
 
+import com.tetris.engine.ai.BotPlayer;
+import com.tetris.engine.export.SharedStateExporter;
 import com.tetris.engine.gui.*;
 import com.tetris.engine.logic.BlockController;
 import com.tetris.engine.logic.MarathonController;
+import com.tetris.engine.replay.ReplayRecorder;
+import com.tetris.engine.replay.TimeTravelBuffer;
+
+import java.io.IOException;
+import java.nio.file.Paths;
 
 /** GameThread Class -- New Thread for the game loop */
 public class GameThread extends Thread {
@@ -24,43 +31,125 @@ public class GameThread extends Thread {
     private final GameScreen gs;
     private final MarathonController mc;
     private final BlockController bc;
-    private int score;
-    private int level = 1;
-    private int currentLines = 0;
-    private int lastClear = 0;
-    private int combo = 0;
-    private final int levelCounter = 10;
+    private final BotPlayer bot;
+    private final ReplayRecorder recorder;
+    private final GameRules rules = new GameRules();
+    private final GameSnapshot resume;
+    private final TimeTravelBuffer timeTravel;
+    private final SharedStateExporter sharedState;
+    private int blocksPlaced = 0;
 
-    private int gameSpeed = 1000;
-    private final int speedupPerLevel = 20; //5%
+    private final static int PAUSE_SLEEP = 10;
 
     private int linesClearedTimer = 1;
 
     /** Constructor - Grab Game Objects */
     public GameThread(MarathonController mc, GameScreen gs, BlockController bc) {
+        this(mc, gs, bc, null, null);
+    }
+    public GameThread(MarathonController mc, GameScreen gs, BlockController bc, BotPlayer bot) {
+        this(mc, gs, bc, bot, null);
+    }
+    public GameThread(MarathonController mc, GameScreen gs, BlockController bc, BotPlayer bot,
+                      ReplayRecorder recorder) {
+        this(mc, gs, bc, bot, recorder, null);
+    }
+    public GameThread(MarathonController mc, GameScreen gs, BlockController bc, BotPlayer bot,
+                      ReplayRecorder recorder, GameSnapshot resume) {
         this.mc = mc;
         this.bc = bc;
         this.gs = gs;
+        this.bot = bot;
+        this.recorder = recorder;
+        this.resume = resume;
+        this.timeTravel = TimeTravelBuffer.fromProperty(bc.getBoard(), bc, rules);
+        this.sharedState = SharedStateExporter.fromProperty(bc.getBoard(), bc, rules);
+    }
+
+    /** GETTER METHODS */
+    public TimeTravelBuffer getTimeTravel() {  //Null unless -Djtetris.timetravel is set
+        return timeTravel;
+    }
+    public SharedStateExporter getSharedState() {   //Null unless -Djtetris.export is set
+        return sharedState;
+    }
+
+    /** Description: Write the time travel buffer (if it is on) to the timetravel folder */
+    public void dumpTimeTravel() {
+        if (timeTravel == null) return;
+        try {
+            System.out.println("Last ticks written to " + timeTravel.dump(Paths.get(TimeTravelBuffer.DIRECTORY)));
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Time travel buffer not written: " + e.getMessage());
+        }
     }
 
-    /** Description: Execute thread */
+    /** Description: Copy the state of the game (safe to call from any thread) */
+    public GameSnapshot snapshot() {
+        synchronized (bc) {
+            return GameSnapshot.capture(bc.getBoard(), bc, rules, blocksPlaced);
+        }
+    }
+
+    /**
+     * Description: Execute thread. Everything that changes the block happens while holding the lock of the
+     *              BlockController (keyboard inputs do the same), so a replay sees the events in the same order.
+     */
     @Override
     public void run() {
+        try {
+            playGame();
+        } catch (RuntimeException | Error e) {
+            dumpTimeTravel();
+            throw e;
+        }
+    }
+    private void playGame() {
+        //Spawn the first Block, or carry on from a saved game
+        synchronized (bc) {
+            if (resume != null) {
+                resume.restore(bc.getBoard(), bc, rules);
+                blocksPlaced = resume.getBlocksPlaced();
+                mc.updateScore(rules.getScore());
+                mc.updateLevel(rules.getLevel());
+            } else {
+                bc.spawnBlock();
+            }
+            if (timeTravel != null) timeTravel.start();
+            if (sharedState != null) sharedState.export();
+        }
+
         //This the game loop and for right now, it will always remain true
         while(true) {
 
-            //Spawn a Block
-            bc.spawnBlock();
+            //Let the AI move the block (if the AI is playing)
+            if (bot != null) bot.onSpawn(bc);
 
             //Have the block move down until it reaches the bottom
-            while (!bc.checkBottom()) {
+            boolean landed = false;
+            boolean gameOver = false;
+            while (!landed) {
                 try {
+                    synchronized (bc) {
+                        if (bc.checkBottom()) {
+                            landed = true;
+                            gameOver = !lockBlock();
+                            if (timeTravel != null) timeTravel.recordLock();
+                        } else if (!mc.getPauseState()) {
+                            bc.moveBlockDown();
+                            if (recorder != null) recorder.recordGravity();
+                            if (timeTravel != null) timeTravel.recordGravity();
+                        }
+                    }
+                    if (landed) break;
+
                     if (!mc.getPauseState()) {
-                        bc.moveBlockDown();
-                        Thread.sleep(gameSpeed);
+                        Thread.sleep(rules.getGameSpeed());
 
                         if (linesClearedTimer == 0) mc.updateLinesCleared("");
                         else linesClearedTimer--;
+                    } else {
+                        Thread.sleep(PAUSE_SLEEP);
                     }
                 } catch (InterruptedException e) {
                     e.printStackTrace();
@@ -68,69 +157,52 @@ public class GameThread extends Thread {
             }
 
             //Exit while loop if block exceeds game screen height (gets here when block touches 'bottom')
-            if(bc.isBlockOutOfBounds()) {
+            if (gameOver) {
+                if (bot != null) bot.shutdown();
+                if (recorder != null) recorder.finish(rules);
+                if (sharedState != null) {
+                    synchronized (bc) {
+                        sharedState.finish();
+                    }
+                }
                 gs.displayGameOverScreen();
                 System.out.println("Game Over");
                 break;
             }
+        }
+    }
 
-            mc.moveBlockToBackground();
+    /**
+     * Description: Lock the block that reached the bottom, score the lines and spawn the next block.
+     *              Return False if the block is out of bounds (Game Over).
+     */
+    private boolean lockBlock() {
+        if (recorder != null) recorder.recordLock();
 
-            //Update Score
-            int linesCleared = mc.clearLines();
-            currentLines += linesCleared;
-            lastClear = linesCleared;
-            linesClearedTimer = 1;
+        if (bc.isBlockOutOfBounds()) return false;
 
-            switch(linesCleared) {
-                case 1: { // Single
-                    score += 80*(level+combo);
-                    mc.updateLinesCleared("Single");
-                    System.out.println("Single");
-                    break;
-                }
-                case 2: { // Double
-                    score += 200*(level+combo);
-                    mc.updateLinesCleared("Double");
-                    System.out.println("Double");
-                    break;
-                }
-                case 3: { // Triple
-                    score += 600*(level+combo);
-                    mc.updateLinesCleared("Triple");
-                    System.out.println("Triple");
-                    break;
-                }
-                case 4: { //Tetris
-                    score += 2400*(level+combo);
-                    mc.updateLinesCleared("Tetris!");
-                    System.out.println("Tetris!");
-                    break;
-                }
-                case 8: { //Perfect Clear
-                    score += 7600*(level+combo);
-                    mc.updateLinesCleared("Perfect Clear");
-                    System.out.println("Perfect Clear");
-                    break;
-                }
-            }
+        mc.moveBlockToBackground();
+        blocksPlaced++;
 
-            //Calculate Combo -- Try to Improve this by looking at other games
-//            if (lastClear > 0) {
-//                combo++;
-//            } else {
-//                combo = 0;
-//            }
-
-            mc.updateScore(score);
-
-            //Update Level
-            if (currentLines > levelCounter) {
-                level++;
-                mc.updateLevel(level);
-                gameSpeed -= gameSpeed/speedupPerLevel; //Speedup by 5%
-                currentLines = 0;
-            }
+        //Update Score
+        int linesCleared = mc.clearLines();
+        String clearType = rules.addLinesCleared(linesCleared, bc.getBoard().getRowsCleared());
+        linesClearedTimer = 1;
+
+        if (clearType != null) {
+            mc.updateLinesCleared(clearType);
+            System.out.println(clearType);
         }
+
+        mc.updateScore(rules.getScore());
+
+        //Update Level
+        if (rules.checkLevelUp()) {
+            mc.updateLevel(rules.getLevel());
+        }
+
+        //Spawn a Block
+        bc.spawnBlock();
+        return true;
     }
 }
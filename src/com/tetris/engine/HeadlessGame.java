@@ -0,0 +1,178 @@
+/**
+ * File:        HeadlessGame.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains a game of Marathon without a window or a sleeping thread. It is made of the same
+ *      Board, BlockController and GameRules as the real game, so blocks move, lock and score exactly the same.
+ *      Instead of GameThread sleeping between gravity steps, the owner of the game decides when time passes:
+ *      tick() is one gravity step of the game loop and dropPlacement() plays a whole block at once.
+ *
+ *      GUI panels (or anything else) can still listen to the game through its GameEventDispatcher.
+ *
+ */
+
+package com.tetris.engine;
+
+import com.tetris.engine.ai.BotPlayer;
+import com.tetris.engine.ai.Placement;
+import com.tetris.engine.event.GameAreaEvent;
+import com.tetris.engine.event.GameEventDispatcher;
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.BagRandomizer;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+/** HeadlessGame Class -- Marathon game stepped by its owner */
+public class HeadlessGame {
+
+    //Initialize Static Variables - Same panel size as the GameArea, which gives a 20x10 grid
+    public final static int BOARD_PANEL_WIDTH = 200;
+    public final static int BOARD_PANEL_HEIGHT = 400;
+
+    //Initialize Variables
+    private final GameEventDispatcher gameEventDispatcher;
+    private final Board tetrisGrid;
+    private final BlockController blockController;
+    private final GameRules rules;
+    private final GameData gameData;
+
+    //Initialize Variables - Game States
+    private boolean started = false;
+    private boolean gameOver = false;
+    private int blocksPlaced = 0;
+
+    /** CONSTRUCTORS */
+    public HeadlessGame(long seed) {
+        this(new BagRandomizer(seed));
+    }
+    public HeadlessGame(BagRandomizer randomizer) {
+        this.gameEventDispatcher = new GameEventDispatcher();
+        this.tetrisGrid = new Board(BOARD_PANEL_WIDTH, BOARD_PANEL_HEIGHT);
+        this.blockController = new BlockController(gameEventDispatcher, tetrisGrid, randomizer);
+        this.rules = new GameRules();
+        this.gameData = new GameData();
+    }
+
+    /** GETTER METHODS */
+    public GameEventDispatcher getGameEventDispatcher() {
+        return gameEventDispatcher;
+    }
+    public Board getBoard() {
+        return tetrisGrid;
+    }
+    public BlockController getBlockController() {
+        return blockController;
+    }
+    public GameRules getRules() {
+        return rules;
+    }
+    public GameData getGameData() {
+        return gameData;
+    }
+    public boolean isStarted() {
+        return started;
+    }
+    public boolean isGameOver() {
+        return gameOver;
+    }
+    public int getBlocksPlaced() {
+        return blocksPlaced;
+    }
+
+    /** SNAPSHOTS */
+    public GameSnapshot snapshot() {
+        return GameSnapshot.capture(tetrisGrid, blockController, rules, blocksPlaced);
+    }
+    public void restore(GameSnapshot snapshot) {
+        snapshot.restore(tetrisGrid, blockController, rules);
+        blocksPlaced = snapshot.getBlocksPlaced();
+        gameOver = snapshot.isGameOver();
+        started = true;
+
+        gameData.setScore(rules.getScore());
+        gameData.setLevel(rules.getLevel());
+    }
+
+    /** Description: Spawn the first block */
+    public void start() {
+        if (started) return;
+        started = true;
+        blockController.spawnBlock();
+    }
+
+    /**
+     * Description: One gravity step of the game loop. Same order as GameThread: if the block is resting on
+     *              something it locks (and the next block spawns), then the falling block moves down one row.
+     */
+    public void tick() {
+        if (!started) start();
+        if (gameOver) return;
+
+        while (blockController.checkBottom()) {
+            lockBlock();
+            if (gameOver) return;
+        }
+        blockController.moveBlockDown();
+    }
+
+    /** Description: Move the current block into the placement, hard drop it and lock it */
+    public int dropPlacement(Placement placement) {
+        if (!started) start();
+        if (gameOver) return 0;
+
+        BotPlayer.moveToPlacement(blockController, placement);
+        blockController.hardDrop();
+        return lockBlock();
+    }
+
+    /**
+     * Description: Lock the current block where it is, clear lines, update the score and level and spawn
+     *              the next block. Return the value from Board.clearLines() (8 is a Perfect Clear).
+     */
+    public int lockBlock() {
+        if (gameOver) return 0;
+
+        //Game Over if block exceeds game screen height
+        if (blockController.isBlockOutOfBounds()) {
+            gameOver = true;
+            return 0;
+        }
+
+        tetrisGrid.moveBlockToBackground(blockController.getCurrentBlock());
+        blocksPlaced++;
+
+        int linesCleared = tetrisGrid.clearLines();
+        rules.addLinesCleared(linesCleared, tetrisGrid.getRowsCleared());
+        rules.checkLevelUp();
+
+        gameData.setScore(rules.getScore());
+        gameData.setLevel(rules.getLevel());
+
+        blockController.spawnBlock();
+        return linesCleared;
+    }
+
+    /**
+     * Description: Push garbage rows in under the grid (versus mode). The player tops out if something is
+     *              pushed off the top or the falling block ends up inside the garbage.
+     *              Return False if that made it Game Over.
+     */
+    public boolean addGarbage(int rows, int hole) {
+        if (!started) start();
+        if (gameOver) return false;
+
+        boolean toppedOut = tetrisGrid.pushGarbage(rows, hole, GameSnapshot.GARBAGE_COLOUR);
+        Tetrominoe block = blockController.getCurrentBlock();
+        if (toppedOut || tetrisGrid.checkBlockCollision(block.getTP(), block.getX(), block.getY())) {
+            gameOver = true;
+            return false;
+        }
+
+        blockController.updateDropPosition();
+        gameEventDispatcher.dispatchEvent(new GameAreaEvent(block, blockController.getTheoreticalDropY()));
+        return true;
+    }
+}
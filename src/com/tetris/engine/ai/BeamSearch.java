@@ -0,0 +1,271 @@
+/**
+ * File:        BeamSearch.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the AI lookahead. It searches over the current block, the queued blocks and the held
+ *      block by keeping only the best 'beamWidth' boards after every block. Each layer of the search is expanded
+ *      in parallel and boards which are reached in more than one way are only kept once. The search has a time
+ *      budget, and once it runs out the best placement from the deepest finished layer is returned.
+ *      The children of a node get their features from the incremental FeatureExtractor of the thread expanding
+ *      the node. They are scored one at a time, or together as one FeatureBatch if the evaluation prefers it.
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** BeamSearch Class -- Lookahead over the queue and hold */
+public class BeamSearch {
+
+    //Initialize Static Variables - Every search thread reuses its own extractor, batch and arrays
+    private final static int MAX_PLACEMENTS = 4 * BitBoard.GRID_COLUMNS;
+    private final static ThreadLocal<FeatureExtractor> EXTRACTOR = new ThreadLocal<>();
+    private final static ThreadLocal<FeatureBatch> BATCH = new ThreadLocal<>();
+    private final static ThreadLocal<int[]> FEATURES =
+            ThreadLocal.withInitial(() -> new int[FeatureExtractor.FEATURE_COUNT]);
+    private final static ThreadLocal<double[]> SCORES = ThreadLocal.withInitial(() -> new double[MAX_PLACEMENTS]);
+
+    //Initialize Variables - Search Settings
+    private final BoardEvaluator evaluator;
+    private int beamWidth;
+    private int depth;
+    private long timeBudgetNanos;
+    private boolean parallel = true;
+
+    /** CONSTRUCTORS */
+    public BeamSearch(BoardEvaluator evaluator) {
+        this(evaluator, 64, 4, 10);
+    }
+    public BeamSearch(BoardEvaluator evaluator, int beamWidth, int depth, long timeBudgetMillis) {
+        this.evaluator = evaluator;
+        setBeamWidth(beamWidth);
+        setDepth(depth);
+        setTimeBudget(timeBudgetMillis);
+    }
+
+    /** GETTER METHODS */
+    public BoardEvaluator getEvaluator() {
+        return evaluator;
+    }
+    public int getBeamWidth() {
+        return beamWidth;
+    }
+    public int getDepth() {
+        return depth;
+    }
+    public long getTimeBudget() {
+        return timeBudgetNanos / 1_000_000;
+    }
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /** SETTER METHODS */
+    public void setBeamWidth(int beamWidth) {
+        if (beamWidth < 1) throw new IllegalArgumentException("Beam width must be at least 1");
+        this.beamWidth = beamWidth;
+    }
+    public void setDepth(int depth) {
+        if (depth < 1) throw new IllegalArgumentException("Depth must be at least 1");
+        this.depth = depth;
+    }
+    public void setTimeBudget(long timeBudgetMillis) {
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000;
+    }
+    /** Description: Turn off to expand layers on the calling thread (when many games already run in parallel) */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /** Description: Search using the grid, current block, held block and queue of a BlockController */
+    public Placement search(BlockController bc) {
+        Tetrominoe held = bc.getHeldBlock();
+        List<Tetrominoe.ShapeType> preview = new ArrayList<>();
+        for (Tetrominoe t : bc.getQueuedBlocks()) {
+            preview.add(t.getShapeType());
+        }
+
+        return search(BitBoard.fromBoard(bc.getBoard()), bc.getCurrentBlock().getShapeType(),
+                held == null ? null : held.getShapeType(), preview, bc.canHoldBlock());
+    }
+
+    /**
+     * Description: Find the best placement for the current block.
+     * Parameters:  BitBoard board -------- Grid before the current block is placed
+     *              ShapeType current ----- Block that is falling
+     *              ShapeType hold -------- Block that is held (null if nothing is held)
+     *              List preview ---------- Queued blocks, in the order they will spawn
+     *              boolean canHold ------- False if the player already switched the current block
+     * Return:      The placement, marked with useHold if the held block (or the next block, when nothing is
+     *              held) should be placed instead. Null if every placement is Game Over.
+     */
+    public Placement search(BitBoard board, Tetrominoe.ShapeType current, Tetrominoe.ShapeType hold,
+                            List<Tetrominoe.ShapeType> preview, boolean canHold) {
+        long deadline = System.nanoTime() + timeBudgetNanos;
+
+        //Every block the search knows about, in spawn order
+        Tetrominoe.ShapeType[] pieces = new Tetrominoe.ShapeType[preview.size() + 1];
+        pieces[0] = current;
+        for (int i = 0; i < preview.size(); i++) {
+            pieces[i + 1] = preview.get(i);
+        }
+
+        //First layer always finishes, so there is always an answer
+        List<Node> beam = new ArrayList<>();
+        beam.add(new Node(board, hold, 0, 0, 0, null));
+        beam = expandLayer(beam, pieces, canHold, Long.MAX_VALUE);
+        if (beam == null || beam.isEmpty()) return null;
+
+        Node best = beam.get(0);
+
+        for (int layer = 1; layer < depth; layer++) {
+            List<Node> next = expandLayer(beam, pieces, true, deadline);
+
+            //Out of time or out of known blocks -- keep the last finished layer
+            if (next == null || next.isEmpty()) break;
+
+            beam = next;
+            best = beam.get(0);
+        }
+
+        return best.firstMove;
+    }
+
+    /**
+     * Description: Expand every node of the beam in parallel, keep the best scoring node of every
+     *              distinct board and return the best 'beamWidth' of them. Return null if the deadline
+     *              passed before the layer was finished.
+     */
+    private List<Node> expandLayer(List<Node> beam, Tetrominoe.ShapeType[] pieces, boolean canHold, long deadline) {
+        ConcurrentHashMap<Long, Node> children = new ConcurrentHashMap<>();
+
+        (parallel ? beam.parallelStream() : beam.stream()).forEach(node -> {
+            if (System.nanoTime() > deadline) return;
+            expandNode(node, pieces, canHold, children);
+        });
+
+        if (System.nanoTime() > deadline) return null;
+
+        List<Node> layer = new ArrayList<>(children.values());
+        layer.sort((a, b) -> Double.compare(b.score, a.score));
+        return layer.size() > beamWidth ? new ArrayList<>(layer.subList(0, beamWidth)) : layer;
+    }
+
+    /** Description: Add every child of the node to the map, replacing a duplicate board if it scores better */
+    private void expandNode(Node node, Tetrominoe.ShapeType[] pieces, boolean canHold,
+                            ConcurrentHashMap<Long, Node> children) {
+        if (node.index >= pieces.length) return;
+
+        Tetrominoe.ShapeType piece = pieces[node.index];
+
+        //Place the block that is falling
+        addChildren(node, piece, node.hold, node.index + 1, false, children);
+
+        if (!canHold) return;
+
+        if (node.hold != null) {
+            //Switch with the held block
+            if (node.hold != piece) addChildren(node, node.hold, piece, node.index + 1, true, children);
+        } else if (node.index + 1 < pieces.length) {
+            //Nothing held -- the falling block is held and the next block spawns
+            addChildren(node, pieces[node.index + 1], piece, node.index + 2, true, children);
+        }
+    }
+    private void addChildren(Node node, Tetrominoe.ShapeType piece, Tetrominoe.ShapeType hold, int index,
+                             boolean usedHold, ConcurrentHashMap<Long, Node> children) {
+        List<Placement> placements = new ArrayList<>();
+        PlacementGenerator.generate(node.board, piece, placements);
+
+        int gridRows = node.board.getGridRows();
+        FeatureExtractor extractor = getExtractor(gridRows);
+        FeatureBatch batch = evaluator.prefersBatch() ? getBatch() : null;
+        int[] features = FEATURES.get();
+        double[] scores = SCORES.get();
+        int[] lines = new int[placements.size()];
+        BitBoard[] boards = new BitBoard[placements.size()];
+
+        //Work out the features of every child and score it, or collect them to score all at once
+        extractor.load(node.board);
+        if (batch != null) batch.clear();
+        for (int i = 0; i < placements.size(); i++) {
+            Placement p = placements.get(i);
+            BitBoard child = node.board.copy();
+            child.placeBlock(p.getShapeType(), p.getRotation(), p.getX(), p.getY());
+            int cleared = child.clearLines();
+
+            extractor.extractPlacement(child, p, cleared, features);
+            lines[i] = node.lines + cleared;
+            if (batch != null) {
+                batch.add(features, lines[i]);
+            } else {
+                scores[i] = evaluator.evaluate(features, lines[i]);
+            }
+            boards[i] = child;
+        }
+        if (batch != null) evaluator.evaluateBatch(batch, scores);
+
+        for (int i = 0; i < placements.size(); i++) {
+            Placement p = placements.get(i);
+            Placement firstMove = node.firstMove != null ? node.firstMove : (usedHold ? p.withHold() : p);
+
+            Node n = new Node(boards[i], hold, index, lines[i], scores[i], firstMove);
+            children.merge(n.key(), n, (a, b) -> a.score >= b.score ? a : b);
+        }
+    }
+
+    /** Description: Return the extractor of this thread, making a new one if the grid size changed */
+    private static FeatureExtractor getExtractor(int gridRows) {
+        FeatureExtractor extractor = EXTRACTOR.get();
+        if (extractor == null || extractor.getGridRows() != gridRows) {
+            extractor = new FeatureExtractor(gridRows);
+            EXTRACTOR.set(extractor);
+        }
+        return extractor;
+    }
+
+    /** Description: Return the batch of this thread, making it the first time */
+    private static FeatureBatch getBatch() {
+        FeatureBatch batch = BATCH.get();
+        if (batch == null) {
+            batch = new FeatureBatch(MAX_PLACEMENTS);
+            BATCH.set(batch);
+        }
+        return batch;
+    }
+
+    /** Node Class -- One board in the beam */
+    private static class Node {
+        final BitBoard board;
+        final Tetrominoe.ShapeType hold;
+        final int index;
+        final int lines;
+        final double score;
+        final Placement firstMove;
+
+        Node(BitBoard board, Tetrominoe.ShapeType hold, int index, int lines, double score, Placement firstMove) {
+            this.board = board;
+            this.hold = hold;
+            this.index = index;
+            this.lines = lines;
+            this.score = score;
+            this.firstMove = firstMove;
+        }
+
+        /** Description: Boards are only duplicates if the held block and the next block are also the same */
+        long key() {
+            long h = board.hash();
+            h = h * 31 + (hold == null ? 7 : hold.ordinal());
+            return h * 31 + index;
+        }
+    }
+}
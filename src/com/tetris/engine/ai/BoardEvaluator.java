@@ -0,0 +1,56 @@
+/**
+ * File:        BoardEvaluator.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      An interface which every AI evaluation must implement. The searches only ever talk to this interface,
+ *      so different evaluations can be swapped in without changing the searches. Evaluations are given the
+ *      features from FeatureExtractor rather than the board, so the features are only worked out once.
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import com.tetris.engine.model.board.BitBoard;
+
+/** BoardEvaluator Interface */
+public interface BoardEvaluator {
+
+    /**
+     * Description: Score a board after a placement. Higher is better.
+     * Parameters:  int[] features ---- Features of the board from FeatureExtractor
+     *              int linesCleared -- Total lines cleared on the way to this board
+     */
+    double evaluate(int[] features, int linesCleared);
+
+    /**
+     * Description: Score every candidate of a batch into scores[0 .. batch.size()-1]. The features of the
+     *              batch must already be filled in. Evaluations that can score many boards at once override this.
+     */
+    default void evaluateBatch(FeatureBatch batch, double[] scores) {
+        int[] features = new int[FeatureExtractor.FEATURE_COUNT];
+        int[] lines = batch.getLinesCleared();
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.getFeatures(i, features);
+            scores[i] = evaluate(features, lines[i]);
+        }
+    }
+
+    /**
+     * Description: Whether evaluateBatch() is faster than calling evaluate() once per board. The searches only
+     *              build a FeatureBatch for evaluations that say yes.
+     */
+    default boolean prefersBatch() {
+        return false;
+    }
+
+    /** Description: Score a board by extracting its features first */
+    default double evaluate(BitBoard board, int linesCleared) {
+        int[] features = new int[FeatureExtractor.FEATURE_COUNT];
+        FeatureExtractor.extract(board, features);
+        return evaluate(features, linesCleared);
+    }
+}
@@ -0,0 +1,294 @@
+/**
+ * File:        BotPlayer.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the AI player. When a block spawns, the bot picks a placement with BeamSearch and
+ *      plays it on the BlockController with the shortest list of inputs a player could use (FinessePlanner).
+ *      The block is then left to fall under gravity.
+ *
+ *      With a PatternBook set, the bot first follows the book for states it knows. With a PerfectClearSolver
+ *      set, it then looks for a Perfect Clear and follows it when there is one.
+ *
+ *      With pondering turned on, the bot uses the time its block is falling to search for the next block.
+ *      It works out the board it expects after its own block locks and searches from there on a background
+ *      thread. When the next block spawns and the real board matches the expected one, the plan is already
+ *      waiting. If anything is different the speculation is cancelled and a normal search is run.
+ *
+ *      A caller that cannot wait for the search (such as a versus game's tick thread) uses prepare() to read
+ *      the state on its own thread, runs the decision on another one and plays the result with playPlacement().
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.logic.GameInput;
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/** BotPlayer Class -- AI that plays on a BlockController */
+public class BotPlayer {
+
+    //Initialize Variables - Search
+    private final BeamSearch search;
+    private PerfectClearSolver perfectClearSolver;
+    private PatternBook patternBook;
+    private boolean hardDrop = false;
+
+    //Initialize Variables - Pondering
+    private boolean pondering;
+    private ExecutorService ponderThread;
+    private Future<Placement> ponderResult;
+    private long ponderKey;
+
+    //Initialize Variables - Statistics
+    private volatile long lastDecisionNanos;
+    private int ponderHits;
+    private int ponderMisses;
+
+    /** CONSTRUCTORS */
+    public BotPlayer(BeamSearch search) {
+        this(search, false);
+    }
+    public BotPlayer(BeamSearch search, boolean pondering) {
+        this.search = search;
+        setPondering(pondering);
+    }
+
+    /** GETTER METHODS */
+    public long getLastDecisionNanos() {
+        return lastDecisionNanos;
+    }
+    public int getPonderHits() {
+        return ponderHits;
+    }
+    public int getPonderMisses() {
+        return ponderMisses;
+    }
+    public boolean isPondering() {
+        return pondering;
+    }
+
+    /** SETTER METHODS */
+    public void setHardDrop(boolean hardDrop) {
+        this.hardDrop = hardDrop;
+    }
+    /** Description: Look for a Perfect Clear before every normal search (null turns it off) */
+    public void setPerfectClearSolver(PerfectClearSolver perfectClearSolver) {
+        this.perfectClearSolver = perfectClearSolver;
+    }
+    /** Description: Follow known setups from the book before searching (null turns it off) */
+    public void setPatternBook(PatternBook patternBook) {
+        this.patternBook = patternBook;
+    }
+    public synchronized void setPondering(boolean pondering) {
+        this.pondering = pondering;
+
+        if (pondering && ponderThread == null) {
+            ponderThread = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "BotPlayer-Ponder");
+                t.setDaemon(true);
+                return t;
+            });
+        } else if (!pondering && ponderThread != null) {
+            cancelPonder();
+            ponderThread.shutdownNow();
+            ponderThread = null;
+        }
+    }
+
+    /** Description: Stop the pondering thread. Called when the game is over. */
+    public void shutdown() {
+        setPondering(false);
+    }
+
+    /**
+     * Description: Called right after a block spawns. Decide where the block goes, move it there and start
+     *              pondering on the next block.
+     */
+    public void onSpawn(BlockController bc) {
+        Placement placement = prepare(bc).get();
+        if (placement != null) playPlacement(bc, placement);
+    }
+
+    /**
+     * Description: Copy the state of the BlockController now and return the decision for it. The decision
+     *              only uses the copy, so it can be run later on any thread. It returns null if the block
+     *              cannot be placed anywhere.
+     */
+    public Supplier<Placement> prepare(BlockController bc) {
+        BitBoard board = BitBoard.fromBoard(bc.getBoard());
+        Tetrominoe held = bc.getHeldBlock();
+        Tetrominoe.ShapeType hold = held == null ? null : held.getShapeType();
+        Tetrominoe.ShapeType current = bc.getCurrentBlock().getShapeType();
+        boolean canHold = bc.canHoldBlock();
+        List<Tetrominoe.ShapeType> preview = getPreview(bc);
+
+        return () -> decide(board, current, hold, preview, canHold);
+    }
+
+    /** Description: Pick the placement for a state and start pondering on the next block */
+    private Placement decide(BitBoard board, Tetrominoe.ShapeType current, Tetrominoe.ShapeType hold,
+                             List<Tetrominoe.ShapeType> preview, boolean canHold) {
+        long start = System.nanoTime();
+
+        //A known setup or a Perfect Clear beats whatever the evaluation would pick
+        Placement placement = null;
+        if (patternBook != null) {
+            placement = patternBook.lookup(board, current, hold, preview);
+            if (placement != null && placement.isUseHold() && !canHold) placement = null;
+        }
+        if (placement == null && perfectClearSolver != null) {
+            PerfectClearSolver.Result result = perfectClearSolver.solve(board, current, hold, preview, canHold);
+            if (result.isFound()) placement = result.getPlacements().get(0);
+        }
+
+        if (placement != null) {
+            cancelPonder();
+        } else {
+            placement = takePonderResult(getStateKey(board, current, hold, canHold));
+            if (placement == null) placement = search.search(board, current, hold, preview, canHold);
+        }
+
+        lastDecisionNanos = System.nanoTime() - start;
+        if (placement != null && pondering) startPonder(board, placement, current, hold, preview);
+        return placement;
+    }
+
+    /** Description: Move the current block of the BlockController into the placement */
+    public void playPlacement(BlockController bc, Placement placement) {
+        moveToPlacement(bc, placement);
+        if (hardDrop) bc.handleInput(GameInput.HARD_DROP);
+    }
+
+    /**
+     * Description: Hold (if needed), rotate and move the current block above its placement using the same
+     *              inputs as the keyboard. The shortest inputs come from FinessePlanner. The block is not
+     *              dropped, but soft drops are played when the placement needs a tuck or a spin.
+     */
+    public static void moveToPlacement(BlockController bc, Placement placement) {
+        BitBoard board = BitBoard.fromBoard(bc.getBoard());
+        List<GameInput> inputs = FinessePlanner.forGrid(board.getGridRows()).plan(board, placement);
+
+        if (inputs != null) {
+            for (GameInput input : inputs) {
+                if (input != GameInput.HARD_DROP) bc.handleInput(input);
+            }
+            return;
+        }
+
+        //No path found -- rotate and then slide as far as possible
+        if (placement.isUseHold()) bc.handleInput(GameInput.HOLD);
+
+        //Rotations -- Turning anti-clockwise once is faster than turning clockwise three times
+        if (placement.getRotation() == 3) {
+            bc.handleInput(GameInput.CCW);
+        } else {
+            for (int i = 0; i < placement.getRotation(); i++) {
+                bc.handleInput(GameInput.CW);
+            }
+        }
+
+        //Side moves -- stop if something is in the way
+        while (bc.getCurrentBlock().getX() < placement.getX()) {
+            int x = bc.getCurrentBlock().getX();
+            bc.handleInput(GameInput.RIGHT);
+            if (bc.getCurrentBlock().getX() == x) break;
+        }
+        while (bc.getCurrentBlock().getX() > placement.getX()) {
+            int x = bc.getCurrentBlock().getX();
+            bc.handleInput(GameInput.LEFT);
+            if (bc.getCurrentBlock().getX() == x) break;
+        }
+    }
+
+    /** PONDERING */
+    private synchronized void startPonder(BitBoard board, Placement placement, Tetrominoe.ShapeType current,
+                                          Tetrominoe.ShapeType hold, List<Tetrominoe.ShapeType> preview) {
+        cancelPonder();
+        if (preview.isEmpty()) return;
+
+        //Work out what the next spawn will look like if this placement locks where expected
+        BitBoard expected = board.copy();
+        expected.placeBlock(placement.getShapeType(), placement.getRotation(), placement.getX(), placement.getY());
+        expected.clearLines();
+
+        List<Tetrominoe.ShapeType> nextPreview = new ArrayList<>(preview);
+        Tetrominoe.ShapeType nextHold = hold;
+        if (placement.isUseHold()) {
+            nextHold = current;
+            if (hold == null) nextPreview.remove(0);   //The next block was pulled forward by the hold
+        }
+        if (nextPreview.isEmpty()) return;
+
+        Tetrominoe.ShapeType next = nextPreview.remove(0);
+        final Tetrominoe.ShapeType speculatedHold = nextHold;
+
+        ponderKey = getStateKey(expected, next, speculatedHold, true);
+        ponderResult = ponderThread.submit(() -> search.search(expected, next, speculatedHold, nextPreview, true));
+    }
+
+    /**
+     * Description: Return the pondered placement if it was made for this exact state. Waits at most one
+     *              time budget for a speculation that is still running. Return null on a miss.
+     */
+    private synchronized Placement takePonderResult(long stateKey) {
+        if (ponderResult == null) return null;
+
+        Future<Placement> result = ponderResult;
+        ponderResult = null;
+
+        if (stateKey != ponderKey) {
+            result.cancel(true);
+            ponderMisses++;
+            return null;
+        }
+
+        try {
+            Placement placement = result.get(search.getTimeBudget() + 1, TimeUnit.MILLISECONDS);
+            ponderHits++;
+            return placement;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            result.cancel(true);
+        }
+        ponderMisses++;
+        return null;
+    }
+    private synchronized void cancelPonder() {
+        if (ponderResult != null) {
+            ponderResult.cancel(true);
+            ponderResult = null;
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    private static List<Tetrominoe.ShapeType> getPreview(BlockController bc) {
+        List<Tetrominoe.ShapeType> preview = new ArrayList<>();
+        for (Tetrominoe t : bc.getQueuedBlocks()) {
+            preview.add(t.getShapeType());
+        }
+        return preview;
+    }
+    private static long getStateKey(BitBoard board, Tetrominoe.ShapeType current, Tetrominoe.ShapeType hold,
+                                    boolean canHold) {
+        long h = board.hash();
+        h = h * 31 + current.ordinal();
+        h = h * 31 + (hold == null ? 7 : hold.ordinal());
+        return h * 31 + (canHold ? 1 : 0);
+    }
+}
@@ -0,0 +1,449 @@
+/**
+ * File:        ExternalBotDriver.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file runs a bot written outside the JVM as a separate process and talks to it over its stdin and
+ *      stdout, one line of ASCII per message. Anything the bot writes to stderr goes to our stderr.
+ *
+ *      Driver to bot:
+ *          tetris <version> <rows> <columns>
+ *          move <id> <milliseconds> <current> <held> <canHold> <queue> <grid>
+ *          quit
+ *      Bot to driver:
+ *          ready <name>
+ *          place <id> <shape> <rotation> <x> <y> <hold> [<think microseconds>]
+ *          inputs <id> <input codes> [<think microseconds>]
+ *          info <anything>     (ignored)
+ *
+ *      Shapes are their letters (S Z I L J O T), "-" for no held block or an empty queue. canHold and hold are
+ *      0 or 1. The grid is every row from the top, each as (columns + 3) / 4 hex digits of its bit mask (bit c
+ *      is column c, the same as BitBoard), with no spaces. A placement uses the Placement coordinates; input
+ *      codes are GameInput codes written as digits (e.g. "2201" is CW, CW, LEFT, RIGHT). Either way the
+ *      caller drops the block afterwards.
+ *
+ *      Every move has a time limit (sent to the bot). A reply that doesn't come in time counts as a timeout
+ *      and the block is left where it spawned; a late reply is thrown away when it comes (the id doesn't
+ *      match). Messages are built and parsed in fixed byte buffers, so sending and reading a message allocates
+ *      nothing (moving the block to a placement goes through BotPlayer.moveToPlacement(), which plans the
+ *      inputs, as for the built-in bot). The round trip of every move is kept, and when the bot reports how
+ *      long it thought, the difference (the cost of the pipes and the parsing at both ends) is kept as the
+ *      overhead.
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.logic.GameInput;
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** ExternalBotDriver Class -- Plays blocks on a BlockController with a bot running in another process */
+public class ExternalBotDriver implements Closeable {
+
+    //Initialize Static Variables
+    public final static int PROTOCOL_VERSION = 1;
+    public final static long DEFAULT_MOVE_MILLIS = 100;
+    private final static long HANDSHAKE_MILLIS = 10_000;
+    private final static int LINE_BYTES = 512;
+    private final static int MAX_INPUTS = 64;
+    private final static int SAMPLES = 1 << 14;            //Power of two, round trips kept for the percentiles
+    private final static Tetrominoe.ShapeType[] SHAPE_TYPES = Tetrominoe.ShapeType.values();
+    private final static byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    //Initialize Static Variables - Message keywords
+    private final static byte[] MOVE = ascii("move ");
+    private final static byte[] READY = ascii("ready");
+    private final static byte[] PLACE = ascii("place");
+    private final static byte[] INPUTS = ascii("inputs");
+    private final static byte[] INFO = ascii("info");
+    private final static int REPLY_PLACE = 1, REPLY_INPUTS = 2;
+
+    //Initialize Variables - Process
+    private final Process process;
+    private final OutputStream toBot;
+    private final InputStream fromBot;
+    private final Thread reader;
+    private final long moveMillis;
+    private final byte[] out = new byte[LINE_BYTES];     //Caller's thread
+    private final byte[] in = new byte[LINE_BYTES];      //Reader thread
+    private int lineLength, position, tokenStart, tokenEnd;
+    private boolean malformed;
+    private int moveId = 0;
+    private volatile String name;
+
+    //Initialize Variables - Last reply (guarded by the driver, written by the reader thread)
+    private boolean alive = true;
+    private int replyId = -1;
+    private int replyKind;
+    private int replyShape, replyRotation, replyX, replyY;
+    private boolean replyHold;
+    private final byte[] replyInputs = new byte[MAX_INPUTS];
+    private int replyInputCount;
+    private long replyThinkNanos;
+    private long replyNanos;
+
+    //Initialize Variables - Statistics (guarded by the driver)
+    private int moves = 0, timeouts = 0, badReplies = 0;
+    private final long[] roundTrips = new long[SAMPLES];
+    private final long[] overheads = new long[SAMPLES];
+    private long roundTripCount = 0, overheadCount = 0;
+
+    /** CONSTRUCTOR -- Starts the bot and waits for its "ready" (throws IOException if it never comes) */
+    public ExternalBotDriver(List<String> command, int rows, int columns, long moveMillis) throws IOException {
+        this.moveMillis = moveMillis;
+        this.process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        this.toBot = process.getOutputStream();
+        this.fromBot = process.getInputStream();
+
+        this.reader = new Thread(this::readLoop, "ExternalBot-Reader");
+        this.reader.setDaemon(true);
+        this.reader.start();
+
+        int n = put(0, ascii("tetris "));
+        n = putInt(n, PROTOCOL_VERSION);
+        out[n++] = ' ';
+        n = putInt(n, rows);
+        out[n++] = ' ';
+        n = putInt(n, columns);
+        send(n);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(HANDSHAKE_MILLIS);
+        synchronized (this) {
+            while (name == null && alive && System.nanoTime() < deadline) {
+                if (!waitUntil(deadline)) break;
+            }
+        }
+        if (name == null) {
+            process.destroyForcibly();
+            throw new IOException("Bot " + command + " didn't say ready");
+        }
+    }
+
+    /** GETTER METHODS */
+    public String getName() {
+        return name;
+    }
+    public synchronized boolean isAlive() {
+        return alive;
+    }
+    public synchronized int getMoves() {
+        return moves;
+    }
+    public synchronized int getTimeouts() {
+        return timeouts;
+    }
+    public synchronized int getBadReplies() {
+        return badReplies;
+    }
+    /** Description: Percentile (0 to 1) of the round trips of the last moves, in nanoseconds (-1 if none) */
+    public synchronized long getRoundTripPercentile(double p) {
+        return percentile(roundTrips, roundTripCount, p);
+    }
+    /** Description: Same for the round trip minus the bot's own think time (only bots that report it) */
+    public synchronized long getOverheadPercentile(double p) {
+        return percentile(overheads, overheadCount, p);
+    }
+
+    /**
+     * Description: Called right after a block spawns. Ask the bot where it goes and move it there (hold,
+     *              rotations and side moves, but no drop). Return False if the bot didn't answer in time or the
+     *              thread was interrupted while waiting (the interrupt is kept).
+     */
+    public boolean onSpawn(BlockController bc) {
+        Tetrominoe current = bc.getCurrentBlock();
+        if (current == null) return false;
+
+        int id = ++moveId;
+        long sent = System.nanoTime();
+        try {
+            send(encodeMove(bc, id));
+        } catch (IOException e) {
+            synchronized (this) {
+                alive = false;
+            }
+            return false;
+        }
+
+        Placement placement = null;
+        synchronized (this) {
+            long deadline = sent + TimeUnit.MILLISECONDS.toNanos(moveMillis);
+            boolean interrupted = false;
+            while (replyId != id && alive && System.nanoTime() < deadline && !interrupted) {
+                interrupted = !waitUntil(deadline);
+            }
+            if (replyId != id) {
+                if (!interrupted) timeouts++;
+                return false;
+            }
+
+            moves++;
+            long roundTrip = replyNanos - sent;
+            roundTrips[(int) (roundTripCount++ & (SAMPLES - 1))] = roundTrip;
+            if (replyThinkNanos >= 0) overheads[(int) (overheadCount++ & (SAMPLES - 1))] = roundTrip - replyThinkNanos;
+
+            if (replyKind == REPLY_PLACE) {
+                placement = new Placement(SHAPE_TYPES[replyShape], replyRotation, replyX, replyY, replyHold);
+            } else {
+                for (int i = 0; i < replyInputCount; i++) {
+                    GameInput input = GameInput.fromCode(replyInputs[i]);
+                    if (input == null || input == GameInput.HARD_DROP || input == GameInput.PAUSE) continue;
+                    if (input == GameInput.HOLD && !bc.canHoldBlock()) continue;
+                    bc.handleInput(input);
+                }
+            }
+        }
+
+        if (placement != null) BotPlayer.moveToPlacement(bc, placement);
+        return true;
+    }
+
+    /** Description: Tell the bot to quit and make sure the process is gone */
+    @Override
+    public void close() {
+        try {
+            send(put(0, ascii("quit")));
+        } catch (IOException ignored) { }
+        try {
+            if (!process.waitFor(1, TimeUnit.SECONDS)) process.destroyForcibly();
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** WRITING -- Caller's thread */
+    private int encodeMove(BlockController bc, int id) {
+        Board board = bc.getBoard();
+        int n = put(0, MOVE);
+        n = putInt(n, id);
+        out[n++] = ' ';
+        n = putInt(n, (int) moveMillis);
+        out[n++] = ' ';
+        out[n++] = shapeLetter(bc.getCurrentBlock());
+        out[n++] = ' ';
+        out[n++] = shapeLetter(bc.getHeldBlock());
+        out[n++] = ' ';
+        out[n++] = (byte) (bc.canHoldBlock() ? '1' : '0');
+        out[n++] = ' ';
+        List<Tetrominoe> queue = bc.getQueuedBlocks();
+        if (queue.isEmpty()) out[n++] = '-';
+        for (int i = 0; i < queue.size(); i++) out[n++] = shapeLetter(queue.get(i));
+        out[n++] = ' ';
+
+        int columns = board.getGridColumns();
+        int digits = (columns + 3) / 4;
+        for (int r = 0; r < board.getGridRows(); r++) {
+            int mask = 0;
+            for (int c = 0; c < columns; c++) {
+                if (board.getBackgroundColor(r, c) != null) mask |= 1 << c;
+            }
+            for (int d = digits - 1; d >= 0; d--) out[n++] = HEX[(mask >>> (d * 4)) & 0xF];
+        }
+        return n;
+    }
+
+    private void send(int length) throws IOException {
+        out[length++] = '\n';
+        toBot.write(out, 0, length);
+        toBot.flush();
+    }
+
+    private int put(int n, byte[] bytes) {
+        System.arraycopy(bytes, 0, out, n, bytes.length);
+        return n + bytes.length;
+    }
+    private int putInt(int n, int value) {
+        if (value < 0) {
+            out[n++] = '-';
+            value = -value;
+        }
+        int start = n;
+        do {
+            out[n++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        for (int i = start, j = n - 1; i < j; i++, j--) {
+            byte b = out[i];
+            out[i] = out[j];
+            out[j] = b;
+        }
+        return n;
+    }
+
+    /** READING -- Reader thread: split the bot's output into lines and parse each one in place */
+    private void readLoop() {
+        byte[] chunk = new byte[4096];
+        int length = 0;
+        boolean overlong = false;
+        try {
+            int read;
+            while ((read = fromBot.read(chunk)) >= 0) {
+                for (int i = 0; i < read; i++) {
+                    byte b = chunk[i];
+                    if (b == '\n') {
+                        if (overlong) badReply();
+                        else handleLine(length);
+                        length = 0;
+                        overlong = false;
+                    } else if (b != '\r') {
+                        if (length < in.length) in[length++] = b;
+                        else overlong = true;
+                    }
+                }
+            }
+        } catch (IOException ignored) {
+        } finally {
+            synchronized (this) {
+                alive = false;
+                notifyAll();
+            }
+        }
+    }
+
+    private void handleLine(int length) {
+        long now = System.nanoTime();
+        lineLength = length;
+        position = 0;
+        malformed = false;
+        if (!nextToken()) return;       //Empty line
+
+        if (tokenIs(READY)) {
+            String text = new String(in, position, length - position, StandardCharsets.US_ASCII).trim();
+            synchronized (this) {
+                name = text.isEmpty() ? "bot" : text;
+                notifyAll();
+            }
+            return;
+        }
+        if (tokenIs(INFO)) return;
+
+        int kind = tokenIs(PLACE) ? REPLY_PLACE : tokenIs(INPUTS) ? REPLY_INPUTS : 0;
+        int id = nextInt();
+        int shape = 0, rotation = 0, x = 0, y = 0, inputStart = 0, inputCount = 0;
+        boolean hold = false;
+        if (kind == REPLY_PLACE) {
+            shape = nextToken() && tokenEnd - tokenStart == 1 ? shapeIndex(in[tokenStart]) : -1;
+            rotation = nextInt();
+            x = nextInt();
+            y = nextInt();
+            hold = nextInt() != 0;
+            if (shape < 0 || rotation < 0 || rotation > 3) malformed = true;
+        } else if (kind == REPLY_INPUTS && nextToken() && !(tokenEnd - tokenStart == 1 && in[tokenStart] == '-')) {
+            inputStart = tokenStart;
+            inputCount = tokenEnd - tokenStart;
+            if (inputCount > MAX_INPUTS) malformed = true;
+            for (int i = tokenStart; i < tokenEnd && !malformed; i++) {
+                if (in[i] < '0' || in[i] > '9') malformed = true;
+            }
+        }
+        long thinkNanos = nextToken() ? tokenInt() * 1000L : -1;
+        if (kind == 0 || malformed) {
+            badReply();
+            return;
+        }
+
+        synchronized (this) {
+            replyId = id;
+            replyKind = kind;
+            replyShape = shape;
+            replyRotation = rotation;
+            replyX = x;
+            replyY = y;
+            replyHold = hold;
+            replyInputCount = inputCount;
+            for (int i = 0; i < inputCount; i++) replyInputs[i] = (byte) (in[inputStart + i] - '0');
+            replyThinkNanos = thinkNanos;
+            replyNanos = now;
+            notifyAll();
+        }
+    }
+
+    private void badReply() {
+        synchronized (this) {
+            badReplies++;
+        }
+    }
+
+    /** Description: Move to the next space separated token of the line. Return False at the end of the line. */
+    private boolean nextToken() {
+        while (position < lineLength && in[position] == ' ') position++;
+        if (position == lineLength) return false;
+        tokenStart = position;
+        while (position < lineLength && in[position] != ' ') position++;
+        tokenEnd = position;
+        return true;
+    }
+    private boolean tokenIs(byte[] word) {
+        if (tokenEnd - tokenStart != word.length) return false;
+        for (int i = 0; i < word.length; i++) {
+            if (in[tokenStart + i] != word[i]) return false;
+        }
+        return true;
+    }
+    private int nextInt() {
+        if (nextToken()) return tokenInt();
+        malformed = true;
+        return 0;
+    }
+    private int tokenInt() {
+        int i = tokenStart;
+        boolean negative = in[i] == '-';
+        if (negative) i++;
+        if (i == tokenEnd || tokenEnd - i > 9) malformed = true;
+
+        int value = 0;
+        for (; i < tokenEnd; i++) {
+            if (in[i] < '0' || in[i] > '9') {
+                malformed = true;
+                return 0;
+            }
+            value = value * 10 + in[i] - '0';
+        }
+        return negative ? -value : value;
+    }
+
+    /** HELPER FUNCTIONS */
+    private synchronized boolean waitUntil(long deadline) {    //False if the thread was interrupted
+        long nanos = deadline - System.nanoTime();
+        if (nanos <= 0) return true;
+        try {
+            TimeUnit.NANOSECONDS.timedWait(this, nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    private static byte shapeLetter(Tetrominoe block) {
+        return block == null ? (byte) '-' : (byte) block.getShapeType().toString().charAt(0);
+    }
+    private static int shapeIndex(byte letter) {
+        for (Tetrominoe.ShapeType shapeType : SHAPE_TYPES) {
+            if (shapeType.toString().charAt(0) == letter) return shapeType.ordinal();
+        }
+        return -1;
+    }
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+    private static long percentile(long[] samples, long count, double p) {
+        int n = (int) Math.min(count, samples.length);
+        if (n == 0) return -1;
+        long[] sorted = Arrays.copyOf(samples, n);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.min(n - 1, Math.floor(p * n))];
+    }
+}
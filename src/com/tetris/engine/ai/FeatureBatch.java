@@ -0,0 +1,75 @@
+/**
+ * File:        FeatureBatch.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file holds the features of many candidate boards at once so that they can be evaluated together.
+ *      The data is stored 'structure of arrays' style: features[feature][candidate], so an evaluateBatch()
+ *      can read one feature of every candidate from a single int[].
+ *
+ *      Candidates are added with features already worked out by FeatureExtractor (BeamSearch uses its
+ *      incremental extractor, which only re-scans the rows a placement touched). Filling a batch copies every
+ *      feature once more, so it only pays off for evaluations that do a lot of work per board (see
+ *      BoardEvaluator.prefersBatch()).
+ *
+ */
+
+package com.tetris.engine.ai;
+
+/** FeatureBatch Class -- Candidate boards in structure of arrays form */
+public class FeatureBatch {
+
+    //Initialize Variables
+    private final int capacity;
+    private final int[][] features;
+    private final int[] linesCleared;
+    private int size = 0;
+
+    /** CONSTRUCTOR */
+    public FeatureBatch(int capacity) {
+        this.capacity = capacity;
+        this.features = new int[FeatureExtractor.FEATURE_COUNT][capacity];
+        this.linesCleared = new int[capacity];
+    }
+
+    /** GETTER METHODS */
+    public int getCapacity() {
+        return capacity;
+    }
+    public int size() {
+        return size;
+    }
+    public boolean isFull() {
+        return size == capacity;
+    }
+    public int[] getFeature(int feature) {
+        return features[feature];
+    }
+    public int[] getLinesCleared() {
+        return linesCleared;
+    }
+
+    /** Description: Empty the batch so it can be filled again */
+    public void clear() {
+        size = 0;
+    }
+
+    /** Description: Add a candidate whose features were already worked out by FeatureExtractor */
+    public int add(int[] candidateFeatures, int lines) {
+        int i = size++;
+        for (int f = 0; f < FeatureExtractor.FEATURE_COUNT; f++) {
+            features[f][i] = candidateFeatures[f];
+        }
+        linesCleared[i] = lines;
+        return i;
+    }
+
+    /** Description: Copy the features of one candidate into out */
+    public void getFeatures(int i, int[] out) {
+        for (int f = 0; f < FeatureExtractor.FEATURE_COUNT; f++) {
+            out[f] = features[f][i];
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * File:        FeatureExtractor.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file works out the board features that the AI evaluations use: column heights, holes, bumpiness,
+ *      row and column transitions, well depths and covered cells. It works on the row masks of a BitBoard,
+ *      so a whole row of columns is handled with a few bit operations.
+ *
+ *      The searches place many blocks on the same board. After load() is called with that board, the
+ *      features of a board with one more block on it are found by only re-scanning from the top row the
+ *      block touched, down to the first row where the scan is back in the same state as the loaded board.
+ *      Everything below that row is taken from the saved running totals.
+ *
+ *      Features are written into an int[] of length FEATURE_COUNT that the caller owns and reuses.
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.tetrominoes.TetrominoeProperties;
+
+import java.util.Arrays;
+
+/** FeatureExtractor Class -- Bitwise, incremental board features */
+public class FeatureExtractor {
+
+    //Initialize Static Variables - Feature Indexes
+    public final static int AGGREGATE_HEIGHT = 0;
+    public final static int MAX_HEIGHT = 1;
+    public final static int HOLES = 2;
+    public final static int BUMPINESS = 3;
+    public final static int ROW_TRANSITIONS = 4;
+    public final static int COLUMN_TRANSITIONS = 5;
+    public final static int WELL_SUMS = 6;          //Each well adds 1 + 2 + ... + depth
+    public final static int COVERED_CELLS = 7;      //Blocks sitting above the top hole of their column
+    public final static int COLUMN_HEIGHTS = 8;     //One feature per column from here on
+    public final static int FEATURE_COUNT = COLUMN_HEIGHTS + BitBoard.GRID_COLUMNS;
+
+    //Initialize Variables - Loaded Board
+    private final int gridRows;
+    private final int[] seen;           //Columns with a block in or above each row
+    private final int[] holed;          //Columns with a hole in or above each row
+    private final int[] prefixHoles;    //Running totals of the rows above each row
+    private final int[] prefixRowTransitions;
+    private final int[] prefixColumnTransitions;
+    private final int[] prefixHoleRows;
+    private final int[] heights = new int[BitBoard.GRID_COLUMNS];
+
+    /** CONSTRUCTOR */
+    public FeatureExtractor(int gridRows) {
+        this.gridRows = gridRows;
+        this.seen = new int[gridRows];
+        this.holed = new int[gridRows];
+        this.prefixHoles = new int[gridRows + 1];
+        this.prefixRowTransitions = new int[gridRows + 1];
+        this.prefixColumnTransitions = new int[gridRows + 1];
+        this.prefixHoleRows = new int[gridRows + 1];
+    }
+
+    /** GETTER METHODS */
+    public int getGridRows() {
+        return gridRows;
+    }
+
+    /** Description: Scan a whole board and save the running totals so that placements on it are cheap */
+    public void load(BitBoard board) {
+        int seenMask = 0;
+        int holeMask = 0;
+
+        Arrays.fill(heights, 0);
+
+        for (int r = 0; r < gridRows; r++) {
+            int row = board.getRow(r);
+            int holeRow = seenMask & ~row;
+            int newHoles = holeRow & ~holeMask;
+
+            setHeights(heights, row & ~seenMask, gridRows - r);
+
+            prefixHoles[r + 1] = prefixHoles[r] + Integer.bitCount(holeRow);
+            prefixRowTransitions[r + 1] = prefixRowTransitions[r] + getRowTransitions(row);
+            prefixColumnTransitions[r + 1] = prefixColumnTransitions[r] + getColumnTransitions(board, r, row);
+            prefixHoleRows[r + 1] = prefixHoleRows[r] + r * Integer.bitCount(newHoles);
+
+            seenMask |= row;
+            holeMask |= newHoles;
+            seen[r] = seenMask;
+            holed[r] = holeMask;
+        }
+    }
+
+    /** Description: Write the features of a whole board into out. Does not change the loaded board. */
+    public static void extract(BitBoard board, int[] out) {
+        int gridRows = board.getGridRows();
+        int seenMask = 0;
+        int holeMask = 0;
+        int holes = 0, rowTransitions = 0, columnTransitions = 0, holeRows = 0;
+
+        for (int c = 0; c < BitBoard.GRID_COLUMNS; c++) {
+            out[COLUMN_HEIGHTS + c] = 0;
+        }
+
+        for (int r = 0; r < gridRows; r++) {
+            int row = board.getRow(r);
+            int holeRow = seenMask & ~row;
+            int newHoles = holeRow & ~holeMask;
+
+            setHeights(out, COLUMN_HEIGHTS, row & ~seenMask, gridRows - r);
+
+            holes += Integer.bitCount(holeRow);
+            rowTransitions += getRowTransitions(row);
+            columnTransitions += getColumnTransitions(board, r, row);
+            holeRows += r * Integer.bitCount(newHoles);
+
+            seenMask |= row;
+            holeMask |= newHoles;
+        }
+
+        finish(out, gridRows, holes, rowTransitions, columnTransitions, holeRows, holeMask);
+    }
+
+    /**
+     * Description: Write the features of the loaded board with one more block placed on it into out.
+     * Parameters:  BitBoard child ------- The loaded board with the block placed (no lines cleared)
+     *              int topRow ----------- Top row the block touched
+     *              int bottomRow -------- Bottom row the block touched
+     */
+    public void extractChild(BitBoard child, int topRow, int bottomRow, int[] out) {
+        int seenMask = topRow > 0 ? seen[topRow - 1] : 0;
+        int holeMask = topRow > 0 ? holed[topRow - 1] : 0;
+        int holes = prefixHoles[topRow];
+        int rowTransitions = prefixRowTransitions[topRow];
+        int columnTransitions = prefixColumnTransitions[topRow];
+        int holeRows = prefixHoleRows[topRow];
+
+        for (int c = 0; c < BitBoard.GRID_COLUMNS; c++) {
+            out[COLUMN_HEIGHTS + c] = heights[c];
+        }
+
+        for (int r = topRow; r < gridRows; r++) {
+            //Once the row above is untouched and the scan matches the loaded board, the rest is the same
+            if (r - 1 > bottomRow && seenMask == seen[r - 1] && holeMask == holed[r - 1]) {
+                holes += prefixHoles[gridRows] - prefixHoles[r];
+                rowTransitions += prefixRowTransitions[gridRows] - prefixRowTransitions[r];
+                columnTransitions += prefixColumnTransitions[gridRows] - prefixColumnTransitions[r];
+                holeRows += prefixHoleRows[gridRows] - prefixHoleRows[r];
+                holeMask = holed[gridRows - 1];
+                break;
+            }
+
+            int row = child.getRow(r);
+            int holeRow = seenMask & ~row;
+            int newHoles = holeRow & ~holeMask;
+
+            setHeights(out, COLUMN_HEIGHTS, row & ~seenMask, gridRows - r);
+
+            holes += Integer.bitCount(holeRow);
+            rowTransitions += getRowTransitions(row);
+            columnTransitions += getColumnTransitions(child, r, row);
+            holeRows += r * Integer.bitCount(newHoles);
+
+            seenMask |= row;
+            holeMask |= newHoles;
+        }
+
+        finish(out, gridRows, holes, rowTransitions, columnTransitions, holeRows, holeMask);
+    }
+
+    /** Description: Features of the loaded board after a placement. Lines must already be cleared in child. */
+    public void extractPlacement(BitBoard child, Placement p, int linesCleared, int[] out) {
+        if (linesCleared > 0) {
+            //Every row above the cleared lines moved, so scan the whole board
+            extract(child, out);
+            return;
+        }
+
+        TetrominoeProperties tp = BitBoard.getProperties(p.getShapeType(), p.getRotation());
+        int topRow = Math.max(0, p.getY() + tp.getPointY());
+        int bottomRow = p.getY() + tp.getPointY() + tp.getHeight() - 1;
+        extractChild(child, topRow, bottomRow, out);
+    }
+
+    /** HELPER FUNCTIONS */
+    private static void setHeights(int[] heights, int columns, int height) {
+        setHeights(heights, 0, columns, height);
+    }
+    private static void setHeights(int[] out, int offset, int columns, int height) {
+        while (columns != 0) {
+            out[offset + Integer.numberOfTrailingZeros(columns)] = height;
+            columns &= columns - 1;
+        }
+    }
+
+    /** Description: Filled/empty changes along a row, counting both side walls as filled. Empty rows count 0. */
+    private static int getRowTransitions(int row) {
+        if (row == 0) return 0;
+        int withWalls = 1 | (row << 1) | (1 << (BitBoard.GRID_COLUMNS + 1));
+        return Integer.bitCount((withWalls ^ (withWalls >>> 1)) & ((1 << (BitBoard.GRID_COLUMNS + 1)) - 1));
+    }
+
+    /** Description: Filled/empty changes between a row and the row above, plus the floor below the last row */
+    private static int getColumnTransitions(BitBoard board, int r, int row) {
+        int above = r > 0 ? board.getRow(r - 1) : 0;
+        int transitions = Integer.bitCount(row ^ above);
+        if (r == board.getGridRows() - 1) transitions += Integer.bitCount(~row & BitBoard.FULL_ROW);
+        return transitions;
+    }
+
+    /** Description: Fill in the features which only need the column heights and the running totals */
+    private static void finish(int[] out, int gridRows, int holes, int rowTransitions, int columnTransitions,
+                               int holeRows, int holeMask) {
+        int aggregateHeight = 0, maxHeight = 0, bumpiness = 0, wellSums = 0;
+
+        for (int c = 0; c < BitBoard.GRID_COLUMNS; c++) {
+            int h = out[COLUMN_HEIGHTS + c];
+            aggregateHeight += h;
+            maxHeight = Math.max(maxHeight, h);
+            if (c > 0) bumpiness += Math.abs(h - out[COLUMN_HEIGHTS + c - 1]);
+
+            //Side walls are as high as the grid
+            int left = c > 0 ? out[COLUMN_HEIGHTS + c - 1] : gridRows;
+            int right = c < BitBoard.GRID_COLUMNS - 1 ? out[COLUMN_HEIGHTS + c + 1] : gridRows;
+            int depth = Math.min(left, right) - h;
+            if (depth > 0) wellSums += depth * (depth + 1) / 2;
+        }
+
+        //Covered cells of a column = row of its top hole - row of its surface
+        int surfaceRows = 0;
+        for (int columns = holeMask; columns != 0; columns &= columns - 1) {
+            surfaceRows += gridRows - out[COLUMN_HEIGHTS + Integer.numberOfTrailingZeros(columns)];
+        }
+
+        out[AGGREGATE_HEIGHT] = aggregateHeight;
+        out[MAX_HEIGHT] = maxHeight;
+        out[HOLES] = holes;
+        out[BUMPINESS] = bumpiness;
+        out[ROW_TRANSITIONS] = rowTransitions;
+        out[COLUMN_TRANSITIONS] = columnTransitions;
+        out[WELL_SUMS] = wellSums;
+        out[COVERED_CELLS] = holeRows - surfaceRows;
+    }
+}
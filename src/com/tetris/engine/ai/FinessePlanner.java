@@ -0,0 +1,296 @@
+/**
+ * File:        FinessePlanner.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file finds the shortest list of inputs (left, right, clockwise, counter-clockwise and soft drop,
+ *      then a hard drop) that takes a freshly spawned block to a placement. Moves and rotations are simulated
+ *      on a BitBoard with the same wall kicks as Tetrominoe, so the inputs can be played on the real game.
+ *      Shortest means the fewest moves and rotations, which is what FinesseTracker counts, and then the fewest
+ *      soft drops.
+ *
+ *      Most placements are on an open surface, where the shortest path does not depend on the stack. Those
+ *      paths are worked out once per grid size for every (shape, rotation, x) on an empty board. A cached path
+ *      is first tried on the real board; if something gets in the way, or the placement needs a tuck or a
+ *      spin, a cheapest-first search over (x, y, rotation) is run on the real board instead.
+ *
+ *      Placements are compared by the cells they fill, so a symmetric rotation reaching the same cells
+ *      (like the two vertical I blocks) counts as the same placement. Gravity is not simulated.
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import com.tetris.engine.logic.GameInput;
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+import com.tetris.engine.model.tetrominoes.TetrominoeCollection;
+import com.tetris.engine.model.tetrominoes.TetrominoeProperties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** FinessePlanner Class -- Shortest input sequences to placements */
+public class FinessePlanner {
+
+    //Initialize Static Variables - Range of block coordinates the search keeps track of
+    private final static int X_OFFSET = 4;
+    private final static int X_RANGE = BitBoard.GRID_COLUMNS + 2 * X_OFFSET;
+    private final static int Y_OFFSET = 8;
+
+    //Moves the search tries from every state
+    private final static GameInput[] MOVES = {GameInput.CW, GameInput.CCW, GameInput.LEFT, GameInput.RIGHT,
+            GameInput.SOFT_DROP};
+
+    //One planner per grid size
+    private final static Map<Integer, FinessePlanner> PLANNERS = new ConcurrentHashMap<>();
+
+    //Cost of an input in the search: any number of soft drops is cheaper than one move or rotation
+    private final static int SOFT_DROP_COST = 1;
+    private final static int STATE_BITS = 16;
+    private final static long STATE_MASK = (1L << STATE_BITS) - 1;
+    private final static int COST_SHIFT = 40;
+
+    //Initialize Variables
+    private final int gridRows;
+    private final int yRange;
+    private final int movementCost;
+    private final List<GameInput>[][][] emptyPaths;    //[shape][rotation][x + X_OFFSET]
+
+    /** Description: Shared planner for grids with this many rows */
+    public static FinessePlanner forGrid(int gridRows) {
+        return PLANNERS.computeIfAbsent(gridRows, FinessePlanner::new);
+    }
+
+    /** CONSTRUCTOR -- Work out every path on an empty board */
+    @SuppressWarnings("unchecked")
+    public FinessePlanner(int gridRows) {
+        this.gridRows = gridRows;
+        this.yRange = gridRows + Y_OFFSET + 1;
+        this.movementCost = 4 * yRange * X_RANGE * SOFT_DROP_COST;    //More than a path's soft drops
+
+        Tetrominoe.ShapeType[] shapeTypes = Tetrominoe.ShapeType.values();
+        this.emptyPaths = (List<GameInput>[][][]) new List<?>[shapeTypes.length][4][X_RANGE];
+
+        BitBoard empty = new BitBoard(gridRows);
+        for (Tetrominoe.ShapeType shapeType : shapeTypes) {
+            Map<Long, List<GameInput>> paths = new HashMap<>();
+            search(empty, shapeType, 0, paths);
+
+            for (int rotation = 0; rotation < 4; rotation++) {
+                for (int x = -X_OFFSET; x < X_RANGE - X_OFFSET; x++) {
+                    if (empty.checkBlockCollision(shapeType, rotation, x, 0)) continue;
+                    int y = empty.getDropY(shapeType, rotation, x, 0);
+                    emptyPaths[shapeType.ordinal()][rotation][x + X_OFFSET] =
+                            paths.get(getCellKey(shapeType, rotation, x, y));
+                }
+            }
+        }
+    }
+
+    /** GETTER METHODS */
+    public int getGridRows() {
+        return gridRows;
+    }
+
+    /** Description: Inputs for a placement, starting with a hold if the placement needs one. Null if unreachable. */
+    public List<GameInput> plan(BitBoard board, Placement placement) {
+        List<GameInput> path = plan(board, placement.getShapeType(), placement.getRotation(), placement.getX(),
+                placement.getY());
+        if (path == null || !placement.isUseHold()) return path;
+
+        List<GameInput> withHold = new ArrayList<>(path.size() + 1);
+        withHold.add(GameInput.HOLD);
+        withHold.addAll(path);
+        return Collections.unmodifiableList(withHold);
+    }
+
+    /**
+     * Description: Shortest inputs that take a spawned block to rest at (rotation, x, y), ending with a hard
+     *              drop. Return null if the placement cannot be reached.
+     */
+    public List<GameInput> plan(BitBoard board, Tetrominoe.ShapeType shapeType, int rotation, int x, int y) {
+        long target = getCellKey(shapeType, rotation, x, y);
+
+        //Open surface -- the cached path works as long as nothing is in its way
+        if (x + X_OFFSET >= 0 && x + X_OFFSET < X_RANGE) {
+            List<GameInput> cached = emptyPaths[shapeType.ordinal()][rotation][x + X_OFFSET];
+            if (cached != null && reaches(board, shapeType, cached, target)) return cached;
+        }
+
+        return search(board, shapeType, target, null);
+    }
+
+    /** Description: Number of moves and rotations in a path (soft drops, holds and the hard drop don't count) */
+    public static int countMovements(List<GameInput> path) {
+        int count = 0;
+        for (GameInput input : path) {
+            if (input.isMovement()) count++;
+        }
+        return count;
+    }
+
+    /** Description: Play the path on the board and check that the hard drop lands on the target cells */
+    private boolean reaches(BitBoard board, Tetrominoe.ShapeType shapeType, List<GameInput> path, long target) {
+        int spawnX = getSpawnX(shapeType);
+        int spawnY = getSpawnY(shapeType);
+        if (board.checkBlockCollision(shapeType, 0, spawnX, spawnY)) return false;
+
+        int state = encode(0, spawnX, spawnY);
+        for (GameInput input : path) {
+            if (input == GameInput.HARD_DROP) break;
+            state = move(board, shapeType, state, input);
+            if (state < 0) return false;
+        }
+
+        int rotation = getRotation(state), x = getX(state);
+        return getCellKey(shapeType, rotation, x, board.getDropY(shapeType, rotation, x, getY(state))) == target;
+    }
+
+    /**
+     * Description: Cheapest-first search from the spawn position. Every state is one (rotation, x, y) of the
+     *              block and every edge is one input, costing movementCost for a move or rotation and
+     *              SOFT_DROP_COST for a soft drop. With a map, the cheapest path to every landing spot is
+     *              stored and null is returned; otherwise the search stops at the target.
+     */
+    private List<GameInput> search(BitBoard board, Tetrominoe.ShapeType shapeType, long target,
+                                   Map<Long, List<GameInput>> allPaths) {
+        int spawnX = getSpawnX(shapeType);
+        int spawnY = getSpawnY(shapeType);
+        if (board.checkBlockCollision(shapeType, 0, spawnX, spawnY)) return null;
+
+        int states = 4 * yRange * X_RANGE;
+        int[] parent = new int[states];
+        byte[] parentMove = new byte[states];
+        int[] cost = new int[states];
+        boolean[] done = new boolean[states];
+        Arrays.fill(cost, Integer.MAX_VALUE);
+
+        //Entries are (cost, order added, state), so the queue hands out the cheapest state first and, between
+        //equal costs, the one added first (which keeps the order of MOVES as the preference)
+        PriorityQueue<Long> queue = new PriorityQueue<>();
+        int start = encode(0, spawnX, spawnY);
+        parent[start] = -1;
+        cost[start] = 0;
+        queue.add((long) start);
+        long added = 1;
+
+        while (!queue.isEmpty()) {
+            int state = (int) (queue.poll() & STATE_MASK);
+            if (done[state]) continue;
+            done[state] = true;
+            int rotation = getRotation(state), x = getX(state);
+            long key = getCellKey(shapeType, rotation, x, board.getDropY(shapeType, rotation, x, getY(state)));
+
+            if (allPaths != null) {
+                if (!allPaths.containsKey(key)) allPaths.put(key, buildPath(state, parent, parentMove));
+            } else if (key == target) {
+                return buildPath(state, parent, parentMove);
+            }
+
+            for (int m = 0; m < MOVES.length; m++) {
+                int next = move(board, shapeType, state, MOVES[m]);
+                if (next < 0 || done[next]) continue;
+                int nextCost = cost[state] + (MOVES[m] == GameInput.SOFT_DROP ? SOFT_DROP_COST : movementCost);
+                if (nextCost >= cost[next]) continue;
+                cost[next] = nextCost;
+                parent[next] = state;
+                parentMove[next] = (byte) m;
+                queue.add((long) nextCost << COST_SHIFT | added++ << STATE_BITS | next);
+            }
+        }
+
+        return null;
+    }
+
+    /** Description: Follow the parents back to the spawn and return the inputs, with a hard drop at the end */
+    private static List<GameInput> buildPath(int state, int[] parent, byte[] parentMove) {
+        List<GameInput> path = new ArrayList<>();
+        path.add(GameInput.HARD_DROP);
+        for (int s = state; parent[s] != -1; s = parent[s]) {
+            path.add(MOVES[parentMove[s]]);
+        }
+        Collections.reverse(path);
+        return Collections.unmodifiableList(path);
+    }
+
+    /** Description: Apply one input to a state. Return the new state, or -1 if the block cannot move that way. */
+    private int move(BitBoard board, Tetrominoe.ShapeType shapeType, int state, GameInput input) {
+        int rotation = getRotation(state), x = getX(state), y = getY(state);
+
+        switch (input) {
+            case LEFT: x--; break;
+            case RIGHT: x++; break;
+            case SOFT_DROP: y++; break;
+            case CW: return rotate(board, shapeType, rotation, x, y, 0);
+            case CCW: return rotate(board, shapeType, rotation, x, y, 1);
+            default: return -1;
+        }
+
+        if (!inRange(x, y) || board.checkBlockCollision(shapeType, rotation, x, y)) return -1;
+        return encode(rotation, x, y);
+    }
+
+    /** Description: Same rotation as Tetrominoe.offset -- basic rotation first, then the wall kicks in order */
+    private int rotate(BitBoard board, Tetrominoe.ShapeType shapeType, int rotation, int x, int y, int direction) {
+        int nextRotation = direction == 0 ? (rotation + 1) & 3 : (rotation + 3) & 3;
+
+        if (!board.checkBlockCollision(shapeType, nextRotation, x, y)) {
+            return inRange(x, y) ? encode(nextRotation, x, y) : -1;
+        }
+
+        int[][] offsets = shapeType == Tetrominoe.ShapeType.IShape
+                ? TetrominoeCollection.OFFSETS2[rotation][direction]
+                : TetrominoeCollection.OFFSETS1[rotation][direction];
+        for (int[] offset : offsets) {
+            int newX = x + offset[0];
+            int newY = y - offset[1];
+            if (!board.checkBlockCollision(shapeType, nextRotation, newX, newY)) {
+                return inRange(newX, newY) ? encode(nextRotation, newX, newY) : -1;
+            }
+        }
+
+        return -1;
+    }
+
+    /** HELPER FUNCTIONS */
+    private static int getSpawnX(Tetrominoe.ShapeType shapeType) {
+        return BitBoard.GRID_COLUMNS / 2 - BitBoard.getProperties(shapeType, 0).getCoords().length / 2;
+    }
+    private static int getSpawnY(Tetrominoe.ShapeType shapeType) {
+        return -BitBoard.getProperties(shapeType, 0).getHeight();
+    }
+    private boolean inRange(int x, int y) {
+        return x + X_OFFSET >= 0 && x + X_OFFSET < X_RANGE && y + Y_OFFSET >= 0 && y + Y_OFFSET < yRange;
+    }
+    private int encode(int rotation, int x, int y) {
+        return (rotation * yRange + (y + Y_OFFSET)) * X_RANGE + (x + X_OFFSET);
+    }
+    private int getRotation(int state) {
+        return state / (yRange * X_RANGE);
+    }
+    private int getX(int state) {
+        return state % X_RANGE - X_OFFSET;
+    }
+    private int getY(int state) {
+        return (state / X_RANGE) % yRange - Y_OFFSET;
+    }
+
+    /** Description: Key of the cells a block fills -- its top row followed by the row masks of the block */
+    private static long getCellKey(Tetrominoe.ShapeType shapeType, int rotation, int x, int y) {
+        TetrominoeProperties tp = BitBoard.getProperties(shapeType, rotation);
+        long key = y + tp.getPointY() + Y_OFFSET;
+        for (int r = tp.getPointY(); r < tp.getPointY() + tp.getHeight(); r++) {
+            key = (key << BitBoard.GRID_COLUMNS) | BitBoard.getPieceRow(shapeType, rotation, r, x);
+        }
+        return key;
+    }
+}
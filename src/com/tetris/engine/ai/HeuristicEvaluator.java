@@ -0,0 +1,83 @@
+/**
+ * File:        HeuristicEvaluator.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the default AI evaluation. It is a weighted sum of the board features from
+ *      FeatureExtractor plus the lines cleared. The default weights only use aggregate height, lines cleared,
+ *      holes and bumpiness; the other features start at 0 so that they can be tuned later on.
+ *      The batch version adds up one feature across every candidate at a time. BeamSearch does not use it:
+ *      filling a FeatureBatch costs more than this sum saves, so the search scores each board with evaluate().
+ *
+ */
+
+package com.tetris.engine.ai;
+
+/** HeuristicEvaluator Class -- Weighted sum of board features */
+public class HeuristicEvaluator implements BoardEvaluator {
+
+    //Initialize Static Variables - Weight Indexes (0 to 7 are the FeatureExtractor indexes)
+    public final static int LINES_CLEARED = FeatureExtractor.COLUMN_HEIGHTS;
+    public final static int WEIGHT_COUNT = LINES_CLEARED + 1;
+
+    public final static double[] DEFAULT_WEIGHTS = {
+            -0.510066,  //Aggregate Height
+            0,          //Max Height
+            -0.35663,   //Holes
+            -0.184483,  //Bumpiness
+            0,          //Row Transitions
+            0,          //Column Transitions
+            0,          //Well Sums
+            0,          //Covered Cells
+            0.760666    //Lines Cleared
+    };
+
+    //Initialize Variables
+    private final double[] weights;
+
+    /** CONSTRUCTORS */
+    public HeuristicEvaluator() {
+        this(DEFAULT_WEIGHTS);
+    }
+    public HeuristicEvaluator(double[] weights) {
+        if (weights.length != WEIGHT_COUNT) throw new IllegalArgumentException("Expected " + WEIGHT_COUNT + " weights");
+        this.weights = weights.clone();
+    }
+
+    /** GETTER METHODS */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+
+    @Override
+    public double evaluate(int[] features, int linesCleared) {
+        double score = weights[LINES_CLEARED] * linesCleared;
+        for (int i = 0; i < LINES_CLEARED; i++) {
+            score += weights[i] * features[i];
+        }
+        return score;
+    }
+
+    /** Description: Same sum as evaluate(), one feature at a time across the whole batch */
+    @Override
+    public void evaluateBatch(FeatureBatch batch, double[] scores) {
+        int n = batch.size();
+        int[] lines = batch.getLinesCleared();
+        double lineWeight = weights[LINES_CLEARED];
+
+        for (int i = 0; i < n; i++) {
+            scores[i] = lineWeight * lines[i];
+        }
+        for (int f = 0; f < LINES_CLEARED; f++) {
+            double w = weights[f];
+            if (w == 0) continue;
+
+            int[] feature = batch.getFeature(f);
+            for (int i = 0; i < n; i++) {
+                scores[i] += w * feature[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+/**
+ * File:        MlpEvaluator.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains a small neural network (multi-layer perceptron) evaluation written in plain Java.
+ *      The inputs are the FeatureExtractor features plus the lines cleared; hidden layers use ReLU and the
+ *      single output is the score. Weights are stored in flat float[] arrays, one per layer (row-major,
+ *      [output][input]).
+ *
+ *      evaluateBatch() runs the whole batch through the network one layer at a time. The activations are kept
+ *      [neuron][candidate] like FeatureBatch, so each multiply-add walks all candidates in a row. The scratch
+ *      arrays belong to the calling thread and are only made once, so scoring a batch allocates nothing.
+ *
+ *      File format (little-endian): "JTNN", version, layer count L, L+1 layer sizes, an input scale for
+ *      every input, then the weights and biases of each layer.
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+/** MlpEvaluator Class -- Neural network evaluation with batched inference */
+public class MlpEvaluator implements BoardEvaluator {
+
+    //Initialize Static Variables
+    public final static int INPUTS = FeatureExtractor.FEATURE_COUNT + 1;    //Features + lines cleared
+    private final static int MAGIC = 0x4E4E544A;    //"JTNN"
+    private final static int VERSION = 1;
+
+    //Initialize Variables
+    private final int[] layerSizes;
+    private final float[] inputScale;
+    private final float[][] weights;
+    private final float[][] biases;
+    private final int maxWidth;
+
+    //Initialize Variables - Scratch activations of each thread (two ping-pong buffers)
+    private final ThreadLocal<float[][]> scratch = new ThreadLocal<>();
+
+    /** CONSTRUCTORS */
+    public MlpEvaluator(int[] layerSizes, float[] inputScale, float[][] weights, float[][] biases) {
+        if (layerSizes[0] != INPUTS || layerSizes[layerSizes.length - 1] != 1) {
+            throw new IllegalArgumentException("Network must have " + INPUTS + " inputs and 1 output");
+        }
+        if (inputScale.length != INPUTS) throw new IllegalArgumentException("Expected " + INPUTS + " input scales");
+        if (weights.length != layerSizes.length - 1 || biases.length != weights.length) {
+            throw new IllegalArgumentException("Expected " + (layerSizes.length - 1) + " layers");
+        }
+        for (int l = 0; l < weights.length; l++) {
+            if (weights[l].length != layerSizes[l] * layerSizes[l + 1] || biases[l].length != layerSizes[l + 1]) {
+                throw new IllegalArgumentException("Layer " + l + " does not match the layer sizes");
+            }
+        }
+
+        this.layerSizes = layerSizes.clone();
+        this.inputScale = inputScale.clone();
+        this.weights = weights;
+        this.biases = biases;
+
+        int width = 0;
+        for (int size : layerSizes) width = Math.max(width, size);
+        this.maxWidth = width;
+    }
+
+    /** Description: Network with random weights (for experiments and for training elsewhere) */
+    public static MlpEvaluator random(int[] hiddenSizes, long seed) {
+        int[] sizes = new int[hiddenSizes.length + 2];
+        sizes[0] = INPUTS;
+        System.arraycopy(hiddenSizes, 0, sizes, 1, hiddenSizes.length);
+        sizes[sizes.length - 1] = 1;
+
+        Random random = new Random(seed);
+        float[][] weights = new float[sizes.length - 1][];
+        float[][] biases = new float[sizes.length - 1][];
+        for (int l = 0; l < weights.length; l++) {
+            weights[l] = new float[sizes[l] * sizes[l + 1]];
+            biases[l] = new float[sizes[l + 1]];
+            double range = Math.sqrt(6.0 / sizes[l]);
+            for (int i = 0; i < weights[l].length; i++) {
+                weights[l][i] = (float) ((random.nextDouble() * 2 - 1) * range);
+            }
+        }
+
+        float[] scale = new float[INPUTS];
+        Arrays.fill(scale, 0.1f);
+        return new MlpEvaluator(sizes, scale, weights, biases);
+    }
+
+    /** GETTER METHODS */
+    public int[] getLayerSizes() {
+        return layerSizes.clone();
+    }
+    @Override
+    public boolean prefersBatch() {    //Each weight is read once per batch instead of once per board
+        return true;
+    }
+
+    @Override
+    public double evaluate(int[] features, int linesCleared) {
+        float[][] buffers = getScratch(1);
+        float[] input = buffers[0];
+
+        for (int k = 0; k < FeatureExtractor.FEATURE_COUNT; k++) {
+            input[k] = features[k] * inputScale[k];
+        }
+        input[INPUTS - 1] = linesCleared * inputScale[INPUTS - 1];
+
+        return forward(buffers, 1)[0];
+    }
+
+    @Override
+    public void evaluateBatch(FeatureBatch batch, double[] scores) {
+        int n = batch.size();
+        float[][] buffers = getScratch(batch.getCapacity());
+        int stride = batch.getCapacity();
+        float[] input = buffers[0];
+
+        //Scale the features into the first buffer, [input][candidate]
+        for (int k = 0; k < FeatureExtractor.FEATURE_COUNT; k++) {
+            int[] feature = batch.getFeature(k);
+            float scale = inputScale[k];
+            int offset = k * stride;
+            for (int i = 0; i < n; i++) {
+                input[offset + i] = feature[i] * scale;
+            }
+        }
+        int[] lines = batch.getLinesCleared();
+        float lineScale = inputScale[INPUTS - 1];
+        int lineOffset = (INPUTS - 1) * stride;
+        for (int i = 0; i < n; i++) {
+            input[lineOffset + i] = lines[i] * lineScale;
+        }
+
+        float[] output = forward(buffers, stride, n);
+        for (int i = 0; i < n; i++) {
+            scores[i] = output[i];
+        }
+    }
+
+    /** Description: Run one input through the network */
+    private float[] forward(float[][] buffers, int n) {
+        return forward(buffers, n, n);
+    }
+
+    /**
+     * Description: Run n candidates through the network. Activations are stored [neuron * stride + candidate]
+     *              and swap between the two buffers after each layer. Return the buffer holding the output.
+     */
+    private float[] forward(float[][] buffers, int stride, int n) {
+        float[] in = buffers[0];
+        float[] out = buffers[1];
+
+        for (int l = 0; l < weights.length; l++) {
+            int inputs = layerSizes[l];
+            int outputs = layerSizes[l + 1];
+            float[] w = weights[l];
+            float[] b = biases[l];
+            boolean hidden = l < weights.length - 1;
+
+            for (int o = 0; o < outputs; o++) {
+                int outOffset = o * stride;
+                float bias = b[o];
+                for (int i = 0; i < n; i++) {
+                    out[outOffset + i] = bias;
+                }
+
+                int row = o * inputs;
+                for (int k = 0; k < inputs; k++) {
+                    float weight = w[row + k];
+                    int inOffset = k * stride;
+                    for (int i = 0; i < n; i++) {
+                        out[outOffset + i] += weight * in[inOffset + i];
+                    }
+                }
+
+                //ReLU
+                if (hidden) {
+                    for (int i = 0; i < n; i++) {
+                        out[outOffset + i] = Math.max(0f, out[outOffset + i]);
+                    }
+                }
+            }
+
+            float[] temp = in;
+            in = out;
+            out = temp;
+        }
+
+        return in;
+    }
+
+    /** Description: Scratch buffers of this thread, big enough for 'capacity' candidates */
+    private float[][] getScratch(int capacity) {
+        float[][] buffers = scratch.get();
+        if (buffers == null || buffers[0].length < maxWidth * capacity) {
+            buffers = new float[][] {new float[maxWidth * capacity], new float[maxWidth * capacity]};
+            scratch.set(buffers);
+        }
+        return buffers;
+    }
+
+    /** SAVE AND LOAD */
+    public void save(Path path) throws IOException {
+        int floats = inputScale.length;
+        for (int l = 0; l < weights.length; l++) floats += weights[l].length + biases[l].length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(4 * (3 + layerSizes.length + floats)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(weights.length);
+        for (int size : layerSizes) buffer.putInt(size);
+        for (float s : inputScale) buffer.putFloat(s);
+        for (int l = 0; l < weights.length; l++) {
+            for (float w : weights[l]) buffer.putFloat(w);
+            for (float b : biases[l]) buffer.putFloat(b);
+        }
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+    public static MlpEvaluator load(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate((int) channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) { }
+        }
+        buffer.flip();
+
+        try {
+            if (buffer.getInt() != MAGIC) throw new IOException("Not a JTetris network file: " + path);
+            int version = buffer.getInt();
+            if (version != VERSION) throw new IOException("Unsupported network file version " + version);
+
+            //Check every size against what is left in the file before allocating anything
+            int layers = buffer.getInt();
+            if (layers < 1 || layers > buffer.remaining() / 4) throw damaged(path);
+            int[] sizes = new int[layers + 1];
+            long floats = 0;
+            for (int i = 0; i <= layers; i++) {
+                sizes[i] = buffer.getInt();
+                if (sizes[i] < 1) throw damaged(path);
+                floats += i == 0 ? sizes[0] : (long) sizes[i - 1] * sizes[i] + sizes[i];
+                if (floats > buffer.remaining() / 4) throw damaged(path);
+            }
+            if (floats * 4 != buffer.remaining()) throw damaged(path);
+
+            float[] scale = new float[sizes[0]];
+            for (int i = 0; i < scale.length; i++) scale[i] = buffer.getFloat();
+
+            float[][] weights = new float[layers][];
+            float[][] biases = new float[layers][];
+            for (int l = 0; l < layers; l++) {
+                weights[l] = new float[sizes[l] * sizes[l + 1]];
+                biases[l] = new float[sizes[l + 1]];
+                for (int i = 0; i < weights[l].length; i++) weights[l][i] = buffer.getFloat();
+                for (int i = 0; i < biases[l].length; i++) biases[l][i] = buffer.getFloat();
+            }
+
+            return new MlpEvaluator(sizes, scale, weights, biases);
+        } catch (BufferUnderflowException e) {
+            throw damaged(path);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Network file does not fit this build: " + e.getMessage());
+        }
+    }
+
+    /** Description: Builds the error reported when a network file is truncated or its sizes are impossible */
+    private static IOException damaged(Path path) {
+        return new IOException("Network file is damaged: " + path);
+    }
+}
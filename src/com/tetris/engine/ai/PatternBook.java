@@ -0,0 +1,203 @@
+/**
+ * File:        PatternBook.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the pattern book: known setups (mostly openings) stored as a hash table in a binary
+ *      file. Every entry maps a game state -- the board hash, the current block, the held block and the first
+ *      few queued blocks -- to the placement the setup wants. The file is memory-mapped when it is opened, so
+ *      a lookup is one hash and (nearly always) one slot read, and the book is never copied onto the heap.
+ *
+ *      File format (little-endian):
+ *          Header -- "JTPB", version, number of slots (a power of two), preview length, number of entries
+ *          Slots  -- 8 byte key (0 means empty), shape, rotation, x, y, useHold and 3 bytes of padding
+ *      Collisions are resolved with linear probing. The PatternBookBuilder tool writes these files. The header
+ *      is checked when the book is opened; a slot whose placement is out of range is treated as a miss.
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+/** PatternBook Class -- Memory-mapped table of known setups */
+public class PatternBook {
+
+    //Initialize Static Variables
+    private final static int MAGIC = 0x4250544A;    //"JTPB" in little-endian
+    private final static int VERSION = 1;
+    private final static int HEADER_BYTES = 20;
+    private final static int SLOT_BYTES = 16;
+    private final static int BLOCK_SPAN = 4;    //A block's 4x4 box may start this far off the grid
+    private final static Tetrominoe.ShapeType[] SHAPE_TYPES = Tetrominoe.ShapeType.values();
+
+    //Initialize Variables
+    private final ByteBuffer table;
+    private final int slotMask;
+    private final int previewLength;
+    private final int entries;
+
+    /** CONSTRUCTOR */
+    private PatternBook(ByteBuffer table, int slots, int previewLength, int entries) {
+        this.table = table;
+        this.slotMask = slots - 1;
+        this.previewLength = previewLength;
+        this.entries = entries;
+    }
+
+    /** Description: Memory-map a pattern book file */
+    public static PatternBook open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a JTetris pattern book: " + path);
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) throw new IOException("Unsupported pattern book version " + version);
+
+        int slots = buffer.getInt(8);
+        int previewLength = buffer.getInt(12);
+        int entries = buffer.getInt(16);
+        if (slots <= 0 || Integer.bitCount(slots) != 1 || buffer.capacity() < HEADER_BYTES + (long) slots * SLOT_BYTES
+                || previewLength < 0 || entries < 0 || entries > slots) {
+            throw new IOException("Pattern book is damaged: " + path);
+        }
+
+        return new PatternBook(buffer, slots, previewLength, entries);
+    }
+
+    /** Description: Open the book if the file is there, otherwise return null */
+    public static PatternBook openIfExists(Path path) {
+        if (!Files.isRegularFile(path)) return null;
+        try {
+            return open(path);
+        } catch (IOException e) {
+            System.out.println("Pattern book not loaded: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** GETTER METHODS */
+    public int getPreviewLength() {
+        return previewLength;
+    }
+    public int size() {
+        return entries;
+    }
+
+    /**
+     * Description: Look up the placement for this state. Return null if the state is not in the book,
+     *              the queue is too short, or the stored placement does not fit on the board.
+     */
+    public Placement lookup(BitBoard board, Tetrominoe.ShapeType current, Tetrominoe.ShapeType hold,
+                            List<Tetrominoe.ShapeType> preview) {
+        if (preview.size() < previewLength) return null;
+
+        long key = getKey(board, current, hold, preview, previewLength);
+        //At most one pass over the table, so a full or damaged table is a miss rather than an endless probe
+        int slot = (int) mix(key) & slotMask;
+        for (int probes = 0; probes <= slotMask; probes++, slot = (slot + 1) & slotMask) {
+            int offset = HEADER_BYTES + slot * SLOT_BYTES;
+            long stored = table.getLong(offset);
+            if (stored == 0) return null;
+            if (stored != key) continue;
+
+            Placement placement = readPlacement(offset, board.getGridRows());
+            if (placement == null) return null;
+
+            //A different board with the same hash would be a bad place to follow a setup
+            boolean fits = !board.checkBlockCollision(placement.getShapeType(), placement.getRotation(),
+                    placement.getX(), placement.getY())
+                    && board.getDropY(placement.getShapeType(), placement.getRotation(), placement.getX(),
+                    placement.getY()) == placement.getY();
+            return fits ? placement : null;
+        }
+        return null;
+    }
+
+    /** Description: Key of a state -- never 0, which marks an empty slot */
+    public static long getKey(BitBoard board, Tetrominoe.ShapeType current, Tetrominoe.ShapeType hold,
+                              List<Tetrominoe.ShapeType> preview, int previewLength) {
+        long key = board.hash();
+        key = key * 31 + current.ordinal();
+        key = key * 31 + (hold == null ? 7 : hold.ordinal());
+        for (int i = 0; i < previewLength; i++) {
+            key = key * 31 + preview.get(i).ordinal();
+        }
+        key = mix(key);
+        return key == 0 ? 1 : key;
+    }
+
+    /**
+     * Description: Write a pattern book with room for all the entries. The table is kept at most half full
+     *              so probes stay short.
+     */
+    public static void write(Path path, Map<Long, Placement> patterns, int previewLength) throws IOException {
+        int slots = Integer.highestOneBit(Math.max(2, patterns.size()) * 2 - 1) << 1;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + slots * SLOT_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(slots).putInt(previewLength).putInt(patterns.size());
+
+        for (Map.Entry<Long, Placement> e : patterns.entrySet()) {
+            long key = e.getKey();
+            if (key == 0) throw new IllegalArgumentException("Key 0 marks an empty slot");
+            int slot = (int) mix(key) & (slots - 1);
+            while (buffer.getLong(HEADER_BYTES + slot * SLOT_BYTES) != 0) {
+                slot = (slot + 1) & (slots - 1);
+            }
+
+            Placement p = e.getValue();
+            int offset = HEADER_BYTES + slot * SLOT_BYTES;
+            buffer.putLong(offset, key);
+            buffer.put(offset + 8, (byte) p.getShapeType().ordinal());
+            buffer.put(offset + 9, (byte) p.getRotation());
+            buffer.put(offset + 10, (byte) p.getX());
+            buffer.put(offset + 11, (byte) p.getY());
+            buffer.put(offset + 12, (byte) (p.isUseHold() ? 1 : 0));
+        }
+
+        buffer.position(0);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    /** Description: Read the placement of a slot, or return null if any of its fields is out of range */
+    private Placement readPlacement(int offset, int gridRows) {
+        int shape = table.get(offset + 8);
+        int rotation = table.get(offset + 9);
+        int x = table.get(offset + 10);
+        int y = table.get(offset + 11);
+        int useHold = table.get(offset + 12);
+
+        if (shape < 0 || shape >= SHAPE_TYPES.length || rotation < 0 || rotation > 3) return null;
+        if (x < -BLOCK_SPAN || x >= BitBoard.GRID_COLUMNS || y < -BLOCK_SPAN || y >= gridRows) return null;
+        if (useHold != 0 && useHold != 1) return null;
+        return new Placement(SHAPE_TYPES[shape], rotation, x, y, useHold == 1);
+    }
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
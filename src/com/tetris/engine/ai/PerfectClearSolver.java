@@ -0,0 +1,380 @@
+/**
+ * File:        PerfectClearSolver.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file searches for a Perfect Clear: a list of placements for the current, held and queued blocks
+ *      that clears every block off the grid. Only the bottom 2 to 4 rows are searched, so the stack has to be
+ *      below that height. Those rows fit in one long (10 bits per row), which is used both as the board and as
+ *      part of the key of a search state.
+ *
+ *      A state is the bottom rows, how many blocks have been used, the held block and whether holding is
+ *      allowed. States that cannot lead to a Perfect Clear are remembered in a shared map, so they are never
+ *      searched twice. The first few levels of the search are split into ForkJoin tasks across the cores,
+ *      and the rest of every branch is searched on the thread that picked it up. As soon as one branch finds a
+ *      Perfect Clear the others stop, and everything stops when the time budget runs out.
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/** PerfectClearSolver Class -- Memoized parallel search for Perfect Clears */
+public class PerfectClearSolver {
+
+    //Initialize Static Variables
+    public final static int MIN_LINES = 2;
+    public final static int MAX_LINES = 4;
+    private final static int ROW_BITS = BitBoard.GRID_COLUMNS;
+    private final static long ROW_MASK = BitBoard.FULL_ROW;
+    private final static int SPLIT_DEPTH = 2;   //Levels of the search that are split into ForkJoin tasks
+
+    //Initialize Variables - Settings
+    private int maxLines;
+    private long timeBudgetNanos;
+    private boolean parallel = true;
+
+    /** CONSTRUCTORS */
+    public PerfectClearSolver() {
+        this(MAX_LINES, 50);
+    }
+    public PerfectClearSolver(int maxLines, long timeBudgetMillis) {
+        setMaxLines(maxLines);
+        setTimeBudget(timeBudgetMillis);
+    }
+
+    /** GETTER METHODS */
+    public int getMaxLines() {
+        return maxLines;
+    }
+    public long getTimeBudget() {
+        return timeBudgetNanos / 1_000_000;
+    }
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /** SETTER METHODS */
+    public void setMaxLines(int maxLines) {
+        if (maxLines < MIN_LINES || maxLines > MAX_LINES) {
+            throw new IllegalArgumentException("Perfect Clears are searched within " + MIN_LINES + " to "
+                    + MAX_LINES + " lines");
+        }
+        this.maxLines = maxLines;
+    }
+    public void setTimeBudget(long timeBudgetMillis) {
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000;
+    }
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /** Description: Search using the grid, current block, held block and queue of a BlockController */
+    public Result solve(BlockController bc) {
+        Tetrominoe held = bc.getHeldBlock();
+        List<Tetrominoe.ShapeType> preview = new ArrayList<>();
+        for (Tetrominoe t : bc.getQueuedBlocks()) {
+            preview.add(t.getShapeType());
+        }
+
+        return solve(BitBoard.fromBoard(bc.getBoard()), bc.getCurrentBlock().getShapeType(),
+                held == null ? null : held.getShapeType(), preview, bc.canHoldBlock());
+    }
+
+    /**
+     * Description: Find placements that clear the whole grid within maxLines lines.
+     * Parameters:  Same as BeamSearch.search
+     * Return:      The Result. Its placements are empty if no Perfect Clear was found in time.
+     */
+    public Result solve(BitBoard board, Tetrominoe.ShapeType current, Tetrominoe.ShapeType hold,
+                        List<Tetrominoe.ShapeType> preview, boolean canHold) {
+        Search search = new Search(board.getGridRows(), current, preview, System.nanoTime() + timeBudgetNanos);
+
+        //The stack has to fit in the bottom rows
+        int stackHeight = getStackHeight(board);
+        int filled = 0;
+        for (int r = board.getGridRows() - stackHeight; r < board.getGridRows(); r++) {
+            filled += Integer.bitCount(board.getRow(r));
+        }
+
+        //Try the lowest Perfect Clear first -- the cells left to fill must be a whole number of blocks
+        for (int height = Math.max(1, stackHeight); height <= maxLines; height++) {
+            if (board.isEmpty() && height < MIN_LINES) continue;
+            if ((height * ROW_BITS - filled) % 4 != 0) continue;
+
+            long field = 0;
+            for (int r = 0; r < height; r++) {
+                field |= (long) board.getRow(board.getGridRows() - height + r) << (r * ROW_BITS);
+            }
+
+            final long start = field;
+            final int lines = height;
+            SearchTask task = new SearchTask(() -> search(search, start, lines, 0, hold, canHold, 0));
+            List<Placement> placements = parallel ? ForkJoinPool.commonPool().invoke(task) : task.compute();
+            if (placements != null) {
+                return new Result(placements, height, false, search.nodes.sum());
+            }
+            if (search.isCancelled()) break;
+        }
+
+        return new Result(Collections.emptyList(), 0, search.isTimedOut(), search.nodes.sum());
+    }
+
+    /**
+     * Description: Search one state. 'field' holds the bottom 'height' rows (row 0 is the top one), 'index'
+     *              is the next block of the queue. Return the placements from here to a Perfect Clear, or null.
+     */
+    private List<Placement> search(Search s, long field, int height, int index, Tetrominoe.ShapeType hold,
+                                   boolean canHold, int depth) {
+        //Every row is cleared
+        if (height == 0) return new ArrayList<>();
+        if (s.isCancelled()) return null;
+
+        //Not enough blocks left to fill the rows
+        int emptyCells = height * ROW_BITS - Long.bitCount(field);
+        int blocksLeft = s.queue.length - index + (hold != null ? 1 : 0);
+        if (emptyCells % 4 != 0 || emptyCells / 4 > blocksLeft) return null;
+
+        long key = getStateKey(field, height, index, hold, canHold);
+        if (s.deadEnds.containsKey(key)) return null;
+        s.nodes.increment();
+
+        //Blocks that can be placed now -- the current block, or the held (or next) block after a hold
+        List<Choice> choices = new ArrayList<>(2);
+        if (index < s.queue.length) choices.add(new Choice(s.queue[index], index + 1, hold, false));
+        if (canHold) {
+            if (hold == null && index + 1 < s.queue.length) {
+                choices.add(new Choice(s.queue[index + 1], index + 2, s.queue[index], true));
+            } else if (hold != null && index < s.queue.length && hold != s.queue[index]) {
+                choices.add(new Choice(hold, index + 1, s.queue[index], true));
+            }
+        }
+
+        //Every child state with the placement that leads to it
+        List<Child> children = new ArrayList<>();
+        List<Placement> placements = new ArrayList<>();
+        for (Choice choice : choices) {
+            BitBoard window = toBitBoard(field, height);
+            placements.clear();
+            PlacementGenerator.generate(window, choice.shapeType, placements);
+
+            for (Placement p : placements) {
+                BitBoard child = window.copy();
+                child.placeBlock(p.getShapeType(), p.getRotation(), p.getX(), p.getY());
+                int linesCleared = child.clearLines();
+
+                //Placement in the coordinates of the real grid (the rows above the window are empty)
+                Placement real = new Placement(p.getShapeType(), p.getRotation(), p.getX(),
+                        p.getY() + s.gridRows - height, choice.useHold);
+                children.add(new Child(real, toField(child, height - linesCleared), height - linesCleared,
+                        choice.nextIndex, choice.nextHold));
+            }
+        }
+
+        //Children that cover the fewest empty cells are the most likely to work out, so try them first
+        children.sort(Comparator.comparingInt(child -> child.coveredCells));
+
+        List<Placement> result = null;
+        if (parallel && depth < SPLIT_DEPTH && children.size() > 1) {
+            List<SearchTask> tasks = new ArrayList<>();
+            for (Child child : children) tasks.add(new SearchTask(() -> searchChild(s, child, depth + 1)));
+            for (SearchTask task : RecursiveTask.invokeAll(tasks)) {
+                List<Placement> branch = task.join();
+                if (result == null) result = branch;
+            }
+        } else {
+            for (Child child : children) {
+                result = searchChild(s, child, depth + 1);
+                if (result != null) break;
+            }
+        }
+
+        if (result != null) {
+            s.found.set(true);
+        } else if (!s.isCancelled()) {
+            //Only a full search proves a dead end
+            s.deadEnds.put(key, Boolean.TRUE);
+        }
+        return result;
+    }
+    private List<Placement> searchChild(Search s, Child child, int depth) {
+        List<Placement> rest = search(s, child.field, child.height, child.index, child.hold, true, depth);
+        if (rest == null) return null;
+        rest.add(0, child.placement);
+        return rest;
+    }
+
+    /** HELPER FUNCTIONS */
+    private static int getStackHeight(BitBoard board) {
+        for (int r = 0; r < board.getGridRows(); r++) {
+            if (board.getRow(r) != 0) return board.getGridRows() - r;
+        }
+        return 0;
+    }
+    /** Description: Number of empty cells with a filled cell somewhere above them in the same column */
+    private static int getCoveredCells(long field, int height) {
+        int above = 0;
+        int covered = 0;
+        for (int r = 0; r < height; r++) {
+            int row = (int) ((field >>> (r * ROW_BITS)) & ROW_MASK);
+            covered += Integer.bitCount(above & ~row);
+            above |= row;
+        }
+        return covered;
+    }
+    private static BitBoard toBitBoard(long field, int height) {
+        BitBoard window = new BitBoard(height);
+        for (int r = 0; r < height; r++) {
+            window.setRow(r, (int) ((field >>> (r * ROW_BITS)) & ROW_MASK));
+        }
+        return window;
+    }
+    /** Description: Bottom 'height' rows of a window board (the rows above them are empty after a clear) */
+    private static long toField(BitBoard window, int height) {
+        int offset = window.getGridRows() - height;
+        long field = 0;
+        for (int r = 0; r < height; r++) {
+            field |= (long) window.getRow(offset + r) << (r * ROW_BITS);
+        }
+        return field;
+    }
+    private static long getStateKey(long field, int height, int index, Tetrominoe.ShapeType hold, boolean canHold) {
+        long key = field;                               //40 bits
+        key |= (long) height << 40;                     //3 bits
+        key |= (long) index << 43;                      //5 bits
+        key |= (long) (hold == null ? 7 : hold.ordinal()) << 48;
+        key |= (canHold ? 1L : 0L) << 51;
+        return key;
+    }
+
+    /** Search Class -- Shared state of one solve() call */
+    private static class Search {
+        final int gridRows;
+        final Tetrominoe.ShapeType[] queue;
+        final long deadline;
+        final Map<Long, Boolean> deadEnds = new ConcurrentHashMap<>();
+        final AtomicBoolean found = new AtomicBoolean();
+        final LongAdder nodes = new LongAdder();
+
+        Search(int gridRows, Tetrominoe.ShapeType current, List<Tetrominoe.ShapeType> preview, long deadline) {
+            this.gridRows = gridRows;
+            this.queue = new Tetrominoe.ShapeType[preview.size() + 1];
+            this.queue[0] = current;
+            for (int i = 0; i < preview.size(); i++) this.queue[i + 1] = preview.get(i);
+            this.deadline = deadline;
+        }
+
+        boolean isTimedOut() {
+            return System.nanoTime() > deadline;
+        }
+        boolean isCancelled() {
+            return found.get() || isTimedOut();
+        }
+    }
+
+    /** Choice Class -- Block to place and the queue position and held block after it */
+    private static class Choice {
+        final Tetrominoe.ShapeType shapeType;
+        final int nextIndex;
+        final Tetrominoe.ShapeType nextHold;
+        final boolean useHold;
+
+        Choice(Tetrominoe.ShapeType shapeType, int nextIndex, Tetrominoe.ShapeType nextHold, boolean useHold) {
+            this.shapeType = shapeType;
+            this.nextIndex = nextIndex;
+            this.nextHold = nextHold;
+            this.useHold = useHold;
+        }
+    }
+
+    /** Child Class -- State after one placement */
+    private static class Child {
+        final Placement placement;
+        final long field;
+        final int height;
+        final int index;
+        final Tetrominoe.ShapeType hold;
+        final int coveredCells;
+
+        Child(Placement placement, long field, int height, int index, Tetrominoe.ShapeType hold) {
+            this.placement = placement;
+            this.field = field;
+            this.coveredCells = getCoveredCells(field, height);
+            this.height = height;
+            this.index = index;
+            this.hold = hold;
+        }
+    }
+
+    /** SearchTask Class -- One branch of the search as a ForkJoin task */
+    @SuppressWarnings("serial")    //Never serialized
+    private static class SearchTask extends RecursiveTask<List<Placement>> {
+        private final Supplier<List<Placement>> branch;
+
+        SearchTask(Supplier<List<Placement>> branch) {
+            this.branch = branch;
+        }
+
+        @Override
+        protected List<Placement> compute() {
+            return branch.get();
+        }
+    }
+
+    /** Result Class -- Outcome of one solve() call */
+    public static class Result {
+        private final List<Placement> placements;
+        private final int lines;
+        private final boolean timedOut;
+        private final long nodes;
+
+        Result(List<Placement> placements, int lines, boolean timedOut, long nodes) {
+            this.placements = Collections.unmodifiableList(placements);
+            this.lines = lines;
+            this.timedOut = timedOut;
+            this.nodes = nodes;
+        }
+
+        /** GETTER METHODS */
+        public boolean isFound() {
+            return !placements.isEmpty();
+        }
+        /** Description: Placements in order; the first one is for the current block (or the hold) */
+        public List<Placement> getPlacements() {
+            return placements;
+        }
+        /** Description: Lines the Perfect Clear uses (0 if none was found) */
+        public int getLines() {
+            return lines;
+        }
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+        public long getNodes() {
+            return nodes;
+        }
+
+        @Override
+        public String toString() {
+            return isFound() ? lines + "-line Perfect Clear " + placements
+                    : "No Perfect Clear" + (timedOut ? " (out of time)" : "");
+        }
+    }
+}
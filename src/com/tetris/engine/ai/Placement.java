@@ -0,0 +1,66 @@
+/**
+ * File:        Placement.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the Placement object, which is where the AI wants a block to land. It stores the
+ *      block type, the rotation and the x and y coordinates the block would have in the Tetris grid
+ *      (the same coordinates that Tetrominoe uses) and whether the held block has to be swapped in first.
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+/** Placement Class -- Final resting position of a block */
+public class Placement {
+
+    //Initialize Variables
+    private final Tetrominoe.ShapeType shapeType;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final boolean useHold;
+
+    /** CONSTRUCTORS */
+    public Placement(Tetrominoe.ShapeType shapeType, int rotation, int x, int y) {
+        this(shapeType, rotation, x, y, false);
+    }
+    public Placement(Tetrominoe.ShapeType shapeType, int rotation, int x, int y, boolean useHold) {
+        this.shapeType = shapeType;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.useHold = useHold;
+    }
+
+    /** Description: Return the same placement, but marked as needing a hold first */
+    public Placement withHold() {
+        return new Placement(shapeType, rotation, x, y, true);
+    }
+
+    /** GETTER METHODS */
+    public Tetrominoe.ShapeType getShapeType() {
+        return shapeType;
+    }
+    public int getRotation() {
+        return rotation;
+    }
+    public int getX() {
+        return x;
+    }
+    public int getY() {
+        return y;
+    }
+    public boolean isUseHold() {
+        return useHold;
+    }
+
+    @Override
+    public String toString() {
+        return shapeType + " r" + rotation + " (" + x + ", " + y + ")" + (useHold ? " hold" : "");
+    }
+}
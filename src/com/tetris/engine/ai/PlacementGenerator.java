@@ -0,0 +1,76 @@
+/**
+ * File:        PlacementGenerator.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file finds every place a block can land when it is rotated and moved above the stack and then
+ *      dropped straight down. Blocks spawn off-screen above the grid, so every one of these placements can
+ *      be reached with rotations, side moves and a hard drop.
+ *
+ */
+
+package com.tetris.engine.ai;
+
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+import com.tetris.engine.model.tetrominoes.TetrominoeProperties;
+
+import java.util.List;
+
+/** PlacementGenerator Class -- Lists all hard drop placements of a block */
+public class PlacementGenerator {
+
+    /** CONSTRUCTOR - CANNOT BE INSTANTIATED */
+    private PlacementGenerator() {
+        throw new RuntimeException(("You cannot instantiate me!"));
+    }
+
+    /**
+     * Description: Add every hard drop placement of the block to the list. Placements that leave part of the
+     *              block above the grid (Game Over) and placements that fill the same cells as an earlier
+     *              rotation (O, I, S and Z blocks) are skipped. Return the number of placements added.
+     */
+    public static int generate(BitBoard board, Tetrominoe.ShapeType shapeType, List<Placement> out) {
+        long[] seen = new long[4 * BitBoard.GRID_COLUMNS];
+        int count = 0;
+
+        for (int rotation = 0; rotation < 4; rotation++) {
+            TetrominoeProperties tp = BitBoard.getProperties(shapeType, rotation);
+            int startY = -(tp.getPointY() + tp.getHeight());
+
+            for (int x = -tp.getPointX(); x + tp.getPointX() + tp.getWidth() <= BitBoard.GRID_COLUMNS; x++) {
+                int y = board.getDropY(shapeType, rotation, x, startY);
+
+                //Game Over placement
+                if (y + tp.getPointY() < 0) continue;
+
+                //Skip placements that cover the same cells as an earlier rotation
+                long key = getCellsKey(shapeType, rotation, tp, x, y);
+                if (contains(seen, count, key)) continue;
+                seen[count++] = key;
+
+                out.add(new Placement(shapeType, rotation, x, y));
+            }
+        }
+
+        return count;
+    }
+
+    /** HELPER FUNCTIONS */
+    private static long getCellsKey(Tetrominoe.ShapeType shapeType, int rotation, TetrominoeProperties tp,
+                                    int x, int y) {
+        long key = y + tp.getPointY();
+        for (int r = tp.getPointY(); r < tp.getPointY() + tp.getHeight(); r++) {
+            key = (key << BitBoard.GRID_COLUMNS) | BitBoard.getPieceRow(shapeType, rotation, r, x);
+        }
+        return key;
+    }
+    private static boolean contains(long[] keys, int count, long key) {
+        for (int i = 0; i < count; i++) {
+            if (keys[i] == key) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * File:        InputEvent.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file is the event for player inputs. The block controller dispatches it after applying an input,
+ *      whether the input came from the keyboard or from the AI. Used by the replay recorder.
+ *
+ */
+
+package com.tetris.engine.event;
+
+import com.tetris.engine.logic.GameInput;
+
+/** InputEvent Class -- GameEvent for an input applied to the block */
+public class InputEvent extends GameEvent {
+
+    //Initialize Variables
+    private final GameInput input;
+
+    /** CONSTRUCTOR */
+    public InputEvent(GameInput input) {
+        this.input = input;
+    }
+
+    /** GETTER METHODS */
+    public GameInput getInput() {
+        return input;
+    }
+}
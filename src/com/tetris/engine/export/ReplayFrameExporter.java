@@ -0,0 +1,282 @@
+/**
+ * File:        ReplayFrameExporter.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file turns a replay into a numbered sequence of PNG images (frame_000000.png, ...), one for every
+ *      1/fps seconds of game time, without a display. Each frame is drawn by GamePainter.paintScreen(), the
+ *      same code the GameArea, HoldArea and QueueArea panels paint with, onto a BufferedImage.
+ *
+ *      The replay is played to the end once first, which leaves a keyframe every ReplayPlayer.KEYFRAME_INTERVAL
+ *      of game time. The frames are then cut into chunks of one keyframe interval each, and the render threads
+ *      take chunks in turn: each thread forks its own ReplayPlayer, seeks to the start of the chunk (restoring
+ *      the keyframe and replaying at most one interval of events) and draws the frames of the chunk in order.
+ *
+ *      Drawn frames go into a bounded queue that the writer threads encode and write as PNG, so encoding runs
+ *      beside the drawing instead of after it, and a render thread that gets too far ahead of the writers
+ *      waits. Encoding is most of the work, so it uses a fast deflate level (the frames are large areas of flat
+ *      colour and come out about as small). Images are reused: a writer hands its image back to a pool once
+ *      the PNG is written, so memory stays at (render threads + queue + writers) images whatever the length
+ *      of the replay. The first failure on any thread stops the render threads and export() throws it.
+ *
+ */
+
+package com.tetris.engine.export;
+
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.gui.GamePainter;
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.replay.ReplayPlayer;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** ReplayFrameExporter Class -- A replay drawn in parallel into a PNG sequence */
+public class ReplayFrameExporter {
+
+    //Initialize Static Variables
+    public final static String FILE_PREFIX = "frame_";
+    private final static Frame END = new Frame(-1, null);
+    private final static float COMPRESSION_QUALITY = 0.75f;     //A fast deflate level; frames are flat colours
+
+    //Initialize Variables - Settings
+    private final ReplayPlayer player;
+    private final int fps;
+    private final double scale;
+    private final int width, height;
+
+    //Initialize Variables - Statistics of the last export
+    private int frames = 0;
+    private long wallNanos = 0;
+    private final AtomicLong renderNanos = new AtomicLong();
+    private final AtomicLong encodeNanos = new AtomicLong();
+    private final AtomicLong queueWaitNanos = new AtomicLong();
+
+    /** CONSTRUCTOR -- Frames at fps a second of game time, scale times the size of the game window */
+    public ReplayFrameExporter(ReplayPlayer player, int fps, double scale) {
+        if (fps <= 0) throw new IllegalArgumentException("fps must be positive: " + fps);
+        if (scale <= 0) throw new IllegalArgumentException("scale must be positive: " + scale);
+        this.player = player;
+        this.fps = fps;
+        this.scale = scale;
+        this.width = (int) Math.ceil(GamePainter.getScreenWidth() * scale);
+        this.height = (int) Math.ceil(GamePainter.getScreenHeight() * scale);
+    }
+
+    /** GETTER METHODS -- Size of the images and how the last export went */
+    public int getWidth() {
+        return width;
+    }
+    public int getHeight() {
+        return height;
+    }
+    public int getFrameCount() {        //Frames in the replay at this frame rate
+        return (int) (player.getDuration() * fps / 1000) + 1;
+    }
+    public int getFrames() {
+        return frames;
+    }
+    public double getSeconds() {
+        return wallNanos / 1e9;
+    }
+    public double getFramesPerSecond() {
+        return wallNanos == 0 ? 0 : frames / (wallNanos / 1e9);
+    }
+    public double getRenderSeconds() {  //Seeking and drawing, summed over the render threads
+        return renderNanos.get() / 1e9;
+    }
+    public double getEncodeSeconds() {  //PNG encoding and writing, summed over the writer threads
+        return encodeNanos.get() / 1e9;
+    }
+    public double getQueueWaitSeconds() {   //Render threads waiting for the writers to make room
+        return queueWaitNanos.get() / 1e9;
+    }
+
+    /**
+     * Description: Write every frame of the replay into the directory. Blocks until the last PNG is written;
+     *              throws the first IOException a writer ran into, or the first RuntimeException of any
+     *              thread.
+     */
+    public void export(Path directory, int renderThreads, int writerThreads, int queueCapacity)
+            throws IOException, InterruptedException {
+        Files.createDirectories(directory);
+        renderNanos.set(0);
+        encodeNanos.set(0);
+        queueWaitNanos.set(0);
+        long start = System.nanoTime();
+
+        //Keyframes for the whole replay, which the forks share
+        player.playToEnd();
+
+        int frameCount = getFrameCount();
+        int chunkFrames = (int) Math.max(1, ReplayPlayer.KEYFRAME_INTERVAL * fps / 1000);
+        int chunks = (frameCount + chunkFrames - 1) / chunkFrames;
+
+        BlockingQueue<Frame> written = new ArrayBlockingQueue<>(queueCapacity);
+        int images = renderThreads + queueCapacity + writerThreads;
+        BlockingQueue<BufferedImage> pool = new ArrayBlockingQueue<>(images);
+        for (int i = 0; i < images; i++) {
+            pool.add(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB));
+        }
+        Exception[] failure = new Exception[1];
+
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < writerThreads; w++) {
+            writers.add(start("FrameWriter-" + w, () -> writeFrames(directory, written, pool, failure)));
+        }
+
+        AtomicInteger nextChunk = new AtomicInteger();
+        List<Thread> renderers = new ArrayList<>();
+        for (int r = 0; r < renderThreads; r++) {
+            ReplayPlayer fork = player.fork();
+            renderers.add(start("FrameRenderer-" + r, () -> {
+                try {
+                    for (int c; !hasFailed(failure) && (c = nextChunk.getAndIncrement()) < chunks; ) {
+                        int first = c * chunkFrames;
+                        renderFrames(fork, first, Math.min(frameCount, first + chunkFrames), written, pool,
+                                failure);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    fail(failure, e);
+                }
+            }));
+        }
+
+        for (Thread renderer : renderers) renderer.join();
+        for (int w = 0; w < writerThreads; w++) written.put(END);
+        for (Thread writer : writers) writer.join();
+
+        wallNanos = System.nanoTime() - start;
+        synchronized (failure) {
+            if (failure[0] instanceof IOException) throw (IOException) failure[0];
+            if (failure[0] != null) throw (RuntimeException) failure[0];
+        }
+        frames = frameCount;
+    }
+
+    /**
+     * Description: Draw frames first (inclusive) to last (exclusive) in order on one render thread, stopping
+     *              early once another thread has failed
+     */
+    private void renderFrames(ReplayPlayer fork, int first, int last, BlockingQueue<Frame> written,
+                              BlockingQueue<BufferedImage> pool, Exception[] failure) throws InterruptedException {
+        HeadlessGame game = fork.getGame();
+        BlockController bc = game.getBlockController();
+
+        for (int i = first; i < last && !hasFailed(failure); i++) {
+            BufferedImage image = pool.take();
+            long start = System.nanoTime();
+
+            Graphics2D g = image.createGraphics();
+            try {
+                fork.seek(i * 1000L / fps);
+                g.setColor(GamePainter.PANEL_BACKGROUND);
+                g.fillRect(0, 0, width, height);
+                g.scale(scale, scale);
+                GamePainter.paintScreen(g, game.getBoard(), bc.getCurrentBlock(),
+                        bc.getCurrentBlock() == null ? 0 : bc.getTheoreticalDropY(), bc.getHeldBlock(),
+                        bc.getQueuedBlocks());
+            } catch (RuntimeException e) {
+                pool.put(image);
+                throw e;
+            } finally {
+                g.dispose();
+            }
+
+            long drawn = System.nanoTime();
+            renderNanos.addAndGet(drawn - start);
+            written.put(new Frame(i, image));
+            queueWaitNanos.addAndGet(System.nanoTime() - drawn);
+        }
+    }
+
+    /**
+     * Description: Encode frames from the queue until END (after a failure they are only handed back). Each
+     *              writer keeps its own PNG writer and encodes into memory, so a frame costs one file write.
+     */
+    private void writeFrames(Path directory, BlockingQueue<Frame> written, BlockingQueue<BufferedImage> pool,
+                             Exception[] failure) {
+        ImageWriter png = ImageIO.getImageWritersByFormatName("png").next();
+        ImageWriteParam param = png.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(COMPRESSION_QUALITY);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+
+        try {
+            for (Frame frame; (frame = written.take()) != END; ) {
+                long start = System.nanoTime();
+                try {
+                    if (!hasFailed(failure)) {
+                        bytes.reset();
+                        try (ImageOutputStream out = new MemoryCacheImageOutputStream(bytes)) {
+                            png.setOutput(out);
+                            png.write(null, new IIOImage(frame.image, null, null), param);
+                        }
+                        Path file = directory.resolve(String.format("%s%06d.png", FILE_PREFIX, frame.index));
+                        try (OutputStream out = Files.newOutputStream(file)) {
+                            bytes.writeTo(out);
+                        }
+                    }
+                } catch (IOException | RuntimeException e) {
+                    fail(failure, e);
+                }
+                encodeNanos.addAndGet(System.nanoTime() - start);
+                pool.put(frame.image);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            png.dispose();
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    private static boolean hasFailed(Exception[] failure) {
+        synchronized (failure) {
+            return failure[0] != null;
+        }
+    }
+    private static void fail(Exception[] failure, Exception e) {     //Only the first failure is kept
+        synchronized (failure) {
+            if (failure[0] == null) failure[0] = e;
+        }
+    }
+    private static Thread start(String name, Runnable runnable) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /** Frame Class -- A drawn image and its place in the sequence */
+    private static class Frame {
+        final int index;
+        final BufferedImage image;
+
+        Frame(int index, BufferedImage image) {
+            this.index = index;
+            this.image = image;
+        }
+    }
+}
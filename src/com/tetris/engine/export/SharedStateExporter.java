@@ -0,0 +1,216 @@
+/**
+ * File:        SharedStateExporter.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file writes the live state of a game into a memory-mapped file, so other programs on the same
+ *      machine (stream overlays, recorders, analysis tools) can read it at frame rate without a socket. It
+ *      listens to the game's events like the GUI panels do, and after every event it writes the whole frame:
+ *      grid, falling block and its ghost, held block, queue, score, level and lines. That is a few hundred
+ *      bytes written straight into the mapping, with nothing allocated and nothing encoded but the grid cells
+ *      that changed (found by comparing colour references against a shadow copy of the grid).
+ *
+ *      Readers must not see a frame that is half written, so the file has a seqlock: the sequence number is
+ *      made odd before the frame is written and even again afterwards. A reader reads the sequence, copies
+ *      the frame, and reads the sequence again; if it was odd or it changed, the copy may be torn and it
+ *      tries again (SharedStateReader does this). The writer never waits for readers.
+ *
+ *      File layout (little-endian, so readers in any language can use it):
+ *          0   magic (int, "JTSS")             4   version (short)     6   rows (byte)     7   columns (byte)
+ *          8   sequence (long)                 16  frame number (long) 24  time written (long, epoch micros)
+ *          32  score (int)                     36  level (short)       38  lines (short)
+ *          40  block shape, rotation, x, y (bytes, shape 0xFF if there is none)     44  ghost y (byte)
+ *          45  held shape (byte)               46  can hold (byte)     47  game over (byte)
+ *          48  queue length (byte), then up to 7 queued shapes (bytes)
+ *          56  the 4 cells of the falling block: row, column (bytes, the row is negative above the grid)
+ *          64  grid: rows * columns cells from the top left, one byte each
+ *      Shapes are Tetrominoe.ShapeType ordinals and cells are GameSnapshot cell codes.
+ *
+ *      Turned on with -Djtetris.export=<file>.
+ *
+ */
+
+package com.tetris.engine.export;
+
+import com.tetris.engine.GameRules;
+import com.tetris.engine.GameSnapshot;
+import com.tetris.engine.event.GameEvent;
+import com.tetris.engine.event.GameEventListener;
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/** SharedStateExporter Class -- Live game state in a memory-mapped file behind a seqlock */
+public class SharedStateExporter implements GameEventListener {
+
+    //Initialize Static Variables
+    public final static String PROPERTY = "jtetris.export";
+    public final static int MAGIC = 0x5353544A;         //"JTSS" in little-endian
+    public final static int VERSION = 1;
+    public final static int NONE = 0xFF;
+    public final static int QUEUE_SLOTS = 7;
+
+    //Initialize Static Variables - Offsets of the layout
+    public final static int SEQUENCE = 8;
+    public final static int FRAME = 16;
+    public final static int TIME = 24;
+    public final static int SCORE = 32;
+    public final static int LEVEL = 36;
+    public final static int LINES = 38;
+    public final static int BLOCK = 40;
+    public final static int GHOST_Y = 44;
+    public final static int HELD = 45;
+    public final static int CAN_HOLD = 46;
+    public final static int GAME_OVER = 47;
+    public final static int QUEUE = 48;
+    public final static int BLOCK_CELLS = 56;
+    public final static int GRID = 64;
+
+    //Access to the sequence with memory ordering (the mapping is shared with other processes)
+    final static VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    //Initialize Variables
+    private final Board board;
+    private final BlockController bc;
+    private final GameRules rules;
+    private final Path path;
+    private final MappedByteBuffer map;
+    private final int rows, columns;
+    private final Color[] shadow;
+    private long sequence = 0;
+    private long frame = 0;
+    private boolean gameOver = false;
+
+    /** CONSTRUCTOR -- Creates (or overwrites) the file and maps it */
+    public SharedStateExporter(Path path, Board board, BlockController bc, GameRules rules) throws IOException {
+        this.board = board;
+        this.bc = bc;
+        this.rules = rules;
+        this.path = path;
+        this.rows = board.getGridRows();
+        this.columns = board.getGridColumns();
+        this.shadow = new Color[rows * columns];
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            this.map = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes(rows, columns));
+        }
+        map.order(ByteOrder.LITTLE_ENDIAN);
+        map.putShort(4, (short) VERSION).put(6, (byte) rows).put(7, (byte) columns);
+        VarHandle.storeStoreFence();
+        map.putInt(0, MAGIC);       //Last, so a reader never sees the magic before the header
+    }
+
+    /** Description: Exporter for the game if -Djtetris.export is set (and the file can be made), otherwise null */
+    public static SharedStateExporter fromProperty(Board board, BlockController bc, GameRules rules) {
+        String file = System.getProperty(PROPERTY);
+        if (file == null) return null;
+        try {
+            return new SharedStateExporter(Paths.get(file), board, bc, rules);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("State not exported to " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** GETTER METHODS */
+    public Path getPath() {
+        return path;
+    }
+    public synchronized long getFrame() {
+        return frame;
+    }
+    public static int fileBytes(int rows, int columns) {
+        return GRID + rows * columns;
+    }
+
+    /** Description: Every event changed something, so write the frame (holding the BlockController lock) */
+    @Override
+    public void onEvent(GameEvent event) {
+        export();
+    }
+
+    /** Description: Write the last frame of a game, marked as Game Over */
+    public synchronized void finish() {
+        gameOver = true;
+        export();
+    }
+
+    /** Description: Write the current state as the next frame */
+    public synchronized void export() {
+        long odd = sequence + 1;
+        LONGS.setOpaque(map, SEQUENCE, odd);
+        VarHandle.storeStoreFence();        //The odd sequence is visible before any of the frame changes
+
+        map.putLong(FRAME, ++frame);
+        map.putLong(TIME, System.currentTimeMillis() * 1000);
+        map.putInt(SCORE, rules.getScore());
+        map.putShort(LEVEL, (short) rules.getLevel());
+        map.putShort(LINES, (short) rules.getTotalLines());
+
+        Tetrominoe block = bc.getCurrentBlock();
+        if (block == null) {
+            map.putInt(BLOCK, NONE);
+            map.put(GHOST_Y, (byte) 0);
+            map.putLong(BLOCK_CELLS, 0);
+        } else {
+            map.put(BLOCK, (byte) block.getShapeType().ordinal());
+            map.put(BLOCK + 1, (byte) block.getRotation());
+            map.put(BLOCK + 2, (byte) block.getX());
+            map.put(BLOCK + 3, (byte) block.getY());
+            map.put(GHOST_Y, (byte) bc.getTheoreticalDropY());
+            putBlockCells(block);
+        }
+        Tetrominoe held = bc.getHeldBlock();
+        map.put(HELD, (byte) (held == null ? NONE : held.getShapeType().ordinal()));
+        map.put(CAN_HOLD, (byte) (bc.canHoldBlock() ? 1 : 0));
+        map.put(GAME_OVER, (byte) (gameOver ? 1 : 0));
+
+        List<Tetrominoe> queue = bc.getQueuedBlocks();
+        int queued = Math.min(QUEUE_SLOTS, queue.size());
+        map.put(QUEUE, (byte) queued);
+        for (int i = 0; i < QUEUE_SLOTS; i++) {
+            map.put(QUEUE + 1 + i, (byte) (i < queued ? queue.get(i).getShapeType().ordinal() : NONE));
+        }
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                Color colour = board.getBackgroundColor(r, c);
+                int cell = r * columns + c;
+                if (colour == shadow[cell] && frame > 1) continue;
+                shadow[cell] = colour;
+                map.put(GRID + cell, (byte) GameSnapshot.encodeCell(colour));
+            }
+        }
+
+        sequence = odd + 1;
+        LONGS.setRelease(map, SEQUENCE, sequence);  //Everything above is visible before the even sequence
+    }
+
+    /** Description: Row and column of the 4 cells of the block, the same cells GameArea draws */
+    private void putBlockCells(Tetrominoe block) {
+        int[][] coords = block.getCoords();
+        int at = BLOCK_CELLS;
+        for (int row = 0; row < coords.length && at < GRID; row++) {
+            for (int col = 0; col < coords[row].length && at < GRID; col++) {
+                if (coords[row][col] != 1) continue;
+                map.put(at++, (byte) (block.getY() + row));
+                map.put(at++, (byte) (block.getX() + col));
+            }
+        }
+    }
+}
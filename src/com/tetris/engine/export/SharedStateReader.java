@@ -0,0 +1,159 @@
+/**
+ * File:        SharedStateReader.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file reads the file written by a SharedStateExporter (see its summary for the layout), from the
+ *      same process or another one. read() copies a frame out of the mapping into the reader's own buffer
+ *      and only keeps it if the sequence number was even and unchanged on both sides of the copy, so the
+ *      getters always describe one consistent frame. The copy is a single bulk get of a few hundred bytes;
+ *      nothing is allocated per read.
+ *
+ */
+
+package com.tetris.engine.export;
+
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/** SharedStateReader Class -- Consistent copies of the frames in a shared state file */
+public class SharedStateReader implements Closeable {
+
+    //Initialize Static Variables
+    private final static int MAX_ATTEMPTS = 1000;
+    private final static Tetrominoe.ShapeType[] SHAPE_TYPES = Tetrominoe.ShapeType.values();
+
+    //Initialize Variables
+    private final MappedByteBuffer map;
+    private final int rows, columns;
+    private final ByteBuffer copy;      //The last consistent frame, at the offsets of the file
+    private long torn = 0;
+
+    /** CONSTRUCTOR -- Maps the file; throws IOException if it isn't a shared state file */
+    public SharedStateReader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < SharedStateExporter.GRID) throw new IOException(path + " is too short");
+            this.map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        map.order(ByteOrder.LITTLE_ENDIAN);
+        if (map.getInt(0) != SharedStateExporter.MAGIC) throw new IOException(path + " is not a shared state file");
+        int version = map.getShort(4);
+        if (version != SharedStateExporter.VERSION) throw new IOException("Shared state version " + version);
+        this.rows = map.get(6) & 0xFF;
+        this.columns = map.get(7) & 0xFF;
+        int bytes = SharedStateExporter.fileBytes(rows, columns);
+        if (map.capacity() < bytes) throw new IOException(path + " is cut short");
+
+        this.copy = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Description: Copy the latest frame. Return False if every attempt overlapped a write (the getters keep
+     *              the previous frame then).
+     */
+    public boolean read() {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            long before = (long) SharedStateExporter.LONGS.getAcquire(map, SharedStateExporter.SEQUENCE);
+            if ((before & 1) != 0) {
+                torn++;
+                Thread.onSpinWait();
+                continue;
+            }
+
+            byte[] target = copy.array();
+            int from = SharedStateExporter.FRAME;
+            map.get(from, target, from, target.length - from);
+            VarHandle.loadLoadFence();      //The copy is done before the sequence is read again
+            if ((long) SharedStateExporter.LONGS.getOpaque(map, SharedStateExporter.SEQUENCE) == before) return true;
+
+            torn++;
+            Thread.onSpinWait();
+        }
+        return false;
+    }
+
+    /** Description: Nothing to release but the mapping, which goes when the reader is collected */
+    @Override
+    public void close() { }
+
+    /** GETTER METHODS -- The last frame read */
+    public int getGridRows() {
+        return rows;
+    }
+    public int getGridColumns() {
+        return columns;
+    }
+    public long getTornReads() {      //Copies thrown away because a write overlapped them
+        return torn;
+    }
+    public long getFrame() {          //0 until the game writes its first frame
+        return copy.getLong(SharedStateExporter.FRAME);
+    }
+    public long getTimeMicros() {
+        return copy.getLong(SharedStateExporter.TIME);
+    }
+    public int getScore() {
+        return copy.getInt(SharedStateExporter.SCORE);
+    }
+    public int getLevel() {
+        return copy.getShort(SharedStateExporter.LEVEL);
+    }
+    public int getLines() {
+        return copy.getShort(SharedStateExporter.LINES);
+    }
+    public Tetrominoe.ShapeType getBlock() {
+        return shapeType(copy.get(SharedStateExporter.BLOCK));
+    }
+    public int getRotation() {
+        return copy.get(SharedStateExporter.BLOCK + 1);
+    }
+    public int getX() {
+        return copy.get(SharedStateExporter.BLOCK + 2);
+    }
+    public int getY() {
+        return copy.get(SharedStateExporter.BLOCK + 3);
+    }
+    public int getGhostY() {
+        return copy.get(SharedStateExporter.GHOST_Y);
+    }
+    public int getBlockCellRow(int i) {   //Cell i (0 to 3) of the falling block
+        return copy.get(SharedStateExporter.BLOCK_CELLS + 2 * i);
+    }
+    public int getBlockCellColumn(int i) {
+        return copy.get(SharedStateExporter.BLOCK_CELLS + 2 * i + 1);
+    }
+    public Tetrominoe.ShapeType getHeld() {
+        return shapeType(copy.get(SharedStateExporter.HELD));
+    }
+    public boolean canHold() {
+        return copy.get(SharedStateExporter.CAN_HOLD) != 0;
+    }
+    public boolean isGameOver() {
+        return copy.get(SharedStateExporter.GAME_OVER) != 0;
+    }
+    public int getQueueLength() {
+        return copy.get(SharedStateExporter.QUEUE);
+    }
+    public Tetrominoe.ShapeType getQueued(int i) {
+        return shapeType(copy.get(SharedStateExporter.QUEUE + 1 + i));
+    }
+    public int getCell(int row, int column) {     //GameSnapshot cell code
+        return copy.get(SharedStateExporter.GRID + row * columns + column);
+    }
+
+    /** HELPER FUNCTIONS */
+    private static Tetrominoe.ShapeType shapeType(byte code) {
+        return (code & 0xFF) == SharedStateExporter.NONE ? null : SHAPE_TYPES[code];
+    }
+}
@@ -0,0 +1,281 @@
+/**
+ * File:        BoardWallPanel.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains a JPanel that shows a wall of many games at once (16 to 100 AI games, say), in
+ *      place of a GameScreen window per game. Games hand it their latest GameSnapshot with update() from any
+ *      thread; the panel keeps only the latest one per board.
+ *
+ *      Every frame a Swing Timer composites the boards into one back buffer (a BufferedImage whose pixels are
+ *      written directly). A board whose snapshot is the one already drawn is skipped, and on a board that
+ *      changed only the cells that differ from the last drawn frame are filled, so a falling block costs
+ *      about 8 cells. Only the area that changed is repainted, and paintComponent just copies it out of the
+ *      back buffer.
+ *
+ *      The frame rate adapts to the load. Once a second the panel looks at the time it spent compositing and
+ *      painting: if that is more than LOAD_HIGH of the Event Dispatch Thread it lowers the frame rate (down to
+ *      MIN_FPS), so the rest of the GUI stays responsive; if it is under LOAD_LOW it raises it again (up to
+ *      MAX_FPS).
+ *
+ */
+
+package com.tetris.engine.gui;
+
+import com.tetris.engine.GameSnapshot;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** BoardWallPanel Class -- Many boards composited into one panel */
+@SuppressWarnings("serial")    //Never serialized
+public class BoardWallPanel extends JPanel {
+
+    //Initialize Static Variables
+    public final static int MAX_FPS = 60;
+    public final static int MIN_FPS = 10;
+    private final static double LOAD_HIGH = 0.5;
+    private final static double LOAD_LOW = 0.25;
+    private final static int FPS_STEP = 5;
+    private final static int TILE_GAP = 4;
+    private final static int BACKGROUND = 0x303030;
+    private final static int EMPTY_CELL = 0x101010;
+    private final static int GAME_OVER = GameSnapshot.GARBAGE + 1;    //Added to a code on a board that is over
+    private final static int[] PALETTE = new int[2 * GAME_OVER];
+
+    static {
+        PALETTE[GameSnapshot.EMPTY] = EMPTY_CELL;
+        for (int code = 1; code <= GameSnapshot.GARBAGE; code++) {
+            PALETTE[code] = GameSnapshot.decodeCell(code).getRGB() & 0xFFFFFF;
+        }
+        for (int code = 0; code < GAME_OVER; code++) {
+            int rgb = PALETTE[code];
+            PALETTE[GAME_OVER + code] = (((rgb >> 16) & 0xFF) / 3 << 16) | (((rgb >> 8) & 0xFF) / 3 << 8)
+                    | ((rgb & 0xFF) / 3);
+        }
+    }
+
+    //Initialize Variables - Boards
+    private final int boards, gridRows, gridColumns;
+    private final AtomicReferenceArray<GameSnapshot> latest;
+    private final AtomicIntegerArray over;
+    private final GameSnapshot[] drawn;
+    private final byte[][] drawnCells;
+    private final byte[] cells;
+    private final Tetrominoe[] blocks = new Tetrominoe[Tetrominoe.ShapeType.values().length];
+
+    //Initialize Variables - Layout and back buffer
+    private final int cellSize, tileWidth, tileHeight, tilesAcross;
+    private final BufferedImage back;
+    private final int[] pixels;
+    private final int width;
+
+    //Initialize Variables - Frame rate (only used on the Event Dispatch Thread)
+    private final Timer timer;
+    private int fps = MAX_FPS;
+    private long windowStart, windowNanos;
+    private long frames = 0, tilesDrawn = 0, tilesSkipped = 0, cellsDrawn = 0;
+    private long composeNanos = 0, paintNanos = 0;
+    private double load = 0;
+
+    /** CONSTRUCTOR -- A wall for a number of boards of one grid size, cellSize pixels a cell */
+    public BoardWallPanel(int boards, int gridRows, int gridColumns, int cellSize) {
+        this.boards = boards;
+        this.gridRows = gridRows;
+        this.gridColumns = gridColumns;
+        this.cellSize = cellSize;
+        this.latest = new AtomicReferenceArray<>(boards);
+        this.over = new AtomicIntegerArray(boards);
+        this.drawn = new GameSnapshot[boards];
+        this.drawnCells = new byte[boards][gridRows * gridColumns];
+        this.cells = new byte[gridRows * gridColumns];
+        for (Tetrominoe.ShapeType shapeType : Tetrominoe.ShapeType.values()) {
+            blocks[shapeType.ordinal()] = new Tetrominoe(shapeType);
+        }
+
+        //Tiles in a grid about as wide as it is high
+        this.tileWidth = gridColumns * cellSize + TILE_GAP;
+        this.tileHeight = gridRows * cellSize + TILE_GAP;
+        this.tilesAcross = Math.max(1, (int) Math.round(Math.sqrt(boards * (double) tileHeight / tileWidth)));
+        int tilesDown = (boards + tilesAcross - 1) / tilesAcross;
+        this.width = tilesAcross * tileWidth + TILE_GAP;
+        int height = tilesDown * tileHeight + TILE_GAP;
+
+        this.back = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        this.pixels = ((DataBufferInt) back.getRaster().getDataBuffer()).getData();
+        Arrays.fill(pixels, BACKGROUND);
+        for (int b = 0; b < boards; b++) {
+            Arrays.fill(drawnCells[b], (byte) GameSnapshot.EMPTY);
+            for (int r = 0; r < gridRows; r++) {
+                for (int c = 0; c < gridColumns; c++) fillCell(b, r, c, EMPTY_CELL);
+            }
+        }
+
+        this.setPreferredSize(new Dimension(width, height));
+        this.timer = new Timer(1000 / fps, e -> frame());
+        this.timer.setCoalesce(true);
+    }
+
+    /** GETTER METHODS */
+    public int getBoards() {
+        return boards;
+    }
+    public int getTargetFps() {             //Frame rate the panel is running at now
+        return fps;
+    }
+    public double getLoad() {               //Share of the Event Dispatch Thread used in the last second (0 to 1)
+        return load;
+    }
+    public long getFrames() {
+        return frames;
+    }
+    public long getTilesDrawn() {
+        return tilesDrawn;
+    }
+    public long getTilesSkipped() {         //Boards left alone because they had not changed
+        return tilesSkipped;
+    }
+    public long getCellsDrawn() {
+        return cellsDrawn;
+    }
+    public double getComposeMillis() {      //Total time spent compositing
+        return composeNanos / 1e6;
+    }
+    public double getPaintMillis() {
+        return paintNanos / 1e6;
+    }
+
+    /**
+     * Description: Latest state of one board (from any thread); the next frame draws it if it changed. A board
+     *              that is over is drawn dimmed.
+     */
+    public void update(int board, GameSnapshot snapshot) {
+        update(board, snapshot, snapshot.isGameOver());
+    }
+    public void update(int board, GameSnapshot snapshot, boolean gameOver) {
+        over.set(board, gameOver ? 1 : 0);
+        latest.set(board, snapshot);        //After the flag, so a frame that sees the snapshot sees the flag
+    }
+
+    /** Description: Start and stop drawing frames */
+    public void start() {
+        windowStart = System.nanoTime();
+        windowNanos = 0;
+        timer.start();
+    }
+    public void stop() {
+        timer.stop();
+    }
+
+    /** Description: Copy the part of the back buffer Swing asks for */
+    @Override
+    protected void paintComponent(Graphics g) {
+        long start = System.nanoTime();
+        super.paintComponent(g);
+        g.drawImage(back, 0, 0, null);
+        long elapsed = System.nanoTime() - start;
+        paintNanos += elapsed;
+        windowNanos += elapsed;
+    }
+
+    /** Description: One frame: composite the boards that changed, repaint their area, adapt the frame rate */
+    private void frame() {
+        long start = System.nanoTime();
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = -1, maxY = -1;
+
+        for (int b = 0; b < boards; b++) {
+            GameSnapshot snapshot = latest.get(b);
+            if (snapshot == drawn[b] || snapshot == null) {
+                tilesSkipped++;
+                continue;
+            }
+            drawn[b] = snapshot;
+            tilesDrawn++;
+            if (drawTile(b, snapshot)) {
+                int x = TILE_GAP + (b % tilesAcross) * tileWidth, y = TILE_GAP + (b / tilesAcross) * tileHeight;
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x + tileWidth);
+                maxY = Math.max(maxY, y + tileHeight);
+            }
+        }
+        frames++;
+
+        long elapsed = System.nanoTime() - start;
+        composeNanos += elapsed;
+        windowNanos += elapsed;
+        if (maxX >= 0) repaint(minX, minY, maxX - minX, maxY - minY);
+        adaptFrameRate();
+    }
+
+    /** Description: Bring the tile of a board up to its snapshot. Return False if no cell changed. */
+    private boolean drawTile(int board, GameSnapshot snapshot) {
+        int offset = over.get(board) != 0 ? GAME_OVER : 0;
+        for (int r = 0; r < gridRows; r++) {
+            for (int c = 0; c < gridColumns; c++) {
+                cells[r * gridColumns + c] = (byte) (snapshot.getCell(r, c) + offset);
+            }
+        }
+
+        //The falling block over the grid
+        Tetrominoe.ShapeType current = snapshot.getCurrent();
+        if (current != null) {
+            Tetrominoe block = blocks[current.ordinal()];
+            block.setState(snapshot.getRotation(), snapshot.getX(), snapshot.getY());
+            int[][] coords = block.getCoords();
+            for (int row = 0; row < coords.length; row++) {
+                for (int col = 0; col < coords[row].length; col++) {
+                    int r = snapshot.getY() + row, c = snapshot.getX() + col;
+                    if (coords[row][col] == 1 && r >= 0 && r < gridRows && c >= 0 && c < gridColumns) {
+                        cells[r * gridColumns + c] = (byte) (current.ordinal() + 1 + offset);
+                    }
+                }
+            }
+        }
+
+        byte[] before = drawnCells[board];
+        boolean changed = false;
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] == before[i]) continue;
+            before[i] = cells[i];
+            fillCell(board, i / gridColumns, i % gridColumns, PALETTE[cells[i]]);
+            cellsDrawn++;
+            changed = true;
+        }
+        return changed;
+    }
+
+    /** Description: Once a second, move the frame rate toward what the Event Dispatch Thread can afford */
+    private void adaptFrameRate() {
+        long now = System.nanoTime();
+        if (now - windowStart < 1_000_000_000L) return;
+
+        load = (double) windowNanos / (now - windowStart);
+        if (load > LOAD_HIGH && fps > MIN_FPS) {
+            fps = Math.max(MIN_FPS, fps - fps / 4);
+        } else if (load < LOAD_LOW && fps < MAX_FPS) {
+            fps = Math.min(MAX_FPS, fps + FPS_STEP);
+        }
+        timer.setDelay(1000 / fps);
+        windowStart = now;
+        windowNanos = 0;
+    }
+
+    /** HELPER FUNCTIONS */
+    private void fillCell(int board, int row, int column, int rgb) {
+        int x = TILE_GAP + (board % tilesAcross) * tileWidth + column * cellSize;
+        int y = TILE_GAP + (board / tilesAcross) * tileHeight + row * cellSize;
+        int size = cellSize > 2 ? cellSize - 1 : cellSize;      //Leave a line between cells when there is room
+        for (int dy = 0; dy < size; dy++) {
+            Arrays.fill(pixels, (y + dy) * width + x, (y + dy) * width + x + size, rgb);
+        }
+    }
+}
@@ -30,8 +30,6 @@ public class GameArea extends JPanel implements GameEventListener {
     //Initialize Variables - Board Properties
     private Board tetrisGrid;
     private int gridCellSize;
-    private int gridColumns;
-    private int gridRows;
 
     //Initialize Variables - Pause Screen (MAYBE move to a Controller)
     private JPanel pauseScreen;
@@ -62,8 +60,6 @@ public class GameArea extends JPanel implements GameEventListener {
     public void setBoardProperties(Board tetrisGrid) {
         this.tetrisGrid = tetrisGrid;
         gridCellSize = tetrisGrid.getGridCellSize();
-        gridColumns = tetrisGrid.getGridColumns();
-        gridRows = tetrisGrid.getGridRows();
     }
 
     /** Description: Create the pause screen JPanel */
@@ -95,95 +91,15 @@ public class GameArea extends JPanel implements GameEventListener {
 
     /** CLEARING LINES */
     public int clearLines() {
-        boolean lineFilled;
-        int linesCleared = 0;
-
-        for (int r = gridRows - 1; r >= 0; r--) {
-            lineFilled = true;
-            for (int c = 0; c < gridColumns; c++) {
-                if (tetrisGrid.getBackgroundColor(r, c) == null) {
-                    lineFilled = false;
-                    break;
-                }
-            }
-            if (lineFilled) {
-                linesCleared++;
-                tetrisGrid.clearLine(r);
-                tetrisGrid.shiftDown(r);
-                tetrisGrid.clearLine(0); //Make sure top row is cleared when shifting down
-                r++;
-                repaint();
-            }
-        }
-
-        //Check if bottom row is NOT empty (AKA NOT a Perfect Clear)
-        for (int c = 0; c < gridColumns; c++) {
-            if (tetrisGrid.getBackgroundColor(gridRows-1, c)!= null) {
-                return linesCleared;
-            }
-        }
-
-        //Return Perfect Clear
-        return 8;
-    }
-
-    /** DRAW BLOCKS */
-    private void drawBlock(Graphics g) {
-        for (int row = block.getPointY(); row < block.getPointY()+block.getHeight(); row++) {
-            for (int col = block.getPointX(); col < block.getPointX()+block.getWidth(); col++) {
-                if (block.getCoords()[row][col] == 1) {
-                    if (block.getX() + col >= 0 && block.getX() < gridColumns &&
-                            (block.getY() + (row+1) > 0 && block.getY() < gridRows)) {
-                        int x = (block.getX() + col) * gridCellSize;
-                        int y = (block.getY() + row) * gridCellSize;
-
-                        drawGridSquare(g, block.getColour(), x, y);
-                    }
-                }
-            }
-        }
-    }
-    private void drawBackground(Graphics g) {
-        for (int r = 0; r < gridRows; r++) {
-            for (int c = 0; c < gridColumns; c++) {
-                Color color = tetrisGrid.getBackgroundColor(r, c);
-
-                if (color != null) {
-                    int x = c * gridCellSize;
-                    int y = r * gridCellSize;
-
-                    drawGridSquare(g, color, x, y);
-                }
-            }
-        }
-
-    }
-    private void drawGridSquare(Graphics g, Color color, int x, int y) {
-        g.setColor(color);
-        g.fillRect(x, y, gridCellSize, gridCellSize);
-        g.setColor(Color.black);
-        g.drawRect(x, y, gridCellSize, gridCellSize);
-    }
-    private void drawTheoreticalDropPosition(Graphics g, int theoreticalDropY) {
-        for (int row = block.getPointY(); row < block.getPointY()+block.getHeight(); row++) {
-            for (int col = block.getPointX(); col < block.getPointX()+block.getWidth(); col++) {
-                if (block.getCoords()[row][col] == 1) {
-                    if (block.getX() + col >= 0 && block.getX() < gridColumns &&
-                            (theoreticalDropY + (row+1) > 0 && theoreticalDropY < gridRows)) {
-                        int x = (block.getX() + col) * gridCellSize;
-                        int y = (theoreticalDropY + row) * gridCellSize;
-
-                        drawGridSquare(g, Color.GRAY, x, y);
-                    }
-                }
-            }
-        }
+        int linesCleared = tetrisGrid.clearLines();
+        repaint();
+        return linesCleared;
     }
 
     /** TESTING FUNCTIONS */
     private void testWallKicks(int x, int y, Graphics g) {
         tetrisGrid.setBackgroundColor(Color.BLACK, y, x);
-        drawGridSquare(g, Color.BLACK, x*gridCellSize, y*gridCellSize);
+        GamePainter.drawGridSquare(g, Color.BLACK, x*gridCellSize, y*gridCellSize, gridCellSize);
     }
 
     //NOTE: Read up on paintComponent
@@ -191,11 +107,7 @@ public class GameArea extends JPanel implements GameEventListener {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        drawBackground(g);
-        if (this.block != null) {
-            drawTheoreticalDropPosition(g, theoreticalDropY);
-            drawBlock(g);
-        }
+        GamePainter.paintGameArea(g, tetrisGrid, block, theoreticalDropY);
     }
 
     //Listen for Event in Block Controller
@@ -0,0 +1,198 @@
+/**
+ * File:        GamePainter.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the drawing code of GameArea, HoldArea and QueueArea, taken out of the panels so it
+ *      can draw on any Graphics: the panels call it from paintComponent, and offscreen renderers call it on a
+ *      BufferedImage (with paintScreen() laying the three panels out the way GameScreen does).
+ *
+ *      Nothing here keeps state, so any number of threads can paint at once as long as each one has its own
+ *      Graphics and its own game.
+ *
+ */
+
+package com.tetris.engine.gui;
+
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.awt.*;
+import java.util.List;
+
+/** GamePainter Class -- Drawing of the board, the held block and the queue */
+public class GamePainter {
+
+    //Initialize Static Variables
+    public final static Color PANEL_BACKGROUND = new Color(238, 238, 238);   //Default JPanel background
+    private final static int BORDER = 2;
+    private final static int GAP = 10;                  //Insets of GameScreen on both sides of a panel
+    private final static int QUEUE_COLUMNS = 7;
+    private final static int QUEUE_INTERVAL = 50;
+
+    /** CONSTRUCTOR -- Only static methods */
+    private GamePainter() { }
+
+    /** GETTER METHODS -- Size of the picture paintScreen() draws */
+    public static int getScreenWidth() {
+        return GAP + GameScreen.HOLD_PANEL_DIMENSION.width + GAP + GameScreen.BOARD_PANEL_DIMENSION.width
+                + GAP + GameScreen.BLOCKS_PANEL_DIMENSION.width + GAP;
+    }
+    public static int getScreenHeight() {
+        return GAP + GameScreen.BOARD_PANEL_DIMENSION.height + GAP;
+    }
+
+    /**
+     * Description: Draw the hold, game and queue panels side by side on a PANEL_BACKGROUND, with their
+     *              borders, in the places GameScreen puts them
+     */
+    public static void paintScreen(Graphics g, Board board, Tetrominoe block, int theoreticalDropY,
+                                   Tetrominoe heldBlock, List<Tetrominoe> nextBlocks) {
+        g.setColor(PANEL_BACKGROUND);
+        g.fillRect(0, 0, getScreenWidth(), getScreenHeight());
+
+        //Each panel is drawn clipped to its own area, then its border goes over it (as Swing does)
+        Dimension hold = GameScreen.HOLD_PANEL_DIMENSION;
+        Dimension game = GameScreen.BOARD_PANEL_DIMENSION;
+        Dimension queue = GameScreen.BLOCKS_PANEL_DIMENSION;
+        int x = GAP;
+        Graphics panel = g.create(x, GAP, hold.width, hold.height);
+        paintHoldArea(panel, heldBlock, hold.width);
+        panel.dispose();
+        paintPanelBorder(g, x, GAP, hold);
+
+        x += hold.width + GAP;
+        panel = g.create(x, GAP, game.width, game.height);
+        paintGameArea(panel, board, block, theoreticalDropY);
+        panel.dispose();
+        paintPanelBorder(g, x, GAP, game);
+
+        x += game.width + GAP;
+        panel = g.create(x, GAP, queue.width, queue.height);
+        paintQueueArea(panel, nextBlocks, queue.width / QUEUE_COLUMNS);
+        panel.dispose();
+        paintPanelBorder(g, x, GAP, queue);
+    }
+
+    /** Description: GameArea -- the background of the board, then the ghost of the block and the block */
+    public static void paintGameArea(Graphics g, Board board, Tetrominoe block, int theoreticalDropY) {
+        if (board == null) return;
+
+        drawBackground(g, board);
+        if (block != null) {
+            drawTheoreticalDropPosition(g, board, block, theoreticalDropY);
+            drawBlock(g, board, block);
+        }
+    }
+
+    /** Description: HoldArea -- the held block, centered in a panel of the given width */
+    public static void paintHoldArea(Graphics g, Tetrominoe block, int width) {
+        if (block == null) return;
+
+        //Grid and position so that each block type is centered in the HoldArea
+        int gridColumns = 7, blockX = 2, blockY = 3;
+        if (block.getShapeType().toString().equals("I")) {
+            gridColumns = 6;
+            blockX = 1;
+            blockY = 2;
+        } else if (block.getShapeType().toString().equals("O")) {
+            gridColumns = 6;
+            blockX = 2;
+            blockY = 2;
+        }
+        int gridCellSize = width / gridColumns;
+
+        for (int row = block.getPointY(); row < block.getPointY()+block.getHeight(); row++) {
+            for (int col = block.getPointX(); col < block.getPointX()+block.getWidth(); col++) {
+                if (block.getCoords()[row][col] == 1) {
+                    int x = (blockX + col) * gridCellSize;
+                    int y = (blockY + row) * gridCellSize;
+
+                    drawGridSquare(g, block.getColour(), x, y, gridCellSize);
+                }
+            }
+        }
+    }
+
+    /** Description: QueueArea -- the queued blocks from the top down */
+    public static void paintQueueArea(Graphics g, List<Tetrominoe> nextBlocks, int gridCellSize) {
+        for (int i = 0; i < nextBlocks.size(); i++) {
+            Tetrominoe block = nextBlocks.get(i);
+            for (int row = block.getPointY(); row < block.getPointY() + block.getHeight(); row++) {
+                for (int col = block.getPointX(); col < block.getPointX() + block.getWidth(); col++) {
+                    if (block.getCoords()[row][col] == 1) {
+                        int x = (2 + col) * gridCellSize;
+                        int y = row * gridCellSize + (20 + QUEUE_INTERVAL*i);
+
+                        drawGridSquare(g, block.getColour(), x, y, gridCellSize);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Description: One cell, filled with its colour and outlined in black */
+    public static void drawGridSquare(Graphics g, Color color, int x, int y, int gridCellSize) {
+        g.setColor(color);
+        g.fillRect(x, y, gridCellSize, gridCellSize);
+        g.setColor(Color.black);
+        g.drawRect(x, y, gridCellSize, gridCellSize);
+    }
+
+    /** HELPER FUNCTIONS */
+    private static void drawBlock(Graphics g, Board board, Tetrominoe block) {
+        int gridCellSize = board.getGridCellSize();
+        for (int row = block.getPointY(); row < block.getPointY()+block.getHeight(); row++) {
+            for (int col = block.getPointX(); col < block.getPointX()+block.getWidth(); col++) {
+                if (block.getCoords()[row][col] == 1) {
+                    if (block.getX() + col >= 0 && block.getX() < board.getGridColumns() &&
+                            (block.getY() + (row+1) > 0 && block.getY() < board.getGridRows())) {
+                        int x = (block.getX() + col) * gridCellSize;
+                        int y = (block.getY() + row) * gridCellSize;
+
+                        drawGridSquare(g, block.getColour(), x, y, gridCellSize);
+                    }
+                }
+            }
+        }
+    }
+    private static void drawBackground(Graphics g, Board board) {
+        int gridCellSize = board.getGridCellSize();
+        for (int r = 0; r < board.getGridRows(); r++) {
+            for (int c = 0; c < board.getGridColumns(); c++) {
+                Color color = board.getBackgroundColor(r, c);
+
+                if (color != null) {
+                    int x = c * gridCellSize;
+                    int y = r * gridCellSize;
+
+                    drawGridSquare(g, color, x, y, gridCellSize);
+                }
+            }
+        }
+    }
+    private static void drawTheoreticalDropPosition(Graphics g, Board board, Tetrominoe block, int theoreticalDropY) {
+        int gridCellSize = board.getGridCellSize();
+        for (int row = block.getPointY(); row < block.getPointY()+block.getHeight(); row++) {
+            for (int col = block.getPointX(); col < block.getPointX()+block.getWidth(); col++) {
+                if (block.getCoords()[row][col] == 1) {
+                    if (block.getX() + col >= 0 && block.getX() < board.getGridColumns() &&
+                            (theoreticalDropY + (row+1) > 0 && theoreticalDropY < board.getGridRows())) {
+                        int x = (block.getX() + col) * gridCellSize;
+                        int y = (theoreticalDropY + row) * gridCellSize;
+
+                        drawGridSquare(g, Color.GRAY, x, y, gridCellSize);
+                    }
+                }
+            }
+        }
+    }
+    private static void paintPanelBorder(Graphics g, int x, int y, Dimension size) {  //The 2 pixel black border
+        g.setColor(Color.black);
+        for (int i = 0; i < BORDER; i++) {
+            g.drawRect(x + i, y + i, size.width - 1 - 2 * i, size.height - 1 - 2 * i);
+        }
+    }
+}
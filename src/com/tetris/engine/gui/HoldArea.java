@@ -22,15 +22,8 @@ import java.awt.*;
 public class HoldArea extends JPanel implements GameEventListener {
 
     //Initialize Variables
-    private int gridColumns;
-    private int gridCellSize;
-    private int gridRows;
-
     private Tetrominoe block;
 
-    private int blockX = 0;
-    private int blockY = 0;
-
     /** CONSTRUCTOR */
     public HoldArea() {
         this.setPreferredSize(GameScreen.HOLD_PANEL_DIMENSION);
@@ -44,74 +37,11 @@ public class HoldArea extends JPanel implements GameEventListener {
         this.block = block;
     }
 
-    /** Description: Creates the grid for the holdArea depending on number of gridColumns wanted */
-    public void setHoldGrid(int gridColumns) {
-        this.gridColumns = gridColumns;
-        this.gridCellSize = this.getWidth() / gridColumns;
-        this.gridRows = this.getHeight() / gridCellSize;
-    }
-
-    /** Description: Defines block coordinates for block type so that blocks are centered in the HoldArea */
-    private void setDrawBlock(Tetrominoe.ShapeType shapeType) {
-        if (shapeType.toString().equals("I")) {
-            setHoldGrid(6);
-            blockX = 1;
-            blockY = 2;
-        } else if (shapeType.toString().equals("O")) {
-            setHoldGrid(6);
-            blockX = 2;
-            blockY = 2;
-        } else if (shapeType.toString().equals("T")) {
-            setHoldGrid(7);
-            blockX = 2;
-            blockY = 3;
-        } else if (shapeType.toString().equals("S")) {
-            setHoldGrid(7);
-            blockX = 2;
-            blockY = 3;
-        } else if (shapeType.toString().equals("Z")) {
-            setHoldGrid(7);
-            blockX = 2;
-            blockY = 3;
-        } else if (shapeType.toString().equals("J")) {
-            setHoldGrid(7);
-            blockX = 2;
-            blockY = 3;
-        } else if (shapeType.toString().equals("L")) {
-            setHoldGrid(7);
-            blockX = 2;
-            blockY = 3;
-        }
-        repaint();
-    }
-
-    /** DRAW BLOCKS */
-    private void drawBlock(Graphics g) {
-        for (int row = block.getPointY(); row < block.getPointY()+block.getHeight(); row++) {
-            for (int col = block.getPointX(); col < block.getPointX()+block.getWidth(); col++) {
-                if (block.getCoords()[row][col] == 1) {
-                    int x = (blockX + col) * gridCellSize;
-                    int y = (blockY + row) * gridCellSize;
-
-                    drawGridSquare(g, block.getColour(), x, y);
-                }
-            }
-        }
-    }
-    private void drawGridSquare(Graphics g, Color color, int x, int y) {
-        g.setColor(color);
-        g.fillRect(x, y, gridCellSize, gridCellSize);
-        g.setColor(Color.black);
-        g.drawRect(x, y, gridCellSize, gridCellSize);
-    }
-
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        if (this.block != null) {
-            drawBlock(g);
-        }
+        GamePainter.paintHoldArea(g, block, getWidth());
     }
 
     //Listen for Event in Block Controller
@@ -120,10 +50,9 @@ public class HoldArea extends JPanel implements GameEventListener {
         if (event instanceof HoldAreaEvent) {
             HoldAreaEvent holdAreaEvent = (HoldAreaEvent) event;
 
-            //Update the block in hold area
+            //Update the block in hold area (a restored game may have nothing held)
             setBlock(holdAreaEvent.getBlock());
-            //Set the position of the block in the holdArea
-            setDrawBlock(holdAreaEvent.getBlock().getShapeType());
+            repaint();
         }
     }
 }
@@ -54,36 +54,11 @@ public class QueueArea extends JPanel implements GameEventListener {
         return nextBlocks.poll();
     }
 
-    /** DRAW BLOCKS */
-    private void drawBlocks(Graphics g) {
-        int interval = 50;
-        for (int i = 0; i < nextBlocks.size(); i++) {
-            for (int row = nextBlocks.get(i).getPointY(); row < nextBlocks.get(i).getPointY() + nextBlocks.get(i).getHeight(); row++) {
-                for (int col = nextBlocks.get(i).getPointX(); col < nextBlocks.get(i).getPointX() + nextBlocks.get(i).getWidth(); col++) {
-                    if (nextBlocks.get(i).getCoords()[row][col] == 1) {
-                        int x = (2 + col) * gridCellSize;
-                        int y = row * gridCellSize + (20 + interval*i);
-
-                        drawGridSquare(g, nextBlocks.get(i).getColour(), x, y);
-                    }
-                }
-            }
-        }
-    }
-    private void drawGridSquare(Graphics g, Color color, int x, int y) {
-        g.setColor(color);
-        g.fillRect(x, y, gridCellSize, gridCellSize);
-        g.setColor(Color.black);
-        g.drawRect(x, y, gridCellSize, gridCellSize);
-    }
-
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        if (this.nextBlocks != null) {
-            drawBlocks(g);
-        }
+        GamePainter.paintQueueArea(g, nextBlocks, gridCellSize);
     }
 
     //Listen for Event in Block Controller
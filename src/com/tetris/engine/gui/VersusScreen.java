@@ -0,0 +1,131 @@
+/**
+ * File:        VersusScreen.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the Java Swing GUI Interface for versus mode. It is the GameScreen layout twice,
+ *      side by side: each player has their own HoldArea, GameArea and QueueArea, a score label and a label
+ *      showing the garbage waiting to come into their grid. The result is shown across the bottom.
+ */
+
+package com.tetris.engine.gui;
+
+import javax.swing.*;
+import java.awt.*;
+
+/** VersusScreen Class -- Create the screen that displays a versus game (GUI) */
+public class VersusScreen {
+
+    //Initialize Static Variables
+    public final static int PLAYERS = 2;
+    protected final static Dimension OUTER_FRAME_DIMENSION = new Dimension(800, 580);
+
+    //Initialize Variables - JComponents
+    private final JFrame gameFrame;
+    private final JLabel status;
+    private final JLabel[] score = new JLabel[PLAYERS];
+    private final JLabel[] incoming = new JLabel[PLAYERS];
+
+    //Initialize Variables - Custom GUI Components (JPanel), one of each per player
+    private final GameArea[] gameArea = new GameArea[PLAYERS];
+    private final HoldArea[] holdArea = new HoldArea[PLAYERS];
+    private final QueueArea[] queueArea = new QueueArea[PLAYERS];
+
+    /** CONSTRUCTOR -- Sets up the JFrame by appropriately placing the containers in the frame */
+    public VersusScreen(String leftName, String rightName) {
+        this.gameFrame = new JFrame("JTetris Versus");
+        this.status = new JLabel("", SwingConstants.CENTER);
+
+        for (int i = 0; i < PLAYERS; i++) {
+            score[i] = new JLabel();
+            incoming[i] = new JLabel();
+            gameArea[i] = new GameArea();
+            holdArea[i] = new HoldArea();
+            queueArea[i] = new QueueArea();
+        }
+
+        //Set up the Game Screen (The layout)
+        initVersusScreen(leftName, rightName);
+
+        for (int i = 0; i < PLAYERS; i++) {
+            updateScore(i, 0);
+            updateIncoming(i, 0);
+
+            //Initialize the Grid Properties for QueueArea (needs the frame to be showing)
+            queueArea[i].initBlocksGrid();
+        }
+    }
+
+    /** Initialize Screen Layout */
+    private void initVersusScreen(String leftName, String rightName) {
+        gameFrame.setLayout(new GridBagLayout());
+        String[] names = {leftName, rightName};
+
+        for (int i = 0; i < PLAYERS; i++) {
+            int x = i * 3;
+            JLabel name = new JLabel(names[i], SwingConstants.CENTER);
+            name.setFont(new Font("Serif", Font.BOLD, 18));
+            score[i].setPreferredSize(new Dimension(50, 10));
+            incoming[i].setPreferredSize(new Dimension(50, 10));
+
+            addItem(gameFrame, name, x, 0, 3, 1, 0.0, 0.0, GridBagConstraints.NORTH, GridBagConstraints.BOTH);
+            addItem(gameFrame, score[i], x, 1, 3, 1, 0.0, 0.0, GridBagConstraints.NORTH, GridBagConstraints.BOTH);
+            addItem(gameFrame, incoming[i], x, 2, 3, 1, 0.0, 0.0, GridBagConstraints.NORTH, GridBagConstraints.BOTH);
+            addItem(gameFrame, holdArea[i], x, 3, 1, 1, 0.0, 0.0, GridBagConstraints.NORTH, GridBagConstraints.BOTH);
+            addItem(gameFrame, gameArea[i], x + 1, 3, 1, 3, 0.0, 0.0, GridBagConstraints.NORTH, GridBagConstraints.BOTH);
+            addItem(gameFrame, queueArea[i], x + 2, 3, 1, 2, 0.0, 0.0, GridBagConstraints.NORTH, GridBagConstraints.BOTH);
+        }
+
+        status.setFont(new Font("Serif", Font.PLAIN, 18));
+        addItem(gameFrame, status, 0, 6, GridBagConstraints.REMAINDER, 1, 1.0, 1.0, GridBagConstraints.CENTER,
+                GridBagConstraints.BOTH);
+
+        //Set the parameters of the GameFrame
+        gameFrame.setSize(OUTER_FRAME_DIMENSION);
+        gameFrame.setVisible(true);
+        gameFrame.setResizable(false);
+    }
+
+    /** GETTER METHODS */
+    public JFrame getFrame() {
+        return gameFrame;
+    }
+    public GameArea getGameArea(int player) {
+        return gameArea[player];
+    }
+    public HoldArea getHoldArea(int player) {
+        return holdArea[player];
+    }
+    public QueueArea getQueueArea(int player) {
+        return queueArea[player];
+    }
+
+    /** Description: Same as GameScreen.addItem() -- place Component c in the GridBagLayout of the JFrame */
+    private void addItem(JFrame f, Component c, int x, int y, int width, int height, double weightx, double weighty,
+                         int align, int fill) {
+        GridBagConstraints gc = new GridBagConstraints();
+        gc.gridx = x;
+        gc.gridy = y;
+        gc.gridwidth = width;
+        gc.gridheight = height;
+        gc.weightx = weightx;
+        gc.weighty = weighty;
+        gc.insets = new Insets(5, 5, 5, 5);
+        gc.anchor = align;
+        gc.fill = fill;
+        f.add(c, gc);
+    }
+
+    /** UPDATE JLABEL VALUES */
+    public void updateScore(int player, int score) {
+        this.score[player].setText("Score: " + score);
+    }
+    public void updateIncoming(int player, int rows) {
+        this.incoming[player].setText(rows > 0 ? "Incoming: " + rows : " ");
+    }
+    public void updateStatus(String text) {
+        this.status.setText(text);
+    }
+}
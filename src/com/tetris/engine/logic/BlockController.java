@@ -15,13 +15,15 @@ package com.tetris.engine.logic;
 import com.tetris.engine.event.GameAreaEvent;
 import com.tetris.engine.event.GameEventDispatcher;
 import com.tetris.engine.event.HoldAreaEvent;
+import com.tetris.engine.event.InputEvent;
 import com.tetris.engine.event.QueueAreaEvent;
 import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.BagRandomizer;
 import com.tetris.engine.model.tetrominoes.Tetrominoe;
-import com.tetris.engine.model.tetrominoes.TetrominoeCollection;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 
 /** BlockController Class -- Block Controller which contains all block logic */
 public class BlockController {
@@ -31,9 +33,7 @@ public class BlockController {
     private final Board tetrisGrid;
 
     //Initialize Variables - Spawning blocks
-    private int bagSize = 0;
-    private final ArrayList<Tetrominoe> blockBag = new ArrayList<>();
-    private boolean blockBagEmpty = true;
+    private final BagRandomizer randomizer;
 
     //Initialize Variables - Current Block Properties
     private Tetrominoe currentBlock;
@@ -46,29 +46,58 @@ public class BlockController {
     //Initialize Variables - Queue Area Properties
     private final LinkedList<Tetrominoe> queuedBlocks = new LinkedList<>();
 
-    /** CONSTRUCTOR -- Store 'Mode' Controller variables and initialize block bag */
+    /** CONSTRUCTORS -- Store 'Mode' Controller variables and the block bag randomizer */
     public BlockController(GameEventDispatcher gameEventDispatcher, Board tetrisGrid) {
+        this(gameEventDispatcher, tetrisGrid, new BagRandomizer(System.nanoTime()));
+    }
+    public BlockController(GameEventDispatcher gameEventDispatcher, Board tetrisGrid, BagRandomizer randomizer) {
         this.gameEventDispatcher = gameEventDispatcher;
         this.tetrisGrid = tetrisGrid;
-
-        this.initBlockBag();
-    }
-
-    /** Description: Create each tetrominoe block and put in blockBag*/
-    private void initBlockBag () {
-        blockBag.add(new Tetrominoe(TetrominoeCollection.ISHAPE, tetrisGrid));
-        blockBag.add(new Tetrominoe(TetrominoeCollection.JSHAPE, tetrisGrid));
-        blockBag.add(new Tetrominoe(TetrominoeCollection.LSHAPE, tetrisGrid));
-        blockBag.add(new Tetrominoe(TetrominoeCollection.OSHAPE, tetrisGrid));
-        blockBag.add(new Tetrominoe(TetrominoeCollection.SSHAPE, tetrisGrid));
-        blockBag.add(new Tetrominoe(TetrominoeCollection.TSHAPE, tetrisGrid));
-        blockBag.add(new Tetrominoe(TetrominoeCollection.ZSHAPE, tetrisGrid));
+        this.randomizer = randomizer;
     }
 
     /** GETTER METHODS */
     public Tetrominoe getCurrentBlock() {
         return this.currentBlock;
     }
+    public Tetrominoe getHeldBlock() {
+        return this.heldBlock;
+    }
+    public List<Tetrominoe> getQueuedBlocks() {
+        return Collections.unmodifiableList(this.queuedBlocks);
+    }
+    public Board getBoard() {
+        return this.tetrisGrid;
+    }
+    public BagRandomizer getRandomizer() {
+        return this.randomizer;
+    }
+    public int getTheoreticalDropY() {
+        return this.theoreticalDropY;
+    }
+
+    /** Description: Check if the player is allowed to hold (or switch out) the current block */
+    public boolean canHoldBlock() {
+        return heldBlock == null || switchBlock;
+    }
+
+    /**
+     * Description: Apply one player input to the current block and let the listeners know about it (for
+     *              replays). PAUSE is not a block action and is left to the mode controller.
+     */
+    public void handleInput(GameInput input) {
+        switch (input) {
+            case LEFT: moveBlockLeft(); break;
+            case RIGHT: moveBlockRight(); break;
+            case CW: rotateBlock(0); break;
+            case CCW: rotateBlock(1); break;
+            case SOFT_DROP: softDrop(); break;
+            case HARD_DROP: hardDrop(); break;
+            case HOLD: holdBlock(); break;
+            default: return;
+        }
+        gameEventDispatcher.dispatchEvent(new InputEvent(input));
+    }
 
     /** MOVE BLOCKS */
     public void moveBlockRight() {
@@ -167,19 +196,14 @@ public class BlockController {
         switchBlock = true; //Reset switchBlock to potentially hold the next block
         theoreticalDropY = 0;
 
-        //If bag of blocks is empty, shuffle blocks again
-        if (blockBagEmpty) {
-            blockBagEmpty = false; //switch
-
-            java.util.Collections.shuffle(blockBag); //shuffle the blockBag
-
-            //Grab block from list of shuffled blocks
-            currentBlock = blockBag.get(6);
+        //First block of the game -- fill up the queue as well
+        if (queuedBlocks.isEmpty()) {
+            currentBlock = new Tetrominoe(randomizer.next(), tetrisGrid);
 
             //Blocks to get queued up
-            Tetrominoe block1 = new Tetrominoe(blockBag.get(5).getShapeType(), blockBag.get(5).getBoard());
-            Tetrominoe block2 = new Tetrominoe(blockBag.get(4).getShapeType(), blockBag.get(4).getBoard());
-            Tetrominoe block3 = new Tetrominoe(blockBag.get(3).getShapeType(), blockBag.get(3).getBoard());
+            Tetrominoe block1 = new Tetrominoe(randomizer.next(), tetrisGrid);
+            Tetrominoe block2 = new Tetrominoe(randomizer.next(), tetrisGrid);
+            Tetrominoe block3 = new Tetrominoe(randomizer.next(), tetrisGrid);
 
             //Events with block data to queue area
             gameEventDispatcher.dispatchEvent(new QueueAreaEvent(block1, false));
@@ -191,23 +215,13 @@ public class BlockController {
             queuedBlocks.add(block2);
             queuedBlocks.add(block3);
 
-            //Size of bag after 4 blocks have gotten taken out
-            bagSize = 3;
-
             currentBlock.spawn();
         } else {
-            if (bagSize == 0) { //Gone through the entire bag and needs to be re-shuffled
-                java.util.Collections.shuffle(blockBag);
-                bagSize = 7;
-            }
-
-            bagSize--;
-
             //Remove first block in queue
             currentBlock = queuedBlocks.poll();
 
-            //Next Block to Queue
-            Tetrominoe newBlock = new Tetrominoe(blockBag.get(bagSize).getShapeType(), blockBag.get(bagSize).getBoard());
+            //Next Block to Queue (the randomizer shuffles a new bag when the current one runs out)
+            Tetrominoe newBlock = new Tetrominoe(randomizer.next(), tetrisGrid);
 
             //Update the queue in QueueArea
             gameEventDispatcher.dispatchEvent(new QueueAreaEvent(newBlock, true));
@@ -263,6 +277,35 @@ public class BlockController {
         gameEventDispatcher.dispatchEvent(new GameAreaEvent(this.currentBlock, this.theoreticalDropY));
     }
 
+    /**
+     * Description: Put the blocks back into a saved state (see GameSnapshot) and redraw the panels.
+     * Parameters:  current ---- Falling block, or null if the game was over
+     *              canHold ---- False if the player already used hold on the current block
+     */
+    public void restore(Tetrominoe.ShapeType current, int rotation, int x, int y, Tetrominoe.ShapeType held,
+                        boolean canHold, List<Tetrominoe.ShapeType> queue) {
+        currentBlock = null;
+        if (current != null) {
+            currentBlock = new Tetrominoe(current, tetrisGrid);
+            currentBlock.setState(rotation, x, y);
+        }
+        heldBlock = held != null ? new Tetrominoe(held) : null;
+        switchBlock = canHold;
+
+        //Swap every block in the QueueArea for the restored ones
+        queuedBlocks.clear();
+        for (Tetrominoe.ShapeType shapeType : queue) {
+            Tetrominoe block = new Tetrominoe(shapeType, tetrisGrid);
+            queuedBlocks.add(block);
+            gameEventDispatcher.dispatchEvent(new QueueAreaEvent(block, true));
+        }
+
+        theoreticalDropY = 0;
+        updateDropPosition();
+        gameEventDispatcher.dispatchEvent(new HoldAreaEvent(heldBlock));
+        gameEventDispatcher.dispatchEvent(new GameAreaEvent(this.currentBlock, this.theoreticalDropY));
+    }
+
     /** Description: Checks to see if the game is over */
     public boolean isBlockOutOfBounds() {
         if(currentBlock.getY() < 0) {
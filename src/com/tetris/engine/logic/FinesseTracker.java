@@ -0,0 +1,81 @@
+/**
+ * File:        FinesseTracker.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file keeps track of the player's finesse. It counts the moves and rotations used on each block and,
+ *      when the block locks, compares them with the shortest path from FinessePlanner to the same spot. Using
+ *      more inputs than needed is a finesse fault.
+ *
+ *      Counting an input is a single addition, and the check at lock time is either one of the planner's
+ *      cached paths or a single search on the board (well under a millisecond), so tracking can stay on during
+ *      normal play.
+ *
+ */
+
+package com.tetris.engine.logic;
+
+import com.tetris.engine.ai.FinessePlanner;
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.util.List;
+
+/** FinesseTracker Class -- Counts finesse faults of a player */
+public class FinesseTracker {
+
+    //Initialize Variables - Current Block
+    private int blockInputs = 0;
+
+    //Initialize Variables - Totals
+    private int blocks = 0;
+    private int faults = 0;
+    private int extraInputs = 0;
+    private List<GameInput> lastOptimalPath;
+
+    /** GETTER METHODS */
+    public synchronized int getBlocks() {
+        return blocks;
+    }
+    public synchronized int getFaults() {
+        return faults;
+    }
+    public synchronized int getExtraInputs() {
+        return extraInputs;
+    }
+    public synchronized List<GameInput> getLastOptimalPath() {
+        return lastOptimalPath;
+    }
+
+    /** Description: Count one input given to the current block. A hold starts a new block. */
+    public synchronized void onInput(GameInput input) {
+        if (input.isMovement()) blockInputs++;
+        else if (input == GameInput.HOLD) blockInputs = 0;
+    }
+
+    /**
+     * Description: Called before the block is pushed into the background. Compare the inputs used with
+     *              the shortest path to where the block is resting. Return True if it was a finesse fault.
+     */
+    public synchronized boolean onLock(Board board, Tetrominoe block) {
+        int used = blockInputs;
+        blockInputs = 0;
+        blocks++;
+
+        BitBoard bitBoard = BitBoard.fromBoard(board);
+        List<GameInput> path = FinessePlanner.forGrid(bitBoard.getGridRows()).plan(bitBoard,
+                block.getShapeType(), block.getRotation(), block.getX(), block.getY());
+        if (path == null) return false;
+
+        lastOptimalPath = path;
+        int needed = FinessePlanner.countMovements(path);
+        if (used <= needed) return false;
+
+        faults++;
+        extraInputs += used - needed;
+        return true;
+    }
+}
@@ -6,15 +6,59 @@
  *
  * Summary of File:
  *      This file is a controller that essentially controls which game mode to select. Controls the home screen.
+ *      The modes are Marathon (played by a person or the AI) and versus (person against AI, two people
+ *      at one keyboard, or AI against AI).
  *
  */
 
 package com.tetris.engine.logic;
 
+import com.tetris.engine.ai.BeamSearch;
+import com.tetris.engine.ai.BotPlayer;
+import com.tetris.engine.ai.HeuristicEvaluator;
+import com.tetris.engine.ai.PatternBook;
+
+import java.nio.file.Paths;
+
 /** GameController Class -- Controls the game modes */
 public class GameController {
 
+    //Initialize Static Variables - Pattern book the AI opens at startup (if the file is there)
+    public final static String PATTERN_BOOK = "patterns.book";
+
+    /** Mode Enum -- Every game mode that can be started */
+    public enum Mode { MARATHON, MARATHON_BOT, VERSUS_BOT, VERSUS_PLAYERS, VERSUS_BOTS }
+
     public GameController () {
-        MarathonController MC = new MarathonController();
+        this(Mode.MARATHON);
+    }
+    public GameController (boolean botPlayer) {
+        this(botPlayer ? Mode.MARATHON_BOT : Mode.MARATHON);
+    }
+    public GameController (Mode mode) {
+        switch (mode) {
+            case MARATHON_BOT: {
+                //AI plays Marathon, pondering on the next block while its block falls
+                BotPlayer bot = new BotPlayer(new BeamSearch(new HeuristicEvaluator()), true);
+                bot.setPatternBook(PatternBook.openIfExists(Paths.get(PATTERN_BOOK)));
+                MarathonController MC = new MarathonController(bot);
+                break;
+            }
+            case VERSUS_BOT: {
+                VersusController VC = new VersusController(false, true);
+                break;
+            }
+            case VERSUS_PLAYERS: {
+                VersusController VC = new VersusController(false, false);
+                break;
+            }
+            case VERSUS_BOTS: {
+                VersusController VC = new VersusController(true, true);
+                break;
+            }
+            default: {
+                MarathonController MC = new MarathonController();
+            }
+        }
     }
 }
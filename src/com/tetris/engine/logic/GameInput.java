@@ -0,0 +1,51 @@
+/**
+ * File:        GameInput.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file lists every input a player can give the game (the buttons set up in
+ *      MarathonController.initControls). Keyboard actions, the AI and anything else that plays the game all
+ *      go through these inputs. Every input also has a one byte code so it can be written to a file.
+ *
+ */
+
+package com.tetris.engine.logic;
+
+/** GameInput Enum -- Player inputs */
+public enum GameInput {
+    //Enums
+    LEFT(0),        //LEFT arrow
+    RIGHT(1),       //RIGHT arrow
+    CW(2),          //X -- rotate clockwise
+    CCW(3),         //Z -- rotate counter-clockwise
+    SOFT_DROP(4),   //DOWN arrow
+    HARD_DROP(5),   //SPACE
+    HOLD(6),        //C
+    PAUSE(7);       //P
+
+    //Initialize Static Variables
+    private final static GameInput[] BY_CODE = values();
+
+    final private int code;
+
+    GameInput(final int code) {
+        this.code = code;
+    }
+
+    /** GETTER METHODS */
+    public int getCode() {
+        return this.code;
+    }
+
+    /** Description: Check if the input moves or rotates the block (the inputs finesse is about) */
+    public boolean isMovement() {
+        return this == LEFT || this == RIGHT || this == CW || this == CCW;
+    }
+
+    /** Description: Return the input with the given code, or null if there is none */
+    public static GameInput fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -13,20 +13,34 @@
 package com.tetris.engine.logic;
 
 import com.tetris.engine.GameData;
+import com.tetris.engine.GameRules;
+import com.tetris.engine.GameSnapshot;
 import com.tetris.engine.GameThread;
+import com.tetris.engine.ai.BotPlayer;
 import com.tetris.engine.event.GameEventDispatcher;
 import com.tetris.engine.gui.GameArea;
 import com.tetris.engine.gui.GameScreen;
 import com.tetris.engine.gui.HoldArea;
 import com.tetris.engine.gui.QueueArea;
 import com.tetris.engine.model.board.Board;
+import com.tetris.engine.replay.ReplayHeader;
+import com.tetris.engine.replay.ReplayRecorder;
 
 import javax.swing.*;
 import java.awt.event.ActionEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /** MarathonController Class -- Game Mode Controller which sets up everything and then starts the game */
 public class MarathonController {
 
+    //Initialize Static Variables - Every game is recorded into this folder
+    public final static String REPLAY_DIRECTORY = "replays";
+    //Initialize Static Variables - Pressing S saves the game here, and the next game carries on from it
+    public final static String SAVE_FILE = "saved.game";
+
     //Initialize Variables - JPanels
     private final GameScreen gameScreen;
     private final GameArea gameArea;
@@ -45,11 +59,28 @@ public class MarathonController {
     //Initialize Variables - Tetris Grid
     private Board tetrisGrid;
 
+    //Initialize Variables - AI Player (null if a person is playing)
+    private final BotPlayer bot;
+
+    //Initialize Variables - Finesse of the player (null if the AI is playing)
+    private final FinesseTracker finesseTracker;
+
+    //Initialize Variables - Game loop, and the saved game it starts from (null for a new game)
+    private GameThread gameThread;
+    private final GameSnapshot resume;
+
     //Initialize Variables - Game States
     private boolean pauseState = false;
 
-    /** CONSTRUCTOR -- Sets up Game and starts the game */
+    /** CONSTRUCTORS -- Sets up Game and starts the game */
     public MarathonController () {
+        this(null);
+    }
+    public MarathonController (BotPlayer bot) {
+        this.bot = bot;
+        this.finesseTracker = bot == null ? new FinesseTracker() : null;
+        this.resume = bot == null ? loadSavedGame() : null;
+
         //Create the Event Dispatcher
         gameEventDispatcher = new GameEventDispatcher();
 
@@ -87,6 +118,9 @@ public class MarathonController {
     public boolean getPauseState() {
         return pauseState;
     }
+    public FinesseTracker getFinesseTracker() {
+        return finesseTracker;
+    }
 
     /** Description: Set up keyboard buttons by defining certain buttons with actions */
     private void initControls() {
@@ -94,66 +128,64 @@ public class MarathonController {
         InputMap im = this.gameArea.getInputMap();
         ActionMap am = this.gameArea.getActionMap();
 
-        im.put(KeyStroke.getKeyStroke("RIGHT"), "right");
-        im.put(KeyStroke.getKeyStroke("LEFT"), "left");
-        im.put(KeyStroke.getKeyStroke("SPACE"), "space");
-        im.put(KeyStroke.getKeyStroke("Z"), "z");
-        im.put(KeyStroke.getKeyStroke("X"), "x");
-        im.put(KeyStroke.getKeyStroke("C"), "c");
-        im.put(KeyStroke.getKeyStroke("DOWN"), "down");
-        im.put(KeyStroke.getKeyStroke("P"), "p");
+        putInput(im, am, "RIGHT", GameInput.RIGHT);
+        putInput(im, am, "LEFT", GameInput.LEFT);
+        putInput(im, am, "SPACE", GameInput.HARD_DROP);
+        putInput(im, am, "Z", GameInput.CCW);
+        putInput(im, am, "X", GameInput.CW);
+        putInput(im, am, "C", GameInput.HOLD);
+        putInput(im, am, "DOWN", GameInput.SOFT_DROP);
+        putInput(im, am, "P", GameInput.PAUSE);
 
-        am.put("right", new AbstractAction() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                blockController.moveBlockRight();
-            }
-        });
-        am.put("left", new AbstractAction() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                blockController.moveBlockLeft();
-            }
-        });
-        am.put("space", new AbstractAction() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                blockController.hardDrop();
-            }
-        });
-        am.put("z", new AbstractAction() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                blockController.rotateBlock(1);
-            }
-        });
-        am.put("x", new AbstractAction() {
+        am.put("SAVE", new AbstractAction() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                blockController.rotateBlock(0);
+                saveGame();
             }
         });
-        am.put("c", new AbstractAction() {
+        im.put(KeyStroke.getKeyStroke("S"), "SAVE");
+
+        am.put("DUMP", new AbstractAction() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                blockController.holdBlock();
+                gameThread.dumpTimeTravel();
             }
         });
-        am.put("down", new AbstractAction() {
+        im.put(KeyStroke.getKeyStroke("F9"), "DUMP");
+    }
+    private void putInput(InputMap im, ActionMap am, String key, GameInput input) {
+        im.put(KeyStroke.getKeyStroke(key), input);
+        am.put(input, new AbstractAction() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                blockController.softDrop();
+                handleInput(input);
             }
         });
-        am.put("p", new AbstractAction() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                if (!pauseState) {
-                    pauseState = true;
-                } else pauseState = false;
-                gameArea.setPauseScreen(pauseState);
+    }
+
+    /** Description: Every keyboard input comes through here before it reaches the BlockController */
+    public void handleInput(GameInput input) {
+        if (input == GameInput.PAUSE) {
+            if (!pauseState) {
+                pauseState = true;
+            } else pauseState = false;
+            gameArea.setPauseScreen(pauseState);
+            return;
+        }
+
+        //Same lock as the game loop, so the replay records inputs and gravity in the order they happened
+        synchronized (blockController) {
+            //Holding twice in a row does nothing, so it shouldn't count either
+            if (input == GameInput.HOLD && !blockController.canHoldBlock()) return;
+
+            if (finesseTracker != null) finesseTracker.onInput(input);
+            try {
+                blockController.handleInput(input);
+            } catch (RuntimeException e) {
+                gameThread.dumpTimeTravel();
+                throw e;
             }
-        });
+        }
     }
 
     /** Description: Initialize variables related to Tetris grid */
@@ -167,7 +199,57 @@ public class MarathonController {
      * Parameters:  GameScreen gs ---- Gets passed into GameThread
      */
     public void startGame(GameScreen gs) {
-        new GameThread(this, gs, this.blockController).start();
+        gameThread = new GameThread(this, gs, this.blockController, this.bot, startRecording(), resume);
+        if (gameThread.getTimeTravel() != null) gameEventDispatcher.addListener(gameThread.getTimeTravel());
+        if (gameThread.getSharedState() != null) gameEventDispatcher.addListener(gameThread.getSharedState());
+        gameThread.start();
+    }
+
+    /** SAVE AND RESUME */
+
+    /** Description: Pause the game and save it, so the next game started carries on from here */
+    public void saveGame() {
+        if (!pauseState) handleInput(GameInput.PAUSE);
+
+        try {
+            gameThread.snapshot().save(Paths.get(SAVE_FILE));
+            updateLinesCleared("Saved");
+        } catch (IOException e) {
+            System.out.println("Game not saved: " + e.getMessage());
+        }
+    }
+
+    /** Description: Load the saved game and remove the file (a save is resumed once). Return null if none. */
+    private GameSnapshot loadSavedGame() {
+        Path path = Paths.get(SAVE_FILE);
+        if (!Files.isRegularFile(path)) return null;
+
+        try {
+            GameSnapshot snapshot = GameSnapshot.load(path);
+            Files.delete(path);
+            return snapshot.isGameOver() ? null : snapshot;
+        } catch (IOException e) {
+            System.out.println("Saved game not loaded: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Description: Record the game into the replays folder (a resumed game starts from its saved state).
+     *              Return null if the file can't be created.
+     */
+    private ReplayRecorder startRecording() {
+        ReplayHeader header = new ReplayHeader(blockController.getRandomizer().getSeed(), tetrisGrid.getGridRows(),
+                tetrisGrid.getGridColumns(), GameRules.START_GAME_SPEED, System.currentTimeMillis(),
+                bot != null ? "bot" : System.getProperty("user.name", "player"), resume);
+        try {
+            ReplayRecorder recorder = ReplayRecorder.create(Paths.get(REPLAY_DIRECTORY), header);
+            gameEventDispatcher.addListener(recorder);
+            return recorder;
+        } catch (IOException e) {
+            System.out.println("Game is not being recorded: " + e.getMessage());
+            return null;
+        }
     }
 
     /** UPDATE GAME DATA AND GAMESCREEN */
@@ -190,6 +272,12 @@ public class MarathonController {
 
     /** Description: Push block to background using method in board AKA UPDATE BOARD STATE*/
     public void moveBlockToBackground() {
+        //Check the player's finesse while the board is still the one the block was played on
+        if (finesseTracker != null && finesseTracker.onLock(tetrisGrid, blockController.getCurrentBlock())) {
+            updateLinesCleared("Finesse Fault");
+            System.out.println("Finesse Fault -- shortest path: " + finesseTracker.getLastOptimalPath());
+        }
+
         tetrisGrid.moveBlockToBackground(blockController.getCurrentBlock());
     }
 }
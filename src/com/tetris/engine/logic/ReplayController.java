@@ -0,0 +1,150 @@
+/**
+ * File:        ReplayController.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file is a controller for watching a replay. It sets up the same GameScreen as Marathon, but the
+ *      panels listen to the HeadlessGame of a ReplayPlayer instead of a live game. A playback thread moves the
+ *      replay forward by the real time that passed (times the playback speed) about 60 times a second.
+ *
+ *      Controls:   SPACE pause, LEFT / RIGHT seek 5 seconds, UP / DOWN double or halve the speed,
+ *                  HOME back to the start
+ *
+ */
+
+package com.tetris.engine.logic;
+
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.event.GameEventDispatcher;
+import com.tetris.engine.gui.GameArea;
+import com.tetris.engine.gui.GameScreen;
+import com.tetris.engine.replay.ReplayPlayer;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.util.concurrent.TimeUnit;
+
+/** ReplayController Class -- Replay Controller which shows a replay in the game screen */
+public class ReplayController {
+
+    //Initialize Static Variables
+    private final static int FRAME_MILLIS = 16;
+    private final static long SEEK_MILLIS = 5000;
+    private final static double MIN_SPEED = 0.25;
+    private final static double MAX_SPEED = 64;
+
+    //Initialize Variables
+    private final ReplayPlayer player;
+    private final GameScreen gameScreen;
+    private final GameArea gameArea;
+
+    //Initialize Variables - Set by the keyboard, read by the playback thread
+    private volatile boolean pauseState = false;
+    private volatile double speed = 1;
+    private volatile long pendingSeek = 0;
+    private volatile boolean restart = false;
+
+    /** CONSTRUCTOR -- Sets up the screen and starts playing */
+    public ReplayController(ReplayPlayer player) {
+        this.player = player;
+
+        this.gameScreen = new GameScreen();
+        this.gameArea = gameScreen.getGameArea();
+
+        HeadlessGame game = player.getGame();
+        gameArea.setBoardProperties(game.getBoard());
+
+        GameEventDispatcher gameEventDispatcher = game.getGameEventDispatcher();
+        gameEventDispatcher.addListener(gameArea);
+        gameEventDispatcher.addListener(gameScreen.getHoldArea());
+        gameEventDispatcher.addListener(gameScreen.getQueueArea());
+
+        this.gameArea.setFocusable(true);
+        this.gameArea.requestFocusInWindow();
+        initControls();
+
+        //Draw the starting position (the panels were not listening when the first block spawned)
+        game.restore(game.snapshot());
+
+        Thread playback = new Thread(this::playbackLoop, "ReplayPlayback");
+        playback.setDaemon(true);
+        playback.start();
+    }
+
+    /** Description: Set up keyboard buttons by defining certain buttons with actions */
+    private void initControls() {
+        InputMap im = this.gameArea.getInputMap();
+        ActionMap am = this.gameArea.getActionMap();
+
+        putAction(im, am, "SPACE", () -> {
+            pauseState = !pauseState;
+            gameArea.setPauseScreen(pauseState);
+        });
+        putAction(im, am, "LEFT", () -> pendingSeek -= SEEK_MILLIS);
+        putAction(im, am, "RIGHT", () -> pendingSeek += SEEK_MILLIS);
+        putAction(im, am, "UP", () -> speed = Math.min(MAX_SPEED, speed * 2));
+        putAction(im, am, "DOWN", () -> speed = Math.max(MIN_SPEED, speed / 2));
+        putAction(im, am, "HOME", () -> restart = true);
+    }
+    private void putAction(InputMap im, ActionMap am, String key, Runnable action) {
+        im.put(KeyStroke.getKeyStroke(key), key);
+        am.put(key, new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                action.run();
+            }
+        });
+    }
+
+    /** Description: Move the replay along with real time until the window is closed */
+    private void playbackLoop() {
+        long last = System.nanoTime();
+        double carry = 0;   //Fractions of a millisecond left over at slow speeds
+
+        while (true) {
+            long now = System.nanoTime();
+            double elapsed = (now - last) / 1e6 * speed + carry;
+            last = now;
+
+            long target = player.getPosition();
+            if (restart) {
+                restart = false;
+                target = 0;
+            }
+            if (pendingSeek != 0) {
+                target += pendingSeek;
+                pendingSeek = 0;
+            }
+            if (!pauseState && !player.isFinished()) {
+                target += (long) elapsed;
+                carry = elapsed - (long) elapsed;
+            } else {
+                carry = 0;
+            }
+
+            if (target != player.getPosition()) {
+                player.seek(target);
+                updateLabels();
+            }
+
+            try {
+                TimeUnit.MILLISECONDS.sleep(FRAME_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /** UPDATE GAMESCREEN */
+    private void updateLabels() {
+        HeadlessGame game = player.getGame();
+        gameScreen.updateScore(game.getRules().getScore());
+        gameScreen.updateLevel(game.getRules().getLevel());
+
+        long seconds = player.getPosition() / 1000;
+        String status = String.format("%d:%02d x%s", seconds / 60, seconds % 60, speed);
+        gameScreen.updateLinesCleared(player.isFinished() ? "End " + status : status);
+    }
+}
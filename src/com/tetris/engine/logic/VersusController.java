@@ -0,0 +1,162 @@
+/**
+ * File:        VersusController.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file is a controller for versus mode. It sets up a VersusGame and a VersusScreen, wires each
+ *      player's panels to the event dispatcher of their HeadlessGame and runs both games on one scheduler
+ *      thread that calls VersusGame.step() 60 times a second. Keyboard inputs are only queued on the player;
+ *      the scheduler applies them at the start of its next step.
+ *
+ *      Either side can be a person or the AI. The AI searches without a time limit (so the game stays
+ *      deterministic) and waits VersusPlayer.DEFAULT_BOT_DELAY_STEPS before dropping each block.
+ *
+ *      Controls:   one person -- the Marathon keys (arrows, Z / X rotate, SPACE drop, C hold)
+ *                  two people -- left player A / D move, Q / W rotate, S soft drop, F drop, E hold,
+ *                                right player the Marathon keys
+ *                  P pauses the game
+ *
+ */
+
+package com.tetris.engine.logic;
+
+import com.tetris.engine.ai.BeamSearch;
+import com.tetris.engine.ai.BotPlayer;
+import com.tetris.engine.ai.HeuristicEvaluator;
+import com.tetris.engine.event.GameEventDispatcher;
+import com.tetris.engine.gui.GameArea;
+import com.tetris.engine.gui.VersusScreen;
+import com.tetris.engine.versus.VersusGame;
+import com.tetris.engine.versus.VersusPlayer;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.util.concurrent.locks.LockSupport;
+
+/** VersusController Class -- Versus mode controller which sets up both players and runs the scheduler */
+public class VersusController {
+
+    //Initialize Static Variables - Search of the AI (no time budget cuts it short, see the summary)
+    private final static int BOT_BEAM_WIDTH = 32;
+    private final static int BOT_DEPTH = 3;
+    private final static long BOT_TIME_BUDGET = 10_000;
+    private final static int LABEL_STEPS = 6;          //Labels are refreshed 10 times a second
+
+    //Initialize Static Variables - Key maps: LEFT, RIGHT, CW, CCW, SOFT_DROP, HARD_DROP, HOLD
+    private final static String[] MARATHON_KEYS = {"LEFT", "RIGHT", "X", "Z", "DOWN", "SPACE", "C"};
+    private final static String[] LEFT_HAND_KEYS = {"A", "D", "W", "Q", "S", "F", "E"};
+    private final static GameInput[] KEY_INPUTS = {GameInput.LEFT, GameInput.RIGHT, GameInput.CW, GameInput.CCW,
+            GameInput.SOFT_DROP, GameInput.HARD_DROP, GameInput.HOLD};
+
+    //Initialize Variables
+    private final VersusGame game;
+    private final VersusScreen versusScreen;
+
+    //Initialize Variables - Game States
+    private volatile boolean pauseState = false;
+
+    /** CONSTRUCTOR -- Sets up the game and starts the scheduler (true for a side the AI plays) */
+    public VersusController(boolean leftBot, boolean rightBot) {
+        this.game = new VersusGame(System.nanoTime(), leftBot ? createBot() : null, rightBot ? createBot() : null);
+        this.versusScreen = new VersusScreen(leftBot ? "AI" : "Player", rightBot ? "AI" : "Player");
+
+        //Register event listeners for each player's panels
+        for (int i = 0; i < VersusScreen.PLAYERS; i++) {
+            GameArea gameArea = versusScreen.getGameArea(i);
+            gameArea.setBoardProperties(game.getPlayer(i).getGame().getBoard());
+
+            GameEventDispatcher gameEventDispatcher = game.getPlayer(i).getGame().getGameEventDispatcher();
+            gameEventDispatcher.addListener(gameArea);
+            gameEventDispatcher.addListener(versusScreen.getHoldArea(i));
+            gameEventDispatcher.addListener(versusScreen.getQueueArea(i));
+        }
+
+        initControls(leftBot, rightBot);
+
+        Thread scheduler = new Thread(this::schedulerLoop, "VersusScheduler");
+        scheduler.setDaemon(true);
+        scheduler.start();
+    }
+
+    /** Description: AI for one side -- a plain beam search that always finishes (deterministic) */
+    private static BotPlayer createBot() {
+        BeamSearch search = new BeamSearch(new HeuristicEvaluator(), BOT_BEAM_WIDTH, BOT_DEPTH, BOT_TIME_BUDGET);
+        search.setParallel(false);
+        return new BotPlayer(search);
+    }
+
+    /** Description: Key bindings on the whole window, so both players can type at once */
+    private void initControls(boolean leftBot, boolean rightBot) {
+        JRootPane root = versusScreen.getFrame().getRootPane();
+        InputMap im = root.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        ActionMap am = root.getActionMap();
+
+        if (!leftBot) putKeys(im, am, rightBot ? MARATHON_KEYS : LEFT_HAND_KEYS, game.getPlayer(0));
+        if (!rightBot) putKeys(im, am, MARATHON_KEYS, game.getPlayer(1));
+
+        im.put(KeyStroke.getKeyStroke("P"), "PAUSE");
+        am.put("PAUSE", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                pauseState = !pauseState;
+                for (int i = 0; i < VersusScreen.PLAYERS; i++) versusScreen.getGameArea(i).setPauseScreen(pauseState);
+            }
+        });
+    }
+    private void putKeys(InputMap im, ActionMap am, String[] keys, VersusPlayer player) {
+        for (int k = 0; k < keys.length; k++) {
+            GameInput input = KEY_INPUTS[k];
+            String name = keys[k] + "_" + input;
+            im.put(KeyStroke.getKeyStroke(keys[k]), name);
+            am.put(name, new AbstractAction() {
+                @Override
+                public void actionPerformed(ActionEvent e) {
+                    if (!pauseState) player.submit(input);
+                }
+            });
+        }
+    }
+
+    /** Description: Step both games on a fixed timestep until one player tops out */
+    private void schedulerLoop() {
+        game.start();
+        long next = System.nanoTime();
+
+        while (!game.isFinished()) {
+            if (!pauseState) {
+                game.step();
+                if (game.getSteps() % LABEL_STEPS == 0 || game.isFinished()) updateLabels();
+            }
+
+            //Wait for the next step; after a long pause (or a slow step) carry on from now instead of catching up
+            next += VersusGame.STEP_NANOS;
+            long now = System.nanoTime();
+            if (now - next > VersusGame.STEP_NANOS) next = now;
+            while (System.nanoTime() < next) LockSupport.parkNanos(next - System.nanoTime());
+        }
+
+        int winner = game.getWinner();
+        String result = winner == VersusGame.DRAW ? "Draw" : (winner == 0 ? "Left" : "Right") + " player wins";
+        System.out.println(result + " after " + game.getSteps() / VersusGame.STEPS_PER_SECOND + " s");
+        SwingUtilities.invokeLater(() -> versusScreen.updateStatus(result));
+    }
+
+    /** UPDATE VERSUSSCREEN */
+    private void updateLabels() {
+        int[] scores = new int[VersusScreen.PLAYERS];
+        int[] incoming = new int[VersusScreen.PLAYERS];
+        for (int i = 0; i < VersusScreen.PLAYERS; i++) {
+            scores[i] = game.getPlayer(i).getGame().getRules().getScore();
+            incoming[i] = game.getPlayer(i).getPendingGarbage();
+        }
+
+        SwingUtilities.invokeLater(() -> {
+            for (int i = 0; i < VersusScreen.PLAYERS; i++) {
+                versusScreen.updateScore(i, scores[i]);
+                versusScreen.updateIncoming(i, incoming[i]);
+            }
+        });
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ * File:        BitBoard.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains a compact copy of the Tetris grid used by the AI. Every row is stored as a bit mask
+ *      (bit c set means column c is filled) so that collisions, placing blocks and clearing lines are a handful
+ *      of integer operations instead of walking the Color[][] grid in Board.
+ *
+ */
+
+package com.tetris.engine.model.board;
+
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+import com.tetris.engine.model.tetrominoes.TetrominoeCollection;
+import com.tetris.engine.model.tetrominoes.TetrominoeProperties;
+
+import java.util.Arrays;
+
+/** BitBoard Class -- Bit mask copy of the Tetris grid */
+public class BitBoard {
+
+    //Initialize Static Variables
+    public final static int GRID_COLUMNS = 10;
+    public final static int FULL_ROW = (1 << GRID_COLUMNS) - 1;
+
+    //Row masks of every block rotation -- [shape][rotation][row of coords]
+    private final static int[][][] PIECE_ROWS = initPieceRows();
+    private final static TetrominoeProperties[][] PIECE_PROPERTIES = initPieceProperties();
+
+    //Initialize Variables
+    private final int gridRows;
+    private final int[] rows;
+
+    /** CONSTRUCTORS */
+    public BitBoard(int gridRows) {
+        this.gridRows = gridRows;
+        this.rows = new int[gridRows];
+    }
+    private BitBoard(int[] rows) {
+        this.gridRows = rows.length;
+        this.rows = rows;
+    }
+
+    /** Description: Create a BitBoard from the background blocks of a Board */
+    public static BitBoard fromBoard(Board board) {
+        BitBoard bitBoard = new BitBoard(board.getGridRows());
+
+        for (int r = 0; r < board.getGridRows(); r++) {
+            int mask = 0;
+            for (int c = 0; c < board.getGridColumns(); c++) {
+                if (board.getBackgroundColor(r, c) != null) mask |= 1 << c;
+            }
+            bitBoard.rows[r] = mask;
+        }
+
+        return bitBoard;
+    }
+
+    /** Description: Return a copy which can be changed without touching this board */
+    public BitBoard copy() {
+        return new BitBoard(rows.clone());
+    }
+
+    /** GETTER METHODS */
+    public int getGridRows() {
+        return this.gridRows;
+    }
+    public int getGridColumns() {
+        return GRID_COLUMNS;
+    }
+    public int getRow(int r) {
+        return this.rows[r];
+    }
+    public boolean isFilled(int r, int c) {
+        return (rows[r] & (1 << c)) != 0;
+    }
+    public static TetrominoeProperties getProperties(Tetrominoe.ShapeType shapeType, int rotation) {
+        return PIECE_PROPERTIES[shapeType.ordinal()][rotation];
+    }
+
+    /** SETTER METHODS */
+    public void setRow(int r, int mask) {
+        this.rows[r] = mask & FULL_ROW;
+    }
+
+    /**
+     * Description: Return the bit mask of one row of a block rotation once it is shifted to column x.
+     *              The caller must make sure the block is within the side walls.
+     */
+    public static int getPieceRow(Tetrominoe.ShapeType shapeType, int rotation, int r, int x) {
+        int mask = PIECE_ROWS[shapeType.ordinal()][rotation][r];
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+
+    /** Description: Detect collision when a block is at (x, y). Rows above the grid are treated as empty. */
+    public boolean checkBlockCollision(Tetrominoe.ShapeType shapeType, int rotation, int x, int y) {
+        TetrominoeProperties tp = getProperties(shapeType, rotation);
+
+        //Side Wall Collision
+        if (x + tp.getPointX() < 0 || x + tp.getPointX() + tp.getWidth() > GRID_COLUMNS) return true;
+
+        //Vertical Wall Collision
+        int bottom = tp.getPointY() + tp.getHeight();
+        if (y + bottom > gridRows) return true;
+
+        //Block Collision
+        for (int r = tp.getPointY(); r < bottom; r++) {
+            int row = y + r;
+            if (row >= 0 && (rows[row] & getPieceRow(shapeType, rotation, r, x)) != 0) return true;
+        }
+
+        return false;
+    }
+
+    /** Description: Return the y coordinate that a block dropped straight down from (x, y) would land on */
+    public int getDropY(Tetrominoe.ShapeType shapeType, int rotation, int x, int y) {
+        while (!checkBlockCollision(shapeType, rotation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Description: Push block into the grid. Return False if part of the block is above the grid
+     *              (the block is still placed, but the game would be over).
+     */
+    public boolean placeBlock(Tetrominoe.ShapeType shapeType, int rotation, int x, int y) {
+        TetrominoeProperties tp = getProperties(shapeType, rotation);
+        boolean inBounds = true;
+
+        for (int r = tp.getPointY(); r < tp.getPointY() + tp.getHeight(); r++) {
+            int row = y + r;
+            if (row < 0) {
+                inBounds = false;
+            } else {
+                rows[row] |= getPieceRow(shapeType, rotation, r, x);
+            }
+        }
+
+        return inBounds;
+    }
+
+    /** Description: Clear completed lines and shift the rows above down. Return the number of lines cleared. */
+    public int clearLines() {
+        int write = gridRows - 1;
+        int linesCleared = 0;
+
+        for (int read = gridRows - 1; read >= 0; read--) {
+            if (rows[read] == FULL_ROW) {
+                linesCleared++;
+            } else {
+                rows[write--] = rows[read];
+            }
+        }
+        while (write >= 0) {
+            rows[write--] = 0;
+        }
+
+        return linesCleared;
+    }
+
+    /** Description: Check if every cell in the grid is empty */
+    public boolean isEmpty() {
+        for (int row : rows) {
+            if (row != 0) return false;
+        }
+        return true;
+    }
+
+    /** Description: 64-bit hash of the grid, used to find duplicate boards in the AI searches */
+    public long hash() {
+        long h = 0xcbf29ce484222325L;
+        for (int row : rows) {
+            h ^= row;
+            h *= 0x100000001b3L;
+            h ^= h >>> 29;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BitBoard)) return false;
+        return Arrays.equals(rows, ((BitBoard) o).rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(rows);
+    }
+
+    /** HELPER FUNCTIONS */
+    private static int[][][] initPieceRows() {
+        Tetrominoe.ShapeType[] shapeTypes = Tetrominoe.ShapeType.values();
+        int[][][] pieceRows = new int[shapeTypes.length][4][];
+
+        for (Tetrominoe.ShapeType shapeType : shapeTypes) {
+            for (int rotation = 0; rotation < 4; rotation++) {
+                int[][] coords = TetrominoeCollection.TETROMINOES_PROPERTIES.get(shapeType.toString())
+                        .get(rotation).getCoords();
+                int[] masks = new int[coords.length];
+
+                for (int r = 0; r < coords.length; r++) {
+                    for (int c = 0; c < coords.length; c++) {
+                        if (coords[r][c] == 1) masks[r] |= 1 << c;
+                    }
+                }
+                pieceRows[shapeType.ordinal()][rotation] = masks;
+            }
+        }
+
+        return pieceRows;
+    }
+    private static TetrominoeProperties[][] initPieceProperties() {
+        Tetrominoe.ShapeType[] shapeTypes = Tetrominoe.ShapeType.values();
+        TetrominoeProperties[][] properties = new TetrominoeProperties[shapeTypes.length][4];
+
+        for (Tetrominoe.ShapeType shapeType : shapeTypes) {
+            for (int rotation = 0; rotation < 4; rotation++) {
+                properties[shapeType.ordinal()][rotation] =
+                        TetrominoeCollection.TETROMINOES_PROPERTIES.get(shapeType.toString()).get(rotation);
+            }
+        }
+
+        return properties;
+    }
+}
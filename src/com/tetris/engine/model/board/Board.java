@@ -16,6 +16,8 @@ import com.tetris.engine.model.tetrominoes.Tetrominoe;
 import com.tetris.engine.model.tetrominoes.TetrominoeProperties;
 
 import java.awt.*;
+import java.util.Arrays;
+import java.util.Collections;
 
 /** Board Class -- Create a Tetris Block */
 public class Board {
@@ -25,6 +27,7 @@ public class Board {
     private final int gridCellSize;
     private final int gridRows;
     private final Color[][] background;
+    private int rowsCleared = 0;
 
     /** CONSTRUCTOR */
     public Board (final int panelWidth, final int panelHeight) {
@@ -34,6 +37,9 @@ public class Board {
     }
 
     /** GETTER METHODS */
+    public int getRowsCleared() {       //Rows removed by the last clearLines(), also on a Perfect Clear
+        return this.rowsCleared;
+    }
     public int getGridCellSize() {
         return this.gridCellSize;
     }
@@ -113,7 +119,71 @@ public class Board {
         }
     }
 
+    /**
+     * Description: Push garbage rows in from the bottom (versus mode). The rows of the grid are moved up by
+     *              rotating the row arrays, not copied cell by cell, and the rows pushed off the top are reused
+     *              as the garbage rows: every cell filled except the hole.
+     * Return:      True if a row pushed off the top had something in it (the player topped out)
+     */
+    public boolean pushGarbage(int rows, int hole, Color colour) {
+        rows = Math.min(rows, gridRows);
+        boolean toppedOut = false;
+        for (int r = 0; r < rows && !toppedOut; r++) {
+            for (int c = 0; c < gridColumns; c++) {
+                if (background[r][c] != null) {
+                    toppedOut = true;
+                    break;
+                }
+            }
+        }
+
+        Collections.rotate(Arrays.asList(background), -rows);
+        for (int r = gridRows - rows; r < gridRows; r++) {
+            Arrays.fill(background[r], colour);
+            background[r][hole] = null;
+        }
+        return toppedOut;
+    }
+
     /** CLEARING THE LINES */
+
+    /**
+     * Description: Clear every completed line and shift the blocks above down.
+     * Return:      Number of lines cleared, or 8 if the grid is empty afterwards (Perfect Clear)
+     */
+    public int clearLines() {
+        boolean lineFilled;
+        int linesCleared = 0;
+
+        for (int r = gridRows - 1; r >= 0; r--) {
+            lineFilled = true;
+            for (int c = 0; c < gridColumns; c++) {
+                if (this.getBackgroundColor(r, c) == null) {
+                    lineFilled = false;
+                    break;
+                }
+            }
+            if (lineFilled) {
+                linesCleared++;
+                this.clearLine(r);
+                this.shiftDown(r);
+                this.clearLine(0); //Make sure top row is cleared when shifting down
+                r++;
+            }
+        }
+
+        rowsCleared = linesCleared;
+
+        //Check if bottom row is NOT empty (AKA NOT a Perfect Clear)
+        for (int c = 0; c < gridColumns; c++) {
+            if (this.getBackgroundColor(gridRows-1, c)!= null) {
+                return linesCleared;
+            }
+        }
+
+        //Return Perfect Clear
+        return 8;
+    }
     public void clearLine(int r) {
         for (int i = 0; i < this.gridColumns; i++) {
             this.setBackgroundColor(null, r, i);
@@ -0,0 +1,84 @@
+/**
+ * File:        BagRandomizer.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the 7-bag randomizer. All seven tetrominoes are put in a bag, the bag is shuffled
+ *      and the blocks are handed out one by one until the bag is empty. It uses its own seeded random number
+ *      generator (SplitMix64) instead of java.util.Random so that a game can be replayed from its seed and
+ *      the whole randomizer state can be saved and restored.
+ *
+ */
+
+package com.tetris.engine.model.tetrominoes;
+
+/** BagRandomizer Class -- Seeded 7-bag block randomizer */
+public class BagRandomizer {
+
+    //Initialize Static Variables
+    public final static int BAG_SIZE = Tetrominoe.ShapeType.values().length;
+    private final static Tetrominoe.ShapeType[] SHAPE_TYPES = Tetrominoe.ShapeType.values();
+
+    //Initialize Variables
+    private final long seed;
+    private long randomState;
+    private final Tetrominoe.ShapeType[] bag = new Tetrominoe.ShapeType[BAG_SIZE];
+    private int bagIndex = BAG_SIZE;   //Bag starts empty, so the first call shuffles
+
+    /** CONSTRUCTOR */
+    public BagRandomizer(long seed) {
+        this.seed = seed;
+        this.randomState = seed;
+    }
+
+    /** GETTER METHODS */
+    public long getSeed() {
+        return seed;
+    }
+    public long getRandomState() {
+        return randomState;
+    }
+    public int getBagIndex() {
+        return bagIndex;
+    }
+    public Tetrominoe.ShapeType[] getBag() {
+        return bag.clone();
+    }
+
+    /** Description: Hand out the next block, shuffling a new bag once the current one is empty */
+    public Tetrominoe.ShapeType next() {
+        if (bagIndex == BAG_SIZE) {
+            shuffleBag();
+            bagIndex = 0;
+        }
+        return bag[bagIndex++];
+    }
+
+    /** Description: Put the randomizer back into a saved state */
+    public void restore(long randomState, Tetrominoe.ShapeType[] bag, int bagIndex) {
+        this.randomState = randomState;
+        System.arraycopy(bag, 0, this.bag, 0, BAG_SIZE);
+        this.bagIndex = bagIndex;
+    }
+
+    /** HELPER FUNCTIONS */
+    private void shuffleBag() {
+        System.arraycopy(SHAPE_TYPES, 0, bag, 0, BAG_SIZE);
+
+        //Fisher-Yates shuffle
+        for (int i = BAG_SIZE - 1; i > 0; i--) {
+            int j = (int) Long.remainderUnsigned(nextLong(), i + 1);
+            Tetrominoe.ShapeType temp = bag[i];
+            bag[i] = bag[j];
+            bag[j] = temp;
+        }
+    }
+    private long nextLong() {
+        long z = (randomState += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
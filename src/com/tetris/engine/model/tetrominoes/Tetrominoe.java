@@ -73,6 +73,9 @@ public class Tetrominoe {
     public int getY() {
         return y;
     }
+    public int getRotation() {
+        return currentRotation;
+    }
     public int getHeight() {
         return getTP().getHeight();
     }
@@ -104,6 +107,14 @@ public class Tetrominoe {
         this.board = board;
     }
 
+    /** Description: Put the block straight into a rotation and position (when a saved game is restored) */
+    public void setState(int rotation, int x, int y) {
+        this.currentRotation = rotation;
+        this.coords = getTP().getCoords();
+        this.setX(x);
+        this.setY(y);
+    }
+
     /** COLLISION POSITIONS */
     public int getCollisionX() {
         return this.x + getPointX();
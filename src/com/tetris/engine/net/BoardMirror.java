@@ -0,0 +1,123 @@
+/**
+ * File:        BoardMirror.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the client's copy of one game on a server: the grid as GameSnapshot cell codes, the
+ *      falling block, held block, queue and score. It is updated from the game state part of a frame (see
+ *      Protocol), which only carries the rows that changed, so a mirror is only right if it has seen every
+ *      frame since the last one that carried all of the rows.
+ *
+ *      Written by one thread (the one reading the socket); the getters can be called from any thread, but the
+ *      grid can be half way through an update when they are.
+ *
+ */
+
+package com.tetris.engine.net;
+
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.nio.ByteBuffer;
+
+/** BoardMirror Class -- Client side copy of a game, kept up to date from game states */
+public class BoardMirror {
+
+    //Initialize Static Variables
+    private final static Tetrominoe.ShapeType[] SHAPE_TYPES = Tetrominoe.ShapeType.values();
+
+    //Initialize Variables
+    private int rows, columns;
+    private byte[] cells = new byte[0];
+    private volatile int score, level, lines;
+    private volatile Tetrominoe.ShapeType block, held;
+    private volatile int rotation, x, y;
+    private Tetrominoe.ShapeType[] queue = new Tetrominoe.ShapeType[0];
+
+    /** CONSTRUCTOR */
+    public BoardMirror() { }
+    public BoardMirror(int rows, int columns) {
+        resize(rows, columns);
+    }
+
+    /** GETTER METHODS */
+    public int getGridRows() {
+        return rows;
+    }
+    public int getGridColumns() {
+        return columns;
+    }
+    public int getCell(int row, int column) {     //GameSnapshot cell code
+        return cells[row * columns + column];
+    }
+    public int getScore() {
+        return score;
+    }
+    public int getLevel() {
+        return level;
+    }
+    public int getLines() {
+        return lines;
+    }
+    public Tetrominoe.ShapeType getBlock() {
+        return block;
+    }
+    public int getRotation() {
+        return rotation;
+    }
+    public int getX() {
+        return x;
+    }
+    public int getY() {
+        return y;
+    }
+    public Tetrominoe.ShapeType getHeld() {
+        return held;
+    }
+    public Tetrominoe.ShapeType[] getQueue() {
+        return queue.clone();
+    }
+
+    /** Description: Start again from an empty grid of the given size */
+    public void resize(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = new byte[rows * columns];
+    }
+
+    /** Description: Apply one game state (the buffer is left just after it) */
+    public void read(ByteBuffer buffer) {
+        score = buffer.getInt();
+        level = buffer.getShort();
+        lines = buffer.getShort();
+
+        block = shapeType(buffer.get());
+        rotation = buffer.get();
+        x = buffer.get();
+        y = buffer.get();
+        held = shapeType(buffer.get());
+        Tetrominoe.ShapeType[] next = new Tetrominoe.ShapeType[buffer.get() & 0xFF];
+        for (int i = 0; i < next.length; i++) next[i] = shapeType(buffer.get());
+        queue = next;
+
+        int changed = buffer.get() & 0xFF;
+        for (int i = 0; i < changed; i++) {
+            int row = buffer.get() & 0xFF;
+            if (row >= rows) throw new IllegalStateException("Row " + row + " is outside the grid");
+            Protocol.getRow(buffer, cells, columns, row);
+        }
+    }
+
+    /** Description: Final score, level and lines of a GAME_OVER frame */
+    void readResult(ByteBuffer buffer) {
+        score = buffer.getInt();
+        level = buffer.getShort();
+        lines = buffer.getShort();
+    }
+
+    /** HELPER FUNCTIONS */
+    private static Tetrominoe.ShapeType shapeType(byte code) {
+        return (code & 0xFF) == Protocol.NONE ? null : SHAPE_TYPES[code];
+    }
+}
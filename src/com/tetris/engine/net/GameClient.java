@@ -0,0 +1,294 @@
+/**
+ * File:        GameClient.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the client side of the protocol. One thread runs a non-blocking NIO selector over
+ *      any number of Player connections (a game window needs one, the load test needs hundreds). Each Player
+ *      keeps a BoardMirror of its game on the server, updated from every STATE frame.
+ *
+ *      Inputs can be sent from any thread; they are put in the Player's outgoing buffer and written by the
+ *      selector thread. The Listener is called on the selector thread after every frame has been applied to
+ *      the mirror, so it must not block.
+ *
+ */
+
+package com.tetris.engine.net;
+
+import com.tetris.engine.logic.GameInput;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/** GameClient Class -- Selector loop for one or many players */
+public class GameClient implements Closeable {
+
+    //Initialize Static Variables
+    private final static int READ_BUFFER_BYTES = Protocol.MAX_FRAME_BYTES + 4;
+    private final static int WRITE_BUFFER_BYTES = 1024;
+
+    //Initialize Variables
+    private final Selector selector;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private final Queue<Player> pendingRegistrations = new ConcurrentLinkedQueue<>();
+    private final Queue<Player> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    /** CONSTRUCTOR -- Starts the selector thread */
+    public GameClient() throws IOException {
+        this.selector = Selector.open();
+        this.thread = new Thread(this::run, "GameClient");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /** Description: Connect a new player and start a game with the seed */
+    public Player connect(InetSocketAddress address, long seed, Listener listener) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        channel.connect(address);
+
+        Player player = new Player(channel, listener);
+        player.hello(seed);
+        pendingRegistrations.add(player);
+        selector.wakeup();
+        return player;
+    }
+
+    /** Description: Disconnect every player and stop the selector thread */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** SELECTOR LOOP */
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+
+                for (Player p = pendingRegistrations.poll(); p != null; p = pendingRegistrations.poll()) {
+                    p.key = p.channel.register(selector, SelectionKey.OP_CONNECT, p);
+                }
+                for (Player p = pendingWrites.poll(); p != null; p = pendingWrites.poll()) {
+                    p.queued.set(false);
+                    if (p.key.isValid() && p.channel.isConnected()) p.flush();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Player p = (Player) key.attachment();
+
+                    if (key.isValid() && key.isConnectable()) p.finishConnect();
+                    if (key.isValid() && key.isReadable()) p.read();
+                    if (key.isValid() && key.isWritable()) p.flush();
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Game client stopped: " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) ((Player) key.attachment()).disconnect();
+            try {
+                selector.close();
+            } catch (IOException ignored) { }
+        }
+    }
+
+    /** Listener Interface -- Called on the selector thread once a frame has been applied to the Player */
+    public interface Listener {
+        default void onWelcome(Player player) { }
+        default void onState(Player player) { }
+        default void onGameOver(Player player) { }
+        default void onDisconnect(Player player) { }
+    }
+
+    /** Player Class -- One connection to the server and the mirror of its game */
+    public class Player {
+
+        //Initialize Variables - Connection
+        private final SocketChannel channel;
+        private final Listener listener;
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        private ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER_BYTES);  //Write mode, guarded by the Player
+        private final AtomicBoolean queued = new AtomicBoolean();
+        private volatile SelectionKey key;
+        private volatile boolean connected = true;
+        private int inputsSent = 0;
+
+        //Initialize Variables - Mirror of the game (written by the selector thread)
+        private final BoardMirror mirror = new BoardMirror();
+        private volatile long sessionId = -1;
+        private volatile int inputsProcessed;
+        private volatile boolean gameOver = false;
+
+        private Player(SocketChannel channel, Listener listener) {
+            this.channel = channel;
+            this.listener = listener != null ? listener : new Listener() { };
+        }
+
+        /** GETTER METHODS */
+        public boolean isConnected() {
+            return connected;
+        }
+        public long getSessionId() {
+            return sessionId;
+        }
+        public BoardMirror getMirror() {
+            return mirror;
+        }
+        public synchronized int getInputsSent() {
+            return inputsSent;
+        }
+        public int getInputsProcessed() {
+            return inputsProcessed;
+        }
+        public boolean isGameOver() {
+            return gameOver;
+        }
+
+        /** SENDING -- Any thread */
+        public synchronized void hello(long seed) {
+            gameOver = false;
+            reserve(Protocol.FRAME_HEADER_BYTES + 10);
+            int start = Protocol.beginFrame(out, Protocol.HELLO);
+            out.putShort((short) Protocol.VERSION).putLong(seed);
+            Protocol.endFrame(out, start);
+            wakeSelector();
+        }
+
+        /** Description: Send an input. Return its number (the count of inputs sent before it in this game). */
+        public synchronized int send(GameInput input) {
+            reserve(Protocol.FRAME_HEADER_BYTES + 1);
+            int start = Protocol.beginFrame(out, Protocol.INPUT);
+            out.put((byte) input.getCode());
+            Protocol.endFrame(out, start);
+            wakeSelector();
+            return inputsSent++;
+        }
+
+        public synchronized void bye() {
+            reserve(Protocol.FRAME_HEADER_BYTES);
+            Protocol.endFrame(out, Protocol.beginFrame(out, Protocol.BYE));
+            wakeSelector();
+        }
+
+        private void reserve(int bytes) {
+            if (out.remaining() >= bytes) return;
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + bytes));
+            out.flip();
+            bigger.put(out);
+            out = bigger;
+        }
+        private void wakeSelector() {
+            if (key != null && queued.compareAndSet(false, true)) {
+                pendingWrites.add(this);
+                selector.wakeup();
+            }
+        }
+
+        /** SELECTOR THREAD */
+        private void finishConnect() {
+            try {
+                if (!channel.finishConnect()) return;
+                key.interestOps(SelectionKey.OP_READ);
+                flush();
+            } catch (IOException e) {
+                disconnect();
+            }
+        }
+
+        private void flush() {
+            try {
+                synchronized (this) {
+                    out.flip();
+                    channel.write(out);
+                    boolean left = out.hasRemaining();
+                    out.compact();
+                    key.interestOps(left ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+                }
+            } catch (IOException e) {
+                disconnect();
+            }
+        }
+
+        private void read() {
+            try {
+                if (channel.read(in) < 0) {
+                    disconnect();
+                    return;
+                }
+                in.flip();
+                int length;
+                while ((length = Protocol.completeFrame(in)) >= 0) {
+                    int end = in.position() + 4 + length;
+                    in.getInt();
+                    handleFrame(in.get());
+                    in.position(end);
+                }
+                in.compact();
+            } catch (IOException | RuntimeException e) {
+                disconnect();
+            }
+        }
+
+        private void handleFrame(byte type) {
+            switch (type) {
+                case Protocol.WELCOME:
+                    sessionId = in.getLong();
+                    mirror.resize(in.get() & 0xFF, in.get() & 0xFF);
+                    synchronized (this) {
+                        inputsSent = 0;
+                    }
+                    inputsProcessed = 0;
+                    listener.onWelcome(this);
+                    break;
+                case Protocol.REFUSED:
+                    disconnect();
+                    break;
+                case Protocol.STATE:
+                    inputsProcessed = in.getInt();
+                    mirror.read(in);
+                    listener.onState(this);
+                    break;
+                case Protocol.GAME_OVER:
+                    mirror.readResult(in);
+                    gameOver = true;
+                    listener.onGameOver(this);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown frame type " + type);
+            }
+        }
+
+        private void disconnect() {
+            if (!connected) return;
+            connected = false;
+            if (key != null) key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) { }
+            listener.onDisconnect(this);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/**
+ * File:        GameServer.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the network side of the SessionHost. One thread runs a non-blocking NIO selector
+ *      over every connection: it accepts players, reads their frames (HELLO opens a GameSession, INPUT is
+ *      submitted to it) and writes whatever is waiting to go out. The games themselves run on the shard
+ *      threads of the SessionHost, never on the selector thread.
+ *
+ *      Each connection listens to its session. After a step that changed the game, the shard thread encodes a
+ *      STATE frame straight into the connection's outgoing buffer, with only the grid rows that changed since
+ *      the last one (found by comparing against a copy of the grid, cell colours are shared objects so this is
+ *      a reference check). It then queues the connection for the selector thread and wakes the selector, which
+ *      writes as much as the socket takes and asks for OP_WRITE if there is more.
+ *
+ *      A client that doesn't read its frames is disconnected once MAX_PENDING_BYTES are waiting for it.
+ *
+ *      Usage: GameServer [port]
+ *
+ */
+
+package com.tetris.engine.net;
+
+import com.tetris.engine.GameRules;
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.logic.GameInput;
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.server.GameSession;
+import com.tetris.engine.server.SessionHost;
+import com.tetris.engine.server.SessionListener;
+
+import java.awt.Color;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** GameServer Class -- Selector loop between the network and a SessionHost */
+public class GameServer implements Closeable {
+
+    //Initialize Static Variables
+    private final static int READ_BUFFER_BYTES = Protocol.MAX_FRAME_BYTES + 4;
+    private final static int WRITE_BUFFER_BYTES = 8192;
+    private final static int MAX_PENDING_BYTES = 256 * 1024;
+
+    /** Main Function: Runs a server on the port (default Protocol.DEFAULT_PORT) until it is killed */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Protocol.DEFAULT_PORT;
+        SessionHost host = new SessionHost();
+        GameServer server = new GameServer(host, new InetSocketAddress(port));
+        server.start();
+        System.out.println("Listening on port " + server.getPort() + " with " + host.getShardCount() + " shards");
+
+        while (true) {
+            Thread.sleep(10_000);
+            System.out.printf("%d players, %d KB in, %d KB out%n", server.getConnectionCount(),
+                    server.getBytesIn() / 1024, server.getBytesOut() / 1024);
+            for (SessionHost.ShardMetrics metrics : host.getMetrics()) System.out.println("    " + metrics);
+        }
+    }
+
+    //Initialize Variables
+    private final SessionHost host;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    //Initialize Variables - Connections with frames waiting to be written (filled by the shard threads)
+    private final Queue<Connection> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    //Initialize Variables - Metrics
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong bytesIn = new AtomicLong();
+    private final AtomicLong bytesOut = new AtomicLong();
+
+    /** CONSTRUCTOR -- Binds the port; start() begins accepting players */
+    public GameServer(SessionHost host, InetSocketAddress address) throws IOException {
+        this.host = host;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(address, 1024);
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.thread = new Thread(this::run, "GameServer");
+        this.thread.setDaemon(true);
+    }
+
+    /** GETTER METHODS */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+    public int getConnectionCount() {
+        return connections.get();
+    }
+    public long getBytesIn() {
+        return bytesIn.get();
+    }
+    public long getBytesOut() {
+        return bytesOut.get();
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /** Description: Stop accepting, disconnect every player and close their sessions */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** SELECTOR LOOP */
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+
+                for (Connection c = pendingWrites.poll(); c != null; c = pendingWrites.poll()) {
+                    c.queued.set(false);
+                    c.flush();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection c = (Connection) key.attachment();
+                    if (key.isReadable()) c.read();
+                    if (key.isValid() && key.isWritable()) c.flush();
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Game server stopped: " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection) ((Connection) key.attachment()).disconnect();
+            }
+            try {
+                selector.close();
+                serverChannel.close();
+            } catch (IOException ignored) { }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Connection c = new Connection(channel);
+            c.key = channel.register(selector, SelectionKey.OP_READ, c);
+            connections.incrementAndGet();
+        }
+    }
+
+    /** Connection Class -- One player: socket buffers, session and the grid rows the player has */
+    private class Connection implements SessionListener {
+
+        //Initialize Variables - Selector thread only
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        private SelectionKey key;
+
+        //Initialize Variables - Guarded by the Connection (shared with the shard thread of the session)
+        private GameSession session;
+        private Color[] sent;               //The grid as the player last saw it
+        private ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER_BYTES);   //Write mode
+        private boolean tooSlow = false;
+        private final AtomicBoolean queued = new AtomicBoolean();
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /** READING -- Selector thread */
+        private void read() {
+            try {
+                int n = channel.read(in);
+                if (n < 0) {
+                    disconnect();
+                    return;
+                }
+                bytesIn.addAndGet(n);
+
+                in.flip();
+                int length;
+                while ((length = Protocol.completeFrame(in)) >= 0) {
+                    int end = in.position() + 4 + length;
+                    in.getInt();
+                    byte type = in.get();
+                    Protocol.checkPayload(type, length - 1);
+                    handleFrame(type);
+                    in.position(end);
+                    if (!key.isValid()) return;
+                }
+                in.compact();
+            } catch (IOException | RuntimeException e) {
+                disconnect();
+            }
+        }
+
+        private void handleFrame(byte type) {
+            switch (type) {
+                case Protocol.HELLO:
+                    int version = in.getShort() & 0xFFFF;
+                    if (version != Protocol.VERSION) throw new IllegalStateException("Protocol version " + version);
+                    openSession(in.getLong());
+                    break;
+                case Protocol.INPUT:
+                    GameInput input = GameInput.fromCode(in.get());
+                    GameSession current = getSession();
+                    if (current != null && input != null) current.submit(input);
+                    break;
+                case Protocol.BYE:
+                    disconnect();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown frame type " + type);
+            }
+        }
+
+        private synchronized GameSession getSession() {
+            return session;
+        }
+
+        /** Description: Start a game (closing the last one). WELCOME goes out before any STATE of the game. */
+        private void openSession(long seed) {
+            GameSession opened = host.open(seed);
+
+            synchronized (this) {
+                if (session != null) session.close();
+                session = opened;
+                sent = null;
+                if (opened == null) {
+                    if (reserve(Protocol.FRAME_HEADER_BYTES)) {
+                        Protocol.endFrame(out, Protocol.beginFrame(out, Protocol.REFUSED));
+                    }
+                } else if (reserve(Protocol.FRAME_HEADER_BYTES + 10)) {
+                    int start = Protocol.beginFrame(out, Protocol.WELCOME);
+                    Board board = opened.getGame().getBoard();
+                    out.putLong(opened.getId()).put((byte) board.getGridRows()).put((byte) board.getGridColumns());
+                    Protocol.endFrame(out, start);
+                    opened.setListener(this);
+                }
+            }
+            flush();
+            if (opened == null) disconnect();
+        }
+
+        /** WRITING -- Shard threads encode, the selector thread writes */
+        @Override
+        public void onStep(GameSession s) {
+            HeadlessGame game = s.getGame();
+            Board board = game.getBoard();
+            int rows = board.getGridRows(), columns = board.getGridColumns();
+
+            synchronized (this) {
+                if (s != session) return;
+                if (sent == null) sent = new Color[rows * columns];
+                if (!reserve(Protocol.maxStateBytes(rows, columns))) return;
+
+                int start = Protocol.beginFrame(out, Protocol.STATE);
+                out.putInt(s.getInputsProcessed());
+                Protocol.putGameState(out, game, sent, false);
+                Protocol.endFrame(out, start);
+            }
+            wakeSelector();
+        }
+
+        @Override
+        public void onGameOver(GameSession s) {
+            onStep(s);
+
+            GameRules rules = s.getGame().getRules();
+            synchronized (this) {
+                if (s != session) return;
+                s.close();
+                if (!reserve(Protocol.FRAME_HEADER_BYTES + 8)) return;
+                int start = Protocol.beginFrame(out, Protocol.GAME_OVER);
+                out.putInt(rules.getScore()).putShort((short) rules.getLevel()).putShort((short) rules.getTotalLines());
+                Protocol.endFrame(out, start);
+            }
+            wakeSelector();
+        }
+
+        /** Description: Make room for a frame. Return False (and drop the player) if they stopped reading. */
+        private boolean reserve(int bytes) {
+            if (out.remaining() >= bytes) return true;
+            if (out.position() + bytes > MAX_PENDING_BYTES) {
+                tooSlow = true;
+                wakeSelector();
+                return false;
+            }
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + bytes));
+            out.flip();
+            bigger.put(out);
+            out = bigger;
+            return true;
+        }
+
+        private void wakeSelector() {
+            if (queued.compareAndSet(false, true)) {
+                pendingWrites.add(this);
+                selector.wakeup();
+            }
+        }
+
+        /** Description: Write what the socket takes; ask for OP_WRITE if something is left (selector thread) */
+        private void flush() {
+            if (!key.isValid()) return;
+            try {
+                synchronized (this) {
+                    if (tooSlow) throw new IOException("Player stopped reading");
+                    out.flip();
+                    bytesOut.addAndGet(channel.write(out));
+                    boolean left = out.hasRemaining();
+                    out.compact();
+                    key.interestOps(left ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+                }
+            } catch (IOException e) {
+                disconnect();
+            }
+        }
+
+        private void disconnect() {
+            if (!key.isValid()) return;
+            key.cancel();
+            GameSession current = getSession();
+            if (current != null) current.close();
+            connections.decrementAndGet();
+            try {
+                channel.close();
+            } catch (IOException ignored) { }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * File:        Protocol.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the wire format shared by the GameServer, the SpectatorServer and their clients.
+ *      Everything is sent as frames over TCP (big-endian):
+ *          length (int, the bytes after it), type (byte), payload
+ *
+ *      Client to server:
+ *          HELLO       version (short), seed (long) -- start a game (again, after a Game Over)
+ *          INPUT       GameInput code (byte)
+ *          BYE         (nothing) -- the server closes the connection
+ *          SPECTATE    match id (long) -- watch a match (SpectatorServer)
+ *
+ *      Server to client:
+ *          WELCOME     session id (long), rows (byte), columns (byte)
+ *          REFUSED     (nothing) -- the server is full (or the match doesn't exist), the connection is closed
+ *          STATE       inputs processed (int), game state
+ *          GAME_OVER   score (int), level (short), lines (short)
+ *          KEYFRAME    spectator header, then the game state of every board with all of its rows
+ *          DELTA       spectator header, then the game state of every board with the changed rows
+ *
+ *      Spectator header: tick (long), board count (byte), rows (byte), columns (byte)
+ *
+ *      Game state:     score (int), level (short), lines (short),
+ *                      falling block: shape, rotation, x, y (bytes, shape 0xFF if there is none),
+ *                      held shape (byte), queue length (byte) and shapes (bytes),
+ *                      changed rows (byte), then per row: row (byte) and its cells, two 4 bit cell codes to a byte
+ *
+ *      Only the rows of the grid that changed since the last frame are sent (the grid only changes when a block
+ *      locks, so most frames have none). Cell codes are the GameSnapshot ones. "Inputs processed" lets the
+ *      client match STATE frames to the inputs it sent (for latency). Spectators can only start from a
+ *      KEYFRAME, since a DELTA only makes sense on top of the frames before it.
+ *
+ */
+
+package com.tetris.engine.net;
+
+import com.tetris.engine.GameRules;
+import com.tetris.engine.GameSnapshot;
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.awt.Color;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/** Protocol Class -- Frame types and encoding of the multiplayer protocol */
+public class Protocol {
+
+    //Initialize Static Variables
+    public final static int VERSION = 1;
+    public final static int DEFAULT_PORT = 7117;
+    public final static int FRAME_HEADER_BYTES = 5;
+    public final static int MAX_FRAME_BYTES = 4096;
+    public final static int NONE = 0xFF;
+
+    //Initialize Static Variables - Client to server
+    public final static byte HELLO = 1;
+    public final static byte INPUT = 2;
+    public final static byte BYE = 3;
+    public final static byte SPECTATE = 4;
+
+    //Initialize Static Variables - Server to client
+    public final static byte WELCOME = 16;
+    public final static byte REFUSED = 17;
+    public final static byte STATE = 18;
+    public final static byte GAME_OVER = 19;
+    public final static byte KEYFRAME = 20;
+    public final static byte DELTA = 21;
+
+    private Protocol() { }
+
+    /** Description: Start a frame; return its position so endFrame() can fill in the length */
+    public static int beginFrame(ByteBuffer buffer, byte type) {
+        int start = buffer.position();
+        buffer.putInt(0).put(type);
+        return start;
+    }
+    public static void endFrame(ByteBuffer buffer, int start) {
+        buffer.putInt(start, buffer.position() - start - 4);
+    }
+
+    /**
+     * Description: Check that a client frame is long enough for its payload (payloadBytes is the frame length
+     *              less the type byte). Throws IllegalStateException for a frame that is too short.
+     */
+    public static void checkPayload(byte type, int payloadBytes) {
+        int needed;
+        switch (type) {
+            case HELLO: needed = 10; break;
+            case INPUT: needed = 1; break;
+            case SPECTATE: needed = 8; break;
+            default: needed = 0;
+        }
+        if (payloadBytes < needed) throw new IllegalStateException("Frame type " + type + " is too short");
+    }
+
+    /**
+     * Description: Length of the next complete frame in the buffer (in read mode, at the start of a frame),
+     *              or -1 if it hasn't all arrived. Throws IllegalStateException for a frame that is too big.
+     */
+    public static int completeFrame(ByteBuffer buffer) {
+        if (buffer.remaining() < 4) return -1;
+        int length = buffer.getInt(buffer.position());
+        if (length < 1 || length > MAX_FRAME_BYTES) throw new IllegalStateException("Bad frame length " + length);
+        return buffer.remaining() >= length + 4 ? length : -1;
+    }
+
+    /** Description: Largest frames (and game states) for a grid, so writers can check for room before encoding */
+    public static int maxStateBytes(int rows, int columns) {
+        return FRAME_HEADER_BYTES + 4 + maxGameStateBytes(rows, columns);
+    }
+    public static int maxSpectatorBytes(int boards, int rows, int columns) {
+        return FRAME_HEADER_BYTES + 11 + boards * maxGameStateBytes(rows, columns);
+    }
+    public static int maxGameStateBytes(int rows, int columns) {
+        return 8 + 6 + 16 + 1 + rows * (1 + rowBytes(columns));
+    }
+    public static int rowBytes(int columns) {
+        return (columns + 1) / 2;
+    }
+
+    /**
+     * Description: Write the game state of a game. The rows that differ from 'sent' (the grid as the reader
+     *              has it, row * columns + column) are written and copied into it; with allRows every row is.
+     *              Cell colours are shared objects, so comparing references is enough.
+     */
+    public static void putGameState(ByteBuffer buffer, HeadlessGame game, Color[] sent, boolean allRows) {
+        GameRules rules = game.getRules();
+        BlockController bc = game.getBlockController();
+        Board board = game.getBoard();
+        buffer.putInt(rules.getScore()).putShort((short) rules.getLevel()).putShort((short) rules.getTotalLines());
+
+        Tetrominoe block = bc.getCurrentBlock();
+        buffer.put((byte) shapeCode(block));
+        buffer.put((byte) (block != null ? block.getRotation() : 0));
+        buffer.put((byte) (block != null ? block.getX() : 0));
+        buffer.put((byte) (block != null ? block.getY() : 0));
+        buffer.put((byte) shapeCode(bc.getHeldBlock()));
+        List<Tetrominoe> queue = bc.getQueuedBlocks();
+        buffer.put((byte) queue.size());
+        for (Tetrominoe queued : queue) buffer.put((byte) shapeCode(queued));
+
+        int rows = board.getGridRows(), columns = board.getGridColumns();
+        int countAt = buffer.position();
+        int count = 0;
+        buffer.put((byte) 0);
+        for (int r = 0; r < rows; r++) {
+            boolean changed = allRows;
+            for (int c = 0; c < columns; c++) {
+                Color colour = board.getBackgroundColor(r, c);
+                if (colour != sent[r * columns + c]) {
+                    sent[r * columns + c] = colour;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                buffer.put((byte) r);
+                putRow(buffer, board, r);
+                count++;
+            }
+        }
+        buffer.put(countAt, (byte) count);
+    }
+
+    /** Description: Write one row of the grid as cell codes */
+    public static void putRow(ByteBuffer buffer, Board board, int row) {
+        int columns = board.getGridColumns();
+        for (int c = 0; c < columns; c += 2) {
+            int low = GameSnapshot.encodeCell(board.getBackgroundColor(row, c));
+            int high = c + 1 < columns ? GameSnapshot.encodeCell(board.getBackgroundColor(row, c + 1)) : 0;
+            buffer.put((byte) (low | high << 4));
+        }
+    }
+    /** Description: Read one row of cell codes into a grid of codes (row * columns + column) */
+    public static void getRow(ByteBuffer buffer, byte[] cells, int columns, int row) {
+        for (int c = 0; c < columns; c += 2) {
+            int b = buffer.get();
+            cells[row * columns + c] = (byte) (b & 0xF);
+            if (c + 1 < columns) cells[row * columns + c + 1] = (byte) ((b >> 4) & 0xF);
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    public static int shapeCode(Tetrominoe block) {
+        return block == null ? NONE : block.getShapeType().ordinal();
+    }
+}
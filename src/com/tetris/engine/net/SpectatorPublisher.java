@@ -0,0 +1,240 @@
+/**
+ * File:        SpectatorPublisher.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the broadcast side of spectating. After every tick of a match, the thread running it
+ *      calls publish(), which encodes what changed on all of its boards into one KEYFRAME or DELTA frame (see
+ *      Protocol). A frame is encoded once, no matter how many people are watching: it is written into a large
+ *      direct buffer (the arena) and handed out as a read-only slice of it. Each Subscription gets its own
+ *      duplicate() of the slice, which shares the bytes and only has its own position, so fanning a frame out
+ *      to thousands of viewers copies nothing.
+ *
+ *      Ticks where nothing changed are skipped. Every KEYFRAME_TICKS ticks (or sooner, when a new or lagging
+ *      subscriber asks for one, but never closer together than MIN_KEYFRAME_GAP_TICKS) the frame is a KEYFRAME
+ *      with every row of every board, which is where new and lagging viewers (re)start.
+ *
+ *      The game thread only encodes and puts the frame on a queue; a "SpectatorFanOut" thread hands it to the
+ *      subscribers, so a match doesn't slow down with the number of viewers. If that queue ever fills up, the
+ *      frame that didn't fit is lost for everyone, so the next frame that does fit is a keyframe.
+ *
+ */
+
+package com.tetris.engine.net;
+
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.model.board.Board;
+
+import java.awt.Color;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/** SpectatorPublisher Class -- Encodes a match once per tick and fans the frames out to its subscribers */
+public class SpectatorPublisher implements Closeable {
+
+    //Initialize Static Variables
+    public final static int KEYFRAME_TICKS = 60;
+    public final static int MIN_KEYFRAME_GAP_TICKS = 10;
+    public final static int DEFAULT_SUBSCRIBER_FRAMES = 64;
+    private final static int ARENA_BYTES = 64 * 1024;
+    private final static int FAN_OUT_QUEUE_SIZE = 1024;
+    private final static ByteBuffer CLOSED = ByteBuffer.allocate(0);
+
+    //Initialize Variables
+    private final HeadlessGame[] boards;
+    private final Color[][] sent;
+    private final int rows, columns;
+    private final int maxFrameBytes;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<ByteBuffer> fanOut = new ArrayBlockingQueue<>(FAN_OUT_QUEUE_SIZE);
+    private final Thread thread;
+
+    //Initialize Variables - Encoding (game thread only)
+    private ByteBuffer arena;
+    private byte[] lastDelta = new byte[0];     //Body of the last DELTA, to spot ticks where nothing changed
+    private int lastDeltaLength = -1;
+    private long lastKeyframeTick = Long.MIN_VALUE / 2;
+    private boolean frameLost = false;
+    private volatile boolean keyframeRequested = false;
+    private volatile boolean closed = false;
+
+    //Initialize Variables - Statistics
+    private volatile long frames, keyframes, bytes, skipped, publishNanos, fanOutOverflows;
+
+    /** CONSTRUCTOR -- Every board must have the same grid size; starts the fan-out thread */
+    public SpectatorPublisher(HeadlessGame... boards) {
+        if (boards.length == 0 || boards.length > 255) throw new IllegalArgumentException("1 to 255 boards");
+        Board first = boards[0].getBoard();
+        this.rows = first.getGridRows();
+        this.columns = first.getGridColumns();
+        for (HeadlessGame game : boards) {
+            Board board = game.getBoard();
+            if (board.getGridRows() != rows || board.getGridColumns() != columns) {
+                throw new IllegalArgumentException("Boards have different grid sizes");
+            }
+        }
+        this.maxFrameBytes = Protocol.maxSpectatorBytes(boards.length, rows, columns);
+        if (maxFrameBytes - 4 > Protocol.MAX_FRAME_BYTES) throw new IllegalArgumentException("Too many boards");
+
+        this.boards = boards.clone();
+        this.sent = new Color[boards.length][rows * columns];
+        this.arena = ByteBuffer.allocateDirect(ARENA_BYTES);
+
+        this.thread = new Thread(this::fanOutLoop, "SpectatorFanOut");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /** GETTER METHODS */
+    public int getBoardCount() {
+        return boards.length;
+    }
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+    public long getFrames() {
+        return frames;
+    }
+    public long getKeyframes() {
+        return keyframes;
+    }
+    public long getBytes() {
+        return bytes;
+    }
+    public long getSkippedTicks() {
+        return skipped;
+    }
+    public long getPublishNanos() {      //Total time spent in publish()
+        return publishNanos;
+    }
+    public long getFanOutOverflows() {
+        return fanOutOverflows;
+    }
+
+    /** Description: Start watching; the subscription's first frame will be a keyframe */
+    public Subscription subscribe() {
+        return subscribe(DEFAULT_SUBSCRIBER_FRAMES);
+    }
+    public Subscription subscribe(int capacity) {
+        Subscription subscription = new Subscription(this, capacity);
+        subscriptions.add(subscription);
+        requestKeyframe();
+        return subscription;
+    }
+    void unsubscribe(Subscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    /** Description: Make the next published frame a keyframe (once the minimum gap has passed) */
+    public void requestKeyframe() {
+        keyframeRequested = true;
+    }
+
+    /** Description: Publish the changes of this tick (game thread, after the tick). Return False if skipped. */
+    public boolean publish(long tick) {
+        return publish(tick, false);
+    }
+    /** Description: Publish a keyframe now, whatever the gap (e.g. the final position of a match) */
+    public boolean publishKeyframe(long tick) {
+        return publish(tick, true);
+    }
+
+    private boolean publish(long tick, boolean forceKeyframe) {
+        if (closed) return false;
+        long startNanos = System.nanoTime();
+        boolean keyframe = forceKeyframe || frameLost || tick - lastKeyframeTick >= KEYFRAME_TICKS
+                || (keyframeRequested && tick - lastKeyframeTick >= MIN_KEYFRAME_GAP_TICKS);
+        if (subscriptions.isEmpty()) {
+            skipped++;
+            return false;
+        }
+        if (keyframe) keyframeRequested = false;     //A request from now on is answered by this keyframe
+
+        //Encode straight into the arena; a new arena once this one is full (the old one lives on in its frames)
+        if (arena.remaining() < maxFrameBytes) arena = ByteBuffer.allocateDirect(ARENA_BYTES);
+        int start = Protocol.beginFrame(arena, keyframe ? Protocol.KEYFRAME : Protocol.DELTA);
+        arena.putLong(tick).put((byte) boards.length).put((byte) rows).put((byte) columns);
+        int bodyStart = arena.position();
+        for (int i = 0; i < boards.length; i++) Protocol.putGameState(arena, boards[i], sent[i], keyframe);
+        Protocol.endFrame(arena, start);
+        int end = arena.position();
+
+        if (keyframe) {
+            lastKeyframeTick = tick;
+            lastDeltaLength = -1;
+        } else if (unchanged(bodyStart, end)) {
+            arena.position(start);
+            skipped++;
+            publishNanos += System.nanoTime() - startNanos;
+            return false;
+        }
+
+        ByteBuffer frame = arena.duplicate().position(start).limit(end).slice().asReadOnlyBuffer();
+        if (!fanOut.offer(frame)) {
+            //The fan-out thread is too far behind: everyone has missed this frame
+            fanOutOverflows++;
+            frameLost = true;
+            publishNanos += System.nanoTime() - startNanos;
+            return false;
+        }
+        if (keyframe) frameLost = false;
+
+        frames++;
+        if (keyframe) keyframes++;
+        bytes += end - start;
+        publishNanos += System.nanoTime() - startNanos;
+        return true;
+    }
+
+    /** Description: True if a DELTA body is the same as the last one (no rows changed, nothing moved) */
+    private boolean unchanged(int bodyStart, int end) {
+        int length = end - bodyStart;
+        boolean same = length == lastDeltaLength;
+        for (int i = 0; same && i < length; i++) same = arena.get(bodyStart + i) == lastDelta[i];
+        if (same) return true;
+
+        if (lastDelta.length < length) lastDelta = new byte[maxFrameBytes];
+        arena.get(bodyStart, lastDelta, 0, length);
+        lastDeltaLength = length;
+        return false;
+    }
+
+    /** Description: Stop the fan-out thread and close every subscription */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        fanOut.clear();
+        fanOut.offer(CLOSED);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Subscription subscription : subscriptions) subscription.close();
+    }
+
+    /** FAN-OUT THREAD */
+    private void fanOutLoop() {
+        try {
+            while (true) {
+                ByteBuffer frame = fanOut.take();
+                if (frame == CLOSED) return;
+                for (Subscription subscription : subscriptions) subscription.offer(frame.duplicate());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    static boolean isKeyframe(ByteBuffer frame) {     //Frame from the start of its length
+        return frame.get(frame.position() + 4) == Protocol.KEYFRAME;
+    }
+}
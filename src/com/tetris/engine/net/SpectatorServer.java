@@ -0,0 +1,290 @@
+/**
+ * File:        SpectatorServer.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file puts SpectatorPublishers on the network. Matches are added under an id; a viewer connects and
+ *      sends SPECTATE with the id, and from then on gets the frames of that match (starting at the next
+ *      keyframe). One thread runs a non-blocking NIO selector over every viewer, the same as the GameServer.
+ *
+ *      Every viewer has a Subscription. When frames arrive on it, the fan-out thread of the publisher queues
+ *      the viewer for the selector thread, which writes them with one gathering write straight from the
+ *      shared frame buffers (nothing is copied per viewer). A viewer whose socket is full simply stops being
+ *      written to; its frames pile up in its Subscription until it overflows, at which point the viewer skips
+ *      ahead to the next keyframe (see Subscription). Nobody is disconnected for being slow.
+ *
+ */
+
+package com.tetris.engine.net;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** SpectatorServer Class -- Selector loop between the network and the spectator streams of matches */
+public class SpectatorServer implements Closeable {
+
+    //Initialize Static Variables
+    private final static int READ_BUFFER_BYTES = 64;
+    private final static int GATHER_FRAMES = 16;       //Frames written with one system call
+
+    //Initialize Variables
+    private final Map<Long, SpectatorPublisher> matches = new ConcurrentHashMap<>();
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Thread thread;
+    private final int subscriberFrames;
+    private volatile boolean running = true;
+
+    //Initialize Variables - Viewers with frames waiting to be written (filled by the fan-out threads)
+    private final Queue<Viewer> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    //Initialize Variables - Metrics
+    private final AtomicInteger viewers = new AtomicInteger();
+    private final AtomicLong bytesOut = new AtomicLong();
+
+    /** CONSTRUCTOR -- Binds the port; start() begins accepting viewers */
+    public SpectatorServer(InetSocketAddress address) throws IOException {
+        this(address, SpectatorPublisher.DEFAULT_SUBSCRIBER_FRAMES);
+    }
+    public SpectatorServer(InetSocketAddress address, int subscriberFrames) throws IOException {
+        this.subscriberFrames = subscriberFrames;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(address, 1024);
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.thread = new Thread(this::run, "SpectatorServer");
+        this.thread.setDaemon(true);
+    }
+
+    /** GETTER METHODS */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+    public int getViewerCount() {
+        return viewers.get();
+    }
+    public long getBytesOut() {
+        return bytesOut.get();
+    }
+
+    /** Description: Make a match watchable under an id (viewers already watching a removed match stay on it) */
+    public void addMatch(long id, SpectatorPublisher publisher) {
+        matches.put(id, publisher);
+    }
+    public void removeMatch(long id) {
+        matches.remove(id);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /** Description: Stop accepting and disconnect every viewer */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** SELECTOR LOOP */
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+
+                for (Viewer v = pendingWrites.poll(); v != null; v = pendingWrites.poll()) {
+                    v.queued.set(false);
+                    v.flush();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Viewer v = (Viewer) key.attachment();
+                    if (key.isReadable()) v.read();
+                    if (key.isValid() && key.isWritable()) v.flush();
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Spectator server stopped: " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Viewer) ((Viewer) key.attachment()).disconnect();
+            }
+            try {
+                selector.close();
+                serverChannel.close();
+            } catch (IOException ignored) { }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Viewer v = new Viewer(channel);
+            v.key = channel.register(selector, SelectionKey.OP_READ, v);
+            viewers.incrementAndGet();
+        }
+    }
+
+    /** Viewer Class -- One connection: its Subscription and the frames being written (selector thread only) */
+    private class Viewer {
+
+        //Initialize Variables
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        private final ByteBuffer[] writing = new ByteBuffer[GATHER_FRAMES];
+        private int writingCount = 0;
+        private ByteBuffer refused;
+        private SelectionKey key;
+        private volatile Subscription subscription;
+        private final AtomicBoolean queued = new AtomicBoolean();
+
+        private Viewer(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /** READING */
+        private void read() {
+            try {
+                if (channel.read(in) < 0) {
+                    disconnect();
+                    return;
+                }
+                in.flip();
+                int length;
+                while ((length = Protocol.completeFrame(in)) >= 0) {
+                    int end = in.position() + 4 + length;
+                    in.getInt();
+                    byte type = in.get();
+                    Protocol.checkPayload(type, length - 1);
+                    handleFrame(type);
+                    in.position(end);
+                    if (!key.isValid()) return;
+                }
+                in.compact();
+            } catch (IOException | RuntimeException e) {
+                disconnect();
+            }
+        }
+
+        private void handleFrame(byte type) {
+            switch (type) {
+                case Protocol.SPECTATE:
+                    long id = in.getLong();
+                    SpectatorPublisher publisher = matches.get(id);
+                    if (subscription != null) subscription.close();
+                    if (publisher == null) {
+                        refuse();
+                        return;
+                    }
+                    Subscription s = publisher.subscribe(subscriberFrames);
+                    s.setWakeListener(this::wakeSelector);
+                    subscription = s;
+                    break;
+                case Protocol.BYE:
+                    disconnect();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown frame type " + type);
+            }
+        }
+
+        private void refuse() {
+            refused = ByteBuffer.allocate(Protocol.FRAME_HEADER_BYTES);
+            Protocol.endFrame(refused, Protocol.beginFrame(refused, Protocol.REFUSED));
+            refused.flip();
+            subscription = null;
+            flush();
+        }
+
+        /** WRITING */
+        private void wakeSelector() {
+            if (queued.compareAndSet(false, true)) {
+                pendingWrites.add(this);
+                selector.wakeup();
+            }
+        }
+
+        /** Description: Gather-write the frames waiting for the viewer; ask for OP_WRITE if the socket is full */
+        private void flush() {
+            if (!key.isValid()) return;
+            try {
+                if (refused != null) {
+                    channel.write(refused);
+                    disconnect();
+                    return;
+                }
+                Subscription s = subscription;
+                if (s == null) return;
+                if (s.isClosed()) {
+                    disconnect();
+                    return;
+                }
+
+                while (true) {
+                    //Top up the frames being written (the first ones may be part written)
+                    int first = 0;
+                    while (first < writingCount && !writing[first].hasRemaining()) first++;
+                    System.arraycopy(writing, first, writing, 0, writingCount - first);
+                    writingCount -= first;
+                    for (ByteBuffer frame; writingCount < GATHER_FRAMES && (frame = s.poll()) != null; ) {
+                        writing[writingCount++] = frame;
+                    }
+                    if (writingCount == 0) break;
+
+                    bytesOut.addAndGet(channel.write(writing, 0, writingCount));
+                    if (writing[writingCount - 1].hasRemaining()) break;
+                }
+
+                boolean left = writingCount > 0 && writing[writingCount - 1].hasRemaining();
+                key.interestOps(left ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+            } catch (IOException e) {
+                disconnect();
+            }
+        }
+
+        private void disconnect() {
+            if (!key.isValid() && !channel.isOpen()) return;
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) { }
+            Subscription s = subscription;
+            if (s != null) s.close();
+            viewers.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * File:        SpectatorView.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains a viewer's copy of a match, built from KEYFRAME and DELTA frames (from a Subscription
+ *      in the same process, or read off a SpectatorServer connection). It has a BoardMirror per board of the
+ *      match. DELTA frames are ignored until the first KEYFRAME, since they only carry what changed.
+ *
+ */
+
+package com.tetris.engine.net;
+
+import java.nio.ByteBuffer;
+
+/** SpectatorView Class -- Mirrors of every board of a match, kept up to date from spectator frames */
+public class SpectatorView {
+
+    //Initialize Variables
+    private BoardMirror[] boards = new BoardMirror[0];
+    private volatile long tick = -1;
+    private volatile boolean synced = false;
+    private long keyframes = 0, deltas = 0, ignored = 0;
+
+    /** GETTER METHODS */
+    public int getBoardCount() {
+        return boards.length;
+    }
+    public BoardMirror getBoard(int index) {
+        return boards[index];
+    }
+    public long getTick() {     //Tick of the last frame applied
+        return tick;
+    }
+    public boolean isSynced() {
+        return synced;
+    }
+    public long getKeyframes() {
+        return keyframes;
+    }
+    public long getDeltas() {
+        return deltas;
+    }
+    public long getIgnored() {
+        return ignored;
+    }
+
+    /**
+     * Description: Apply a frame (positioned at its length, as a Subscription hands them out). The buffer's
+     *              position is left as it was. Return False if it was ignored.
+     */
+    public boolean apply(ByteBuffer frame) {
+        ByteBuffer in = frame.duplicate();
+        in.getInt();
+        byte type = in.get();
+        if (type != Protocol.KEYFRAME && type != Protocol.DELTA) {
+            throw new IllegalStateException("Not a spectator frame: " + type);
+        }
+        if (type == Protocol.DELTA && !synced) {
+            ignored++;
+            return false;
+        }
+
+        long frameTick = in.getLong();
+        int count = in.get() & 0xFF;
+        int rows = in.get() & 0xFF, columns = in.get() & 0xFF;
+        if (type == Protocol.KEYFRAME) {
+            if (boards.length != count || count == 0 || boards[0].getGridRows() != rows
+                    || boards[0].getGridColumns() != columns) {
+                BoardMirror[] resized = new BoardMirror[count];
+                for (int i = 0; i < count; i++) resized[i] = new BoardMirror(rows, columns);
+                boards = resized;
+            }
+            keyframes++;
+        } else {
+            if (count != boards.length) throw new IllegalStateException("Board count changed in a DELTA");
+            deltas++;
+        }
+
+        for (BoardMirror board : boards) board.read(in);
+        tick = frameTick;
+        synced = true;
+        return true;
+    }
+}
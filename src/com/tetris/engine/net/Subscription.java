@@ -0,0 +1,119 @@
+/**
+ * File:        Subscription.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains one viewer's queue of frames from a SpectatorPublisher. The queue holds at most
+ *      'capacity' frames, which is how far a viewer may fall behind. A viewer that falls further behind than
+ *      that (a slow window, or a socket that can't keep up) doesn't hold up the match or the other viewers:
+ *      its backlog is thrown away, it is sent nothing until the next keyframe, and a keyframe is asked for.
+ *      A new subscription also starts at the next keyframe.
+ *
+ *      Frames are read-only buffers positioned at the start of the frame (its length), shared with every
+ *      other viewer, so they must not be changed; only the position and limit are the viewer's own.
+ *
+ */
+
+package com.tetris.engine.net;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/** Subscription Class -- Bounded queue of spectator frames for one viewer */
+public class Subscription implements Closeable {
+
+    //Initialize Variables
+    private final SpectatorPublisher publisher;
+    private final int capacity;
+    private final ArrayDeque<ByteBuffer> frames;    //Guarded by the Subscription
+    private volatile Runnable wakeListener;
+
+    //Initialize Variables - States (guarded by the Subscription)
+    private boolean waitingForKeyframe = true;
+    private boolean closed = false;
+    private long delivered = 0, dropped = 0, resyncs = 0;
+
+    Subscription(SpectatorPublisher publisher, int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be at least 1");
+        this.publisher = publisher;
+        this.capacity = capacity;
+        this.frames = new ArrayDeque<>(capacity);
+    }
+
+    /** GETTER METHODS */
+    public synchronized long getDelivered() {    //Frames queued for the viewer
+        return delivered;
+    }
+    public synchronized long getDropped() {      //Frames the viewer never got
+        return dropped;
+    }
+    public synchronized long getResyncs() {      //Times the viewer fell too far behind
+        return resyncs;
+    }
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /** SETTER METHODS */
+    public void setWakeListener(Runnable wakeListener) {   //Called (on the fan-out thread) when a frame arrives
+        this.wakeListener = wakeListener;
+    }
+
+    /** Description: Next frame, or null if there isn't one yet */
+    public synchronized ByteBuffer poll() {
+        return frames.poll();
+    }
+
+    /** Description: Wait for the next frame; null once the subscription is closed */
+    public synchronized ByteBuffer take() throws InterruptedException {
+        while (frames.isEmpty() && !closed) wait();
+        return frames.poll();
+    }
+
+    /** Description: Stop receiving frames */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            frames.clear();
+            notifyAll();
+        }
+        publisher.unsubscribe(this);
+        Runnable listener = wakeListener;
+        if (listener != null) listener.run();
+    }
+
+    /** FAN-OUT THREAD */
+    void offer(ByteBuffer frame) {
+        boolean keyframe = SpectatorPublisher.isKeyframe(frame);
+        boolean resync = false;
+
+        synchronized (this) {
+            if (closed) return;
+            if (frames.size() == capacity) {
+                //Too far behind: throw the backlog away and start again from a keyframe
+                dropped += frames.size();
+                frames.clear();
+                resyncs++;
+                resync = !waitingForKeyframe;
+                waitingForKeyframe = true;
+            }
+            if (waitingForKeyframe && !keyframe) {
+                dropped++;
+            } else {
+                waitingForKeyframe = false;
+                frames.add(frame);
+                delivered++;
+                notifyAll();
+            }
+        }
+
+        if (resync && !keyframe) publisher.requestKeyframe();
+        Runnable listener = wakeListener;
+        if (listener != null) listener.run();
+    }
+}
@@ -0,0 +1,340 @@
+/**
+ * File:        ReplayArchive.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains an append-only archive for a very large number of replays. It is a folder with two
+ *      files:
+ *          replays.seg -- every replay file appended one after another, untouched
+ *          replays.idx -- one fixed size record per replay: where it is in the segment, who played, when, and
+ *                         its final score, level, lines, tetrises and Perfect Clears
+ *
+ *      Both files are memory-mapped. Queries scan the index records and never touch a replay body, and a
+ *      replay is read straight out of the mapped segment as a read-only slice (no copy onto the heap).
+ *      The segment is mapped in CHUNK_SIZE pieces because one mapping is limited to 2 GB; a replay that
+ *      would cross into the next chunk starts at the next chunk instead.
+ *
+ *      Index format (little-endian):
+ *          Header -- "JTRA", version, number of records, reserved
+ *          Record -- offset (long), length (int), score (int), start time (long), seed (long), lines (int),
+ *                    tetrises (int), Perfect Clears (int), level (short), flags (byte), player length (byte),
+ *                    player name in UTF-8 (16 bytes)
+ *
+ *      The record count is written last, so a crash in the middle of an append leaves the archive as it was.
+ *
+ */
+
+package com.tetris.engine.replay;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/** ReplayArchive Class -- Memory-mapped replay store with a queryable index */
+public class ReplayArchive implements AutoCloseable {
+
+    //Initialize Static Variables - Files
+    public final static String SEGMENT_FILE = "replays.seg";
+    public final static String INDEX_FILE = "replays.idx";
+    public final static long CHUNK_SIZE = 1L << 30;
+    private final static int MAGIC = 0x4152544A;     //"JTRA"
+    private final static int VERSION = 1;
+
+    //Initialize Static Variables - Index record layout
+    private final static int HEADER_BYTES = 16;
+    private final static int RECORD_BYTES = 64;
+    private final static int OFFSET = 0, LENGTH = 8, SCORE = 12, START_TIME = 16, SEED = 24, LINES = 32,
+            TETRISES = 36, PERFECT_CLEARS = 40, LEVEL = 44, FLAGS = 46, PLAYER_LENGTH = 47, PLAYER = 48;
+    private final static int PLAYER_BYTES = 16;
+    private final static int COMPLETE = 1;
+    private final static int INITIAL_RECORDS = 1024;
+
+    //Initialize Variables
+    private final FileChannel segment;
+    private final FileChannel indexChannel;
+    private volatile MappedByteBuffer index;
+    private volatile int count;
+    private long segmentEnd;
+    private MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+
+    /** CONSTRUCTOR */
+    private ReplayArchive(FileChannel segment, FileChannel indexChannel) throws IOException {
+        this.segment = segment;
+        this.indexChannel = indexChannel;
+
+        if (indexChannel.size() == 0) {
+            mapIndex(INITIAL_RECORDS);
+            index.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, 0);
+        } else {
+            mapIndex((int) ((indexChannel.size() - HEADER_BYTES) / RECORD_BYTES));
+            if (index.getInt(0) != MAGIC) throw new IOException("Not a JTetris replay archive");
+            int version = index.getInt(4);
+            if (version != VERSION) throw new IOException("Unsupported replay archive version " + version);
+        }
+
+        this.count = index.getInt(8);
+        this.segmentEnd = count == 0 ? 0 : getOffset(count - 1) + getLength(count - 1);
+        if (segment.size() < segmentEnd) throw new IOException("Replay archive segment is damaged");
+    }
+
+    /** Description: Open the archive in the folder, creating it if it is not there */
+    public static ReplayArchive open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel segment = FileChannel.open(directory.resolve(SEGMENT_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel index = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new ReplayArchive(segment, index);
+        } catch (IOException e) {
+            segment.close();
+            index.close();
+            throw e;
+        }
+    }
+
+    /** GETTER METHODS -- Fields of record i */
+    public int size() {
+        return count;
+    }
+    public long getOffset(int i) {
+        return index.getLong(record(i) + OFFSET);
+    }
+    public int getLength(int i) {
+        return index.getInt(record(i) + LENGTH);
+    }
+    public int getScore(int i) {
+        return index.getInt(record(i) + SCORE);
+    }
+    public long getStartTime(int i) {
+        return index.getLong(record(i) + START_TIME);
+    }
+    public long getSeed(int i) {
+        return index.getLong(record(i) + SEED);
+    }
+    public int getLines(int i) {
+        return index.getInt(record(i) + LINES);
+    }
+    public int getTetrises(int i) {
+        return index.getInt(record(i) + TETRISES);
+    }
+    public int getPerfectClears(int i) {
+        return index.getInt(record(i) + PERFECT_CLEARS);
+    }
+    public int getLevel(int i) {
+        return index.getShort(record(i) + LEVEL);
+    }
+    public boolean isComplete(int i) {      //False if the replay has no END (its statistics are all 0)
+        return (index.get(record(i) + FLAGS) & COMPLETE) != 0;
+    }
+    public String getPlayer(int i) {
+        ByteBuffer buffer = index.duplicate();
+        byte[] bytes = new byte[buffer.get(record(i) + PLAYER_LENGTH)];
+        buffer.position(record(i) + PLAYER);
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Description: Add a replay file to the end of the archive. Its header and trailer are read for the index,
+     *              and its bytes are copied into the segment unchanged. Return the record number.
+     */
+    public synchronized int append(Path replay) throws IOException {
+        //Read the replay through once for its header and statistics
+        ReplayHeader header;
+        int[] trailer;
+        try (ReplayReader reader = ReplayReader.open(replay)) {
+            header = reader.getHeader();
+            while (reader.next()) { }
+            trailer = reader.getTrailer();
+        }
+
+        //Copy the file into the segment, starting a new chunk if it would not fit in this one
+        try (FileChannel in = FileChannel.open(replay, StandardOpenOption.READ)) {
+            long length = in.size();
+            if (length > CHUNK_SIZE) throw new IOException("Replay is too large for the archive: " + replay);
+
+            long offset = segmentEnd;
+            if (offset / CHUNK_SIZE != (offset + length - 1) / CHUNK_SIZE) {
+                offset = (offset / CHUNK_SIZE + 1) * CHUNK_SIZE;
+            }
+            for (long done = 0; done < length; ) {
+                done += in.transferTo(done, length - done, segment.position(offset + done));
+            }
+
+            //Index record, then the count that makes it visible
+            if (HEADER_BYTES + (long) (count + 1) * RECORD_BYTES > index.capacity()) {
+                mapIndex(count * 2);
+            }
+            int r = record(count);
+            ByteBuffer buffer = index;
+            buffer.putLong(r + OFFSET, offset);
+            buffer.putInt(r + LENGTH, (int) length);
+            buffer.putLong(r + START_TIME, header.getStartTime());
+            buffer.putLong(r + SEED, header.getSeed());
+            if (trailer != null) {
+                buffer.putInt(r + SCORE, trailer[0]);
+                buffer.putShort(r + LEVEL, (short) trailer[1]);
+                buffer.putInt(r + LINES, trailer[2]);
+                buffer.putInt(r + TETRISES, trailer[3]);
+                buffer.putInt(r + PERFECT_CLEARS, trailer[4]);
+            }
+            buffer.put(r + FLAGS, (byte) (trailer != null ? COMPLETE : 0));
+
+            byte[] player = playerBytes(header.getPlayer());
+            buffer.put(r + PLAYER_LENGTH, (byte) player.length);
+            for (int b = 0; b < PLAYER_BYTES; b++) {
+                buffer.put(r + PLAYER + b, b < player.length ? player[b] : 0);
+            }
+
+            segmentEnd = offset + length;
+            buffer.putInt(8, count + 1);
+            count++;
+            return count - 1;
+        }
+    }
+
+    /** Description: The bytes of replay i, as a read-only slice of the mapped segment */
+    public ByteBuffer getReplay(int i) throws IOException {
+        long offset = getOffset(i);
+        int length = getLength(i);
+        MappedByteBuffer chunk = getChunk((int) (offset / CHUNK_SIZE), offset % CHUNK_SIZE + length);
+
+        return chunk.asReadOnlyBuffer().position((int) (offset % CHUNK_SIZE)).limit((int) (offset % CHUNK_SIZE)
+                + length).slice();
+    }
+
+    /** Description: Read replay i straight from the mapped segment */
+    public ReplayReader openReplay(int i) throws IOException {
+        return new ReplayReader(new BufferInputStream(getReplay(i)));
+    }
+
+    /** Description: Record numbers that match the query, in archive order. Only the index is read. */
+    public int[] find(Query query) {
+        byte[] player = query.player != null ? playerBytes(query.player) : null;
+        return IntStream.range(0, count).parallel().filter(i -> query.matches(this, i, player)).toArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        index.force();
+        segment.close();
+        indexChannel.close();
+    }
+
+    /** HELPER FUNCTIONS */
+    private static int record(int i) {
+        return HEADER_BYTES + i * RECORD_BYTES;
+    }
+    private void mapIndex(int records) throws IOException {
+        int capacity = HEADER_BYTES + Math.max(records, INITIAL_RECORDS) * RECORD_BYTES;
+        MappedByteBuffer buffer = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        index = buffer;
+    }
+    private synchronized MappedByteBuffer getChunk(int n, long needed) throws IOException {
+        if (n >= chunks.length) chunks = Arrays.copyOf(chunks, n + 1);
+
+        //The last chunk grows as replays are added, so it is mapped again once it is too short
+        if (chunks[n] == null || chunks[n].capacity() < needed) {
+            long size = Math.min(CHUNK_SIZE, segment.size() - n * CHUNK_SIZE);
+            chunks[n] = segment.map(FileChannel.MapMode.READ_ONLY, n * CHUNK_SIZE, size);
+        }
+        return chunks[n];
+    }
+    private boolean playerEquals(int i, byte[] player) {
+        int r = record(i);
+        if (index.get(r + PLAYER_LENGTH) != player.length) return false;
+        for (int b = 0; b < player.length; b++) {
+            if (index.get(r + PLAYER + b) != player[b]) return false;
+        }
+        return true;
+    }
+    private static byte[] playerBytes(String player) {    //At most PLAYER_BYTES, cut between characters
+        ByteBuffer bytes = ByteBuffer.allocate(PLAYER_BYTES);
+        StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE).encode(CharBuffer.wrap(player), bytes, true);
+        return Arrays.copyOf(bytes.array(), bytes.position());
+    }
+
+    /** Query Class -- Conditions on the index fields (all of them have to match) */
+    public static class Query {
+        private String player;
+        private long from = Long.MIN_VALUE, to = Long.MAX_VALUE;
+        private int minScore, minLines, minTetrises, minPerfectClears;
+        private boolean completeOnly;
+
+        public Query player(String player) {
+            this.player = player;
+            return this;
+        }
+        public Query between(long fromMillis, long toMillis) {
+            this.from = fromMillis;
+            this.to = toMillis;
+            return this;
+        }
+        public Query minScore(int score) {
+            this.minScore = score;
+            return this;
+        }
+        public Query minLines(int lines) {
+            this.minLines = lines;
+            return this;
+        }
+        public Query minTetrises(int tetrises) {
+            this.minTetrises = tetrises;
+            return this;
+        }
+        public Query minPerfectClears(int perfectClears) {
+            this.minPerfectClears = perfectClears;
+            return this;
+        }
+        public Query completeOnly() {
+            this.completeOnly = true;
+            return this;
+        }
+
+        private boolean matches(ReplayArchive archive, int i, byte[] playerBytes) {
+            if (archive.getPerfectClears(i) < minPerfectClears || archive.getTetrises(i) < minTetrises
+                    || archive.getScore(i) < minScore || archive.getLines(i) < minLines) return false;
+            long time = archive.getStartTime(i);
+            if (time < from || time > to) return false;
+            if (completeOnly && !archive.isComplete(i)) return false;
+            return playerBytes == null || archive.playerEquals(i, playerBytes);
+        }
+    }
+
+    /** BufferInputStream Class -- InputStream over a ByteBuffer, so a ReplayReader can read a mapped replay */
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) return -1;
+            length = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, length);
+            return length;
+        }
+    }
+}
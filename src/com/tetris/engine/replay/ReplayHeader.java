@@ -0,0 +1,141 @@
+/**
+ * File:        ReplayHeader.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the header of a replay file and the codes used in its body. The header holds
+ *      everything needed to start the same game again: the randomizer seed, the grid size and the starting
+ *      game speed, plus who played and when.
+ *
+ *      A replay normally starts from an empty grid. A resumed game (or a time travel dump) starts from a
+ *      GameSnapshot instead, which version 2 stores at the end of the header.
+ *
+ *      Replay file layout (big-endian):
+ *          Header -- "JTRP", version (short), seed (long), grid rows (byte), grid columns (byte),
+ *                    start game speed (int), start time in epoch millis (long), player (UTF),
+ *                    start snapshot length (short, 0 for an empty grid) and the snapshot (version 2 only)
+ *          Body   -- one varint per event: (milliseconds since the previous event << 4) | code
+ *          End    -- the END event followed by varints: score, level, lines, tetrises, Perfect Clears
+ *      Codes 0 to 7 are the GameInput codes.
+ *
+ */
+
+package com.tetris.engine.replay;
+
+import com.tetris.engine.GameSnapshot;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/** ReplayHeader Class -- Game settings at the start of a replay */
+public class ReplayHeader {
+
+    //Initialize Static Variables - File
+    public final static int MAGIC = 0x4A545250;    //"JTRP"
+    public final static int VERSION = 2;
+    public final static String FILE_EXTENSION = ".jtr";
+
+    //Initialize Static Variables - Event codes (below 8 are GameInput codes)
+    public final static int CODE_BITS = 4;
+    public final static int CODE_MASK = (1 << CODE_BITS) - 1;
+    public final static int GRAVITY = 8;
+    public final static int LOCK = 9;
+    public final static int END = 15;
+
+    //Initialize Variables
+    private final long seed;
+    private final int gridRows;
+    private final int gridColumns;
+    private final int startGameSpeed;
+    private final long startTime;
+    private final String player;
+    private final GameSnapshot startSnapshot;
+
+    /** CONSTRUCTORS */
+    public ReplayHeader(long seed, int gridRows, int gridColumns, int startGameSpeed, long startTime, String player) {
+        this(seed, gridRows, gridColumns, startGameSpeed, startTime, player, null);
+    }
+    public ReplayHeader(long seed, int gridRows, int gridColumns, int startGameSpeed, long startTime, String player,
+                        GameSnapshot startSnapshot) {
+        this.seed = seed;
+        this.gridRows = gridRows;
+        this.gridColumns = gridColumns;
+        this.startGameSpeed = startGameSpeed;
+        this.startTime = startTime;
+        this.player = player;
+        this.startSnapshot = startSnapshot;
+    }
+
+    /** GETTER METHODS */
+    public long getSeed() {
+        return seed;
+    }
+    public int getGridRows() {
+        return gridRows;
+    }
+    public int getGridColumns() {
+        return gridColumns;
+    }
+    public int getStartGameSpeed() {
+        return startGameSpeed;
+    }
+    public long getStartTime() {
+        return startTime;
+    }
+    public String getPlayer() {
+        return player;
+    }
+    public GameSnapshot getStartSnapshot() {    //Null if the game starts from an empty grid
+        return startSnapshot;
+    }
+
+    /** READ AND WRITE */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(seed);
+        out.writeByte(gridRows);
+        out.writeByte(gridColumns);
+        out.writeInt(startGameSpeed);
+        out.writeLong(startTime);
+        out.writeUTF(player);
+
+        if (startSnapshot == null) {
+            out.writeShort(0);
+        } else {
+            ByteBuffer buffer = ByteBuffer.allocate(startSnapshot.getEncodedSize());
+            startSnapshot.write(buffer);
+            out.writeShort(buffer.capacity());
+            out.write(buffer.array());
+        }
+    }
+    public static ReplayHeader read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) throw new IOException("Not a JTetris replay");
+        int version = in.readUnsignedShort();
+        if (version < 1 || version > VERSION) throw new IOException("Unsupported replay version " + version);
+
+        long seed = in.readLong();
+        int gridRows = in.readUnsignedByte(), gridColumns = in.readUnsignedByte();
+        int startGameSpeed = in.readInt();
+        long startTime = in.readLong();
+        String player = in.readUTF();
+
+        GameSnapshot startSnapshot = null;
+        int length = version >= 2 ? in.readUnsignedShort() : 0;
+        if (length > 0) {
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            try {
+                startSnapshot = GameSnapshot.read(ByteBuffer.wrap(bytes));
+            } catch (RuntimeException e) {
+                throw new IOException("Replay start snapshot is damaged");
+            }
+        }
+
+        return new ReplayHeader(seed, gridRows, gridColumns, startGameSpeed, startTime, player, startSnapshot);
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ * File:        ReplayPlayer.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file plays a replay back on a HeadlessGame. The events are loaded into two arrays and applied in
+ *      order: GameInput codes go to the BlockController, GRAVITY moves the block down a row and LOCK locks it.
+ *
+ *      Every KEYFRAME_INTERVAL milliseconds of game time the player keeps a GameSnapshot next to the index of
+ *      the event it was taken after. Seeking restores the nearest keyframe at or before the target and
+ *      simulates forward from there, so jumping anywhere in a long game only replays a few seconds of events.
+ *      Keyframes are taken the first time playback passes them; seeking past the furthest one simply plays
+ *      forward and takes them along the way.
+ *
+ *      Nothing here waits for real time. Headless playback runs as fast as the events can be applied, and the
+ *      ReplayController renders the game through GameArea by listening to the game's GameEventDispatcher.
+ *
+ */
+
+package com.tetris.engine.replay;
+
+import com.tetris.engine.GameSnapshot;
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.logic.GameInput;
+import com.tetris.engine.model.tetrominoes.BagRandomizer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** ReplayPlayer Class -- Seekable playback of a replay */
+public class ReplayPlayer {
+
+    //Initialize Static Variables
+    public final static long KEYFRAME_INTERVAL = 5000;
+
+    //Initialize Variables - Replay
+    private final ReplayHeader header;
+    private final long[] times;
+    private final byte[] codes;
+    private final int eventCount;
+    private final int[] trailer;
+
+    //Initialize Variables - Playback
+    private final HeadlessGame game;
+    private final long keyframeInterval;
+    private int nextEvent = 0;
+    private long position = 0;
+
+    //Initialize Variables - Keyframes (in event order)
+    private final List<GameSnapshot> keyframes = new ArrayList<>();
+    private final List<Integer> keyframeEvents = new ArrayList<>();
+    private final List<Long> keyframeTimes = new ArrayList<>();
+
+    /** CONSTRUCTORS */
+    public ReplayPlayer(ReplayHeader header, long[] times, byte[] codes, int eventCount, int[] trailer) {
+        this(header, times, codes, eventCount, trailer, KEYFRAME_INTERVAL);
+    }
+    public ReplayPlayer(ReplayHeader header, long[] times, byte[] codes, int eventCount, int[] trailer,
+                        long keyframeInterval) {
+        this.header = header;
+        this.times = times;
+        this.codes = codes;
+        this.eventCount = eventCount;
+        this.trailer = trailer;
+        this.keyframeInterval = keyframeInterval;
+
+        //Keyframe 0 is the first block spawning (or the saved game the replay starts from)
+        this.game = startGame(header);
+        addKeyframe(0, 0);
+    }
+
+    /** Description: Load every event of a replay file into memory */
+    public static ReplayPlayer load(Path path) throws IOException {
+        try (ReplayReader reader = ReplayReader.open(path)) {
+            return load(reader);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage() + ": " + path);
+        }
+    }
+    public static ReplayPlayer load(ReplayReader reader) throws IOException {
+        long[] times = new long[1024];
+        byte[] codes = new byte[1024];
+        int count = 0;
+
+        while (reader.next()) {
+            if (count == times.length) {
+                times = Arrays.copyOf(times, count * 2);
+                codes = Arrays.copyOf(codes, count * 2);
+            }
+            times[count] = reader.getTime();
+            codes[count] = (byte) reader.getCode();
+            count++;
+        }
+
+        return new ReplayPlayer(reader.getHeader(), times, codes, count, reader.getTrailer());
+    }
+
+    /** GETTER METHODS */
+    public ReplayHeader getHeader() {
+        return header;
+    }
+    public HeadlessGame getGame() {
+        return game;
+    }
+    public long getPosition() {     //Milliseconds into the game
+        return position;
+    }
+    public long getDuration() {
+        return eventCount == 0 ? 0 : times[eventCount - 1];
+    }
+    public int getEventCount() {
+        return eventCount;
+    }
+    public int[] getTrailer() {     //Score, level, lines, tetrises, Perfect Clears (null if the replay has no END)
+        return trailer;
+    }
+    public int getKeyframeCount() {
+        return keyframes.size();
+    }
+    public boolean isFinished() {
+        return nextEvent == eventCount;
+    }
+
+    /**
+     * Description: New player for the same replay on a game of its own, starting with the keyframes this one
+     *              has taken so far. Lets several threads play different parts of one replay at once (the
+     *              events and the keyframes are only read, never changed).
+     */
+    public ReplayPlayer fork() {
+        ReplayPlayer fork = new ReplayPlayer(header, times, codes, eventCount, trailer, keyframeInterval);
+        fork.keyframes.clear();
+        fork.keyframeEvents.clear();
+        fork.keyframeTimes.clear();
+        fork.keyframes.addAll(keyframes);
+        fork.keyframeEvents.addAll(keyframeEvents);
+        fork.keyframeTimes.addAll(keyframeTimes);
+        return fork;
+    }
+
+    /** Description: Move playback forward by some milliseconds of game time */
+    public void advance(long millis) {
+        seek(position + millis);
+    }
+
+    /** Description: Play the rest of the replay */
+    public HeadlessGame playToEnd() {
+        seek(getDuration());
+        return game;
+    }
+
+    /**
+     * Description: Put the game into its state at some time of the replay. Going backwards, or forwards past a
+     *              keyframe, restores the nearest keyframe first; the rest is simulated.
+     */
+    public void seek(long millis) {
+        millis = Math.max(0, Math.min(millis, getDuration()));
+
+        int k = findKeyframe(millis);
+        if (millis < position || keyframeEvents.get(k) > nextEvent) {
+            game.restore(keyframes.get(k));
+            nextEvent = keyframeEvents.get(k);
+        }
+
+        while (nextEvent < eventCount && times[nextEvent] <= millis) {
+            applyEvent(game, codes[nextEvent]);
+            nextEvent++;
+
+            //First time past this point of the game -- keep a keyframe
+            long lastKeyframe = keyframeTimes.get(keyframeTimes.size() - 1);
+            if (times[nextEvent - 1] >= lastKeyframe + keyframeInterval
+                    && nextEvent > keyframeEvents.get(keyframeEvents.size() - 1)) {
+                addKeyframe(nextEvent, times[nextEvent - 1]);
+            }
+        }
+        position = millis;
+    }
+
+    /** Description: New game in the state the replay starts from */
+    public static HeadlessGame startGame(ReplayHeader header) {
+        HeadlessGame game = new HeadlessGame(new BagRandomizer(header.getSeed()));
+        if (game.getBoard().getGridRows() != header.getGridRows()
+                || game.getBoard().getGridColumns() != header.getGridColumns()) {
+            throw new IllegalArgumentException("Replay was played on a " + header.getGridRows() + "x"
+                    + header.getGridColumns() + " grid");
+        }
+
+        game.start();
+        if (header.getStartSnapshot() != null) game.restore(header.getStartSnapshot());
+        return game;
+    }
+
+    /** Description: Apply one event to the game, the same way the game loop and keyboard did */
+    public static void applyEvent(HeadlessGame game, int code) {
+        if (game.isGameOver()) return;
+
+        switch (code) {
+            case ReplayHeader.GRAVITY:
+                game.getBlockController().moveBlockDown();
+                break;
+            case ReplayHeader.LOCK:
+                game.lockBlock();
+                break;
+            default:
+                GameInput input = GameInput.fromCode(code);
+                if (input != null) game.getBlockController().handleInput(input);
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    private void addKeyframe(int event, long time) {
+        keyframes.add(game.snapshot());
+        keyframeEvents.add(event);
+        keyframeTimes.add(time);
+    }
+
+    /** Description: Index of the last keyframe at or before the time (binary search) */
+    private int findKeyframe(long millis) {
+        int low = 0, high = keyframeTimes.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (keyframeTimes.get(mid) <= millis) low = mid;
+            else high = mid - 1;
+        }
+        return low;
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * File:        ReplayReader.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file reads a replay file (see ReplayHeader for the layout) one event at a time, so a replay can be
+ *      streamed without loading it all. A file that stops early (the game was closed before it ended) reads
+ *      like a replay without an END event, also when it is cut off inside the values after END.
+ *
+ */
+
+package com.tetris.engine.replay;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/** ReplayReader Class -- Reads the events of a replay file in order */
+public class ReplayReader implements Closeable {
+
+    //Initialize Static Variables - Number of values after the END event
+    public final static int TRAILER_LENGTH = 5;
+
+    //Initialize Variables
+    private final DataInputStream in;
+    private final ReplayHeader header;
+    private long time = 0;
+    private int code = -1;
+    private int[] trailer;
+    private boolean ended = false;
+
+    /** CONSTRUCTOR -- Reads the header */
+    public ReplayReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(in);
+        this.header = ReplayHeader.read(this.in);
+    }
+
+    /** Description: Open a replay file */
+    public static ReplayReader open(Path path) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(path));
+        try {
+            return new ReplayReader(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /** GETTER METHODS */
+    public ReplayHeader getHeader() {
+        return header;
+    }
+    public long getTime() {         //Milliseconds since the start of the game
+        return time;
+    }
+    public int getCode() {
+        return code;
+    }
+    public int[] getTrailer() {     //Score, level, lines, tetrises, Perfect Clears (null until END is read)
+        return trailer;
+    }
+
+    /** Description: Read the next event. Return False at the END event or the end of the file. */
+    public boolean next() throws IOException {
+        if (ended) return false;
+
+        long value;
+        try {
+            value = readVarLong(in);
+        } catch (EOFException e) {
+            ended = true;
+            return false;
+        }
+
+        time += value >>> ReplayHeader.CODE_BITS;
+        code = (int) (value & ReplayHeader.CODE_MASK);
+
+        if (code == ReplayHeader.END) {
+            ended = true;
+            int[] values = new int[TRAILER_LENGTH];
+            try {
+                for (int i = 0; i < values.length; i++) values[i] = (int) readVarLong(in);
+            } catch (EOFException e) {
+                return false;       //Cut off inside the trailer -- same as no END event
+            }
+            trailer = values;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /** Description: Read an unsigned LEB128 varint (see ReplayRecorder.writeVarLong) */
+    public static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Varint is too long");
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * File:        ReplayRecorder.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file records a game as a replay file (see ReplayHeader for the layout). It listens for the
+ *      InputEvents of the BlockController, and the game loop tells it about gravity steps and blocks locking.
+ *
+ *      Recording has to cost next to nothing on the game threads, so an event is only a timestamp and a
+ *      code stored into a preallocated ring buffer. A background writer thread empties the ring, turns the
+ *      events into varints and writes them to the file. The game threads never touch the file.
+ *
+ *      The order of the events is what makes a replay play back the same way. Callers record an event while
+ *      holding the lock of the BlockController they just changed (see MarathonController and GameThread).
+ *
+ */
+
+package com.tetris.engine.replay;
+
+import com.tetris.engine.GameRules;
+import com.tetris.engine.event.GameEvent;
+import com.tetris.engine.event.GameEventListener;
+import com.tetris.engine.event.InputEvent;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/** ReplayRecorder Class -- Records a game into a replay file */
+public class ReplayRecorder implements GameEventListener {
+
+    //Initialize Static Variables
+    private final static int RING_SIZE = 1 << 13;  //Power of two
+    private final static long WRITER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    //Initialize Variables - Ring buffer of (milliseconds << CODE_BITS | code)
+    private final long[] ring = new long[RING_SIZE];
+    private volatile long head = 0;     //Next event the writer reads
+    private volatile long tail = 0;     //Next free slot
+    private final long startNanos;
+
+    //Initialize Variables - Output
+    private final Path path;
+    private final DataOutputStream out;
+    private final Thread writer;
+    private volatile int[] trailer;
+    private volatile IOException error;
+    private boolean finished = false;
+
+    /** CONSTRUCTOR -- Writes the header and starts the writer thread */
+    public ReplayRecorder(Path path, ReplayHeader header) throws IOException {
+        this.path = path;
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        header.write(out);
+        this.startNanos = System.nanoTime();
+
+        this.writer = new Thread(this::writeLoop, "ReplayWriter");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /** Description: Start recording into a new file in the directory, named after the date and seed */
+    public static ReplayRecorder create(Path directory, ReplayHeader header) throws IOException {
+        Files.createDirectories(directory);
+        String name = "replay-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(header.getStartTime()))
+                + "-" + Long.toHexString(header.getSeed()) + ReplayHeader.FILE_EXTENSION;
+        return new ReplayRecorder(directory.resolve(name), header);
+    }
+
+    /** GETTER METHODS */
+    public Path getPath() {
+        return path;
+    }
+
+    /** RECORD EVENTS */
+    @Override
+    public void onEvent(GameEvent event) {
+        if (event instanceof InputEvent) {
+            record(((InputEvent) event).getInput().getCode());
+        }
+    }
+    public void recordGravity() {
+        record(ReplayHeader.GRAVITY);
+    }
+    public void recordLock() {
+        record(ReplayHeader.LOCK);
+    }
+
+    /** Description: Record the end of the game with its final statistics and close the file */
+    public void finish(GameRules rules) {
+        trailer = new int[] {rules.getScore(), rules.getLevel(), rules.getTotalLines(), rules.getTetrises(),
+                rules.getPerfectClears()};
+        record(ReplayHeader.END);
+    }
+
+    /** Description: Wait until the writer has written everything (after finish()) */
+    public void awaitWritten(long timeoutMillis) throws IOException, InterruptedException {
+        writer.join(timeoutMillis);
+        if (error != null) throw error;
+    }
+
+    /** Description: Store one event in the ring. Only waits if the writer has fallen a whole ring behind. */
+    private synchronized void record(int code) {
+        if (finished) return;
+        if (code == ReplayHeader.END) finished = true;
+
+        long t = tail;
+        while (t - head >= RING_SIZE) {
+            if (error != null) return;
+            Thread.onSpinWait();
+        }
+
+        long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        ring[(int) t & (RING_SIZE - 1)] = (millis << ReplayHeader.CODE_BITS) | code;
+        tail = t + 1;
+    }
+
+    /** WRITER THREAD */
+    private void writeLoop() {
+        long lastMillis = 0;
+
+        try {
+            while (true) {
+                long h = head;
+                long t = tail;
+                if (h == t) {
+                    LockSupport.parkNanos(WRITER_PARK_NANOS);
+                    continue;
+                }
+
+                for (; h < t; h++) {
+                    long event = ring[(int) h & (RING_SIZE - 1)];
+                    long millis = event >>> ReplayHeader.CODE_BITS;
+                    int code = (int) (event & ReplayHeader.CODE_MASK);
+
+                    writeVarLong(out, ((millis - lastMillis) << ReplayHeader.CODE_BITS) | code);
+                    lastMillis = millis;
+
+                    if (code == ReplayHeader.END) {
+                        for (int value : trailer) writeVarLong(out, value);
+                        head = h + 1;
+                        out.close();
+                        return;
+                    }
+                }
+                head = t;
+                out.flush();
+            }
+        } catch (IOException e) {
+            error = e;
+            System.out.println("Replay not saved: " + e.getMessage());
+        }
+    }
+
+    /** Description: Unsigned LEB128 varint -- 7 bits per byte, high bit set on every byte but the last */
+    public static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
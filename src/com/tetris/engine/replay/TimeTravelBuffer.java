@@ -0,0 +1,326 @@
+/**
+ * File:        TimeTravelBuffer.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file keeps the last few thousand ticks of a game in memory for debugging (a bad wall kick, a ghost
+ *      in the wrong place...). A tick is one event of the game: an input, a gravity step or a block locking.
+ *      For every tick it keeps the time, the event code, the falling block afterwards (shape, rotation, x, y)
+ *      and the grid rows the tick changed, with their old and new cells.
+ *
+ *      Everything lives in primitive arrays allocated up front and used as rings, so recording a tick never
+ *      allocates and never waits. Rows are packed 4 bits per cell (GameSnapshot cell codes) into a long, and a
+ *      shadow copy of the grid finds the changed rows when a block locks (no other event changes the grid).
+ *      Every KEYFRAME_TICKS ticks a GameSnapshot is written into a preallocated keyframe slot as well (the
+ *      only time the buffer makes any garbage, a few hundred short-lived bytes). Slots are sized from the game
+ *      with room to spare, and a snapshot that still would not fit is dropped rather than overrun the next slot.
+ *
+ *      dump() writes the ticks from the oldest keyframe still in the ring as a normal replay file that starts
+ *      from that keyframe (ReplayPlayer and the ReplayController can open it, the verifier lists it as
+ *      unverifiable), plus a text file listing every tick with its block and changed rows. The game loop dumps
+ *      on an exception. A dump copies the rings under the lock and writes the files after letting go, so the
+ *      game is not held up by the disk.
+ *
+ *      Turned on with -Djtetris.timetravel=<ticks>.
+ *
+ */
+
+package com.tetris.engine.replay;
+
+import com.tetris.engine.GameRules;
+import com.tetris.engine.GameSnapshot;
+import com.tetris.engine.event.GameEvent;
+import com.tetris.engine.event.GameEventListener;
+import com.tetris.engine.event.InputEvent;
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.logic.GameInput;
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+
+/** TimeTravelBuffer Class -- Ring buffer of the last ticks of a game */
+public class TimeTravelBuffer implements GameEventListener {
+
+    //Initialize Static Variables
+    public final static String PROPERTY = "jtetris.timetravel";
+    public final static String DIRECTORY = "timetravel";
+    public final static int KEYFRAME_TICKS = 1024;
+    private final static int KEYFRAME_BYTES = 512;     //Smallest keyframe slot
+    private final static int ROWS_PER_TICK = 2;     //Average room for changed rows; locks use more, moves none
+    private final static Tetrominoe.ShapeType[] SHAPE_TYPES = Tetrominoe.ShapeType.values();
+
+    //Initialize Variables - Game being recorded
+    private final Board board;
+    private final BlockController bc;
+    private final GameRules rules;
+    private final long seed;
+    private final long startNanos = System.nanoTime();
+
+    //Initialize Variables - Tick ring
+    private final int tickMask;
+    private final long[] times;
+    private final byte[] codes;
+    private final int[] blocks;         //Packed falling block, 0 if there is none
+    private final long[] rowStarts;     //First entry of the tick in the row ring
+    private final byte[] rowCounts;
+    private long tick = 0;              //Number of ticks recorded
+
+    //Initialize Variables - Row ring
+    private final int rowMask;
+    private final byte[] rowNumbers;
+    private final long[] rowsBefore;
+    private final long[] rowsAfter;
+    private long rowEntries = 0;
+    private final long[] shadow;
+
+    //Initialize Variables - Keyframes (taken after tick keyframeTicks[slot] - 1)
+    private final int keyframeBytes;
+    private final ByteBuffer keyframes;
+    private final long[] keyframeTicks;
+    private final long[] keyframeTimes;
+
+    /** CONSTRUCTOR -- Capacity is rounded up to a power of two */
+    public TimeTravelBuffer(Board board, BlockController bc, GameRules rules, int capacity) {
+        this.board = board;
+        this.bc = bc;
+        this.rules = rules;
+        this.seed = bc.getRandomizer().getSeed();
+
+        int ticks = Integer.highestOneBit(Math.max(KEYFRAME_TICKS, capacity) - 1) << 1;
+        this.tickMask = ticks - 1;
+        this.times = new long[ticks];
+        this.codes = new byte[ticks];
+        this.blocks = new int[ticks];
+        this.rowStarts = new long[ticks];
+        this.rowCounts = new byte[ticks];
+
+        this.rowMask = ticks * ROWS_PER_TICK - 1;
+        this.rowNumbers = new byte[ticks * ROWS_PER_TICK];
+        this.rowsBefore = new long[ticks * ROWS_PER_TICK];
+        this.rowsAfter = new long[ticks * ROWS_PER_TICK];
+        this.shadow = new long[board.getGridRows()];
+
+        //Twice the size of a snapshot now, as the queue and the bag change length during a game
+        int slots = ticks / KEYFRAME_TICKS + 1;
+        this.keyframeBytes = Math.max(KEYFRAME_BYTES, 2 * GameSnapshot.capture(board, bc, rules, 0).getEncodedSize());
+        this.keyframes = ByteBuffer.allocate(slots * keyframeBytes);
+        this.keyframeTicks = new long[slots];
+        this.keyframeTimes = new long[slots];
+        Arrays.fill(keyframeTicks, -1);
+    }
+
+    /** CONSTRUCTOR -- Copy of the rings of a buffer, for dump() to write without holding its lock */
+    private TimeTravelBuffer(TimeTravelBuffer source) {
+        this.board = source.board;
+        this.bc = source.bc;
+        this.rules = source.rules;
+        this.seed = source.seed;
+        this.tickMask = source.tickMask;
+        this.times = source.times.clone();
+        this.codes = source.codes.clone();
+        this.blocks = source.blocks.clone();
+        this.rowStarts = source.rowStarts.clone();
+        this.rowCounts = source.rowCounts.clone();
+        this.tick = source.tick;
+        this.rowMask = source.rowMask;
+        this.rowNumbers = source.rowNumbers.clone();
+        this.rowsBefore = source.rowsBefore.clone();
+        this.rowsAfter = source.rowsAfter.clone();
+        this.rowEntries = source.rowEntries;
+        this.shadow = source.shadow.clone();
+        this.keyframeBytes = source.keyframeBytes;
+        this.keyframes = ByteBuffer.allocate(source.keyframes.capacity()).put(source.keyframes.duplicate().clear());
+        this.keyframeTicks = source.keyframeTicks.clone();
+        this.keyframeTimes = source.keyframeTimes.clone();
+    }
+
+    /** Description: Buffer for the game if -Djtetris.timetravel is set, otherwise null */
+    public static TimeTravelBuffer fromProperty(Board board, BlockController bc, GameRules rules) {
+        String ticks = System.getProperty(PROPERTY);
+        if (ticks == null) return null;
+        return new TimeTravelBuffer(board, bc, rules, Integer.parseInt(ticks));
+    }
+
+    /**
+     * Description: Start from the current state of the game. Call it (holding the BlockController lock) once
+     *              the first block has spawned or a saved game has been restored.
+     */
+    public synchronized void start() {
+        for (int r = 0; r < shadow.length; r++) shadow[r] = packRow(r);
+        takeKeyframe(millis());
+    }
+
+    /** RECORD TICKS -- Called after the event was applied, holding the BlockController lock */
+    @Override
+    public void onEvent(GameEvent event) {
+        if (event instanceof InputEvent) {
+            record(((InputEvent) event).getInput().getCode(), false);
+        }
+    }
+    public void recordGravity() {
+        record(ReplayHeader.GRAVITY, false);
+    }
+    public void recordLock() {
+        record(ReplayHeader.LOCK, true);
+    }
+
+    private synchronized void record(int code, boolean locked) {
+        long millis = millis();
+        int t = (int) tick & tickMask;
+        times[t] = millis;
+        codes[t] = (byte) code;
+
+        Tetrominoe block = bc.getCurrentBlock();
+        blocks[t] = block == null ? 0 : (block.getShapeType().ordinal() + 1) << 24 | block.getRotation() << 16
+                | (block.getX() & 0xFF) << 8 | (block.getY() & 0xFF);
+
+        //Only locking a block changes the grid
+        rowStarts[t] = rowEntries;
+        int changed = 0;
+        if (locked) {
+            for (int r = 0; r < shadow.length; r++) {
+                long row = packRow(r);
+                if (row == shadow[r]) continue;
+
+                int e = (int) rowEntries & rowMask;
+                rowNumbers[e] = (byte) r;
+                rowsBefore[e] = shadow[r];
+                rowsAfter[e] = row;
+                rowEntries++;
+                changed++;
+                shadow[r] = row;
+            }
+        }
+        rowCounts[t] = (byte) changed;
+        tick++;
+
+        if (tick % KEYFRAME_TICKS == 0) takeKeyframe(millis);
+    }
+
+    /**
+     * Description: Write the buffer as a replay (starting from the oldest keyframe still covered by the ring)
+     *              and a text listing of every tick, named after the time. Return the replay file.
+     */
+    public Path dump(Path directory) throws IOException {
+        TimeTravelBuffer copy;
+        int gameSpeed;
+        synchronized (this) {
+            copy = new TimeTravelBuffer(this);
+            gameSpeed = rules.getGameSpeed();
+        }
+        return copy.write(directory, gameSpeed);
+    }
+
+    /** HELPER FUNCTIONS */
+    private Path write(Path directory, int gameSpeed) throws IOException {
+        Files.createDirectories(directory);
+        String name = "timetravel-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        Path replay = directory.resolve(name + ReplayHeader.FILE_EXTENSION);
+
+        //Oldest keyframe whose ticks are all still in the ring
+        int slot = -1;
+        for (int s = 0; s < keyframeTicks.length; s++) {
+            if (keyframeTicks[s] >= 0 && keyframeTicks[s] >= tick - times.length
+                    && (slot < 0 || keyframeTicks[s] < keyframeTicks[slot])) slot = s;
+        }
+        if (slot < 0) throw new IOException("Time travel buffer was never started");
+        ByteBuffer bytes = keyframes.duplicate();
+        bytes.position(slot * keyframeBytes);
+        GameSnapshot start = GameSnapshot.read(bytes);
+        long first = keyframeTicks[slot];
+
+        ReplayHeader header = new ReplayHeader(seed, board.getGridRows(), board.getGridColumns(), gameSpeed,
+                System.currentTimeMillis(), "timetravel", start);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(replay)))) {
+            header.write(out);
+            long last = keyframeTimes[slot];
+            for (long i = first; i < tick; i++) {
+                int t = (int) i & tickMask;
+                ReplayRecorder.writeVarLong(out, ((times[t] - last) << ReplayHeader.CODE_BITS) | codes[t]);
+                last = times[t];
+            }
+        }
+
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve(name + ".txt"))) {
+            writeListing(out, Math.max(0, tick - times.length));
+        }
+        return replay;
+    }
+    private void writeListing(BufferedWriter out, long from) throws IOException {
+        out.write("tick,millis,event,block,rows changed (row: before -> after)");
+        out.newLine();
+        for (long i = from; i < tick; i++) {
+            int t = (int) i & tickMask;
+            StringBuilder line = new StringBuilder();
+            line.append(i).append(',').append(times[t]).append(',').append(eventName(codes[t])).append(',');
+
+            int block = blocks[t];
+            if (block == 0) line.append('-');
+            else line.append(SHAPE_TYPES[(block >>> 24) - 1]).append(" r").append((block >> 16) & 0xFF)
+                    .append(" (").append((byte) (block >> 8)).append(' ').append((byte) block).append(')');
+
+            //Rows of ticks older than the row ring are gone
+            if (rowStarts[t] >= rowEntries - rowNumbers.length) {
+                for (int k = 0; k < rowCounts[t]; k++) {
+                    int e = (int) (rowStarts[t] + k) & rowMask;
+                    line.append(',').append(rowNumbers[e]).append(": ").append(rowText(rowsBefore[e]))
+                            .append(" -> ").append(rowText(rowsAfter[e]));
+                }
+            } else if (rowCounts[t] > 0) {
+                line.append(",rows no longer in the buffer");
+            }
+            out.write(line.toString());
+            out.newLine();
+        }
+    }
+    private void takeKeyframe(long millis) {
+        int slot = (int) (tick / KEYFRAME_TICKS % keyframeTicks.length);
+        GameSnapshot snapshot = GameSnapshot.capture(board, bc, rules, 0);
+        if (snapshot.getEncodedSize() > keyframeBytes) {
+            keyframeTicks[slot] = -1;       //Too big for the slot; dump() starts from an older keyframe
+            return;
+        }
+        ByteBuffer bytes = keyframes.duplicate();
+        bytes.position(slot * keyframeBytes);
+        snapshot.write(bytes);
+        keyframeTicks[slot] = tick;
+        keyframeTimes[slot] = millis;
+    }
+    private long packRow(int r) {
+        long row = 0;
+        for (int c = 0; c < board.getGridColumns(); c++) {
+            row |= (long) GameSnapshot.encodeCell(board.getBackgroundColor(r, c)) << (c * 4);
+        }
+        return row;
+    }
+    private String rowText(long row) {
+        StringBuilder text = new StringBuilder();
+        for (int c = 0; c < board.getGridColumns(); c++) {
+            int code = (int) (row >>> (c * 4)) & 0xF;
+            text.append(code == GameSnapshot.EMPTY ? '.' : code == GameSnapshot.GARBAGE ? '#'
+                    : SHAPE_TYPES[code - 1].toString().charAt(0));
+        }
+        return text.toString();
+    }
+    private static String eventName(int code) {
+        if (code == ReplayHeader.GRAVITY) return "GRAVITY";
+        if (code == ReplayHeader.LOCK) return "LOCK";
+        GameInput input = GameInput.fromCode(code);
+        return input != null ? input.toString() : "?" + code;
+    }
+    private long millis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * File:        GameSession.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains one game hosted by a SessionHost. It is a HeadlessGame with an input queue and a
+ *      gravity clock instead of a window and a sleeping GameThread. Inputs can be submitted from any thread;
+ *      the shard thread that owns the session applies them on its next step, then lets gravity catch up with
+ *      the time that passed (one HeadlessGame.tick() per gravity step, the same as the GameThread loop).
+ *
+ */
+
+package com.tetris.engine.server;
+
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.logic.GameInput;
+
+/** GameSession Class -- A headless game stepped by a shard of the SessionHost */
+public class GameSession {
+
+    //Initialize Static Variables
+    private final static int INPUT_QUEUE_SIZE = 64;    //Power of two
+
+    //Initialize Variables
+    private final long id;
+    private final HeadlessGame game;
+    private volatile SessionListener listener;
+
+    //Initialize Variables - Inputs waiting for the next step (ring of GameInput codes)
+    private final byte[] inputs = new byte[INPUT_QUEUE_SIZE];
+    private int inputHead = 0;
+    private int inputTail = 0;
+    private int droppedInputs = 0;
+
+    //Initialize Variables - Game States (only touched by the shard thread)
+    private long gravityNanos = 0;
+    private boolean paused = false;
+    private volatile boolean closed = false;
+    private volatile boolean gameOver = false;
+
+    /** CONSTRUCTOR */
+    GameSession(long id, long seed) {
+        this.id = id;
+        this.game = new HeadlessGame(seed);
+    }
+
+    /** GETTER METHODS */
+    public long getId() {
+        return id;
+    }
+    public HeadlessGame getGame() {     //Only safe to read from the shard thread (in a SessionListener)
+        return game;
+    }
+    public boolean isGameOver() {
+        return gameOver;
+    }
+    public boolean isClosed() {
+        return closed;
+    }
+    public synchronized int getDroppedInputs() {
+        return droppedInputs;
+    }
+    public synchronized int getInputsProcessed() {     //Inputs applied or dropped so far
+        return inputHead + droppedInputs;
+    }
+
+    /** SETTER METHODS */
+    public void setListener(SessionListener listener) {
+        this.listener = listener;
+    }
+
+    /** Description: Queue an input for the next step. Return False if the queue is full (the input is dropped). */
+    public synchronized boolean submit(GameInput input) {
+        if (inputTail - inputHead == INPUT_QUEUE_SIZE) {
+            droppedInputs++;
+            return false;
+        }
+        inputs[inputTail++ & (INPUT_QUEUE_SIZE - 1)] = (byte) input.getCode();
+        return true;
+    }
+
+    /** Description: Stop the session; its shard drops it on the next step */
+    public void close() {
+        closed = true;
+    }
+
+    /** Description: One fixed step of the shard loop. Return True if the game changed. */
+    boolean step(long stepNanos) {
+        if (gameOver) return false;
+        if (!game.isStarted()) game.start();
+
+        boolean changed = applyInputs();
+
+        //Gravity catches up with the time that passed
+        if (!paused) {
+            gravityNanos += stepNanos;
+            long gravityStep = game.getRules().getGameSpeed() * 1_000_000L;
+            while (gravityNanos >= gravityStep && !game.isGameOver()) {
+                gravityNanos -= gravityStep;
+                game.tick();
+                changed = true;
+            }
+        }
+
+        SessionListener l = listener;
+        if (game.isGameOver()) {
+            gameOver = true;
+            if (l != null) l.onGameOver(this);
+        } else if (changed && l != null) {
+            l.onStep(this);
+        }
+        return changed;
+    }
+
+    /**
+     * Description: Apply the queued inputs like MarathonController does (PAUSE toggles, a second HOLD is
+     *              ignored). Unlike the GameThread, a hard drop locks on the same step instead of on the next
+     *              gravity step, so a slow level doesn't hold up the next block.
+     */
+    private boolean applyInputs() {
+        BlockController bc = game.getBlockController();
+        boolean changed = false;
+
+        while (true) {
+            GameInput input;
+            synchronized (this) {
+                if (inputHead == inputTail) return changed;
+                input = GameInput.fromCode(inputs[inputHead++ & (INPUT_QUEUE_SIZE - 1)]);
+            }
+
+            if (input == GameInput.PAUSE) {
+                paused = !paused;
+            } else if (!paused && !game.isGameOver() && (input != GameInput.HOLD || bc.canHoldBlock())) {
+                bc.handleInput(input);
+                if (input == GameInput.HARD_DROP) {
+                    game.lockBlock();
+                    gravityNanos = 0;
+                }
+                changed = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * File:        SessionHost.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file hosts many games in one JVM. Each game is a GameSession (a HeadlessGame with an input queue)
+ *      instead of a MarathonController with a window and its own sleeping GameThread. Sessions are spread over
+ *      a fixed number of shard threads (one per core by default), and each shard steps all of its sessions at
+ *      a fixed rate (60 steps a second by default).
+ *
+ *      Admission control: a new session goes to the shard with the fewest sessions, and is refused (open()
+ *      returns null) if that shard is already at the session limit or busier than the load limit. A shard
+ *      that is busy for most of its step would start missing steps, and every game on it would slow down.
+ *
+ *      Capacity: measured with SessionHostBenchmark (simulated players making 4 inputs a second, a hard drop
+ *      every sixth input, level 1 gravity, games that top out replaced) on a single core shared with the
+ *      simulated players: one shard stepping 60 times a second held 24,000 sessions at about 31% load, roughly
+ *      13 us of work per session per second, and started missing steps at 26,000. So plan on about 20,000
+ *      sessions per core. DEFAULT_MAX_SESSIONS_PER_SHARD is a quarter of that, leaving room for the network
+ *      layer and for games at higher levels (faster gravity means more ticks per second).
+ *
+ */
+
+package com.tetris.engine.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** SessionHost Class -- Runs many headless games on a few shard threads */
+public class SessionHost {
+
+    //Initialize Static Variables
+    public final static int DEFAULT_STEPS_PER_SECOND = 60;
+    public final static int DEFAULT_MAX_SESSIONS_PER_SHARD = 5000;
+    public final static double DEFAULT_LOAD_LIMIT = 0.75;
+
+    //Initialize Variables
+    private final List<Shard> shards = new ArrayList<>();
+    private final int maxSessionsPerShard;
+    private final double loadLimit;
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final AtomicLong rejected = new AtomicLong();
+
+    /** CONSTRUCTORS -- Starts the shard threads */
+    public SessionHost() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_STEPS_PER_SECOND, DEFAULT_MAX_SESSIONS_PER_SHARD,
+                DEFAULT_LOAD_LIMIT);
+    }
+    public SessionHost(int shardCount, int stepsPerSecond, int maxSessionsPerShard, double loadLimit) {
+        this.maxSessionsPerShard = maxSessionsPerShard;
+        this.loadLimit = loadLimit;
+
+        long stepNanos = 1_000_000_000L / stepsPerSecond;
+        for (int i = 0; i < shardCount; i++) {
+            Shard shard = new Shard(i, stepNanos);
+            shards.add(shard);
+            shard.start();
+        }
+    }
+
+    /** GETTER METHODS */
+    public int getShardCount() {
+        return shards.size();
+    }
+    public long getRejected() {
+        return rejected.get();
+    }
+    public int getSessionCount() {
+        int count = 0;
+        for (Shard shard : shards) count += shard.getSessionCount();
+        return count;
+    }
+
+    /**
+     * Description: Start a new game on the least busy shard.
+     * Return:      The session, or null if every shard is full or overloaded (admission control)
+     */
+    public synchronized GameSession open(long seed) {
+        Shard best = null;
+        for (Shard shard : shards) {
+            if (best == null || shard.getSessionCount() < best.getSessionCount()) best = shard;
+        }
+        if (best == null || best.getSessionCount() >= maxSessionsPerShard || best.getLoad() > loadLimit) {
+            rejected.incrementAndGet();
+            return null;
+        }
+
+        GameSession session = new GameSession(nextId.getAndIncrement(), seed);
+        best.add(session);
+        return session;
+    }
+
+    /** Description: Current load figures of every shard */
+    public List<ShardMetrics> getMetrics() {
+        List<ShardMetrics> metrics = new ArrayList<>();
+        for (Shard shard : shards) {
+            metrics.add(new ShardMetrics(shard.getIndex(), shard.getSessionCount(), shard.getLoad(),
+                    shard.getMaxStepNanos() / 1000, shard.getSteps(), shard.getOverruns()));
+        }
+        return Collections.unmodifiableList(metrics);
+    }
+
+    /** Description: Stop every shard (the sessions stop with them) */
+    public void shutdown() {
+        for (Shard shard : shards) shard.stop();
+    }
+
+    /** ShardMetrics Class -- Load figures of one shard */
+    public static class ShardMetrics {
+        private final int shard;
+        private final int sessions;
+        private final double load;
+        private final long maxStepMicros;
+        private final long steps;
+        private final long overruns;
+
+        private ShardMetrics(int shard, int sessions, double load, long maxStepMicros, long steps, long overruns) {
+            this.shard = shard;
+            this.sessions = sessions;
+            this.load = load;
+            this.maxStepMicros = maxStepMicros;
+            this.steps = steps;
+            this.overruns = overruns;
+        }
+
+        public int getShard() {
+            return shard;
+        }
+        public int getSessions() {
+            return sessions;
+        }
+        public double getLoad() {       //Share of the last second spent stepping sessions (0 to 1)
+            return load;
+        }
+        public long getMaxStepMicros() {
+            return maxStepMicros;
+        }
+        public long getSteps() {
+            return steps;
+        }
+        public long getOverruns() {     //Steps that ran past the start of the next one
+            return overruns;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("shard %d: %d sessions, load %.1f%%, max step %d us, %d steps, %d overruns",
+                    shard, sessions, load * 100, maxStepMicros, steps, overruns);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * File:        SessionListener.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      An interface for anything that follows a GameSession on a SessionHost (network connections,
+ *      spectators...). Both methods are called on the shard thread of the session, so they must be quick.
+ *
+ */
+
+package com.tetris.engine.server;
+
+/** SessionListener Interface */
+public interface SessionListener {
+
+    /** Description: Called after every step in which the session's game changed */
+    void onStep(GameSession session);
+
+    /** Description: Called once, on the step the game ends */
+    void onGameOver(GameSession session);
+}
@@ -0,0 +1,151 @@
+/**
+ * File:        Shard.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains one shard of the SessionHost: a thread that owns a list of sessions and steps every
+ *      one of them once per fixed timestep. The thread works out when the next step is due and parks until
+ *      then, so a shard with little to do uses little CPU. If a step runs past the next one, the shard counts
+ *      an overrun and starts the next step at once, and if it falls a whole step behind it gives up on the lost
+ *      time instead of trying to catch up.
+ *
+ *      Sessions join and leave through concurrent queues that the shard drains at the start of a step, so the
+ *      list itself is only ever touched by the shard thread. Load is the share of wall time spent stepping,
+ *      measured over one second windows. A session whose step throws (its game or its listener) is logged and
+ *      closed, and the shard carries on with the rest.
+ *
+ */
+
+package com.tetris.engine.server;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/** Shard Class -- Fixed-timestep loop over a group of sessions */
+class Shard implements Runnable {
+
+    //Initialize Static Variables
+    private final static long WINDOW_NANOS = 1_000_000_000L;
+
+    //Initialize Variables
+    private final int index;
+    private final long stepNanos;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    //Initialize Variables - Sessions (the list belongs to the shard thread)
+    private final ArrayList<GameSession> sessions = new ArrayList<>();
+    private final Queue<GameSession> joining = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+
+    //Initialize Variables - Metrics (published once per window)
+    private volatile double load = 0;
+    private volatile long maxStepNanos = 0;
+    private volatile long steps = 0;
+    private volatile long overruns = 0;
+
+    /** CONSTRUCTOR */
+    Shard(int index, long stepNanos) {
+        this.index = index;
+        this.stepNanos = stepNanos;
+        this.thread = new Thread(this, "SessionShard-" + index);
+        this.thread.setDaemon(true);
+    }
+
+    /** GETTER METHODS */
+    int getIndex() {
+        return index;
+    }
+    int getSessionCount() {
+        return sessionCount.get();
+    }
+    double getLoad() {
+        return load;
+    }
+    long getMaxStepNanos() {
+        return maxStepNanos;
+    }
+    long getSteps() {
+        return steps;
+    }
+    long getOverruns() {
+        return overruns;
+    }
+
+    /** Description: Hand a session to the shard. It gets its first step on the next step of the shard. */
+    void add(GameSession session) {
+        sessionCount.incrementAndGet();
+        joining.add(session);
+    }
+
+    void start() {
+        thread.start();
+    }
+    void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    /** SHARD LOOP */
+    @Override
+    public void run() {
+        long next = System.nanoTime();
+        long windowStart = next, windowBusy = 0, windowMax = 0;
+
+        while (running) {
+            long start = System.nanoTime();
+
+            for (GameSession s = joining.poll(); s != null; s = joining.poll()) sessions.add(s);
+
+            //Step every session, dropping the closed ones (swap with the last, order doesn't matter)
+            for (int i = 0; i < sessions.size(); i++) {
+                GameSession session = sessions.get(i);
+                if (session.isClosed()) {
+                    sessions.set(i, sessions.get(sessions.size() - 1));
+                    sessions.remove(sessions.size() - 1);
+                    sessionCount.decrementAndGet();
+                    i--;
+                    continue;
+                }
+                //A game or listener that throws is closed, so the other sessions on the shard keep running
+                try {
+                    session.step(stepNanos);
+                } catch (RuntimeException e) {
+                    System.err.println("Session " + session.getId() + " failed and was closed: " + e);
+                    e.printStackTrace();
+                    session.close();
+                }
+            }
+
+            long end = System.nanoTime();
+            long busy = end - start;
+            windowBusy += busy;
+            windowMax = Math.max(windowMax, busy);
+            steps++;
+
+            if (end - windowStart >= WINDOW_NANOS) {
+                load = (double) windowBusy / (end - windowStart);
+                maxStepNanos = windowMax;
+                windowStart = end;
+                windowBusy = 0;
+                windowMax = 0;
+            }
+
+            //Wait for the next step; if this one ran long start straight away, but never try to catch up
+            next += stepNanos;
+            if (end > next) {
+                overruns++;
+                if (end - next > stepNanos) next = end;
+                continue;
+            }
+            while (running && System.nanoTime() < next) {
+                LockSupport.parkNanos(next - System.nanoTime());
+            }
+        }
+    }
+}
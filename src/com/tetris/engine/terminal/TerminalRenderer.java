@@ -0,0 +1,335 @@
+/**
+ * File:        TerminalRenderer.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file draws a game in ANSI colour on a terminal, for hosts without a display (an operator can
+ *      watch a game or a bot over SSH). It listens to the same events as GameArea, HoldArea and QueueArea and
+ *      keeps the same state they do: the falling block and its ghost, the held block and the queue, next to
+ *      the grid of the Board.
+ *
+ *      The screen is a grid of cells two characters wide. Every event composes the next screen into a cell
+ *      buffer; frame() compares it with the screen already on the terminal and writes only the cells that
+ *      changed, each one a cursor move (left out when the cell is right after the last one written), a colour
+ *      (left out when it is the colour of the last one written) and two characters. The whole frame goes out
+ *      in one write. A falling block that moves one row changes about a dozen cells, so a frame is usually
+ *      a few hundred bytes instead of the several kilobytes of a full redraw.
+ *
+ *      Events come in on the game thread and frame() is called from one drawing thread (at the frame rate of
+ *      the terminal), so a slow terminal never holds up the game.
+ *
+ */
+
+package com.tetris.engine.terminal;
+
+import com.tetris.engine.GameRules;
+import com.tetris.engine.GameSnapshot;
+import com.tetris.engine.event.GameAreaEvent;
+import com.tetris.engine.event.GameEvent;
+import com.tetris.engine.event.GameEventListener;
+import com.tetris.engine.event.HoldAreaEvent;
+import com.tetris.engine.event.QueueAreaEvent;
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedList;
+
+/** TerminalRenderer Class -- The game drawn with ANSI escape codes, one diff per frame */
+public class TerminalRenderer implements GameEventListener {
+
+    //Initialize Static Variables - Cell codes (0 to 8 are GameSnapshot cell codes)
+    private final static int GHOST = 9;
+    private final static int BORDER = 10;
+    private final static int BLANK = 11;                //Panel background
+    private final static int UNKNOWN = -1;              //Front cell that has to be drawn whatever comes next
+
+    //Initialize Static Variables - Layout (in cells)
+    private final static int PANEL_GAP = 1;
+    private final static int PANEL_WIDTH = 6;
+    private final static int PREVIEW_ROWS = 3;          //Rows a queued block takes up, with the gap under it
+    private final static int MAX_PREVIEWS = 5;
+    private final static int TEXT_WIDTH = 2 * PANEL_WIDTH;
+
+    //Initialize Static Variables - Escape codes
+    private final static byte[] START = ascii("\033[?25l\033[2J");   //Hide the cursor, clear the screen
+    private final static byte[] RESET = ascii("\033[0m");
+    private final static byte[] SHOW_CURSOR = ascii("\033[?25h");
+    private final static byte[][] STYLES = new byte[BLANK + 1][];
+    private final static byte[][] GLYPHS = new byte[BLANK + 1][];
+
+    static {
+        STYLES[GameSnapshot.EMPTY] = ascii("\033[0;90m");
+        GLYPHS[GameSnapshot.EMPTY] = ascii(" .");
+        for (int code = 1; code <= GameSnapshot.GARBAGE; code++) {
+            Color colour = GameSnapshot.decodeCell(code);
+            STYLES[code] = ascii("\033[0;48;2;" + colour.getRed() + ";" + colour.getGreen() + ";"
+                    + colour.getBlue() + "m");
+            GLYPHS[code] = ascii("  ");
+        }
+        STYLES[GHOST] = ascii("\033[0;37m");
+        GLYPHS[GHOST] = ascii("[]");
+        STYLES[BORDER] = ascii("\033[0;100m");
+        GLYPHS[BORDER] = ascii("  ");
+        STYLES[BLANK] = RESET;
+        GLYPHS[BLANK] = ascii("  ");
+    }
+
+    //Initialize Variables - What the events said (the same as GameArea, HoldArea and QueueArea keep)
+    private final Board board;
+    private final GameRules rules;
+    private Tetrominoe block;
+    private int theoreticalDropY;
+    private Tetrominoe heldBlock;
+    private final LinkedList<Tetrominoe> nextBlocks = new LinkedList<>();
+    private String message = "";
+
+    //Initialize Variables - Screens (back is composed by the events, front is on the terminal)
+    private final int rows, columns;
+    private final int screenRows, screenColumns;
+    private final int panelColumn, previews;
+    private final byte[] back, front;
+    private final String[] backText, frontText;
+    private final int[] textRow;
+    private boolean composed = false;
+    private boolean redraw = true;
+
+    //Initialize Variables - Output (only used by the drawing thread)
+    private final OutputStream terminal;
+    private final byte[] out;
+    private int length;
+    private int cursorRow, cursorColumn, lastStyle;
+    private long frames = 0, bytesWritten = 0;
+    private int fullRedrawBytes = 0;
+
+    /** CONSTRUCTOR -- Renderer for the board; rules may be null (no score, level and lines then) */
+    public TerminalRenderer(Board board, GameRules rules, OutputStream terminal) {
+        this.board = board;
+        this.rules = rules;
+        this.terminal = terminal;
+        this.rows = board.getGridRows();
+        this.columns = board.getGridColumns();
+
+        //The grid with a border on 3 sides, then the hold, queue and text panel
+        this.screenRows = rows + 1;
+        this.screenColumns = columns + 2 + PANEL_GAP + PANEL_WIDTH;
+        this.panelColumn = columns + 2 + PANEL_GAP;
+        this.previews = Math.max(0, Math.min(MAX_PREVIEWS, (rows - 9) / PREVIEW_ROWS));
+        this.back = new byte[screenRows * screenColumns];
+        this.front = new byte[screenRows * screenColumns];
+
+        //Text lines of the panel: labels above the hold and the queue, then the score, level, lines, message
+        this.textRow = new int[] {0, 4, rows - 4, rows - 3, rows - 2, rows - 1};
+        this.backText = new String[textRow.length];
+        this.frontText = new String[textRow.length];
+        Arrays.fill(backText, "");
+
+        //Worst case: every cell moves the cursor and changes colour, every text line is rewritten
+        int cellBytes = 10 + 24 + 2;
+        int textBytes = 10 + RESET.length + TEXT_WIDTH;
+        this.out = new byte[START.length + back.length * cellBytes + textRow.length * textBytes + 64];
+    }
+
+    /** GETTER METHODS */
+    public long getFrames() {               //Frames that wrote something
+        return frames;
+    }
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+    public int getFullRedrawBytes() {       //Size of the last frame that drew everything
+        return fullRedrawBytes;
+    }
+
+    /** Description: Text shown under the score (Game Over, the name of the bot, ...), set on the game thread */
+    public synchronized void setMessage(String message) {
+        this.message = message == null ? "" : message;
+        compose();
+    }
+
+    /** Description: Draw everything again on the next frame (after the terminal was cleared or resized) */
+    public synchronized void redraw() {
+        redraw = true;
+    }
+
+    /** Description: Keep the state the GUI panels keep and compose the next screen (on the game thread) */
+    @Override
+    public synchronized void onEvent(GameEvent event) {
+        if (event instanceof GameAreaEvent) {
+            GameAreaEvent gameAreaEvent = (GameAreaEvent) event;
+            block = gameAreaEvent.getBlock();
+            theoreticalDropY = gameAreaEvent.getTheoreticalDropY();
+        } else if (event instanceof HoldAreaEvent) {
+            heldBlock = ((HoldAreaEvent) event).getBlock();
+        } else if (event instanceof QueueAreaEvent) {
+            QueueAreaEvent queueAreaEvent = (QueueAreaEvent) event;
+            if (queueAreaEvent.getRemoveBlock()) nextBlocks.poll();
+            nextBlocks.add(queueAreaEvent.getBlock());
+        } else {
+            return;
+        }
+        compose();
+    }
+
+    /**
+     * Description: Write the cells that changed since the last frame in one write (on the drawing thread).
+     *              Return the number of bytes written, 0 if nothing changed.
+     */
+    public int frame() throws IOException {
+        length = 0;
+        cursorRow = UNKNOWN;
+        lastStyle = UNKNOWN;
+        boolean full;
+
+        synchronized (this) {
+            if (!composed) return 0;
+            full = redraw;
+            if (redraw) {
+                put(START);
+                Arrays.fill(front, (byte) UNKNOWN);
+                Arrays.fill(frontText, null);
+                redraw = false;
+            }
+
+            for (int r = 0; r < screenRows; r++) {
+                for (int c = 0; c < screenColumns; c++) {
+                    int cell = r * screenColumns + c;
+                    if (back[cell] == front[cell]) continue;
+                    front[cell] = back[cell];
+                    putCell(r, c, back[cell]);
+                }
+            }
+            for (int i = 0; i < textRow.length; i++) {
+                if (backText[i].equals(frontText[i])) continue;
+                frontText[i] = backText[i];
+                putText(textRow[i], backText[i]);
+            }
+        }
+
+        if (length == 0) return 0;
+        put(RESET);
+        putCursor(screenRows, 0);
+        terminal.write(out, 0, length);
+        terminal.flush();
+        frames++;
+        bytesWritten += length;
+        if (full) fullRedrawBytes = length;
+        return length;
+    }
+
+    /** Description: Put the terminal back the way it was (colours, cursor) under the game */
+    public void close() throws IOException {
+        length = 0;
+        put(RESET);
+        put(SHOW_CURSOR);
+        putCursor(screenRows, 0);
+        put((byte) '\n');
+        terminal.write(out, 0, length);
+        terminal.flush();
+    }
+
+    /** HELPER FUNCTIONS -- Composing (holding the lock) */
+    private void compose() {
+        Arrays.fill(back, (byte) BLANK);
+
+        //Grid and border
+        for (int r = 0; r < rows; r++) {
+            setCell(r, 0, BORDER);
+            setCell(r, columns + 1, BORDER);
+            for (int c = 0; c < columns; c++) {
+                setCell(r, c + 1, GameSnapshot.encodeCell(board.getBackgroundColor(r, c)));
+            }
+        }
+        for (int c = 0; c < columns + 2; c++) setCell(rows, c, BORDER);
+
+        //Ghost, then the block over it (only the parts inside the grid, like GameArea)
+        if (block != null) {
+            putBlock(block, theoreticalDropY, block.getX(), GHOST, true);
+            putBlock(block, block.getY(), block.getX(), block.getShapeType().ordinal() + 1, true);
+        }
+
+        //Hold and queue, 1 cell in from the left of the panel
+        if (heldBlock != null) putPreview(heldBlock, 1);
+        for (int i = 0; i < previews && i < nextBlocks.size(); i++) {
+            putPreview(nextBlocks.get(i), 5 + i * PREVIEW_ROWS);
+        }
+
+        backText[0] = "HOLD";
+        backText[1] = "NEXT";
+        if (rules != null) {
+            backText[2] = "Score " + rules.getScore();
+            backText[3] = "Level " + rules.getLevel();
+            backText[4] = "Lines " + rules.getTotalLines();
+        }
+        backText[5] = message;
+        composed = true;
+    }
+    private void putPreview(Tetrominoe preview, int row) {
+        putBlock(preview, row - preview.getPointY(), panelColumn + 1 - preview.getPointX(),
+                preview.getShapeType().ordinal() + 1, false);
+    }
+    private void putBlock(Tetrominoe t, int y, int x, int code, boolean inGrid) {     //x and y of coords[0][0]
+        int[][] coords = t.getCoords();
+        for (int row = t.getPointY(); row < t.getPointY() + t.getHeight(); row++) {
+            for (int col = t.getPointX(); col < t.getPointX() + t.getWidth(); col++) {
+                if (coords[row][col] != 1) continue;
+                int r = y + row, c = x + col;
+                if (inGrid) {
+                    if (r < 0 || r >= rows || c < 0 || c >= columns) continue;
+                    if (code == GHOST && back[r * screenColumns + c + 1] != GameSnapshot.EMPTY) continue;
+                    c++;
+                }
+                if (r >= 0 && r < screenRows && c >= 0 && c < screenColumns) setCell(r, c, code);
+            }
+        }
+    }
+    private void setCell(int row, int column, int code) {
+        back[row * screenColumns + column] = (byte) code;
+    }
+
+    /** HELPER FUNCTIONS -- Output (drawing thread) */
+    private void putCell(int row, int column, int code) {
+        if (row != cursorRow || column != cursorColumn) putCursor(row, column);
+        if (code != lastStyle) put(STYLES[code]);
+        put(GLYPHS[code]);
+        lastStyle = code;
+        cursorColumn++;
+    }
+    private void putText(int row, String text) {
+        putCursor(row, panelColumn);
+        put(RESET);
+        lastStyle = UNKNOWN;
+        for (int i = 0; i < TEXT_WIDTH; i++) put((byte) (i < text.length() ? text.charAt(i) : ' '));
+        cursorRow = UNKNOWN;
+    }
+    private void putCursor(int row, int column) {           //Cells are 2 characters wide; ANSI counts from 1
+        put((byte) 27);
+        put((byte) '[');
+        putInt(row + 1);
+        put((byte) ';');
+        putInt(2 * column + 1);
+        put((byte) 'H');
+        cursorRow = row;
+        cursorColumn = column;
+    }
+    private void putInt(int value) {
+        if (value >= 10) putInt(value / 10);
+        put((byte) ('0' + value % 10));
+    }
+    private void put(byte[] bytes) {
+        System.arraycopy(bytes, 0, out, length, bytes.length);
+        length += bytes.length;
+    }
+    private void put(byte b) {
+        out[length++] = b;
+    }
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * File:        AttackTable.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains how many garbage rows a line clear sends to the opponent in versus mode. It follows
+ *      the usual guideline table: a Single sends nothing, a Double 1, a Triple 2, a Tetris 4 and a Perfect
+ *      Clear 10. A Tetris right after another Tetris (back-to-back) sends one more, and clearing lines with
+ *      several blocks in a row (a combo) adds rows from the combo table.
+ *
+ *      There are no T-spins in the game, so there are no T-spin rows either.
+ *
+ */
+
+package com.tetris.engine.versus;
+
+/** AttackTable Class -- Garbage rows sent for a line clear */
+public class AttackTable {
+
+    //Initialize Static Variables
+    public final static int PERFECT_CLEAR = 10;
+    public final static int BACK_TO_BACK_BONUS = 1;
+    private final static int[] LINES = {0, 0, 1, 2, 4};
+    private final static int[] COMBO = {0, 0, 1, 1, 1, 2, 2, 3, 3, 4, 4, 4, 5};
+
+    private AttackTable() { }
+
+    /**
+     * Description: Rows sent for one lock.
+     * Parameters:  int linesCleared ---- Value returned by Board.clearLines() (8 is a Perfect Clear)
+     *              int combo ----------- Locks in a row that cleared lines before this one (0 for the first)
+     *              boolean backToBack -- True if this is a Tetris and the last clear was a Tetris as well
+     */
+    public static int attack(int linesCleared, int combo, boolean backToBack) {
+        if (linesCleared == 0) return 0;
+
+        int rows = linesCleared == 8 ? PERFECT_CLEAR : LINES[linesCleared];
+        if (backToBack) rows += BACK_TO_BACK_BONUS;
+        rows += COMBO[Math.min(combo, COMBO.length - 1)];
+        return rows;
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * File:        GarbageQueue.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains the garbage waiting to go into one player's grid. Every attack the player receives
+ *      is queued as a batch of rows sharing one hole. When the player clears lines, their own attack cancels
+ *      the oldest waiting rows first and only what is left over goes to the opponent. When the player locks a
+ *      block without clearing anything, the waiting rows go into the grid (up to a cap per lock).
+ *
+ *      Batches are kept in a ring of primitive arrays; a full ring adds the rows to the newest batch.
+ *
+ */
+
+package com.tetris.engine.versus;
+
+/** GarbageQueue Class -- Incoming garbage of one player */
+public class GarbageQueue {
+
+    //Initialize Static Variables
+    private final static int CAPACITY = 32;    //Power of two
+
+    //Initialize Variables - Ring of batches
+    private final int[] lines = new int[CAPACITY];
+    private final int[] holes = new int[CAPACITY];
+    private int head = 0;
+    private int tail = 0;
+    private int pending = 0;
+
+    /** GETTER METHODS */
+    public int getPending() {
+        return pending;
+    }
+    public boolean isEmpty() {
+        return pending == 0;
+    }
+    public int peekLines() {
+        return lines[head & (CAPACITY - 1)];
+    }
+    public int peekHole() {
+        return holes[head & (CAPACITY - 1)];
+    }
+
+    /** Description: Queue an attack from the opponent */
+    public void add(int rows, int hole) {
+        if (rows <= 0) return;
+        pending += rows;
+        if (tail - head == CAPACITY) {
+            lines[(tail - 1) & (CAPACITY - 1)] += rows;
+            return;
+        }
+        lines[tail & (CAPACITY - 1)] = rows;
+        holes[tail & (CAPACITY - 1)] = hole;
+        tail++;
+    }
+
+    /** Description: Take rows off the front of the queue (they were cancelled or went into the grid) */
+    public void remove(int rows) {
+        while (rows > 0 && head != tail) {
+            int i = head & (CAPACITY - 1);
+            int n = Math.min(rows, lines[i]);
+            lines[i] -= n;
+            pending -= n;
+            rows -= n;
+            if (lines[i] == 0) head++;
+        }
+    }
+
+    /** Description: Cancel waiting rows with an attack. Return the rows of the attack left to send. */
+    public int cancel(int attack) {
+        int cancelled = Math.min(attack, pending);
+        remove(cancelled);
+        return attack - cancelled;
+    }
+}
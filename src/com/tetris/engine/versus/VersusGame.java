@@ -0,0 +1,90 @@
+/**
+ * File:        VersusGame.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains a versus game: two VersusPlayers stepped one after the other on a single fixed
+ *      timestep (STEPS_PER_SECOND). Both get the same seed, so they are dealt the same blocks. Garbage sent
+ *      in a step is queued on the other player straight away, with a hole column from the game's own random
+ *      generator.
+ *
+ *      Nothing depends on the clock: time only moves forward in whole steps, and keyboard inputs are applied
+ *      at the start of a step. Two games with the same seed and the same inputs on the same steps play out
+ *      exactly the same (with bots, as long as their search isn't cut short by its time budget and finishes
+ *      within the bot's delay -- see VersusPlayer).
+ *
+ *      The game ends when a player tops out; the other one wins (if both top out in the same step it is a
+ *      draw).
+ *
+ */
+
+package com.tetris.engine.versus;
+
+import com.tetris.engine.ai.BotPlayer;
+
+import java.util.Random;
+
+/** VersusGame Class -- Two players on one tick scheduler */
+public class VersusGame {
+
+    //Initialize Static Variables
+    public final static int STEPS_PER_SECOND = 60;
+    public final static long STEP_NANOS = 1_000_000_000L / STEPS_PER_SECOND;
+    public final static int DRAW = -1;
+
+    //Initialize Variables
+    private final VersusPlayer[] players;
+    private final Random holes;
+    private long steps = 0;
+    private boolean finished = false;
+    private int winner = DRAW;
+
+    /** CONSTRUCTOR -- A null bot is a person */
+    public VersusGame(long seed, BotPlayer left, BotPlayer right) {
+        this.players = new VersusPlayer[] {new VersusPlayer(seed, left), new VersusPlayer(seed, right)};
+        this.holes = new Random(seed);
+    }
+
+    /** GETTER METHODS */
+    public VersusPlayer getPlayer(int index) {
+        return players[index];
+    }
+    public long getSteps() {
+        return steps;
+    }
+    public boolean isFinished() {
+        return finished;
+    }
+    public int getWinner() {    //Index of the winner, or DRAW
+        return winner;
+    }
+
+    /** Description: Spawn the first block of both players */
+    public void start() {
+        for (VersusPlayer player : players) player.getGame().start();
+    }
+
+    /** Description: One step of both games. Return False once the game is over. */
+    public boolean step() {
+        if (finished) return false;
+
+        for (int i = 0; i < players.length; i++) {
+            int attack = players[i].step(STEP_NANOS);
+            if (attack > 0) {
+                int columns = players[1 - i].getGame().getBoard().getGridColumns();
+                players[1 - i].receiveGarbage(attack, holes.nextInt(columns));
+            }
+        }
+        steps++;
+
+        boolean leftLost = players[0].isGameOver(), rightLost = players[1].isGameOver();
+        if (leftLost || rightLost) {
+            finished = true;
+            winner = leftLost && rightLost ? DRAW : leftLost ? 1 : 0;
+            for (VersusPlayer player : players) player.shutdown();
+        }
+        return !finished;
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * File:        VersusPlayer.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file contains one side of a versus game: a HeadlessGame, its incoming GarbageQueue and either a
+ *      person (inputs queued from the keyboard) or a BotPlayer. VersusGame steps both players on the same
+ *      thread, so everything here runs on that thread except submit() and the bot's search.
+ *
+ *      A step applies the queued inputs, lets the bot play its block once it has waited botDelaySteps steps
+ *      (so it plays at a human-like pace instead of instantly), and then lets gravity catch up with the step,
+ *      the same as HeadlessGame.tick(). A hard drop locks straight away.
+ *
+ *      The bot's search runs on its own thread so a slow search never holds up the step (or the other
+ *      player). It starts at the end of the step in which the block spawned and is played on the step
+ *      botDelaySteps later, which keeps the game deterministic. A search that is still running then is played
+ *      on the first step after it finishes; the step never waits for it.
+ *
+ *      After every lock, lines cleared are turned into an attack (AttackTable) that first cancels the player's
+ *      own waiting garbage; a lock that clears nothing lets the waiting garbage into the grid instead.
+ *
+ */
+
+package com.tetris.engine.versus;
+
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.ai.BotPlayer;
+import com.tetris.engine.ai.FinessePlanner;
+import com.tetris.engine.ai.Placement;
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.logic.GameInput;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/** VersusPlayer Class -- One side of a versus game */
+public class VersusPlayer {
+
+    //Initialize Static Variables
+    public final static int GARBAGE_PER_LOCK = 8;
+    public final static int DEFAULT_BOT_DELAY_STEPS = 30;
+    private final static int INPUT_QUEUE_SIZE = 64;    //Power of two
+
+    //Initialize Variables
+    private final HeadlessGame game;
+    private final GarbageQueue garbage = new GarbageQueue();
+    private final BotPlayer bot;
+    private final ExecutorService botThread;
+    private Future<Placement> botPlan;
+    private int botDelaySteps = DEFAULT_BOT_DELAY_STEPS;
+
+    //Initialize Variables - Inputs waiting for the next step (ring of GameInput codes, guarded by the player)
+    private final byte[] inputs = new byte[INPUT_QUEUE_SIZE];
+    private int inputHead = 0;
+    private int inputTail = 0;
+
+    //Initialize Variables - Game States
+    private long gravityNanos = 0;
+    private int stepsSinceSpawn = 0;
+    private boolean botPlayed = false;
+    private int combo = -1;
+    private boolean backToBack = false;
+    private int linesSent = 0;
+
+    /** CONSTRUCTOR -- bot is null for a person */
+    public VersusPlayer(long seed, BotPlayer bot) {
+        this.game = new HeadlessGame(seed);
+        this.bot = bot;
+        this.botThread = bot == null ? null : Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "VersusPlayer-Bot");
+            t.setDaemon(true);
+            return t;
+        });
+
+        //Build the shared input tables before the first block, not on the step that plays it
+        if (bot != null) botThread.execute(() -> FinessePlanner.forGrid(game.getBoard().getGridRows()));
+    }
+
+    /** GETTER METHODS */
+    public HeadlessGame getGame() {
+        return game;
+    }
+    public BotPlayer getBot() {
+        return bot;
+    }
+    public int getPendingGarbage() {
+        return garbage.getPending();
+    }
+    public int getLinesSent() {
+        return linesSent;
+    }
+    public boolean isGameOver() {
+        return game.isGameOver();
+    }
+
+    /** SETTER METHODS */
+    public void setBotDelaySteps(int botDelaySteps) {
+        this.botDelaySteps = botDelaySteps;
+    }
+
+    /** Description: Queue a keyboard input for the next step (any thread). Return False if the queue is full. */
+    public synchronized boolean submit(GameInput input) {
+        if (inputTail - inputHead == INPUT_QUEUE_SIZE) return false;
+        inputs[inputTail++ & (INPUT_QUEUE_SIZE - 1)] = (byte) input.getCode();
+        return true;
+    }
+
+    /** Description: Stop the bot's search thread. Called when the game is over. */
+    void shutdown() {
+        if (bot == null) return;
+        if (botPlan != null) botPlan.cancel(true);
+        botThread.shutdownNow();
+        bot.shutdown();
+    }
+
+    /** Description: Garbage sent by the opponent; it waits until this player locks a block */
+    void receiveGarbage(int rows, int hole) {
+        garbage.add(rows, hole);
+    }
+
+    /** Description: One step of the versus game. Return the garbage rows to send to the opponent. */
+    int step(long stepNanos) {
+        if (game.isGameOver()) return 0;
+        if (!game.isStarted()) game.start();
+        BlockController bc = game.getBlockController();
+        int attack = 0;
+
+        //Keyboard
+        while (!game.isGameOver()) {
+            GameInput input;
+            synchronized (this) {
+                if (inputHead == inputTail) break;
+                input = GameInput.fromCode(inputs[inputHead++ & (INPUT_QUEUE_SIZE - 1)]);
+            }
+            if (input == null || input == GameInput.PAUSE) continue;
+            if (input == GameInput.HOLD && !bc.canHoldBlock()) continue;
+
+            bc.handleInput(input);
+            if (input == GameInput.HARD_DROP) attack += lock();
+        }
+
+        //AI -- plays the placement its thread worked out, once the delay is up and the search is done
+        if (bot != null && !game.isGameOver() && !botPlayed && ++stepsSinceSpawn >= botDelaySteps
+                && botPlan != null && botPlan.isDone()) {
+            botPlayed = true;
+            Placement placement = takeBotPlan();
+            if (placement != null) bot.playPlacement(bc, placement);
+            bc.handleInput(GameInput.HARD_DROP);
+            attack += lock();
+        }
+
+        //Gravity catches up with the step (same order as HeadlessGame.tick())
+        gravityNanos += stepNanos;
+        long gravityStep = game.getRules().getGameSpeed() * 1_000_000L;
+        while (gravityNanos >= gravityStep && !game.isGameOver()) {
+            gravityNanos -= gravityStep;
+            while (!game.isGameOver() && bc.checkBottom()) attack += lock();
+            if (!game.isGameOver()) bc.moveBlockDown();
+        }
+
+        //Start the search for a block that spawned in this step
+        if (bot != null && !game.isGameOver() && !botPlayed && botPlan == null) {
+            botPlan = botThread.submit(bot.prepare(bc)::get);
+        }
+        return attack;
+    }
+
+    /** Description: Take the finished search result. Return null if the search failed. */
+    private Placement takeBotPlan() {
+        Future<Placement> plan = botPlan;
+        botPlan = null;
+        try {
+            return plan.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("Bot search failed: " + e.getCause());
+        }
+        return null;
+    }
+
+    /** Description: Lock the block, work out the attack and cancel garbage with it, or take the garbage in */
+    private int lock() {
+        int linesCleared = game.lockBlock();
+        gravityNanos = 0;
+        stepsSinceSpawn = 0;
+        botPlayed = false;
+        if (botPlan != null) {      //Gravity locked the block before the bot played it
+            botPlan.cancel(true);
+            botPlan = null;
+        }
+        if (game.isGameOver()) return 0;
+
+        if (linesCleared == 0) {
+            combo = -1;
+            int rows = 0;
+            while (!garbage.isEmpty() && rows < GARBAGE_PER_LOCK) {
+                int n = Math.min(garbage.peekLines(), GARBAGE_PER_LOCK - rows);
+                int hole = garbage.peekHole();
+                garbage.remove(n);
+                rows += n;
+                if (!game.addGarbage(n, hole)) break;
+            }
+            return 0;
+        }
+
+        combo++;
+        boolean tetris = linesCleared == 4;
+        int attack = AttackTable.attack(linesCleared, combo, tetris && backToBack);
+        if (linesCleared != 8) backToBack = tetris;     //A Perfect Clear keeps the back-to-back going
+
+        attack = garbage.cancel(attack);
+        linesSent += attack;
+        return attack;
+    }
+}
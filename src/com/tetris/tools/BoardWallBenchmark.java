@@ -0,0 +1,188 @@
+/**
+ * File:        BoardWallBenchmark.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file runs a wall of games on a BoardWallPanel and reports what it costs. The games are sessions
+ *      on a SessionHost with simulated players (random moves and hard drops, faster than a person), and every
+ *      step that changes a game hands its snapshot to the wall. A game that tops out stays on the wall, dimmed,
+ *      for GAME_OVER_SECONDS and is then replaced.
+ *
+ *      With a display the wall opens in a window. Without one (a CI box) the panel paints every repaint into
+ *      an offscreen image instead of the screen, so the same compositing and painting work is measured. Every
+ *      second it prints the frame rate the panel settled on, the frames drawn, the boards redrawn and skipped
+ *      and the share of the Event Dispatch Thread the wall used.
+ *
+ *      Usage: BoardWallBenchmark [boards] [seconds] [cellSize] [inputsPerSecond]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.gui.BoardWallPanel;
+import com.tetris.engine.logic.GameInput;
+import com.tetris.engine.server.GameSession;
+import com.tetris.engine.server.SessionHost;
+import com.tetris.engine.server.SessionListener;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+/** BoardWallBenchmark Class -- Many simulated games on one BoardWallPanel */
+public class BoardWallBenchmark {
+
+    //Initialize Static Variables
+    private final static int DRIVER_STEPS_PER_SECOND = 20;
+    private final static int GAME_OVER_SECONDS = 2;
+    private final static GameInput[] MOVES = {GameInput.LEFT, GameInput.RIGHT, GameInput.CW, GameInput.CCW,
+            GameInput.SOFT_DROP};
+
+    /** Main Function: Runs the wall */
+    public static void main(String[] args) throws Exception {
+        int boards = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int cellSize = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int inputsPerSecond = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        HeadlessGame sample = new HeadlessGame(0);
+        int rows = sample.getBoard().getGridRows(), columns = sample.getBoard().getGridColumns();
+        boolean headless = GraphicsEnvironment.isHeadless();
+        BoardWallPanel wall = headless ? new OffscreenWall(boards, rows, columns, cellSize)
+                : new BoardWallPanel(boards, rows, columns, cellSize);
+
+        SwingUtilities.invokeAndWait(() -> {
+            if (!headless) {
+                JFrame frame = new JFrame("JTetris -- " + boards + " games");
+                frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+                frame.add(wall);
+                frame.pack();
+                frame.setVisible(true);
+            }
+            wall.start();
+        });
+
+        //One shard, as the wall is meant to keep up on one core
+        SessionHost host = new SessionHost(1, SessionHost.DEFAULT_STEPS_PER_SECOND, Integer.MAX_VALUE, 1.0);
+        Random random = new Random(42);
+        GameSession[] sessions = new GameSession[boards];
+        for (int b = 0; b < boards; b++) sessions[b] = open(host, wall, b, random);
+        Thread driver = new Thread(() -> drive(host, wall, sessions, random, inputsPerSecond), "SimulatedPlayers");
+        driver.setDaemon(true);
+        driver.start();
+
+        System.out.printf("%d boards (%dx%d pixels), %s, %d inputs a second per game%n", boards,
+                wall.getPreferredSize().width, wall.getPreferredSize().height,
+                headless ? "painted offscreen" : "on screen", inputsPerSecond);
+        long lastFrames = 0, lastDrawn = 0, lastSkipped = 0;
+        for (int s = 1; s <= seconds; s++) {
+            Thread.sleep(1000);
+            long[] now = new long[4];
+            double[] load = new double[1];
+            SwingUtilities.invokeAndWait(() -> {
+                now[0] = wall.getFrames();
+                now[1] = wall.getTilesDrawn();
+                now[2] = wall.getTilesSkipped();
+                now[3] = wall.getTargetFps();
+                load[0] = wall.getLoad();
+            });
+            System.out.printf("%2d s: target %d fps, %d frames, %d boards drawn, %d skipped, EDT load %.0f%%%n", s,
+                    now[3], now[0] - lastFrames, now[1] - lastDrawn, now[2] - lastSkipped, load[0] * 100);
+            lastFrames = now[0];
+            lastDrawn = now[1];
+            lastSkipped = now[2];
+        }
+
+        SwingUtilities.invokeAndWait(wall::stop);
+        host.shutdown();
+        System.out.printf("Total: %d frames, %.1f%% of boards skipped, %d cells drawn, %.3f ms a frame "
+                        + "(%.3f compositing, %.3f painting)%n", wall.getFrames(),
+                100.0 * wall.getTilesSkipped() / Math.max(1, wall.getTilesSkipped() + wall.getTilesDrawn()),
+                wall.getCellsDrawn(), (wall.getComposeMillis() + wall.getPaintMillis()) / wall.getFrames(),
+                wall.getComposeMillis() / wall.getFrames(), wall.getPaintMillis() / wall.getFrames());
+        if (!headless) System.exit(0);
+    }
+
+    /** Description: Random inputs for every game; games over for GAME_OVER_SECONDS are replaced */
+    private static void drive(SessionHost host, BoardWallPanel wall, GameSession[] sessions, Random random,
+                              int inputsPerSecond) {
+        long stepMillis = 1000 / DRIVER_STEPS_PER_SECOND;
+        int[] overSteps = new int[sessions.length];
+        int count = 0;
+
+        while (true) {
+            for (int b = 0; b < sessions.length; b++) {
+                GameSession session = sessions[b];
+                if (session.isGameOver()) {
+                    if (++overSteps[b] < GAME_OVER_SECONDS * DRIVER_STEPS_PER_SECOND) continue;
+                    overSteps[b] = 0;
+                    session.close();
+                    sessions[b] = open(host, wall, b, random);
+                    continue;
+                }
+                for (int i = 0; i < inputsPerSecond; i++) {
+                    if (random.nextInt(DRIVER_STEPS_PER_SECOND) != 0) continue;
+                    session.submit(++count % 6 == 0 ? GameInput.HARD_DROP : MOVES[random.nextInt(MOVES.length)]);
+                }
+            }
+
+            try {
+                Thread.sleep(stepMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    private static GameSession open(SessionHost host, BoardWallPanel wall, int board, Random random) {
+        GameSession session = host.open(random.nextLong());
+        session.setListener(new WallFeed(wall, board));
+        return session;
+    }
+
+    /** WallFeed Class -- Hands the snapshot of a session to its board on the wall (on the shard thread) */
+    private static class WallFeed implements SessionListener {
+        private final BoardWallPanel wall;
+        private final int board;
+
+        WallFeed(BoardWallPanel wall, int board) {
+            this.wall = wall;
+            this.board = board;
+        }
+
+        @Override
+        public void onStep(GameSession session) {
+            wall.update(board, session.getGame().snapshot());
+        }
+        @Override
+        public void onGameOver(GameSession session) {
+            wall.update(board, session.getGame().snapshot(), true);
+        }
+    }
+
+    /** OffscreenWall Class -- A BoardWallPanel that paints each repaint into an image instead of a screen */
+    @SuppressWarnings("serial")    //Never serialized
+    private static class OffscreenWall extends BoardWallPanel {
+        private final BufferedImage screen;
+
+        OffscreenWall(int boards, int rows, int columns, int cellSize) {
+            super(boards, rows, columns, cellSize);
+            setSize(getPreferredSize());
+            this.screen = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_RGB);
+        }
+
+        @Override
+        public void repaint(long tm, int x, int y, int width, int height) {
+            if (screen == null) return;         //Swing repaints while the panel is being built
+            Graphics g = screen.createGraphics();
+            g.setClip(x, y, width, height);
+            paint(g);
+            g.dispose();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * File:        EvaluatorBenchmark.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file compares the one-board-at-a-time evaluation (FeatureExtractor + evaluate) with the batched
+ *      evaluation (FeatureExtractor into a FeatureBatch + evaluateBatch) on the same set of candidate boards.
+ *      It checks that both give the same scores and prints the time per board for each.
+ *
+ *      Usage: EvaluatorBenchmark [boards] [batchSize] [rounds]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.ai.FeatureBatch;
+import com.tetris.engine.ai.FeatureExtractor;
+import com.tetris.engine.ai.HeuristicEvaluator;
+import com.tetris.engine.ai.Placement;
+import com.tetris.engine.ai.PlacementGenerator;
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/** EvaluatorBenchmark Class -- Scalar vs batched evaluation */
+public class EvaluatorBenchmark {
+
+    //Initialize Static Variables
+    private final static int GRID_ROWS = 20;
+
+    /** Main Function: Runs the benchmark */
+    public static void main(String[] args) {
+        int boardCount = args.length > 0 ? Integer.parseInt(args[0]) : 4096;
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+        BitBoard[] boards = createBoards(boardCount, new Random(42));
+        HeuristicEvaluator evaluator = new HeuristicEvaluator(new double[] {-0.51, -0.1, -0.36, -0.18, -0.3, -0.3,
+                -0.2, -0.1, 0.76});
+
+        double[] scalarScores = new double[boardCount];
+        double[] batchScores = new double[boardCount];
+
+        //Warm up both paths so that HotSpot has compiled them before timing
+        for (int i = 0; i < 20; i++) {
+            runScalar(boards, evaluator, scalarScores);
+            runBatched(boards, evaluator, batchSize, batchScores);
+        }
+
+        long scalarNanos = Long.MAX_VALUE;
+        long batchNanos = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            runScalar(boards, evaluator, scalarScores);
+            scalarNanos = Math.min(scalarNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            runBatched(boards, evaluator, batchSize, batchScores);
+            batchNanos = Math.min(batchNanos, System.nanoTime() - start);
+        }
+
+        for (int i = 0; i < boardCount; i++) {
+            if (Math.abs(scalarScores[i] - batchScores[i]) > 1e-9) {
+                throw new IllegalStateException("Scores differ for board " + i);
+            }
+        }
+
+        System.out.printf("Boards: %d, batch size: %d, best of %d rounds%n", boardCount, batchSize, rounds);
+        System.out.printf("Scalar:  %.1f ns/board%n", (double) scalarNanos / boardCount);
+        System.out.printf("Batched: %.1f ns/board%n", (double) batchNanos / boardCount);
+        System.out.printf("Speedup: %.2fx%n", (double) scalarNanos / batchNanos);
+    }
+
+    /** Description: Extract and score one board at a time */
+    private static void runScalar(BitBoard[] boards, HeuristicEvaluator evaluator, double[] scores) {
+        int[] features = new int[FeatureExtractor.FEATURE_COUNT];
+        for (int i = 0; i < boards.length; i++) {
+            FeatureExtractor.extract(boards[i], features);
+            scores[i] = evaluator.evaluate(features, 0);
+        }
+    }
+
+    /** Description: Extract and score the boards batchSize at a time */
+    private static void runBatched(BitBoard[] boards, HeuristicEvaluator evaluator, int batchSize, double[] scores) {
+        FeatureBatch batch = new FeatureBatch(batchSize);
+        double[] batchScores = new double[batchSize];
+        int[] features = new int[FeatureExtractor.FEATURE_COUNT];
+
+        for (int start = 0; start < boards.length; start += batchSize) {
+            int end = Math.min(boards.length, start + batchSize);
+
+            batch.clear();
+            for (int i = start; i < end; i++) {
+                FeatureExtractor.extract(boards[i], features);
+                batch.add(features, 0);
+            }
+            evaluator.evaluateBatch(batch, batchScores);
+
+            System.arraycopy(batchScores, 0, scores, start, end - start);
+        }
+    }
+
+    /** Description: Make boards that look like real games by dropping random blocks in random places */
+    private static BitBoard[] createBoards(int count, Random random) {
+        Tetrominoe.ShapeType[] shapeTypes = Tetrominoe.ShapeType.values();
+        BitBoard[] boards = new BitBoard[count];
+        List<Placement> placements = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            BitBoard board = new BitBoard(GRID_ROWS);
+            int blocks = random.nextInt(30);
+
+            for (int b = 0; b < blocks; b++) {
+                placements.clear();
+                PlacementGenerator.generate(board, shapeTypes[random.nextInt(shapeTypes.length)], placements);
+                if (placements.isEmpty()) break;
+
+                Placement p = placements.get(random.nextInt(placements.size()));
+                board.placeBlock(p.getShapeType(), p.getRotation(), p.getX(), p.getY());
+                board.clearLines();
+            }
+            boards[i] = board;
+        }
+
+        return boards;
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * File:        ExternalBotRunner.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file plays headless games with an external bot (see ExternalBotDriver) and prints how it did and
+ *      how long its moves took: the whole round trip, and the part of it that was the protocol rather than
+ *      the bot's own thinking (for bots that report their think time). A block the bot doesn't answer for in
+ *      time is dropped where it spawned.
+ *
+ *      Without a command it runs StdioBot in a new JVM, which is the protocol against the built in search.
+ *
+ *      Usage: ExternalBotRunner [--games N] [--max-blocks M] [--seed S] [--move-ms T] [-- command ...]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.ai.ExternalBotDriver;
+import com.tetris.engine.logic.BlockController;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** ExternalBotRunner Class -- Headless games played by a bot in another process */
+public class ExternalBotRunner {
+
+    /** Main Function: Runs the games */
+    public static void main(String[] args) throws IOException {
+        int games = 5;
+        int maxBlocks = 500;
+        long seed = 1;
+        long moveMillis = ExternalBotDriver.DEFAULT_MOVE_MILLIS;
+        List<String> command = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games": games = Integer.parseInt(args[++i]); break;
+                case "--max-blocks": maxBlocks = Integer.parseInt(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--move-ms": moveMillis = Long.parseLong(args[++i]); break;
+                case "--": command.addAll(Arrays.asList(args).subList(i + 1, args.length)); i = args.length; break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        if (command.isEmpty()) {
+            String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+            command.addAll(Arrays.asList(java, "-cp", System.getProperty("java.class.path"),
+                    StdioBot.class.getName()));
+        }
+
+        HeadlessGame first = new HeadlessGame(seed);
+        try (ExternalBotDriver bot = new ExternalBotDriver(command, first.getBoard().getGridRows(),
+                first.getBoard().getGridColumns(), moveMillis)) {
+            System.out.println("Playing " + games + " games with " + bot.getName() + ", " + moveMillis + " ms a move");
+
+            for (int g = 0; g < games && bot.isAlive(); g++) {
+                HeadlessGame game = g == 0 ? first : new HeadlessGame(seed + g);
+                game.start();
+                BlockController bc = game.getBlockController();
+                while (!game.isGameOver() && game.getBlocksPlaced() < maxBlocks && bot.isAlive()) {
+                    bot.onSpawn(bc);
+                    bc.hardDrop();
+                    game.lockBlock();
+                }
+                System.out.printf("Game %d: %d blocks, %d lines, score %d%s%n", g + 1, game.getBlocksPlaced(),
+                        game.getRules().getTotalLines(), game.getRules().getScore(),
+                        game.isGameOver() ? " (Game Over)" : "");
+            }
+
+            System.out.printf("%d moves, %d timeouts, %d bad replies%n", bot.getMoves(), bot.getTimeouts(),
+                    bot.getBadReplies());
+            System.out.printf("Round trip (us): p50 %d, p90 %d, p99 %d, max %d%n",
+                    micros(bot.getRoundTripPercentile(0.5)), micros(bot.getRoundTripPercentile(0.9)),
+                    micros(bot.getRoundTripPercentile(0.99)), micros(bot.getRoundTripPercentile(1)));
+            if (bot.getOverheadPercentile(0.5) >= 0) {
+                System.out.printf("Protocol overhead (us): p50 %d, p90 %d, p99 %d, max %d%n",
+                        micros(bot.getOverheadPercentile(0.5)), micros(bot.getOverheadPercentile(0.9)),
+                        micros(bot.getOverheadPercentile(0.99)), micros(bot.getOverheadPercentile(1)));
+            }
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    private static long micros(long nanos) {
+        return nanos < 0 ? -1 : nanos / 1000;
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * File:        NetworkLoadTest.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file load tests the GameServer with hundreds of simulated players on one GameClient. Every player
+ *      makes about 4 inputs a second (moves and rotations, a hard drop every sixth input) and starts a new game
+ *      after a Game Over. The latency of an input is the time from sending it to receiving the first STATE
+ *      frame that counts it as processed, so it includes the wait for the next step of the shard (up to
+ *      1/60 s) as well as the network both ways.
+ *
+ *      Without an address the test starts its own SessionHost and GameServer on loopback.
+ *
+ *      Usage: NetworkLoadTest [players] [seconds] [host:port]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.logic.GameInput;
+import com.tetris.engine.net.GameClient;
+import com.tetris.engine.net.GameServer;
+import com.tetris.engine.server.SessionHost;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** NetworkLoadTest Class -- Simulated players against a GameServer */
+public class NetworkLoadTest {
+
+    //Initialize Static Variables
+    private final static int INPUTS_PER_SECOND = 4;
+    private final static int DRIVER_STEPS_PER_SECOND = 20;
+    private final static int SENT_RING = 256;           //Power of two, inputs a player can have unanswered
+    private final static GameInput[] MOVES = {GameInput.LEFT, GameInput.RIGHT, GameInput.CW, GameInput.CCW,
+            GameInput.SOFT_DROP};
+
+    /** Main Function: Runs the load test */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+
+        SessionHost host = null;
+        GameServer server = null;
+        InetSocketAddress address;
+        if (args.length > 2) {
+            String[] parts = args[2].split(":");
+            address = new InetSocketAddress(parts[0], Integer.parseInt(parts[1]));
+        } else {
+            host = new SessionHost();
+            server = new GameServer(host, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            server.start();
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+        }
+
+        new NetworkLoadTest().run(address, players, seconds);
+
+        if (server != null) {
+            server.close();
+            System.out.printf("Server: %.1f KB/s in, %.1f KB/s out%n", server.getBytesIn() / 1024.0 / seconds,
+                    server.getBytesOut() / 1024.0 / seconds);
+            for (SessionHost.ShardMetrics metrics : host.getMetrics()) System.out.println("    " + metrics);
+            host.shutdown();
+        }
+    }
+
+    //Initialize Variables - Results (guarded by the NetworkLoadTest, filled on the client selector thread)
+    private long[] latencies = new long[1 << 16];
+    private int latencyCount = 0;
+    private long stateFrames = 0;
+
+    //Initialize Variables
+    private final AtomicInteger welcomed = new AtomicInteger();
+    private final AtomicInteger games = new AtomicInteger();
+    private final AtomicInteger disconnected = new AtomicInteger();
+
+    /** Description: Connect the players, drive them for the given time and print the latency percentiles */
+    public void run(InetSocketAddress address, int playerCount, int seconds) throws IOException, InterruptedException {
+        Random random = new Random(42);
+        GameClient client = new GameClient();
+        List<SimulatedPlayer> players = new ArrayList<>();
+
+        for (int i = 0; i < playerCount; i++) {
+            SimulatedPlayer sp = new SimulatedPlayer();
+            sp.player = client.connect(address, random.nextLong(), sp);
+            players.add(sp);
+        }
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (welcomed.get() + disconnected.get() < playerCount && System.nanoTime() < deadline) Thread.sleep(10);
+        System.out.printf("%d of %d players connected to %s%n", welcomed.get(), playerCount, address);
+
+        //Drive the players
+        long stepMillis = 1000 / DRIVER_STEPS_PER_SECOND;
+        int inputChance = DRIVER_STEPS_PER_SECOND / INPUTS_PER_SECOND;
+        long inputs = 0;
+        long end = System.nanoTime() + seconds * 1_000_000_000L;
+
+        while (System.nanoTime() < end) {
+            for (SimulatedPlayer sp : players) {
+                if (random.nextInt(inputChance) != 0) continue;
+                if (sp.send(++inputs % 6 == 0 ? GameInput.HARD_DROP : MOVES[random.nextInt(MOVES.length)])) continue;
+                inputs--;
+            }
+            Thread.sleep(stepMillis);
+        }
+        Thread.sleep(200);     //Let the last answers arrive
+        int dropped = disconnected.get();
+
+        for (SimulatedPlayer sp : players) sp.player.bye();
+        Thread.sleep(100);
+        client.close();
+
+        long[] sorted;
+        long frames;
+        synchronized (this) {
+            sorted = Arrays.copyOf(latencies, latencyCount);
+            frames = stateFrames;
+        }
+        Arrays.sort(sorted);
+        System.out.printf("%d inputs sent, %d answered, %d STATE frames, %d games, %d players dropped%n", inputs,
+                sorted.length, frames, games.get(), dropped);
+        System.out.printf("%.0f inputs/s, %.0f STATE frames/s%n", (double) inputs / seconds, (double) frames / seconds);
+        if (sorted.length > 0) {
+            System.out.printf("Input latency (ms): p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n",
+                    percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), sorted[sorted.length - 1] / 1e6);
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    private synchronized void recordLatency(long nanos) {
+        if (latencyCount == latencies.length) latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        latencies[latencyCount++] = nanos;
+    }
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(p * sorted.length))] / 1e6;
+    }
+
+    /** SimulatedPlayer Class -- One player: when each input was sent, and which ones are answered */
+    private class SimulatedPlayer implements GameClient.Listener {
+        private GameClient.Player player;
+        private final long[] sentNanos = new long[SENT_RING];
+        private boolean welcome = false;
+        private boolean playing = false;
+        private int answered = 0;
+
+        /** Description: Send an input unless the player is between games. Called by the driver thread. */
+        private synchronized boolean send(GameInput input) {
+            if (!playing || player.getInputsSent() - answered >= SENT_RING) return false;
+            int number = player.send(input);
+            sentNanos[number & (SENT_RING - 1)] = System.nanoTime();
+            return true;
+        }
+
+        @Override
+        public synchronized void onWelcome(GameClient.Player p) {
+            if (!welcome) welcomed.incrementAndGet();
+            welcome = true;
+            playing = true;
+            answered = 0;
+        }
+
+        @Override
+        public synchronized void onState(GameClient.Player p) {
+            long now = System.nanoTime();
+            synchronized (NetworkLoadTest.this) {
+                stateFrames++;
+            }
+            for (int processed = p.getInputsProcessed(); answered < processed; answered++) {
+                recordLatency(now - sentNanos[answered & (SENT_RING - 1)]);
+            }
+        }
+
+        @Override
+        public synchronized void onGameOver(GameClient.Player p) {
+            games.incrementAndGet();
+            playing = false;
+            p.hello(System.nanoTime());
+        }
+
+        @Override
+        public void onDisconnect(GameClient.Player p) {
+            disconnected.incrementAndGet();
+        }
+    }
+}
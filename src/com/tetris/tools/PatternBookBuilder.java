@@ -0,0 +1,192 @@
+/**
+ * File:        PatternBookBuilder.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file compiles a readable pattern text file into the binary PatternBook used by the AI.
+ *
+ *      Text format ('#' starts a comment, blank lines are ignored):
+ *
+ *          preview 2               -- how many queued blocks are part of every key (once, before any pattern)
+ *
+ *          pattern <name>
+ *          current T               -- block that is falling
+ *          hold -                  -- held block, or '-' for none
+ *          preview S Z             -- queued blocks (at least 'preview' of them)
+ *          ........@.              -- the bottom rows of the grid, top to bottom: 'X' is a filled cell,
+ *          XXX....@@@              -- '@' is where the block should land and '.' is empty
+ *          end
+ *
+ *      The block drawn with '@' has to be a hard drop placement of the current block, or of the block a hold
+ *      would bring in (the held block, or the next block when nothing is held).
+ *
+ *      Usage: PatternBookBuilder <patterns.txt> <patterns.book>
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.ai.PatternBook;
+import com.tetris.engine.ai.Placement;
+import com.tetris.engine.ai.PlacementGenerator;
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** PatternBookBuilder Class -- Compiles pattern text into a PatternBook */
+public class PatternBookBuilder {
+
+    //Initialize Static Variables - Grid size of the game
+    private final static int GRID_ROWS =
+            HeadlessGame.BOARD_PANEL_HEIGHT / (HeadlessGame.BOARD_PANEL_WIDTH / BitBoard.GRID_COLUMNS);
+
+    /** Main Function: Compiles the book */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: PatternBookBuilder <patterns.txt> <patterns.book>");
+            return;
+        }
+
+        PatternBookBuilder builder = new PatternBookBuilder();
+        builder.parse(Files.readAllLines(Paths.get(args[0])));
+        PatternBook.write(Paths.get(args[1]), builder.patterns, builder.previewLength);
+        System.out.println(builder.patterns.size() + " patterns written to " + args[1]);
+    }
+
+    //Initialize Variables
+    private final Map<Long, Placement> patterns = new LinkedHashMap<>();
+    private int previewLength = 2;
+
+    //Initialize Variables - Pattern being read
+    private String name;
+    private Tetrominoe.ShapeType current;
+    private Tetrominoe.ShapeType hold;
+    private List<Tetrominoe.ShapeType> preview;
+    private List<String> rows;
+
+    /** Description: Read every pattern of the text file */
+    public void parse(List<String> lines) {
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n);
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+
+            try {
+                parseLine(line);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Line " + (n + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        if (name != null) throw new IllegalArgumentException("Pattern " + name + " has no 'end'");
+    }
+
+    private void parseLine(String line) {
+        String[] words = line.split("\\s+");
+
+        if (name == null) {
+            switch (words[0]) {
+                case "preview":
+                    if (!patterns.isEmpty()) throw new IllegalArgumentException("Preview length must come first");
+                    previewLength = Integer.parseInt(words[1]);
+                    return;
+                case "pattern":
+                    name = line.substring("pattern".length()).trim();
+                    current = null;
+                    hold = null;
+                    preview = new ArrayList<>();
+                    rows = new ArrayList<>();
+                    return;
+                default:
+                    throw new IllegalArgumentException("Expected 'pattern', found '" + line + "'");
+            }
+        }
+
+        switch (words[0]) {
+            case "current":
+                current = toShapeType(words[1]);
+                break;
+            case "hold":
+                hold = words[1].equals("-") ? null : toShapeType(words[1]);
+                break;
+            case "preview":
+                for (int i = 1; i < words.length; i++) preview.add(toShapeType(words[i]));
+                break;
+            case "end":
+                addPattern();
+                name = null;
+                break;
+            default:
+                if (line.length() != BitBoard.GRID_COLUMNS || !line.matches("[.X@]+")) {
+                    throw new IllegalArgumentException("Rows are " + BitBoard.GRID_COLUMNS + " of '.', 'X' or '@'");
+                }
+                rows.add(line);
+        }
+    }
+
+    /** Description: Work out the board and placement of the pattern that was just read and add it */
+    private void addPattern() {
+        if (current == null) throw new IllegalArgumentException("Pattern " + name + " has no current block");
+        if (preview.size() < previewLength) {
+            throw new IllegalArgumentException("Pattern " + name + " needs " + previewLength + " queued blocks");
+        }
+
+        //Rows are the bottom of the grid
+        BitBoard board = new BitBoard(GRID_ROWS);
+        BitBoard target = new BitBoard(GRID_ROWS);
+        for (int i = 0; i < rows.size(); i++) {
+            int r = GRID_ROWS - rows.size() + i;
+            int filled = 0, block = 0;
+            for (int c = 0; c < BitBoard.GRID_COLUMNS; c++) {
+                if (rows.get(i).charAt(c) == 'X') filled |= 1 << c;
+                if (rows.get(i).charAt(c) == '@') block |= 1 << c;
+            }
+            board.setRow(r, filled);
+            target.setRow(r, filled | block);
+        }
+
+        //The current block, or the block a hold brings in
+        Tetrominoe.ShapeType swapped = hold != null ? hold : preview.get(0);
+        Placement placement = findPlacement(board, target, current, false);
+        if (placement == null) placement = findPlacement(board, target, swapped, true);
+        if (placement == null) {
+            throw new IllegalArgumentException("Pattern " + name + ": the '@' cells are not a hard drop of "
+                    + current + " or " + swapped);
+        }
+
+        long key = PatternBook.getKey(board, current, hold, preview, previewLength);
+        if (patterns.containsKey(key)) throw new IllegalArgumentException("Pattern " + name + " is a duplicate");
+        patterns.put(key, placement);
+    }
+
+    private static Placement findPlacement(BitBoard board, BitBoard target, Tetrominoe.ShapeType shapeType,
+                                           boolean useHold) {
+        List<Placement> placements = new ArrayList<>();
+        PlacementGenerator.generate(board, shapeType, placements);
+
+        for (Placement p : placements) {
+            BitBoard result = board.copy();
+            result.placeBlock(p.getShapeType(), p.getRotation(), p.getX(), p.getY());
+            if (result.equals(target)) return useHold ? p.withHold() : p;
+        }
+        return null;
+    }
+
+    private static Tetrominoe.ShapeType toShapeType(String name) {
+        for (Tetrominoe.ShapeType shapeType : Tetrominoe.ShapeType.values()) {
+            if (shapeType.toString().equals(name)) return shapeType;
+        }
+        throw new IllegalArgumentException("Unknown block '" + name + "'");
+    }
+}
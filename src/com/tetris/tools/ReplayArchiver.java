@@ -0,0 +1,133 @@
+/**
+ * File:        ReplayArchiver.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file is the command line tool for the ReplayArchive: adding replay files to an archive, finding
+ *      games by the fields of the index, and copying a single replay back out as a normal replay file.
+ *
+ *      Usage: ReplayArchiver add <archive> <replay file or folder> ...
+ *             ReplayArchiver query <archive> [--player P] [--from yyyy-MM-dd] [--to yyyy-MM-dd] [--min-score N]
+ *                                            [--min-lines N] [--min-tetrises N] [--min-pcs N] [--complete]
+ *             ReplayArchiver extract <archive> <record> <out.jtr>
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.replay.ReplayArchive;
+import com.tetris.engine.replay.ReplayHeader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/** ReplayArchiver Class -- Command line tool for replay archives */
+public class ReplayArchiver {
+
+    //Initialize Static Variables
+    private final static String DATE_FORMAT = "yyyy-MM-dd";
+    private final static long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    /** Main Function: Runs one command on an archive */
+    public static void main(String[] args) throws IOException, ParseException {
+        if (args.length < 2) {
+            System.out.println("Usage: ReplayArchiver add|query|extract <archive> ...");
+            return;
+        }
+
+        try (ReplayArchive archive = ReplayArchive.open(Paths.get(args[1]))) {
+            switch (args[0]) {
+                case "add": add(archive, args); break;
+                case "query": query(archive, args); break;
+                case "extract": extract(archive, Integer.parseInt(args[2]), Paths.get(args[3])); break;
+                default: throw new IllegalArgumentException("Unknown command: " + args[0]);
+            }
+        }
+    }
+
+    /** Description: Append replay files (folders are searched for .jtr files) */
+    private static void add(ReplayArchive archive, String[] args) throws IOException {
+        long start = System.nanoTime();
+        int added = 0;
+
+        for (int i = 2; i < args.length; i++) {
+            Path path = Paths.get(args[i]);
+            if (Files.isDirectory(path)) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(path, "*" + ReplayHeader.FILE_EXTENSION)) {
+                    for (Path file : files) added += addFile(archive, file);
+                }
+            } else {
+                added += addFile(archive, path);
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Added %d replays in %.2f s, archive holds %d%n", added, seconds, archive.size());
+    }
+    private static int addFile(ReplayArchive archive, Path file) {
+        try {
+            archive.append(file);
+            return 1;
+        } catch (IOException e) {
+            System.out.println("Skipped " + file + ": " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /** Description: Print every game that matches the query */
+    private static void query(ReplayArchive archive, String[] args) throws ParseException {
+        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+        ReplayArchive.Query query = new ReplayArchive.Query();
+        long from = Long.MIN_VALUE, to = Long.MAX_VALUE;
+
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--player": query.player(args[++i]); break;
+                case "--from": from = dateFormat.parse(args[++i]).getTime(); break;
+                case "--to": to = dateFormat.parse(args[++i]).getTime() + DAY_MILLIS - 1; break;
+                case "--min-score": query.minScore(Integer.parseInt(args[++i])); break;
+                case "--min-lines": query.minLines(Integer.parseInt(args[++i])); break;
+                case "--min-tetrises": query.minTetrises(Integer.parseInt(args[++i])); break;
+                case "--min-pcs": query.minPerfectClears(Integer.parseInt(args[++i])); break;
+                case "--complete": query.completeOnly(); break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        query.between(from, to);
+
+        long start = System.nanoTime();
+        int[] found = archive.find(query);
+        double millis = (System.nanoTime() - start) / 1e6;
+
+        System.out.println("record,player,date,score,level,lines,tetrises,perfectClears");
+        SimpleDateFormat timeFormat = new SimpleDateFormat(DATE_FORMAT + " HH:mm");
+        for (int i : found) {
+            String start = timeFormat.format(new Date(archive.getStartTime(i)));
+            System.out.println(i + "," + archive.getPlayer(i) + "," + start + "," + archive.getScore(i) + ","
+                    + archive.getLevel(i) + "," + archive.getLines(i) + "," + archive.getTetrises(i) + ","
+                    + archive.getPerfectClears(i));
+        }
+        System.out.printf("%d of %d games matched in %.2f ms%n", found.length, archive.size(), millis);
+    }
+
+    /** Description: Write one replay back out as a replay file */
+    private static void extract(ReplayArchive archive, int record, Path out) throws IOException {
+        ByteBuffer replay = archive.getReplay(record);
+        try (FileChannel channel = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (replay.hasRemaining()) channel.write(replay);
+        }
+        System.out.println("Replay " + record + " written to " + out);
+    }
+}
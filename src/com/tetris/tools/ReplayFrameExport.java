@@ -0,0 +1,73 @@
+/**
+ * File:        ReplayFrameExport.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file writes a replay out as a PNG sequence with a ReplayFrameExporter (on a headless machine, such
+ *      as a CI box) and prints the throughput: frames per second overall, and where the time went (drawing,
+ *      encoding, and render threads waiting for the writers). The PNGs can be turned into a video with any
+ *      encoder, for example: ffmpeg -framerate 30 -i frame_%06d.png replay.mp4
+ *
+ *      Usage: ReplayFrameExport <replay.jtr> <directory> [--fps F] [--scale S] [--threads N] [--writers W]
+ *                               [--queue Q]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.export.ReplayFrameExporter;
+import com.tetris.engine.replay.ReplayPlayer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/** ReplayFrameExport Class -- A replay to PNG frames, with the frame rate it got */
+public class ReplayFrameExport {
+
+    /** Main Function: Exports the replay */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.out.println("Usage: ReplayFrameExport <replay.jtr> <directory> [--fps F] [--scale S] "
+                    + "[--threads N] [--writers W] [--queue Q]");
+            return;
+        }
+        System.setProperty("java.awt.headless", "true");
+
+        Path replay = Paths.get(args[0]);
+        Path directory = Paths.get(args[1]);
+        int cores = Runtime.getRuntime().availableProcessors();
+        int fps = 30, queue = 16;
+        int threads = Math.max(1, cores / 2), writers = Math.max(1, cores - threads);
+        double scale = 1;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--fps": fps = Integer.parseInt(args[++i]); break;
+                case "--scale": scale = Double.parseDouble(args[++i]); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--writers": writers = Integer.parseInt(args[++i]); break;
+                case "--queue": queue = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        ReplayPlayer player = ReplayPlayer.load(replay);
+        ReplayFrameExporter exporter = new ReplayFrameExporter(player, fps, scale);
+        System.out.printf("%s: %.1f s of game, %d frames of %dx%d at %d fps, %d render and %d writer threads%n",
+                replay.getFileName(), player.getDuration() / 1000.0, exporter.getFrameCount(), exporter.getWidth(),
+                exporter.getHeight(), fps, threads, writers);
+
+        exporter.export(directory, threads, writers, queue);
+
+        System.out.printf("%d frames in %.2f s -- %.1f frames/s%n", exporter.getFrames(), exporter.getSeconds(),
+                exporter.getFramesPerSecond());
+        System.out.printf("Drawing %.2f s (%.2f ms a frame), encoding %.2f s (%.2f ms a frame), "
+                        + "render threads waiting on the writers %.2f s%n",
+                exporter.getRenderSeconds(), 1000 * exporter.getRenderSeconds() / exporter.getFrames(),
+                exporter.getEncodeSeconds(), 1000 * exporter.getEncodeSeconds() / exporter.getFrames(),
+                exporter.getQueueWaitSeconds());
+        System.out.println("Frames written to " + directory.toAbsolutePath());
+    }
+}
@@ -0,0 +1,224 @@
+/**
+ * File:        ReplayVerifier.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file checks that replays really produce the score they claim (for leaderboards). Every replay is
+ *      played again on a HeadlessGame from its seed, and the final score, level, lines, tetrises and Perfect
+ *      Clears are compared with the values written after its END event. The game also has to end in a Game Over,
+ *      since that is the only time a replay gets an END.
+ *
+ *      A replay of a resumed game starts from a snapshot embedded in its header, and that snapshot carries its
+ *      own score, lines and level. Nothing here can tell how those were earned, so such replays are reported as
+ *      UNVERIFIABLE rather than played.
+ *
+ *      Replays are streamed: the directory is listed lazily and each file is read one event at a time, so a
+ *      replay is never loaded whole and only a few replays are in flight at once. They are verified on a
+ *      work-stealing ForkJoinPool, and the results are written to a CSV report as they finish.
+ *
+ *      Usage: ReplayVerifier <directory> [--workers W] [--report report.csv]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.GameRules;
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.replay.ReplayHeader;
+import com.tetris.engine.replay.ReplayPlayer;
+import com.tetris.engine.replay.ReplayReader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/** ReplayVerifier Class -- Parallel re-simulation of replay files */
+public class ReplayVerifier {
+
+    //Initialize Static Variables
+    private final static int IN_FLIGHT_PER_WORKER = 4;
+    private final static String[] STAT_NAMES = {"score", "level", "lines", "tetrises", "Perfect Clears"};
+
+    /** Main Function: Verifies every replay in the directory */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.out.println("Usage: ReplayVerifier <directory> [--workers W] [--report report.csv]");
+            return;
+        }
+
+        Path directory = Paths.get(args[0]);
+        int workers = Runtime.getRuntime().availableProcessors();
+        Path report = Paths.get("verification.csv");
+
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--workers": workers = Integer.parseInt(args[++i]); break;
+                case "--report": report = Paths.get(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        new ReplayVerifier(workers).run(directory, report);
+    }
+
+    //Initialize Variables
+    private final int workers;
+
+    /** CONSTRUCTOR */
+    public ReplayVerifier(int workers) {
+        this.workers = workers;
+    }
+
+    /** Description: Verify every replay in the directory and write the report. Blocks until all are done. */
+    public void run(Path directory, Path report) throws IOException, InterruptedException {
+        BlockingQueue<Result> results = new LinkedBlockingQueue<>();
+        Result done = new Result(null, Status.ERROR, "", 0);
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        long start = System.nanoTime();
+
+        //Lister thread -- hands replays to the pool, never more than a few per worker at a time
+        int inFlight = workers * IN_FLIGHT_PER_WORKER;
+        Semaphore slots = new Semaphore(inFlight);
+        Thread lister = new Thread(() -> {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + ReplayHeader.FILE_EXTENSION)) {
+                for (Path file : files) {
+                    slots.acquire();
+                    pool.execute(() -> {
+                        try {
+                            results.add(verify(file));
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                }
+                slots.acquire(inFlight);    //Wait for the last replays
+            } catch (IOException e) {
+                System.out.println("Cannot list " + directory + ": " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                results.add(done);
+            }
+        }, "ReplayLister");
+        lister.start();
+
+        //This thread streams the results to the report as they come in
+        int[] counts = new int[Status.values().length];
+        long events = 0;
+
+        try (BufferedWriter writer = Files.newBufferedWriter(report)) {
+            writer.write("file,result,score,level,lines,tetrises,perfectClears,events,micros,reason");
+            writer.newLine();
+
+            for (Result r = results.take(); r != done; r = results.take()) {
+                writer.write(r.toCsv());
+                writer.newLine();
+                if (results.isEmpty()) writer.flush();
+
+                counts[r.status.ordinal()]++;
+                events += r.events;
+                if (r.status != Status.PASS) {
+                    System.out.println(r.status + " " + r.file.getFileName() + ": " + r.reason);
+                }
+            }
+        }
+        lister.join();
+        pool.shutdown();
+
+        int total = Arrays.stream(counts).sum();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d replays on %d workers in %.2f s -- %.1f replays/s, %.0f events/s%n",
+                total, workers, seconds, total / seconds, events / seconds);
+        System.out.printf("Passed %d, failed %d, incomplete %d, unverifiable %d, unreadable %d%n",
+                counts[Status.PASS.ordinal()], counts[Status.FAIL.ordinal()], counts[Status.INCOMPLETE.ordinal()],
+                counts[Status.UNVERIFIABLE.ordinal()], counts[Status.ERROR.ordinal()]);
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    /** Description: Play one replay again and compare the result with what it claims */
+    public static Result verify(Path file) {
+        long start = System.nanoTime();
+        long events = 0;
+
+        try (ReplayReader reader = ReplayReader.open(file)) {
+            //The start snapshot's score was never played here, so it cannot back a leaderboard entry
+            if (reader.getHeader().getStartSnapshot() != null) {
+                return new Result(file, Status.UNVERIFIABLE, "replay starts from a saved game", start);
+            }
+
+            HeadlessGame game = ReplayPlayer.startGame(reader.getHeader());
+            while (reader.next()) {
+                ReplayPlayer.applyEvent(game, reader.getCode());
+                events++;
+            }
+
+            GameRules rules = game.getRules();
+            int[] actual = {rules.getScore(), rules.getLevel(), rules.getTotalLines(), rules.getTetrises(),
+                    rules.getPerfectClears()};
+            int[] claimed = reader.getTrailer();
+
+            Result result;
+            if (claimed == null) {
+                result = new Result(file, Status.INCOMPLETE, "replay has no END", start);
+            } else if (!game.isGameOver()) {
+                result = new Result(file, Status.FAIL, "game is still running at END", start);
+            } else {
+                result = new Result(file, Status.PASS, "", start);
+                for (int i = 0; i < actual.length; i++) {
+                    if (actual[i] != claimed[i]) {
+                        result = new Result(file, Status.FAIL, "claims " + STAT_NAMES[i] + " " + claimed[i]
+                                + " but plays to " + actual[i], start);
+                        break;
+                    }
+                }
+            }
+            result.stats = actual;
+            result.events = events;
+            return result;
+        } catch (IOException | RuntimeException e) {
+            return new Result(file, Status.ERROR, String.valueOf(e.getMessage()), start);
+        }
+    }
+
+    /** Status Enum -- Outcome of verifying one replay */
+    public enum Status { PASS, FAIL, INCOMPLETE, UNVERIFIABLE, ERROR }
+
+    /** Result Class -- Outcome of verifying one replay */
+    public static class Result {
+        private final Path file;
+        private final Status status;
+        private final String reason;
+        private final long micros;
+        private int[] stats = new int[STAT_NAMES.length];
+        private long events;
+
+        private Result(Path file, Status status, String reason, long startNanos) {
+            this.file = file;
+            this.status = status;
+            this.reason = reason;
+            this.micros = (System.nanoTime() - startNanos) / 1000;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+        public String getReason() {
+            return reason;
+        }
+
+        private String toCsv() {
+            return file.getFileName() + "," + status + "," + stats[0] + "," + stats[1] + "," + stats[2] + ","
+                    + stats[3] + "," + stats[4] + "," + events + "," + micros + "," + reason.replace(',', ';');
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * File:        SessionHostBenchmark.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file measures how many sessions a SessionHost can run per core. Simulated players make about
+ *      4 inputs a second each (moves and rotations, with a hard drop every sixth input), and games that top
+ *      out are replaced by new ones. Sessions are added in steps; after each step the benchmark waits for the
+ *      shards to publish a fresh load figure. It stops once the busiest shard passes the target load, the
+ *      shards keep missing steps, or the host refuses a session, and prints the last step that was under the target.
+ *
+ *      Usage: SessionHostBenchmark [shards] [targetLoad] [sessionsPerStep]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.logic.GameInput;
+import com.tetris.engine.server.GameSession;
+import com.tetris.engine.server.SessionHost;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/** SessionHostBenchmark Class -- Sessions-per-core capacity of the SessionHost */
+public class SessionHostBenchmark {
+
+    //Initialize Static Variables
+    private final static int INPUTS_PER_SECOND = 4;
+    private final static int DRIVER_STEPS_PER_SECOND = 20;
+    private final static int MISSED_STEP_LIMIT = 20;   //Stop when more than 1 in 20 steps is missed
+    private final static GameInput[] MOVES = {GameInput.LEFT, GameInput.RIGHT, GameInput.CW, GameInput.CCW,
+            GameInput.SOFT_DROP};
+
+    /** Main Function: Runs the benchmark */
+    public static void main(String[] args) throws InterruptedException {
+        int shards = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        double targetLoad = args.length > 1 ? Double.parseDouble(args[1]) : 0.5;
+        int sessionsPerStep = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+        //No session limit and no load limit, so the benchmark finds the limit itself
+        SessionHost host = new SessionHost(shards, SessionHost.DEFAULT_STEPS_PER_SECOND, Integer.MAX_VALUE, 1.0);
+        List<GameSession> sessions = new CopyOnWriteArrayList<>();
+        Random random = new Random(42);
+
+        //Simulated players
+        Thread driver = new Thread(() -> drive(host, sessions, random), "SimulatedPlayers");
+        driver.setDaemon(true);
+        driver.start();
+
+        System.out.printf("%d shards, target load %.0f%%, %d sessions per step%n", shards, targetLoad * 100,
+                sessionsPerStep);
+        int lastGood = 0;
+        long lastOverruns = 0, lastSteps = 0;
+
+        while (true) {
+            List<GameSession> added = new ArrayList<>();
+            for (int i = 0; i < sessionsPerStep; i++) {
+                GameSession session = host.open(random.nextLong());
+                if (session == null) break;
+                added.add(session);
+            }
+            sessions.addAll(added);
+            if (added.size() < sessionsPerStep) {
+                System.out.println("Host refused sessions");
+                break;
+            }
+
+            //Skip one load window (sessions joining mid-window) and measure over the next ones
+            Thread.sleep(3000);
+
+            double maxLoad = 0;
+            long overruns = 0, steps = 0;
+            for (SessionHost.ShardMetrics metrics : host.getMetrics()) {
+                maxLoad = Math.max(maxLoad, metrics.getLoad());
+                overruns += metrics.getOverruns();
+                steps += metrics.getSteps();
+            }
+            System.out.printf("%7d sessions: busiest shard %.1f%%, %d missed steps%n", sessions.size(),
+                    maxLoad * 100, overruns - lastOverruns);
+            for (SessionHost.ShardMetrics metrics : host.getMetrics()) System.out.println("    " + metrics);
+
+            //A few missed steps while new games start up are fine, missing them all along is not
+            boolean missing = overruns - lastOverruns > (steps - lastSteps) / MISSED_STEP_LIMIT;
+            lastOverruns = overruns;
+            lastSteps = steps;
+            if (maxLoad > targetLoad || missing) break;
+            lastGood = sessions.size();
+        }
+
+        host.shutdown();
+        System.out.printf("Capacity at %.0f%% load: %d sessions, %d sessions per core%n", targetLoad * 100, lastGood,
+                lastGood / shards);
+    }
+
+    /** Description: Give every session its random inputs and replace the games that topped out */
+    private static void drive(SessionHost host, List<GameSession> sessions, Random random) {
+        long stepMillis = 1000 / DRIVER_STEPS_PER_SECOND;
+        int inputChance = DRIVER_STEPS_PER_SECOND / INPUTS_PER_SECOND;
+        int count = 0;
+
+        while (true) {
+            for (int i = 0; i < sessions.size(); i++) {
+                GameSession session = sessions.get(i);
+                if (session.isGameOver()) {
+                    session.close();
+                    GameSession replacement = host.open(random.nextLong());
+                    if (replacement != null) sessions.set(i, replacement);
+                    continue;
+                }
+                if (random.nextInt(inputChance) != 0) continue;
+                session.submit(++count % 6 == 0 ? GameInput.HARD_DROP : MOVES[random.nextInt(MOVES.length)]);
+            }
+
+            try {
+                Thread.sleep(stepMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
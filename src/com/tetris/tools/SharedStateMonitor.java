@@ -0,0 +1,80 @@
+/**
+ * File:        SharedStateMonitor.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file watches a shared state file (see SharedStateExporter) from outside the game, the way an
+ *      overlay or a recorder would. It polls the file and prints the board, the falling block and its ghost,
+ *      the held block, the queue and the score every time a new frame has been written, until the game is
+ *      over.
+ *
+ *      Start the game with -Djtetris.export=<file> first.
+ *
+ *      Usage: SharedStateMonitor [file] [polls a second]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.export.SharedStateReader;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/** SharedStateMonitor Class -- Prints the frames of a running game from its shared state file */
+public class SharedStateMonitor {
+
+    //Initialize Static Variables
+    private final static char[] CELLS = {'.', 'S', 'Z', 'I', 'L', 'J', 'O', 'T', 'G'};
+
+    /** Main Function: Polls the file until the game is over */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String file = args.length > 0 ? args[0] : "jtetris.state";
+        int hertz = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+
+        try (SharedStateReader reader = new SharedStateReader(Paths.get(file))) {
+            long shown = -1;
+            while (true) {
+                if (reader.read() && reader.getFrame() != shown) {
+                    shown = reader.getFrame();
+                    System.out.print(render(reader));
+                    if (reader.isGameOver()) break;
+                }
+                Thread.sleep(1000 / hertz);
+            }
+            System.out.println("Game Over (" + reader.getTornReads() + " torn reads retried)");
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    private static String render(SharedStateReader reader) {
+        int rows = reader.getGridRows(), columns = reader.getGridColumns();
+        char[][] grid = new char[rows][columns];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) grid[r][c] = CELLS[reader.getCell(r, c)];
+        }
+
+        //The ghost first, so the block covers it where they overlap
+        if (reader.getBlock() != null) {
+            int drop = reader.getGhostY() - reader.getY();
+            for (int i = 0; i < 4; i++) put(grid, reader.getBlockCellRow(i) + drop, reader.getBlockCellColumn(i), '+');
+            for (int i = 0; i < 4; i++) put(grid, reader.getBlockCellRow(i), reader.getBlockCellColumn(i), '#');
+        }
+
+        StringBuilder queue = new StringBuilder();
+        for (int i = 0; i < reader.getQueueLength(); i++) queue.append(reader.getQueued(i));
+
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Frame %d  Score %d  Level %d  Lines %d  Block %s  Hold %s%s  Next %s%n",
+                reader.getFrame(), reader.getScore(), reader.getLevel(), reader.getLines(),
+                reader.getBlock() == null ? "-" : reader.getBlock(), reader.getHeld() == null ? "-" : reader.getHeld(),
+                reader.canHold() ? "" : " (used)", queue.length() > 0 ? queue : "-"));
+        for (char[] row : grid) out.append(row).append(System.lineSeparator());
+        return out.toString();
+    }
+    private static void put(char[][] grid, int row, int column, char cell) {
+        if (row >= 0 && row < grid.length && column >= 0 && column < grid[row].length) grid[row][column] = cell;
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * File:        SharedStateTornReadTest.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file checks that a SharedStateReader never returns a torn frame. A writer thread exports frames
+ *      as fast as it can, and every frame fills the whole grid with one cell code picked from the frame
+ *      number, so a frame is consistent only if all its cells are that code. Reader threads keep reading the
+ *      file, through a SharedStateReader (which must never see a mixed grid) and by copying the mapping
+ *      without the seqlock (which shows how often a frame would have been torn without it).
+ *
+ *      Usage: SharedStateTornReadTest [seconds] [readers]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.GameSnapshot;
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.export.SharedStateExporter;
+import com.tetris.engine.export.SharedStateReader;
+import com.tetris.engine.model.board.Board;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** SharedStateTornReadTest Class -- A writer and readers racing on one shared state file */
+public class SharedStateTornReadTest {
+
+    //Initialize Static Variables
+    private final static int CODES = 8;             //Cell codes 1 to 8 (the shapes and garbage)
+
+    //Initialize Static Variables - Counted by the readers
+    private final static AtomicLong reads = new AtomicLong();
+    private final static AtomicLong tornReads = new AtomicLong();
+    private final static AtomicLong bad = new AtomicLong();
+    private final static AtomicLong rawReads = new AtomicLong();
+    private final static AtomicLong rawTorn = new AtomicLong();
+
+    private static volatile boolean running = true;
+
+    /** Main Function: Runs the writer and the readers, then prints the counts */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int readers = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+
+        Path file = Files.createTempFile("jtetris", ".state");
+        HeadlessGame game = new HeadlessGame(1);
+        game.start();
+        Board board = game.getBoard();
+        SharedStateExporter exporter = new SharedStateExporter(file, board, game.getBlockController(),
+                game.getRules());
+
+        Thread writer = new Thread(() -> {
+            for (long frame = 1; running; frame++) {
+                int code = code(frame);
+                for (int r = 0; r < board.getGridRows(); r++) {
+                    for (int c = 0; c < board.getGridColumns(); c++) {
+                        board.setBackgroundColor(GameSnapshot.decodeCell(code), r, c);
+                    }
+                }
+                exporter.export();
+            }
+        }, "SharedStateWriter");
+
+        Thread[] threads = new Thread[readers * 2];
+        for (int i = 0; i < readers; i++) {
+            SharedStateReader reader = new SharedStateReader(file);
+            MappedByteBuffer raw = map(file);
+            threads[2 * i] = new Thread(() -> checkReader(reader), "SharedStateReader-" + i);
+            threads[2 * i + 1] = new Thread(() -> checkRaw(raw), "RawReader-" + i);
+        }
+
+        writer.start();
+        for (Thread thread : threads) thread.start();
+        Thread.sleep(seconds * 1000L);
+        running = false;
+        writer.join();
+        for (Thread thread : threads) thread.join();
+        Files.deleteIfExists(file);
+
+        System.out.printf("%d frames written in %d s by one writer, %d + %d reader threads%n",
+                exporter.getFrame(), seconds, readers, readers);
+        System.out.printf("Seqlock reads: %d, retried %d times, %d torn frames returned%n", reads.get(),
+                tornReads.get(), bad.get());
+        System.out.printf("Unchecked copies: %d, %d torn%n", rawReads.get(), rawTorn.get());
+        System.out.println(bad.get() == 0 ? "PASS" : "FAIL");
+        if (bad.get() != 0) System.exit(1);
+    }
+
+    /** Description: Read frames through the seqlock; each one must be a single frame */
+    private static void checkReader(SharedStateReader reader) {
+        while (running) {
+            if (!reader.read() || reader.getFrame() == 0) continue;
+            reads.incrementAndGet();
+            int code = code(reader.getFrame());
+            if (!uniform(reader, code)) bad.incrementAndGet();
+        }
+        tornReads.addAndGet(reader.getTornReads());
+    }
+
+    /** Description: Copy the grid straight out of the mapping, as a reader without the seqlock would */
+    private static void checkRaw(MappedByteBuffer raw) {
+        byte[] grid = new byte[raw.capacity() - SharedStateExporter.GRID];
+        while (running) {
+            if (raw.getLong(SharedStateExporter.FRAME) == 0) continue;
+            raw.get(SharedStateExporter.GRID, grid);
+            rawReads.incrementAndGet();
+            for (byte cell : grid) {
+                if (cell != grid[0]) {
+                    rawTorn.incrementAndGet();
+                    break;
+                }
+            }
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    private static int code(long frame) {
+        return 1 + (int) ((frame - 1) % CODES);
+    }
+    private static boolean uniform(SharedStateReader reader, int code) {
+        for (int r = 0; r < reader.getGridRows(); r++) {
+            for (int c = 0; c < reader.getGridColumns(); c++) {
+                if (reader.getCell(r, c) != code) return false;
+            }
+        }
+        return true;
+    }
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer raw = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            raw.order(ByteOrder.LITTLE_ENDIAN);
+            return raw;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/**
+ * File:        SpectatorLoadTest.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file load tests spectating. An AI against AI versus match runs at 60 steps a second and publishes
+ *      every step to a SpectatorPublisher, which is watched by:
+ *          - many in-process viewers that keep up (a few threads polling their Subscriptions),
+ *          - a few in-process viewers that are far too slow (they take a frame every SLOW_FRAME_MILLIS and can
+ *            only fall SLOW_VIEWER_FRAMES behind), so they keep overflowing and skipping ahead to keyframes,
+ *          - viewers over loopback TCP through a SpectatorServer, some of them reading slowly with a small
+ *            socket buffer.
+ *
+ *      At the end a keyframe is published, every viewer catches up, and every view is checked against the
+ *      real boards (grid, score, falling block, held block and queue). It prints the frame sizes, the cost of
+ *      publishing and the drops and resyncs of the viewers.
+ *
+ *      Usage: SpectatorLoadTest [seconds] [viewers] [slowViewers] [networkViewers]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.GameSnapshot;
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.ai.BeamSearch;
+import com.tetris.engine.ai.BotPlayer;
+import com.tetris.engine.ai.HeuristicEvaluator;
+import com.tetris.engine.logic.BlockController;
+import com.tetris.engine.model.board.Board;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+import com.tetris.engine.net.BoardMirror;
+import com.tetris.engine.net.Protocol;
+import com.tetris.engine.net.SpectatorPublisher;
+import com.tetris.engine.net.SpectatorServer;
+import com.tetris.engine.net.SpectatorView;
+import com.tetris.engine.net.Subscription;
+import com.tetris.engine.versus.VersusGame;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/** SpectatorLoadTest Class -- A match watched by many in-process and network viewers */
+public class SpectatorLoadTest {
+
+    //Initialize Static Variables
+    private final static long MATCH_ID = 1;
+    private final static int POLLING_THREADS = 4;
+    private final static int SLOW_FRAME_MILLIS = 500;
+    private final static int SLOW_VIEWER_FRAMES = 8;       //Subscription size of the slow in-process viewers
+    private final static int SERVER_VIEWER_FRAMES = 16;
+    private final static int SLOW_NETWORK_EVERY = 5;        //Every fifth network viewer reads slowly
+    private final static int SLOW_RECEIVE_BUFFER = 1024;
+    private final static long CATCH_UP_NANOS = 10_000_000_000L;
+
+    /** Main Function: Runs the load test */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+        int viewers = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int slowViewers = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int networkViewers = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+        new SpectatorLoadTest().run(seconds, viewers, slowViewers, networkViewers);
+    }
+
+    //Initialize Variables
+    private volatile boolean catchingUp = false;
+    private volatile boolean stopped = false;
+
+    public void run(int seconds, int viewerCount, int slowCount, int networkCount)
+            throws IOException, InterruptedException {
+        VersusGame game = new VersusGame(42, createBot(), createBot());
+        HeadlessGame[] boards = {game.getPlayer(0).getGame(), game.getPlayer(1).getGame()};
+        SpectatorPublisher publisher = new SpectatorPublisher(boards);
+        SpectatorServer server = new SpectatorServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                SERVER_VIEWER_FRAMES);
+        server.addMatch(MATCH_ID, publisher);
+        server.start();
+
+        //Viewers
+        List<Viewer> all = new ArrayList<>();
+        List<List<Viewer>> polled = new ArrayList<>();
+        for (int t = 0; t < POLLING_THREADS; t++) polled.add(new ArrayList<>());
+        for (int i = 0; i < viewerCount; i++) {
+            Viewer v = new Viewer("in-process", publisher.subscribe());
+            polled.get(i % POLLING_THREADS).add(v);
+            all.add(v);
+        }
+        List<Thread> threads = new ArrayList<>();
+        for (List<Viewer> group : polled) threads.add(start("SpectatorPoller", () -> pollLoop(group)));
+        for (int i = 0; i < slowCount; i++) {
+            Viewer v = new Viewer("slow", publisher.subscribe(SLOW_VIEWER_FRAMES));
+            all.add(v);
+            threads.add(start("SlowSpectator", () -> slowLoop(v)));
+        }
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+        for (int i = 0; i < networkCount; i++) {
+            boolean slow = i % SLOW_NETWORK_EVERY == SLOW_NETWORK_EVERY - 1;
+            Viewer v = new Viewer(slow ? "network slow" : "network", null);
+            all.add(v);
+            threads.add(start("NetworkSpectator", () -> networkLoop(v, address, slow)));
+        }
+
+        //The match: 60 steps a second, published after every step
+        System.out.printf("Watching with %d in-process, %d slow and %d network viewers for %d s%n", viewerCount,
+                slowCount, networkCount, seconds);
+        game.start();
+        long stepNanos = VersusGame.STEP_NANOS;
+        long next = System.nanoTime();
+        long steps = (long) seconds * VersusGame.STEPS_PER_SECOND;
+        long lateSteps = 0;
+        while (game.getSteps() < steps && game.step()) {
+            publisher.publish(game.getSteps());
+            next += stepNanos;
+            if (System.nanoTime() > next) lateSteps++;
+            while (System.nanoTime() < next) LockSupport.parkNanos(next - System.nanoTime());
+        }
+        long finalTick = game.getSteps() + 1;
+        catchingUp = true;
+        publisher.publishKeyframe(finalTick);
+
+        //Everyone catches up with the final keyframe
+        long deadline = System.nanoTime() + CATCH_UP_NANOS;
+        for (Viewer v : all) {
+            while (v.view.getTick() != finalTick && System.nanoTime() < deadline) Thread.sleep(5);
+        }
+        stopped = true;
+        for (Viewer v : all) if (v.subscription != null) v.subscription.close();
+        for (Thread thread : threads) thread.join(1000);
+
+        //Results
+        long ticks = game.getSteps();
+        long frames = publisher.getFrames();
+        System.out.printf("%d steps (%d late), %s%n", ticks, lateSteps, game.isFinished()
+                ? "match over" : "match still going");
+        System.out.printf("%d frames (%d keyframes), %d steps skipped, %.1f bytes a frame, %.1f KB/s a viewer%n",
+                frames, publisher.getKeyframes(), publisher.getSkippedTicks(),
+                (double) publisher.getBytes() / Math.max(1, frames),
+                publisher.getBytes() / 1024.0 / (ticks / (double) VersusGame.STEPS_PER_SECOND));
+        System.out.printf("publish(): %.2f us a step, fan-out overflows %d%n",
+                publisher.getPublishNanos() / 1000.0 / Math.max(1, ticks + 1), publisher.getFanOutOverflows());
+        System.out.printf("Spectator server: %d KB out%n", server.getBytesOut() / 1024);
+
+        int mismatched = 0, behind = 0;
+        for (String kind : new String[] {"in-process", "slow", "network", "network slow"}) {
+            long count = 0, keyframes = 0, deltas = 0, dropped = 0, resyncs = 0;
+            for (Viewer v : all) {
+                if (!v.kind.equals(kind)) continue;
+                count++;
+                keyframes += v.view.getKeyframes();
+                deltas += v.view.getDeltas();
+                if (v.subscription != null) {
+                    dropped += v.subscription.getDropped();
+                    resyncs += v.subscription.getResyncs();
+                }
+                if (v.view.getTick() != finalTick) behind++;
+                else if (!matches(v.view, boards)) mismatched++;
+            }
+            if (count == 0) continue;
+            System.out.printf("    %-13s %5d viewers, %7.1f keyframes, %7.1f deltas, %7.1f dropped, %5.1f resyncs "
+                            + "(averages)%n", kind, count, (double) keyframes / count, (double) deltas / count,
+                    (double) dropped / count, (double) resyncs / count);
+        }
+        System.out.printf("%d views checked against the boards: %d mismatched, %d didn't catch up%n", all.size(),
+                mismatched, behind);
+
+        server.close();
+        publisher.close();
+        for (int i = 0; i < 2; i++) {
+            if (game.getPlayer(i).getBot() != null) game.getPlayer(i).getBot().shutdown();
+        }
+    }
+
+    /** VIEWER LOOPS */
+    private void pollLoop(List<Viewer> group) {
+        while (!stopped) {
+            boolean any = false;
+            for (Viewer v : group) {
+                for (ByteBuffer frame; (frame = v.subscription.poll()) != null; any = true) v.view.apply(frame);
+            }
+            if (!any) LockSupport.parkNanos(1_000_000);
+        }
+    }
+
+    private void slowLoop(Viewer v) {
+        try {
+            for (ByteBuffer frame; (frame = v.subscription.take()) != null; ) {
+                v.view.apply(frame);
+                if (!catchingUp) Thread.sleep(SLOW_FRAME_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void networkLoop(Viewer v, InetSocketAddress address, boolean slow) {
+        try (SocketChannel channel = SocketChannel.open()) {
+            if (slow) channel.setOption(StandardSocketOptions.SO_RCVBUF, SLOW_RECEIVE_BUFFER);
+            channel.connect(address);
+            ByteBuffer out = ByteBuffer.allocate(Protocol.FRAME_HEADER_BYTES + 8);
+            int start = Protocol.beginFrame(out, Protocol.SPECTATE);
+            out.putLong(MATCH_ID);
+            Protocol.endFrame(out, start);
+            out.flip();
+            while (out.hasRemaining()) channel.write(out);
+
+            ByteBuffer in = ByteBuffer.allocate(Protocol.MAX_FRAME_BYTES + 4);
+            while (!stopped && channel.read(in) >= 0) {
+                in.flip();
+                int length;
+                while ((length = Protocol.completeFrame(in)) >= 0) {
+                    v.view.apply(in);
+                    in.position(in.position() + 4 + length);
+                    if (slow && !catchingUp) Thread.sleep(SLOW_FRAME_MILLIS);
+                }
+                in.compact();
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            if (!stopped) System.out.println("Network viewer stopped: " + e);
+        }
+    }
+
+    /** Description: True if a view shows exactly what is on the boards */
+    private static boolean matches(SpectatorView view, HeadlessGame[] boards) {
+        if (view.getBoardCount() != boards.length) return false;
+        for (int i = 0; i < boards.length; i++) {
+            BoardMirror mirror = view.getBoard(i);
+            HeadlessGame game = boards[i];
+            Board board = game.getBoard();
+            for (int r = 0; r < board.getGridRows(); r++) {
+                for (int c = 0; c < board.getGridColumns(); c++) {
+                    if (mirror.getCell(r, c) != GameSnapshot.encodeCell(board.getBackgroundColor(r, c))) return false;
+                }
+            }
+            if (mirror.getScore() != game.getRules().getScore()) return false;
+            if (mirror.getLines() != game.getRules().getTotalLines()) return false;
+
+            BlockController bc = game.getBlockController();
+            Tetrominoe block = bc.getCurrentBlock();
+            if (mirror.getBlock() != shape(block)) return false;
+            if (block != null && (mirror.getRotation() != block.getRotation() || mirror.getX() != block.getX()
+                    || mirror.getY() != block.getY())) return false;
+            if (mirror.getHeld() != shape(bc.getHeldBlock())) return false;
+
+            List<Tetrominoe> queue = bc.getQueuedBlocks();
+            Tetrominoe.ShapeType[] mirrored = mirror.getQueue();
+            if (mirrored.length != queue.size()) return false;
+            for (int q = 0; q < mirrored.length; q++) if (mirrored[q] != shape(queue.get(q))) return false;
+        }
+        return true;
+    }
+
+    /** HELPER FUNCTIONS */
+    private static BotPlayer createBot() {
+        BeamSearch search = new BeamSearch(new HeuristicEvaluator(), 32, 3, 10_000);
+        search.setParallel(false);
+        return new BotPlayer(search);
+    }
+    private static Tetrominoe.ShapeType shape(Tetrominoe block) {
+        return block == null ? null : block.getShapeType();
+    }
+    private static Thread start(String name, Runnable runnable) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /** Viewer Class -- A view of the match and (in-process) its subscription */
+    private static class Viewer {
+        private final String kind;
+        private final Subscription subscription;
+        private final SpectatorView view = new SpectatorView();
+
+        private Viewer(String kind, Subscription subscription) {
+            this.kind = kind;
+            this.subscription = subscription;
+        }
+    }
+}
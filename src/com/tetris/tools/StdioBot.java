@@ -0,0 +1,117 @@
+/**
+ * File:        StdioBot.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file is a reference bot for the ExternalBotDriver protocol: the built in BeamSearch behind stdin
+ *      and stdout. It shows what an engine written in another language has to do, and it lets
+ *      ExternalBotRunner measure the cost of the protocol against a known search. It reports its think time
+ *      with every reply, so the driver can tell the search time and the protocol overhead apart.
+ *
+ *      With --inputs it answers with GameInput codes (planned by FinessePlanner) instead of a placement.
+ *
+ *      Usage: StdioBot [--width W] [--depth D] [--inputs]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.ai.BeamSearch;
+import com.tetris.engine.ai.FinessePlanner;
+import com.tetris.engine.ai.HeuristicEvaluator;
+import com.tetris.engine.ai.Placement;
+import com.tetris.engine.logic.GameInput;
+import com.tetris.engine.model.board.BitBoard;
+import com.tetris.engine.model.tetrominoes.Tetrominoe;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/** StdioBot Class -- BeamSearch speaking the external bot protocol */
+public class StdioBot {
+
+    //Initialize Static Variables
+    private final static long MARGIN_MILLIS = 5;       //Left for the pipes when the time limit is tight
+
+    /** Main Function: Answers moves until "quit" or the end of stdin */
+    public static void main(String[] args) throws IOException {
+        int width = 32, depth = 3;
+        boolean inputs = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--width": width = Integer.parseInt(args[++i]); break;
+                case "--depth": depth = Integer.parseInt(args[++i]); break;
+                case "--inputs": inputs = true; break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        BeamSearch search = new BeamSearch(new HeuristicEvaluator(), width, depth, 10_000);
+        search.setParallel(false);
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.US_ASCII));
+        PrintStream out = new PrintStream(System.out, false, StandardCharsets.US_ASCII);
+        FinessePlanner planner = null;
+
+        for (String line; (line = in.readLine()) != null; ) {
+            String[] t = line.trim().split(" +");
+            switch (t[0]) {
+                case "tetris":
+                    planner = FinessePlanner.forGrid(Integer.parseInt(t[2]));
+                    out.println("ready BeamSearch " + width + "x" + depth + (inputs ? " (inputs)" : ""));
+                    break;
+                case "move": {
+                    long start = System.nanoTime();
+                    search.setTimeBudget(Math.max(1, Long.parseLong(t[2]) - MARGIN_MILLIS));
+                    BitBoard board = readGrid(t[7], planner.getGridRows());
+                    List<Tetrominoe.ShapeType> preview = new ArrayList<>();
+                    if (!t[6].equals("-")) for (char c : t[6].toCharArray()) preview.add(shape(c));
+                    Placement p = search.search(board, shape(t[3].charAt(0)),
+                            t[4].equals("-") ? null : shape(t[4].charAt(0)), preview, t[5].equals("1"));
+
+                    List<GameInput> path = p != null && inputs ? planner.plan(board, p) : null;
+                    long think = (System.nanoTime() - start) / 1000;
+                    if (p == null) {
+                        out.println("inputs " + t[1] + " - " + think);
+                    } else if (path != null) {
+                        StringBuilder codes = new StringBuilder();
+                        for (GameInput input : path) codes.append(input.getCode());
+                        out.println("inputs " + t[1] + " " + (codes.length() > 0 ? codes : "-") + " " + think);
+                    } else {
+                        out.println("place " + t[1] + " " + p.getShapeType() + " " + p.getRotation() + " " + p.getX()
+                                + " " + p.getY() + " " + (p.isUseHold() ? 1 : 0) + " " + think);
+                    }
+                    break;
+                }
+                case "quit":
+                    out.flush();
+                    return;
+                default:
+                    out.println("info unknown message " + t[0]);
+            }
+            out.flush();
+        }
+    }
+
+    /** HELPER FUNCTIONS */
+    private static BitBoard readGrid(String hex, int rows) {
+        BitBoard board = new BitBoard(rows);
+        int digits = hex.length() / rows;
+        for (int r = 0; r < rows; r++) {
+            board.setRow(r, Integer.parseInt(hex.substring(r * digits, (r + 1) * digits), 16));
+        }
+        return board;
+    }
+    private static Tetrominoe.ShapeType shape(char letter) {
+        for (Tetrominoe.ShapeType shapeType : Tetrominoe.ShapeType.values()) {
+            if (shapeType.toString().charAt(0) == letter) return shapeType;
+        }
+        throw new IllegalArgumentException("Unknown shape " + letter);
+    }
+}
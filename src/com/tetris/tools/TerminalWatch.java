@@ -0,0 +1,99 @@
+/**
+ * File:        TerminalWatch.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file lets an operator watch the AI play a headless game in a terminal (over SSH, on a host with no
+ *      display). The game runs on the main thread at the given gravity, the bot moves every block as it
+ *      spawns, and a drawing thread calls TerminalRenderer.frame() at the frame rate. When the game is over it
+ *      prints how many bytes the terminal got per frame against the size of a full redraw.
+ *
+ *      Usage: TerminalWatch [--seed S] [--gravity ms] [--fps F] [--max-blocks M] [--width W] [--depth D]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.ai.BeamSearch;
+import com.tetris.engine.ai.BotPlayer;
+import com.tetris.engine.ai.HeuristicEvaluator;
+import com.tetris.engine.terminal.TerminalRenderer;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/** TerminalWatch Class -- A bot game drawn in the terminal */
+public class TerminalWatch {
+
+    /** Main Function: Plays the game until it is over (or has placed enough blocks) */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long seed = System.nanoTime();
+        int gravity = 50, fps = 30, maxBlocks = Integer.MAX_VALUE, width = 32, depth = 3;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--gravity": gravity = Integer.parseInt(args[++i]); break;
+                case "--fps": fps = Integer.parseInt(args[++i]); break;
+                case "--max-blocks": maxBlocks = Integer.parseInt(args[++i]); break;
+                case "--width": width = Integer.parseInt(args[++i]); break;
+                case "--depth": depth = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        HeadlessGame game = new HeadlessGame(seed);
+        FileOutputStream terminal = new FileOutputStream(FileDescriptor.out);
+        TerminalRenderer renderer = new TerminalRenderer(game.getBoard(), game.getRules(), terminal);
+        game.getGameEventDispatcher().addListener(renderer);
+        BeamSearch search = new BeamSearch(new HeuristicEvaluator(), width, depth, 10_000);
+        search.setParallel(false);
+        BotPlayer bot = new BotPlayer(search);
+        renderer.setMessage("Beam " + width + "x" + depth);
+
+        //Drawing thread: one frame every 1/fps seconds, whatever the game is doing
+        long frameNanos = 1_000_000_000L / fps;
+        Thread drawing = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    long start = System.nanoTime();
+                    renderer.frame();
+                    long sleep = frameNanos - (System.nanoTime() - start);
+                    if (sleep > 0) Thread.sleep(sleep / 1_000_000, (int) (sleep % 1_000_000));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                System.err.println("Terminal closed: " + e.getMessage());
+            }
+        }, "TerminalWatch");
+
+        game.start();
+        drawing.start();
+        bot.onSpawn(game.getBlockController());
+        while (!game.isGameOver() && game.getBlocksPlaced() < maxBlocks) {
+            Thread.sleep(gravity);
+            int placed = game.getBlocksPlaced();
+            game.tick();
+            if (game.getBlocksPlaced() != placed && !game.isGameOver()) bot.onSpawn(game.getBlockController());
+        }
+        bot.shutdown();
+        renderer.setMessage(game.isGameOver() ? "Game Over" : "Stopped");
+
+        //Let the last frame out before the terminal is given back
+        Thread.sleep(2 * frameNanos / 1_000_000 + 1);
+        drawing.interrupt();
+        drawing.join();
+        renderer.frame();
+        renderer.close();
+
+        long frames = Math.max(1, renderer.getFrames());
+        System.out.printf("Seed %d: %d blocks, %d lines, score %d%n", seed, game.getBlocksPlaced(),
+                game.getRules().getTotalLines(), game.getRules().getScore());
+        System.out.printf("%d frames, %d bytes a frame on average (a full redraw is %d bytes)%n",
+                renderer.getFrames(), renderer.getBytesWritten() / frames, renderer.getFullRedrawBytes());
+    }
+}
@@ -0,0 +1,285 @@
+/**
+ * File:        TournamentRunner.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file plays many headless AI games to compare bot settings. Every configuration plays the same
+ *      seeds, so each configuration gets the same blocks in the same order. Games run on a fixed pool of worker
+ *      threads (one per core by default), and each finished game is streamed to a CSV results file by a single
+ *      writer thread. When all games are done it prints games per second, blocks per second and the score
+ *      distribution of every configuration.
+ *
+ *      Usage: TournamentRunner [--games N] [--workers W] [--seed S] [--max-blocks M] [--out results.csv]
+ *                              [--config name:beamWidth:depth[:w0,w1,...,w8 | :@network.bin]] ...
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.HeadlessGame;
+import com.tetris.engine.ai.BeamSearch;
+import com.tetris.engine.ai.BoardEvaluator;
+import com.tetris.engine.ai.HeuristicEvaluator;
+import com.tetris.engine.ai.MlpEvaluator;
+import com.tetris.engine.ai.Placement;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/** TournamentRunner Class -- Parallel headless AI games */
+public class TournamentRunner {
+
+    /** Main Function: Runs the tournament */
+    public static void main(String[] args) throws Exception {
+        int games = 100;
+        int workers = Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+        int maxBlocks = 1000;
+        Path out = Paths.get("tournament.csv");
+        List<BotConfig> configs = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games": games = Integer.parseInt(args[++i]); break;
+                case "--workers": workers = Integer.parseInt(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--max-blocks": maxBlocks = Integer.parseInt(args[++i]); break;
+                case "--out": out = Paths.get(args[++i]); break;
+                case "--config": configs.add(BotConfig.parse(args[++i])); break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        if (configs.isEmpty()) {
+            configs.add(BotConfig.parse("greedy:1:1"));
+            configs.add(BotConfig.parse("beam:16:3"));
+        }
+
+        new TournamentRunner(configs, games, seed, maxBlocks).run(workers, out);
+    }
+
+    //Initialize Variables
+    private final List<BotConfig> configs;
+    private final int games;
+    private final long seed;
+    private final int maxBlocks;
+
+    /** CONSTRUCTOR */
+    public TournamentRunner(List<BotConfig> configs, int games, long seed, int maxBlocks) {
+        this.configs = configs;
+        this.games = games;
+        this.seed = seed;
+        this.maxBlocks = maxBlocks;
+    }
+
+    /**
+     * Description: Play every game and write the results. Blocks until the tournament is over; a game that
+     *              throws is reported and left out of the results.
+     */
+    public void run(int workers, Path out) throws IOException, InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        CompletionService<GameResult> results = new ExecutorCompletionService<>(pool);
+        int total = configs.size() * games;
+        long start = System.nanoTime();
+
+        //Same seeds for every configuration
+        for (int g = 0; g < games; g++) {
+            for (BotConfig config : configs) {
+                long gameSeed = seed + g;
+                results.submit(() -> playGame(config, gameSeed, maxBlocks));
+            }
+        }
+        pool.shutdown();
+
+        //This thread streams the results to the file as they come in
+        Map<String, List<GameResult>> byConfig = new LinkedHashMap<>();
+        for (BotConfig config : configs) {
+            byConfig.put(config.name, new ArrayList<>());
+        }
+        long blocks = 0;
+        int failed = 0;
+
+        try (BufferedWriter writer = Files.newBufferedWriter(out)) {
+            writer.write("config,seed,score,lines,level,blocks,topOut,millis");
+            writer.newLine();
+
+            for (int i = 0; i < total; i++) {
+                Future<GameResult> game = results.take();
+                GameResult r;
+                try {
+                    r = game.get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    System.err.println("Game failed: " + e.getCause());
+                    continue;
+                }
+                writer.write(r.toCsv());
+                writer.newLine();
+                writer.flush();
+
+                byConfig.get(r.config).add(r);
+                blocks += r.blocks;
+            }
+        }
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d games on %d workers in %.2f s -- %.1f games/s, %.0f blocks/s%n",
+                total, workers, seconds, total / seconds, blocks / seconds);
+        if (failed > 0) System.out.printf("%d of %d games failed%n", failed, total);
+        for (Map.Entry<String, List<GameResult>> e : byConfig.entrySet()) {
+            if (!e.getValue().isEmpty()) printSummary(e.getKey(), e.getValue());
+        }
+        System.out.println("Results written to " + out.toAbsolutePath());
+    }
+
+    /** Description: Play one game with one configuration until Game Over or the block limit */
+    public static GameResult playGame(BotConfig config, long seed, int maxBlocks) {
+        long start = System.nanoTime();
+        HeadlessGame game = new HeadlessGame(seed);
+        BeamSearch search = config.createSearch();
+        game.start();
+
+        while (!game.isGameOver() && game.getBlocksPlaced() < maxBlocks) {
+            Placement p = search.search(game.getBlockController());
+            if (p == null) {
+                //Every placement is Game Over
+                game.getBlockController().hardDrop();
+                game.lockBlock();
+            } else {
+                game.dropPlacement(p);
+            }
+        }
+
+        return new GameResult(config.name, seed, game.getRules().getScore(), game.getRules().getTotalLines(),
+                game.getRules().getLevel(), game.getBlocksPlaced(), game.isGameOver(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /** Description: Print the score distribution of one configuration */
+    private static void printSummary(String name, List<GameResult> results) {
+        int[] scores = new int[results.size()];
+        long lines = 0;
+        int topOuts = 0;
+        for (int i = 0; i < scores.length; i++) {
+            GameResult r = results.get(i);
+            scores[i] = r.score;
+            lines += r.lines;
+            if (r.topOut) topOuts++;
+        }
+        Arrays.sort(scores);
+
+        double mean = Arrays.stream(scores).average().orElse(0);
+        System.out.printf("%-12s games %d | score mean %.0f min %d p10 %d p50 %d p90 %d max %d"
+                + " | lines mean %.1f | top outs %d%n", name, scores.length, mean, scores[0],
+                percentile(scores, 10), percentile(scores, 50), percentile(scores, 90), scores[scores.length - 1],
+                (double) lines / scores.length, topOuts);
+    }
+    private static int percentile(int[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /** BotConfig Class -- Name and search settings of one bot */
+    public static class BotConfig {
+        final String name;
+        final int beamWidth;
+        final int depth;
+        final double[] weights;
+        final BoardEvaluator network;
+
+        public BotConfig(String name, int beamWidth, int depth, double[] weights) {
+            this(name, beamWidth, depth, weights, null);
+        }
+        public BotConfig(String name, int beamWidth, int depth, double[] weights, BoardEvaluator network) {
+            this.name = name;
+            this.beamWidth = beamWidth;
+            this.depth = depth;
+            this.weights = weights;
+            this.network = network;
+        }
+
+        /**
+         * Description: Parse "name:beamWidth:depth" with an optional ":w0,w1,..." list of weights or an
+         *              ":@file" network weights file for an MlpEvaluator
+         */
+        public static BotConfig parse(String text) throws IOException {
+            String[] parts = text.split(":");
+            double[] weights = HeuristicEvaluator.DEFAULT_WEIGHTS;
+            BoardEvaluator network = null;
+            if (parts.length > 3 && parts[3].startsWith("@")) {
+                network = MlpEvaluator.load(Paths.get(parts[3].substring(1)));
+            } else if (parts.length > 3) {
+                weights = Arrays.stream(parts[3].split(",")).mapToDouble(Double::parseDouble).toArray();
+                if (weights.length != HeuristicEvaluator.WEIGHT_COUNT) {
+                    throw new IllegalArgumentException("Config " + parts[0] + " has " + weights.length
+                            + " weights, expected " + HeuristicEvaluator.WEIGHT_COUNT);
+                }
+            }
+            return new BotConfig(parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), weights, network);
+        }
+
+        /** Description: Single-threaded search with no time limit, so results only depend on the seed */
+        public BeamSearch createSearch() {
+            BoardEvaluator evaluator = network != null ? network : new HeuristicEvaluator(weights);
+            BeamSearch search = new BeamSearch(evaluator, beamWidth, depth, 60_000);
+            search.setParallel(false);
+            return search;
+        }
+    }
+
+    /** GameResult Class -- Outcome of one game */
+    public static class GameResult {
+        final String config;
+        final long seed;
+        final int score;
+        final int lines;
+        final int level;
+        final int blocks;
+        final boolean topOut;
+        final long millis;
+
+        GameResult(String config, long seed, int score, int lines, int level, int blocks, boolean topOut, long millis) {
+            this.config = config;
+            this.seed = seed;
+            this.score = score;
+            this.lines = lines;
+            this.level = level;
+            this.blocks = blocks;
+            this.topOut = topOut;
+            this.millis = millis;
+        }
+
+        /** GETTER METHODS */
+        public int getScore() {
+            return score;
+        }
+        public int getLines() {
+            return lines;
+        }
+        public int getBlocks() {
+            return blocks;
+        }
+
+        String toCsv() {
+            return config + "," + seed + "," + score + "," + lines + "," + level + "," + blocks + "," + topOut + ","
+                    + millis;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/**
+ * File:        WeightTuner.java
+ *
+ * Author:      Simran Cheema
+ * Date:        Fall 2026
+ *
+ * Summary of File:
+ *      This file tunes the HeuristicEvaluator weights by playing headless Marathon games. It is an evolution
+ *      strategy in the spirit of CMA-ES (without the full covariance matrix): each generation samples a
+ *      population of weight vectors around a mean, every vector plays the same fixed seeds, and the mean
+ *      moves towards the best vectors. Each weight has its own step size, which grows along directions that
+ *      keep paying off and shrinks otherwise.
+ *
+ *      Fitness is the average lines cleared plus scoreWeight times the average score. Every game is its own
+ *      task on a fixed pool of worker threads, so a generation keeps all cores busy. After every generation
+ *      the state is written to a checkpoint file; starting again with the same checkpoint resumes the run with
+ *      the settings it was made with (a setting passed on the command line that disagrees with the checkpoint
+ *      is an error).
+ *
+ *      Usage: WeightTuner [--generations G] [--population P] [--seeds S] [--max-blocks M] [--workers W]
+ *                         [--beam-width B] [--depth D] [--score-weight X] [--seed N] [--checkpoint file]
+ *
+ */
+
+package com.tetris.tools;
+
+import com.tetris.engine.ai.HeuristicEvaluator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/** WeightTuner Class -- Evolves evaluation weights over headless games */
+public class WeightTuner {
+
+    //Initialize Static Variables - Command line options that are settings kept in the checkpoint
+    private final static Map<String, String> OPTION_SETTINGS = Map.of("--seed", "seed", "--population",
+            "population", "--seeds", "seeds", "--max-blocks", "maxBlocks", "--beam-width", "beamWidth",
+            "--depth", "depth", "--score-weight", "scoreWeight");
+
+    /** Main Function: Runs (or resumes) the tuner */
+    public static void main(String[] args) throws Exception {
+        WeightTuner tuner = new WeightTuner();
+        int generations = 50;
+        int workers = Runtime.getRuntime().availableProcessors();
+        Path checkpoint = Paths.get("weights.checkpoint");
+        List<String> explicit = new ArrayList<>();      //Settings given on the command line
+
+        for (int i = 0; i < args.length; i++) {
+            if (OPTION_SETTINGS.containsKey(args[i])) explicit.add(OPTION_SETTINGS.get(args[i]));
+            switch (args[i]) {
+                case "--generations": generations = Integer.parseInt(args[++i]); break;
+                case "--population": tuner.population = Integer.parseInt(args[++i]); break;
+                case "--seeds": tuner.seeds = Integer.parseInt(args[++i]); break;
+                case "--max-blocks": tuner.maxBlocks = Integer.parseInt(args[++i]); break;
+                case "--workers": workers = Integer.parseInt(args[++i]); break;
+                case "--beam-width": tuner.beamWidth = Integer.parseInt(args[++i]); break;
+                case "--depth": tuner.depth = Integer.parseInt(args[++i]); break;
+                case "--score-weight": tuner.scoreWeight = Double.parseDouble(args[++i]); break;
+                case "--seed": tuner.seed = Long.parseLong(args[++i]); break;
+                case "--checkpoint": checkpoint = Paths.get(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        if (Files.exists(checkpoint)) {
+            Map<String, String> asked = tuner.getSettings();
+            tuner.load(checkpoint);
+            for (String name : explicit) {
+                String saved = tuner.getSettings().get(name);
+                if (!saved.equals(asked.get(name))) {
+                    throw new IllegalArgumentException("Checkpoint " + checkpoint + " was made with " + name + "="
+                            + saved + ", not " + asked.get(name) + " -- drop the option or use another checkpoint");
+                }
+            }
+            System.out.println("Resuming from generation " + tuner.generation + " (" + checkpoint + ")");
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            while (tuner.generation < generations) {
+                tuner.runGeneration(pool);
+                tuner.save(checkpoint);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        System.out.println("Best weights: " + toText(tuner.bestWeights));
+    }
+
+    //Initialize Variables - Settings
+    private int population = 16;
+    private int seeds = 8;
+    private int maxBlocks = 500;
+    private int beamWidth = 1;
+    private int depth = 1;
+    private double scoreWeight = 0.0001;
+    private long seed = 1;
+
+    //Initialize Variables - Search State
+    private int generation = 0;
+    private double[] mean = normalize(HeuristicEvaluator.DEFAULT_WEIGHTS.clone());
+    private double[] sigma = filled(HeuristicEvaluator.WEIGHT_COUNT, 0.3);
+    private double[] bestWeights = mean.clone();
+    private double bestFitness = Double.NEGATIVE_INFINITY;
+
+    /** Description: Sample, play and score one generation, then move the mean and step sizes */
+    public void runGeneration(ExecutorService pool) throws InterruptedException, ExecutionException {
+        long start = System.nanoTime();
+        int n = mean.length;
+
+        //Sample the population from a random stream that only depends on the generation (so resumes repeat it)
+        Random random = new Random(seed * 1_000_003L + generation);
+        double[][] steps = new double[population][n];
+        double[][] candidates = new double[population][];
+        for (int p = 0; p < population; p++) {
+            double[] weights = new double[n];
+            for (int i = 0; i < n; i++) {
+                steps[p][i] = random.nextGaussian();
+                weights[i] = mean[i] + sigma[i] * steps[p][i];
+            }
+            candidates[p] = weights;
+        }
+
+        //Every game is its own task
+        List<List<Future<TournamentRunner.GameResult>>> games = new ArrayList<>();
+        for (int p = 0; p < population; p++) {
+            TournamentRunner.BotConfig config =
+                    new TournamentRunner.BotConfig("c" + p, beamWidth, depth, candidates[p]);
+            List<Future<TournamentRunner.GameResult>> candidateGames = new ArrayList<>();
+            for (int s = 0; s < seeds; s++) {
+                long gameSeed = seed + s;
+                candidateGames.add(pool.submit(() -> TournamentRunner.playGame(config, gameSeed, maxBlocks)));
+            }
+            games.add(candidateGames);
+        }
+
+        double[] fitness = new double[population];
+        long blocks = 0;
+        for (int p = 0; p < population; p++) {
+            double lines = 0, score = 0;
+            for (Future<TournamentRunner.GameResult> f : games.get(p)) {
+                TournamentRunner.GameResult r = f.get();
+                lines += r.getLines();
+                score += r.getScore();
+                blocks += r.getBlocks();
+            }
+            fitness[p] = (lines + scoreWeight * score) / seeds;
+        }
+
+        //Rank the population, best first
+        Integer[] order = new Integer[population];
+        for (int p = 0; p < population; p++) order[p] = p;
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+
+        if (fitness[order[0]] > bestFitness) {
+            bestFitness = fitness[order[0]];
+            bestWeights = candidates[order[0]].clone();
+        }
+
+        //Move the mean to the weighted average of the best half (log-rank weights, like CMA-ES)
+        int mu = Math.max(1, population / 2);
+        double[] recombination = new double[mu];
+        double total = 0;
+        for (int k = 0; k < mu; k++) {
+            recombination[k] = Math.log(mu + 0.5) - Math.log(k + 1);
+            total += recombination[k];
+        }
+
+        double[] meanStep = new double[n];
+        for (int k = 0; k < mu; k++) {
+            double w = recombination[k] / total;
+            for (int i = 0; i < n; i++) {
+                meanStep[i] += w * steps[order[k]][i];
+            }
+        }
+
+        //Step sizes grow where the selected steps were larger than expected and shrink where they were smaller
+        double effectiveMu = 0;
+        for (int k = 0; k < mu; k++) effectiveMu += Math.pow(recombination[k] / total, 2);
+        effectiveMu = 1 / effectiveMu;
+        for (int i = 0; i < n; i++) {
+            mean[i] += sigma[i] * meanStep[i];
+            double z = meanStep[i] * Math.sqrt(effectiveMu);
+            sigma[i] *= Math.exp(0.2 * (z * z - 1) / 2);
+            sigma[i] = Math.max(1e-4, Math.min(1.0, sigma[i]));
+        }
+        normalize(mean);
+
+        generation++;
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Generation %d: best %.2f, median %.2f, best ever %.2f | %.1f games/s, %.0f blocks/s%n",
+                generation, fitness[order[0]], fitness[order[population / 2]], bestFitness,
+                population * seeds / seconds, blocks / seconds);
+    }
+
+    /** CHECKPOINTS */
+    private Map<String, String> getSettings() {     //Settings of the run, as they are written to a checkpoint
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("seed", String.valueOf(seed));
+        settings.put("population", String.valueOf(population));
+        settings.put("seeds", String.valueOf(seeds));
+        settings.put("maxBlocks", String.valueOf(maxBlocks));
+        settings.put("beamWidth", String.valueOf(beamWidth));
+        settings.put("depth", String.valueOf(depth));
+        settings.put("scoreWeight", String.valueOf(scoreWeight));
+        return settings;
+    }
+    public void save(Path checkpoint) throws IOException {
+        Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp)) {
+            writer.write("generation=" + generation + "\n");
+            for (Map.Entry<String, String> setting : getSettings().entrySet()) {
+                writer.write(setting.getKey() + "=" + setting.getValue() + "\n");
+            }
+            writer.write("mean=" + toText(mean) + "\n");
+            writer.write("sigma=" + toText(sigma) + "\n");
+            writer.write("bestWeights=" + toText(bestWeights) + "\n");
+            writer.write("bestFitness=" + bestFitness + "\n");
+        }
+
+        //Replace the old checkpoint in one step so a crash never leaves half a file
+        Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    public void load(Path checkpoint) throws IOException {
+        Properties p = new Properties();
+        try (BufferedReader reader = Files.newBufferedReader(checkpoint)) {
+            p.load(reader);
+        }
+
+        generation = Integer.parseInt(p.getProperty("generation"));
+        seed = Long.parseLong(p.getProperty("seed"));
+        population = Integer.parseInt(p.getProperty("population"));
+        seeds = Integer.parseInt(p.getProperty("seeds"));
+        maxBlocks = Integer.parseInt(p.getProperty("maxBlocks"));
+        beamWidth = Integer.parseInt(p.getProperty("beamWidth"));
+        depth = Integer.parseInt(p.getProperty("depth"));
+        scoreWeight = Double.parseDouble(p.getProperty("scoreWeight"));
+        mean = fromText(p.getProperty("mean"));
+        sigma = fromText(p.getProperty("sigma"));
+        bestWeights = fromText(p.getProperty("bestWeights"));
+        bestFitness = Double.parseDouble(p.getProperty("bestFitness"));
+    }
+
+    /** HELPER FUNCTIONS */
+    private static double[] normalize(double[] v) {
+        double length = 0;
+        for (double x : v) length += x * x;
+        length = Math.sqrt(length);
+        for (int i = 0; i < v.length; i++) v[i] /= length;
+        return v;
+    }
+    private static double[] filled(int n, double value) {
+        double[] v = new double[n];
+        Arrays.fill(v, value);
+        return v;
+    }
+    private static String toText(double[] v) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < v.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(v[i]);
+        }
+        return sb.toString();
+    }
+    private static double[] fromText(String text) {
+        return Arrays.stream(text.split(",")).mapToDouble(Double::parseDouble).toArray();
+    }
+}